@@ -27,6 +27,9 @@ import net.time4j.engine.CalendarEra;
 import net.time4j.engine.EpochDays;
 import net.time4j.format.expert.Iso8601Format;
 
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -47,7 +50,7 @@ import java.util.Properties;
  * @since   3.5/4.3
  */
 final class AstronomicalHijriData
-    implements EraYearMonthDaySystem<HijriCalendar> {
+    implements SingleEraBulkSystem<HijriCalendar> {
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
@@ -78,85 +81,74 @@ final class AstronomicalHijriData
     /**
      * <p>Creates a new instance for given variant loading its resource data. </p>
      *
+     * <p>A precompiled binary resource with the extension &quot;.bin&quot; is preferred if available,
+     * otherwise the textual resource with the extension &quot;.data&quot; will be loaded. </p>
+     *
      * @param   variant     name of calendar variant
      * @throws  net.time4j.engine.ChronoException if the variant contains an invalid day adjustment
      * @throws  IOException in case of any data inconsistencies
      */
     AstronomicalHijriData(String variant) throws IOException {
+        this(variant, true);
+
+    }
+
+    /**
+     * <p>Creates a new instance for given variant loading its resource data. </p>
+     *
+     * @param   variant     name of calendar variant
+     * @param   binary      shall the binary resource be preferred?
+     * @throws  net.time4j.engine.ChronoException if the variant contains an invalid day adjustment
+     * @throws  IOException in case of any data inconsistencies
+     */
+    AstronomicalHijriData(
+        String variant,
+        boolean binary
+    ) throws IOException {
         super();
 
         HijriAdjustment ha = HijriAdjustment.from(variant);
         this.variant = variant;
         String baseVariant = ha.getBaseVariant();
         this.adjustment = ha.getValue();
-        String name = "data/" + baseVariant.replace('-', '_') + ".data";
-        URI uri = ResourceLoader.getInstance().locate("calendar", AstronomicalHijriData.class, name);
-        InputStream is = ResourceLoader.getInstance().load(uri, true);
-
-        if (is == null) {
-            is = ResourceLoader.getInstance().load(AstronomicalHijriData.class, name, true);
-        }
+        String path = "data/" + baseVariant.replace('-', '_');
+        InputStream is = (binary ? open(path + ".bin", true) : null);
+        Data data;
 
         try {
-            Properties properties = new Properties();
-            properties.load(is);
-            String calendarType = properties.getProperty("type");
-            if (!baseVariant.equals(calendarType)) {
-                throw new IOException("Wrong hijri variant: expected=" + baseVariant + ", found=" + calendarType);
-            }
-            this.version = properties.getProperty("version", "1.0");
-
-            String isoStart = properties.getProperty("iso-start", "");
-            PlainDate startDate = Iso8601Format.EXTENDED_CALENDAR_DATE.parse(isoStart);
-            this.minUTC = startDate.get(EpochDays.UTC);
-            int min = Integer.parseInt(properties.getProperty("min", "1"));
-            this.minYear = min;
-            int max = Integer.parseInt(properties.getProperty("max", "0"));
-            this.maxYear = max;
-            int count = (max - min + 1) * 12;
-
-            int[] mlen = new int[count];
-            long[] mutc = new long[count];
-            int i = 0;
-            long v = this.minUTC;
-
-            for (int year = min; year <= max; year++) {
-                String row = properties.getProperty(String.valueOf(year));
-                if (row == null) {
-                    throw new IOException("Wrong file format: " + name + " (missing year=" + year + ")");
-                }
-                String[] monthLengths = row.split(" ");
-                for (int m = 0; m < Math.min(monthLengths.length, 12); m++) {
-                    mlen[i] = Integer.parseInt(monthLengths[m]);
-                    mutc[i] = v;
-                    v += mlen[i];
-                    i++;
-                }
-                if (monthLengths.length < 12) {
-                    int[] buf1 = new int[i];
-                    long[] buf2 = new long[i];
-                    System.arraycopy(mlen, 0, buf1, 0, i);
-                    System.arraycopy(mutc, 0, buf2, 0, i);
-                    mlen = buf1;
-                    mutc = buf2;
-                    break;
-                }
+            if (is == null) {
+                is = open(path + ".data", false);
+                data = readText(is, baseVariant, path + ".data");
+            } else {
+                data = readBinary(is, baseVariant, path + ".bin");
             }
-
-            this.maxUTC = v - 1;
-            this.lengthOfMonth = mlen;
-            this.firstOfMonth = mutc;
-
-        } catch (ParseException | NumberFormatException pe) {
-            throw new IOException("Wrong file format: " + name, pe);
         } finally {
             try {
-                is.close();
+                if (is != null) {
+                    is.close();
+                }
             } catch (IOException ioe) {
                 ioe.printStackTrace(System.err);
             }
         }
 
+        int count = data.lengths.length;
+        long[] mutc = new long[count];
+        long v = data.minUTC;
+
+        for (int i = 0; i < count; i++) {
+            mutc[i] = v;
+            v += data.lengths[i];
+        }
+
+        this.version = data.version;
+        this.minYear = data.minYear;
+        this.maxYear = data.maxYear;
+        this.minUTC = data.minUTC;
+        this.maxUTC = v - 1;
+        this.lengthOfMonth = data.lengths;
+        this.firstOfMonth = mutc;
+
     }
 
     //~ Methoden ----------------------------------------------------------
@@ -165,18 +157,13 @@ final class AstronomicalHijriData
     public HijriCalendar transform(long utcDays) {
 
         long realDays = Math.addExact(utcDays, this.adjustment);
-        int monthStart = search(realDays, this.firstOfMonth);
 
-        if (monthStart >= 0) {
-            if (
-                (monthStart < this.firstOfMonth.length - 1)
-                || (this.firstOfMonth[monthStart] + this.lengthOfMonth[monthStart] > realDays)
-            ) {
-                int hyear = (monthStart / 12) + this.minYear;
-                int hmonth = (monthStart % 12) + 1;
-                int hdom = (int) (realDays - this.firstOfMonth[monthStart] + 1);
-                return HijriCalendar.of(this.variant, hyear, hmonth, hdom);
-            }
+        if ((realDays >= this.minUTC) && (realDays <= this.maxUTC)) {
+            int monthStart = search(realDays, this.minUTC, this.firstOfMonth);
+            int hyear = (monthStart / 12) + this.minYear;
+            int hmonth = (monthStart % 12) + 1;
+            int hdom = (int) (realDays - this.firstOfMonth[monthStart] + 1);
+            return HijriCalendar.of(this.variant, hyear, hmonth, hdom);
         }
 
         throw new IllegalArgumentException("Out of range: " + utcDays);
@@ -296,6 +283,79 @@ final class AstronomicalHijriData
 
     }
 
+    @Override
+    public void toFields(
+        long[] utcDays,
+        int[] years,
+        int[] months,
+        int[] daysOfMonth
+    ) {
+
+        int n = utcDays.length;
+
+        if ((years.length < n) || (months.length < n) || (daysOfMonth.length < n)) {
+            throw new IllegalArgumentException("Target arrays are too short: " + n);
+        }
+
+        int count = this.lengthOfMonth.length;
+        int index = -1;
+
+        for (int i = 0; i < n; i++) {
+            long realDays = Math.addExact(utcDays[i], this.adjustment);
+
+            if (
+                (index >= 0)
+                && (realDays >= this.firstOfMonth[index])
+                && (realDays - this.firstOfMonth[index] < 90)
+            ) { // walk forward on ascending input
+                while ((index + 1 < count) && (realDays >= this.firstOfMonth[index + 1])) {
+                    index++;
+                }
+                if (realDays > this.maxUTC) {
+                    throw new IllegalArgumentException("Out of range: " + utcDays[i]);
+                }
+            } else if ((realDays >= this.minUTC) && (realDays <= this.maxUTC)) {
+                index = search(realDays, this.minUTC, this.firstOfMonth);
+            } else {
+                throw new IllegalArgumentException("Out of range: " + utcDays[i]);
+            }
+
+            years[i] = (index / 12) + this.minYear;
+            months[i] = (index % 12) + 1;
+            daysOfMonth[i] = (int) (realDays - this.firstOfMonth[index] + 1);
+        }
+
+    }
+
+    @Override
+    public void fromFields(
+        int[] years,
+        int[] months,
+        int[] daysOfMonth,
+        long[] utcDays
+    ) {
+
+        int n = years.length;
+
+        if ((months.length < n) || (daysOfMonth.length < n) || (utcDays.length < n)) {
+            throw new IllegalArgumentException("Arrays are too short: " + n);
+        }
+
+        CalendarEra era = HijriEra.ANNO_HEGIRAE;
+
+        for (int i = 0; i < n; i++) {
+            int hyear = years[i];
+            int hmonth = months[i];
+            int hdom = daysOfMonth[i];
+            if (!this.isValid(era, hyear, hmonth, hdom)) {
+                throw new IllegalArgumentException("Invalid date: " + hyear + "-" + hmonth + "-" + hdom);
+            }
+            int index = (hyear - this.minYear) * 12 + hmonth - 1;
+            utcDays[i] = Math.subtractExact(this.firstOfMonth[index] + hdom - 1, this.adjustment);
+        }
+
+    }
+
     /**
      * <p>Yields the version attribute of the underlying data. </p>
      *
@@ -307,14 +367,52 @@ final class AstronomicalHijriData
 
     }
 
-    // returns index of month-start associated with utcDays
+    /**
+     * <p>Writes the data of this instance in compact binary format. </p>
+     *
+     * <p>Format: variant type (UTF), version (UTF), utc-days of first day (int), minimum year (short),
+     * maximum year (short), count of months (int) and the lengths of months minus 29 as nibbles with
+     * the high nibble first. The day adjustment of the variant is not written. </p>
+     *
+     * @param   out     binary output
+     * @throws  IOException if writing fails
+     */
+    void writeBinary(DataOutput out) throws IOException {
+
+        int count = this.lengthOfMonth.length;
+        out.writeUTF(HijriAdjustment.from(this.variant).getBaseVariant());
+        out.writeUTF(this.version);
+        out.writeInt((int) this.minUTC);
+        out.writeShort(this.minYear);
+        out.writeShort(this.maxYear);
+        out.writeInt(count);
+
+        for (int i = 0; i < count; i += 2) {
+            int high = this.lengthOfMonth[i] - 29;
+            int low = ((i + 1 < count) ? this.lengthOfMonth[i + 1] - 29 : 0);
+            if ((high < 0) || (high > 15) || (low < 0) || (low > 15)) {
+                throw new IOException("Month length cannot be stored as nibble: " + this.variant);
+            }
+            out.writeByte((high << 4) | low);
+        }
+
+    }
+
+    // returns index of month-start associated with utcDays (must be in range)
     private static int search(
         long utcDays,
+        long minUTC,
         long[] firstOfMonth
     ) {
 
-        int low = 0;
-        int high = firstOfMonth.length - 1;
+        int estimate = (int) ((utcDays - minUTC) * 1000 / 29531); // mean lunation
+        int low = Math.min(Math.max(0, estimate - 2), firstOfMonth.length - 1);
+        int high = Math.min(firstOfMonth.length - 1, estimate + 2);
+
+        if ((firstOfMonth[low] > utcDays) || ((high < firstOfMonth.length - 1) && (firstOfMonth[high + 1] <= utcDays))) {
+            low = 0; // estimate is too far away (only possible for user-defined data with irregular months)
+            high = firstOfMonth.length - 1;
+        }
 
         while (low <= high) {
             int middle = (low + high) / 2;
@@ -330,4 +428,143 @@ final class AstronomicalHijriData
 
     }
 
+    private static InputStream open(
+        String path,
+        boolean optional
+    ) throws IOException {
+
+        URI uri = ResourceLoader.getInstance().locate("calendar", AstronomicalHijriData.class, path);
+        InputStream is = ResourceLoader.getInstance().load(uri, true);
+
+        if (is == null) {
+            try {
+                is = ResourceLoader.getInstance().load(AstronomicalHijriData.class, path, true);
+            } catch (FileNotFoundException fnfe) {
+                if (optional) {
+                    return null;
+                }
+                throw fnfe;
+            }
+        }
+
+        return is;
+
+    }
+
+    private static Data readBinary(
+        InputStream is,
+        String baseVariant,
+        String name
+    ) throws IOException {
+
+        DataInputStream in = new DataInputStream(is);
+        String calendarType = in.readUTF();
+        if (!baseVariant.equals(calendarType)) {
+            throw new IOException("Wrong hijri variant: expected=" + baseVariant + ", found=" + calendarType);
+        }
+        String version = in.readUTF();
+        long minUTC = in.readInt();
+        int min = in.readShort();
+        int max = in.readShort();
+        int count = in.readInt();
+        if ((count < 0) || (count > (max - min + 1) * 12)) {
+            throw new IOException("Wrong file format: " + name + " (count of months=" + count + ")");
+        }
+
+        byte[] packed = new byte[(count + 1) / 2];
+        in.readFully(packed);
+        int[] mlen = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            int nibble = (((i & 1) == 0) ? (packed[i >> 1] >> 4) : packed[i >> 1]) & 0xF;
+            mlen[i] = 29 + nibble;
+        }
+
+        return new Data(version, min, max, minUTC, mlen);
+
+    }
+
+    private static Data readText(
+        InputStream is,
+        String baseVariant,
+        String name
+    ) throws IOException {
+
+        try {
+            Properties properties = new Properties();
+            properties.load(is);
+            String calendarType = properties.getProperty("type");
+            if (!baseVariant.equals(calendarType)) {
+                throw new IOException("Wrong hijri variant: expected=" + baseVariant + ", found=" + calendarType);
+            }
+            String version = properties.getProperty("version", "1.0");
+
+            String isoStart = properties.getProperty("iso-start", "");
+            PlainDate startDate = Iso8601Format.EXTENDED_CALENDAR_DATE.parse(isoStart);
+            long minUTC = startDate.get(EpochDays.UTC);
+            int min = Integer.parseInt(properties.getProperty("min", "1"));
+            int max = Integer.parseInt(properties.getProperty("max", "0"));
+            int count = (max - min + 1) * 12;
+
+            int[] mlen = new int[count];
+            int i = 0;
+
+            for (int year = min; year <= max; year++) {
+                String row = properties.getProperty(String.valueOf(year));
+                if (row == null) {
+                    throw new IOException("Wrong file format: " + name + " (missing year=" + year + ")");
+                }
+                String[] monthLengths = row.split(" ");
+                for (int m = 0; m < Math.min(monthLengths.length, 12); m++) {
+                    mlen[i] = Integer.parseInt(monthLengths[m]);
+                    i++;
+                }
+                if (monthLengths.length < 12) {
+                    int[] buf = new int[i];
+                    System.arraycopy(mlen, 0, buf, 0, i);
+                    mlen = buf;
+                    break;
+                }
+            }
+
+            return new Data(version, min, max, minUTC, mlen);
+        } catch (ParseException | NumberFormatException pe) {
+            throw new IOException("Wrong file format: " + name, pe);
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Data {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String version;
+        private final int minYear;
+        private final int maxYear;
+        private final long minUTC;
+        private final int[] lengths;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Data(
+            String version,
+            int minYear,
+            int maxYear,
+            long minUTC,
+            int[] lengths
+        ) {
+            super();
+
+            this.version = version;
+            this.minYear = minYear;
+            this.maxYear = maxYear;
+            this.minUTC = minUTC;
+            this.lengths = lengths;
+
+        }
+
+    }
+
 }
@@ -919,6 +919,13 @@ public final class ChineseCalendar
             ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 8);
         private static final long OFFSET_SWITCH_CHINA = -15705L; // 1929-01-01
 
+        //~ Konstruktoren -------------------------------------------------
+
+        Transformer() {
+            super("chinese");
+
+        }
+
         //~ Methoden ------------------------------------------------------
 
         @Override
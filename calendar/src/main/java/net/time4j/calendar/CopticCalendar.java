@@ -943,7 +943,7 @@ public final class CopticCalendar
     }
 
     private static class Transformer
-        implements EraYearMonthDaySystem<CopticCalendar> {
+        implements SingleEraBulkSystem<CopticCalendar> {
 
         //~ Methoden ------------------------------------------------------
 
@@ -1072,6 +1072,77 @@ public final class CopticCalendar
 
         }
 
+        @Override
+        public void toFields(
+            long[] utcDays,
+            int[] years,
+            int[] months,
+            int[] daysOfMonth
+        ) {
+
+            int n = utcDays.length;
+
+            if ((years.length < n) || (months.length < n) || (daysOfMonth.length < n)) {
+                throw new IllegalArgumentException("Target arrays are too short: " + n);
+            }
+
+            long min = this.getMinimumSinceUTC();
+            long max = this.getMaximumSinceUTC();
+            int cyear = 0;
+            long startOfYear = 0;
+            long endOfYear = 0; // empty range at the beginning
+
+            for (int i = 0; i < n; i++) {
+                long utc = utcDays[i];
+
+                if ((utc < startOfYear) || (utc >= endOfYear)) { // only computed if the year changes
+                    if ((utc < min) || (utc > max)) {
+                        throw new IllegalArgumentException("Out of range: " + utc);
+                    }
+                    cyear = (int) MathUtils.floorDivide(4 * (utc - DIOCLETIAN) + 1463, 1461);
+                    startOfYear = DIOCLETIAN + 365L * (cyear - 1) + MathUtils.floorDivide(cyear, 4);
+                    endOfYear = startOfYear + (((cyear % 4) == 3) ? 366 : 365);
+                }
+
+                int dayOfYear = (int) (utc - startOfYear);
+                years[i] = cyear;
+                months[i] = (dayOfYear / 30) + 1;
+                daysOfMonth[i] = (dayOfYear % 30) + 1;
+            }
+
+        }
+
+        @Override
+        public void fromFields(
+            int[] years,
+            int[] months,
+            int[] daysOfMonth,
+            long[] utcDays
+        ) {
+
+            int n = years.length;
+
+            if ((months.length < n) || (daysOfMonth.length < n) || (utcDays.length < n)) {
+                throw new IllegalArgumentException("Arrays are too short: " + n);
+            }
+
+            CalendarEra era = CopticEra.ANNO_MARTYRUM;
+
+            for (int i = 0; i < n; i++) {
+                int cyear = years[i];
+                int cmonth = months[i];
+                int cdom = daysOfMonth[i];
+                if (!this.isValid(era, cyear, cmonth, cdom)) {
+                    throw new IllegalArgumentException("Invalid date: " + cyear + "-" + cmonth + "-" + cdom);
+                }
+                utcDays[i] = (
+                    DIOCLETIAN - 1
+                    + 365L * (cyear - 1) + MathUtils.floorDivide(cyear, 4)
+                    + 30 * (cmonth - 1) + cdom);
+            }
+
+        }
+
     }
 
     private static class IntegerRule
@@ -50,48 +50,51 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
     static final double MEAN_SYNODIC_MONTH = 29.530588861;
     static final double MEAN_TROPICAL_YEAR = 365.242189;
 
-    //~ Methoden ----------------------------------------------------------
+    //~ Instanzvariablen --------------------------------------------------
 
-    @Override
-    public final D transform(long utcDays) {
+    private final EastAsianTable table; // maybe null
 
-        long s1 = this.winterOnOrBefore(utcDays);
-        long s2 = this.winterOnOrBefore(s1 + 370);
-        long m12 = this.newMoonOnOrAfter(s1 + 1);
-        long nextM11 = this.newMoonBefore(s2 + 1);
-        long m = this.newMoonBefore(utcDays + 1);
-        boolean leapYearInSui = (lunations(m12, nextM11) == 12);
+    //~ Konstruktoren -----------------------------------------------------
 
-        long me = lunations(m12, m); // might be negative
+    /**
+     * Creates a new instance.
+     *
+     * @param   name    name of the calendar which is also used to locate the precomputed table
+     */
+    EastAsianCS(String name) {
+        super();
 
-        if (leapYearInSui && this.hasLeapMonth(m12, m)) {
-            me--;
-        }
+        this.table = EastAsianTable.load(name);
 
-        int month = (int) Math.floorMod(me, 12);
+    }
 
-        if (month == 0) {
-            month = 12;
-        }
+    //~ Methoden ----------------------------------------------------------
 
-        long elapsedYears =
-            (long) Math.floor(1.5 - (month / 12.0) + ((utcDays - EPOCH_CHINESE) / MEAN_TROPICAL_YEAR));
+    @Override
+    public final D transform(long utcDays) {
 
-        int cycle = (int) Math.floorDiv(elapsedYears - 1, 60) + 1;
-        int yearOfCycle = (int) Math.floorMod(elapsedYears, 60);
+        EastAsianTable t = this.table;
 
-        if (yearOfCycle == 0) {
-            yearOfCycle = 60;
+        if ((t == null) || !t.contains(utcDays)) {
+            return this.computeDate(utcDays);
         }
 
-        int dayOfMonth = (int) (utcDays - m + 1);
-        EastAsianMonth eam = EastAsianMonth.valueOf(month);
+        int monthIndex = t.findMonth(utcDays);
+        int elapsedYears = t.findYear(monthIndex);
+        int ordinal = monthIndex - t.getFirstMonth(elapsedYears); // zero-based, leap month included
+        int leap = t.getLeapMonth(elapsedYears);
+        EastAsianMonth eam;
 
-        if (leapYearInSui && this.hasNoMajorSolarTerm(m) && !this.hasLeapMonth(m12, this.newMoonBefore(m))) {
-            eam = eam.withLeap();
+        if ((leap == 0) || (ordinal < leap)) {
+            eam = EastAsianMonth.valueOf(ordinal + 1);
+        } else if (ordinal == leap) {
+            eam = EastAsianMonth.valueOf(leap).withLeap();
+        } else {
+            eam = EastAsianMonth.valueOf(ordinal);
         }
 
-        return this.create(cycle, yearOfCycle, eam, dayOfMonth, utcDays);
+        int dayOfMonth = (int) (utcDays - t.getStartOfMonth(monthIndex) + 1);
+        return this.create(elapsedYears / 60 + 1, elapsedYears % 60 + 1, eam, dayOfMonth, utcDays);
 
     }
 
@@ -185,7 +188,7 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
             || (month.isLeap() && (month.getNumber() != this.getLeapMonth(cycle, yearOfCycle)))
         ) {
             return false;
-        } else if (dayOfMonth == 30) { // the only case when astronomical validation is required
+        } else if (dayOfMonth == 30) { // the only case when the length of month is required
             long monthStart = this.firstDayOfMonth(cycle, yearOfCycle, month);
             long nextNewMoon = this.newMoonOnOrAfter(monthStart + 1);
             return (nextNewMoon - monthStart == 30);
@@ -198,6 +201,62 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
     final long newYear(
         int cycle,
         int yearOfCycle
+    ) {
+        EastAsianTable t = this.table;
+        int elapsedYears = (cycle - 1) * 60 + yearOfCycle - 1;
+
+        if ((t != null) && t.containsYear(elapsedYears)) {
+            return t.getStartOfMonth(t.getFirstMonth(elapsedYears));
+        }
+
+        return this.computeNewYear(cycle, yearOfCycle);
+    }
+
+    // astronomical calculation (used outside of precomputed table and for verification)
+    final D computeDate(long utcDays) {
+        long s1 = this.winterOnOrBefore(utcDays);
+        long s2 = this.winterOnOrBefore(s1 + 370);
+        long m12 = this.computeNewMoonOnOrAfter(s1 + 1);
+        long nextM11 = this.newMoonBefore(s2 + 1);
+        long m = this.newMoonBefore(utcDays + 1);
+        boolean leapYearInSui = (lunations(m12, nextM11) == 12);
+
+        long me = lunations(m12, m); // might be negative
+
+        if (leapYearInSui && this.hasLeapMonth(m12, m)) {
+            me--;
+        }
+
+        int month = (int) Math.floorMod(me, 12);
+
+        if (month == 0) {
+            month = 12;
+        }
+
+        long elapsedYears =
+            (long) Math.floor(1.5 - (month / 12.0) + ((utcDays - EPOCH_CHINESE) / MEAN_TROPICAL_YEAR));
+
+        int cycle = (int) Math.floorDiv(elapsedYears - 1, 60) + 1;
+        int yearOfCycle = (int) Math.floorMod(elapsedYears, 60);
+
+        if (yearOfCycle == 0) {
+            yearOfCycle = 60;
+        }
+
+        int dayOfMonth = (int) (utcDays - m + 1);
+        EastAsianMonth eam = EastAsianMonth.valueOf(month);
+
+        if (leapYearInSui && this.hasNoMajorSolarTerm(m) && !this.hasLeapMonth(m12, this.newMoonBefore(m))) {
+            eam = eam.withLeap();
+        }
+
+        return this.create(cycle, yearOfCycle, eam, dayOfMonth, utcDays);
+    }
+
+    // astronomical calculation (used outside of precomputed table and for verification)
+    final long computeNewYear(
+        int cycle,
+        int yearOfCycle
     ) {
         long midYear =
             (long) Math.floor(EPOCH_CHINESE + ((cycle - 1) * 60 + yearOfCycle - 0.5) * MEAN_TROPICAL_YEAR);
@@ -215,13 +274,24 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
     final boolean hasNoMajorSolarTerm(long utcDays) {
         double jd0 = JulianDay.ofEphemerisTime(this.midnight(utcDays)).getValue();
         int index0 = (2 + (int) Math.floor(SolarTerm.solarLongitude(jd0) / 30)) % 12;
-        double jd1 = JulianDay.ofEphemerisTime(this.midnight(this.newMoonOnOrAfter(utcDays + 1))).getValue();
+        double jd1 = JulianDay.ofEphemerisTime(this.midnight(this.computeNewMoonOnOrAfter(utcDays + 1))).getValue();
         int index1 = (2 + (int) Math.floor(SolarTerm.solarLongitude(jd1) / 30)) % 12;
         return (index0 == index1);
     }
 
     // result in utc-days
     final long newMoonOnOrAfter(long utcDays) {
+        EastAsianTable t = this.table;
+
+        if ((t != null) && t.contains(utcDays)) {
+            return t.newMoonOnOrAfter(utcDays);
+        }
+
+        return this.computeNewMoonOnOrAfter(utcDays);
+    }
+
+    // astronomical calculation (used outside of precomputed table and for verification)
+    final long computeNewMoonOnOrAfter(long utcDays) {
         Moment m = MoonPhase.NEW_MOON.atOrAfter(this.midnight(utcDays));
         return m.toZonalTimestamp(this.getOffset(utcDays)).toDate().getDaysSinceEpochUTC();
     }
@@ -246,12 +316,12 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
     private long newYearInSui(long utcDays) {
         long s1 = this.winterOnOrBefore(utcDays);
         long s2 = this.winterOnOrBefore(s1 + 370);
-        long m12 = this.newMoonOnOrAfter(s1 + 1);
-        long m13 = this.newMoonOnOrAfter(m12 + 1);
+        long m12 = this.computeNewMoonOnOrAfter(s1 + 1);
+        long m13 = this.computeNewMoonOnOrAfter(m12 + 1);
         long nextM11 = this.newMoonBefore(s2 + 1);
 
         if ((lunations(m12, nextM11) == 12) && (this.hasNoMajorSolarTerm(m12) || this.hasNoMajorSolarTerm(m13))) {
-            return this.newMoonOnOrAfter(m13 + 1);
+            return this.computeNewMoonOnOrAfter(m13 + 1);
         } else {
             return m13;
         }
@@ -281,13 +351,25 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         int yearOfCycle,
         EastAsianMonth month
     ) {
-        long newYear = this.newYear(cycle, yearOfCycle);
-        long approxStartOfMonth = this.newMoonOnOrAfter(newYear + (month.getNumber() - 1) * 29);
+        EastAsianTable t = this.table;
+        int elapsedYears = (cycle - 1) * 60 + yearOfCycle - 1;
+
+        if ((t != null) && t.containsYear(elapsedYears)) {
+            int leap = t.getLeapMonth(elapsedYears);
+            int ordinal = month.getNumber() - 1; // zero-based, leap month included
+            if (month.isLeap() || ((leap > 0) && (month.getNumber() > leap))) {
+                ordinal++;
+            }
+            return t.getStartOfMonth(t.getFirstMonth(elapsedYears) + ordinal);
+        }
+
+        long newYear = this.computeNewYear(cycle, yearOfCycle);
+        long approxStartOfMonth = this.computeNewMoonOnOrAfter(newYear + (month.getNumber() - 1) * 29);
 
-        if (month.equals(this.transform(approxStartOfMonth).getMonth())) {
+        if (month.equals(this.computeDate(approxStartOfMonth).getMonth())) {
             return approxStartOfMonth;
         } else {
-            return this.newMoonOnOrAfter(approxStartOfMonth + 1);
+            return this.computeNewMoonOnOrAfter(approxStartOfMonth + 1);
         }
     }
 
@@ -0,0 +1,304 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (EastAsianTable.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.calendar;
+
+import net.time4j.base.ResourceLoader;
+
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Arrays;
+
+
+/**
+ * <p>Precomputed table of lunisolar years and months which was generated by help of the astronomical
+ * algorithm of {@code EastAsianCS}. </p>
+ *
+ * <p>Binary format of the resource: </p>
+ *
+ * <ul>
+ *     <li>int: utc-days of first new year</li>
+ *     <li>short: first year as count of elapsed years since Chinese epoch</li>
+ *     <li>short: count of years</li>
+ *     <li>for every year: byte (number of leap month or zero) and short (bit n set if the n-th month
+ *     counted from zero has 30 days else 29 days)</li>
+ * </ul>
+ *
+ * @author  Meno Hochschild
+ * @since   4.37
+ * @doctags.concurrency {immutable}
+ */
+final class EastAsianTable {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int firstYear; // (cycle - 1) * 60 + yearOfCycle - 1
+    private final byte[] leapMonths;
+    private final int[] firstMonths; // index of first month per year, last element = count of all months
+    private final int[] startOfMonths; // utc-days, last element = first day after table
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private EastAsianTable(
+        int firstYear,
+        byte[] leapMonths,
+        int[] firstMonths,
+        int[] startOfMonths
+    ) {
+        super();
+
+        this.firstYear = firstYear;
+        this.leapMonths = leapMonths;
+        this.firstMonths = firstMonths;
+        this.startOfMonths = startOfMonths;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Loads the table with given name. </p>
+     *
+     * @param   name    name of calendar which is also the name of the resource
+     * @return  table or {@code null} if the resource cannot be found
+     * @throws  IllegalStateException if the resource is not readable
+     */
+    static EastAsianTable load(String name) {
+
+        String path = "data/" + name + ".data";
+        URI uri = ResourceLoader.getInstance().locate("calendar", EastAsianTable.class, path);
+        InputStream is = ResourceLoader.getInstance().load(uri, true);
+
+        try {
+            if (is == null) {
+                try {
+                    is = ResourceLoader.getInstance().load(EastAsianTable.class, path, true);
+                } catch (FileNotFoundException fnfe) {
+                    return null; // fallback to astronomical calculations
+                }
+            }
+
+            DataInputStream in = new DataInputStream(is);
+            int utcDays = in.readInt();
+            int firstYear = in.readShort();
+            int count = in.readShort();
+            byte[] leapMonths = new byte[count];
+            int[] firstMonths = new int[count + 1];
+            int[] startOfMonths = new int[count * 13 + 1];
+            int index = 0;
+
+            for (int i = 0; i < count; i++) {
+                byte leap = in.readByte();
+                int lengths = in.readShort();
+                leapMonths[i] = leap;
+                firstMonths[i] = index;
+
+                for (int m = ((leap == 0) ? 12 : 13); m > 0; m--) {
+                    startOfMonths[index++] = utcDays;
+                    utcDays += (((lengths & 0x1) == 1) ? 30 : 29);
+                    lengths >>>= 1;
+                }
+            }
+
+            firstMonths[count] = index;
+            startOfMonths[index] = utcDays;
+            return new EastAsianTable(firstYear, leapMonths, firstMonths, Arrays.copyOf(startOfMonths, index + 1));
+        } catch (IOException ioe) {
+            throw new IllegalStateException("Invalid lunisolar data: " + path, ioe);
+        } finally {
+            try {
+                if (is != null) {
+                    is.close();
+                }
+            } catch (IOException ex) {
+                ex.printStackTrace(System.err);
+            }
+        }
+
+    }
+
+    /**
+     * <p>Writes the lunisolar years of given calendar system in binary format. </p>
+     *
+     * <p>All data are obtained by the astronomical calculations of the calendar system and not
+     * by any table which might already be loaded. </p>
+     *
+     * @param   out         data output
+     * @param   calsys      lunisolar calendar system
+     * @param   firstYear   first year as count of elapsed years since Chinese epoch
+     * @param   count       count of years
+     * @throws  IOException if writing fails or if any year does not consist of 12 or 13 months
+     *          with 29 or 30 days
+     */
+    static void write(
+        DataOutput out,
+        EastAsianCS<?> calsys,
+        int firstYear,
+        int count
+    ) throws IOException {
+
+        long newYear = calsys.computeNewYear(firstYear / 60 + 1, firstYear % 60 + 1);
+        out.writeInt((int) newYear);
+        out.writeShort(firstYear);
+        out.writeShort(count);
+
+        for (int i = 0; i < count; i++) {
+            int elapsedYears = firstYear + i + 1;
+            long nextNewYear = calsys.computeNewYear(elapsedYears / 60 + 1, elapsedYears % 60 + 1);
+            long[] starts = new long[14];
+            int months = 0;
+            int lengths = 0;
+            int leap = 0;
+
+            for (long start = newYear; start < nextNewYear; months++) {
+                long next = calsys.computeNewMoonOnOrAfter(start + 1);
+                long len = next - start;
+                if ((months == 13) || ((len != 29) && (len != 30))) {
+                    throw new IOException("Inconsistent lunisolar year: " + (elapsedYears - 1));
+                } else if (len == 30) {
+                    lengths |= (1 << months);
+                }
+                starts[months] = start;
+                start = next;
+            }
+
+            for (int ordinal = 1; (months == 13) && (leap == 0) && (ordinal < months); ordinal++) {
+                EastAsianMonth month = calsys.computeDate(starts[ordinal]).getMonth();
+                if (month.isLeap()) {
+                    leap = month.getNumber();
+                }
+            }
+
+            if (months != ((leap == 0) ? 12 : 13)) {
+                throw new IOException("Inconsistent lunisolar year: " + (elapsedYears - 1));
+            }
+
+            out.writeByte(leap);
+            out.writeShort(lengths);
+            newYear = nextNewYear;
+        }
+
+    }
+
+    /**
+     * <p>Is given day covered by this table? </p>
+     *
+     * @param   utcDays     count of days since UTC epoch [1972-01-01]
+     * @return  boolean
+     */
+    boolean contains(long utcDays) {
+
+        return (utcDays >= this.startOfMonths[0]) && (utcDays < this.startOfMonths[this.startOfMonths.length - 1]);
+
+    }
+
+    /**
+     * <p>Is given lunisolar year covered by this table? </p>
+     *
+     * @param   elapsedYears    count of elapsed years since Chinese epoch
+     * @return  boolean
+     */
+    boolean containsYear(int elapsedYears) {
+
+        return (elapsedYears >= this.firstYear) && (elapsedYears - this.firstYear < this.leapMonths.length);
+
+    }
+
+    /**
+     * <p>Yields the index of the month which contains given day. </p>
+     *
+     * @param   utcDays     count of days since UTC epoch [1972-01-01] (must be contained in this table)
+     * @return  month index
+     */
+    int findMonth(long utcDays) {
+
+        int index = Arrays.binarySearch(this.startOfMonths, (int) utcDays);
+        return ((index >= 0) ? index : -index - 2);
+
+    }
+
+    /**
+     * <p>Yields the count of elapsed years since Chinese epoch for given month index. </p>
+     *
+     * @param   monthIndex  index of month
+     * @return  elapsed years
+     */
+    int findYear(int monthIndex) {
+
+        int index = Arrays.binarySearch(this.firstMonths, monthIndex);
+        return this.firstYear + ((index >= 0) ? index : -index - 2);
+
+    }
+
+    /**
+     * <p>Yields the index of the first month of given lunisolar year. </p>
+     *
+     * @param   elapsedYears    count of elapsed years since Chinese epoch (must be contained in this table)
+     * @return  month index
+     */
+    int getFirstMonth(int elapsedYears) {
+
+        return this.firstMonths[elapsedYears - this.firstYear];
+
+    }
+
+    /**
+     * <p>Yields the number of leap month in given lunisolar year. </p>
+     *
+     * @param   elapsedYears    count of elapsed years since Chinese epoch (must be contained in this table)
+     * @return  number of leap month or zero if there is no leap month
+     */
+    int getLeapMonth(int elapsedYears) {
+
+        return this.leapMonths[elapsedYears - this.firstYear];
+
+    }
+
+    /**
+     * <p>Yields the first day of given month. </p>
+     *
+     * @param   monthIndex  index of month (the count of all months is permitted, too)
+     * @return  utc-days
+     */
+    long getStartOfMonth(int monthIndex) {
+
+        return this.startOfMonths[monthIndex];
+
+    }
+
+    /**
+     * <p>Yields the first day of the first month after or on given day. </p>
+     *
+     * @param   utcDays     count of days since UTC epoch [1972-01-01] (must be contained in this table)
+     * @return  utc-days
+     */
+    long newMoonOnOrAfter(long utcDays) {
+
+        int index = Arrays.binarySearch(this.startOfMonths, (int) utcDays);
+        return this.startOfMonths[(index >= 0) ? index : -index - 1];
+
+    }
+
+}
@@ -205,6 +205,36 @@ public final class HebrewCalendar
     //~ Statische Felder/Initialisierungen --------------------------------
 
     private static final long FIXED_EPOCH = PlainDate.of(-3760, 9, 7).get(EpochDays.RATA_DIE);
+    private static final int MAX_YEAR = 9999;
+
+    // rata die of the new years 1-10000 and days before every month for each year type
+    private static final int[] NEW_YEARS;
+    private static final int[][] MONTH_OFFSETS;
+
+    static {
+        int[] newYears = new int[MAX_YEAR + 1];
+
+        for (int i = 0; i <= MAX_YEAR; i++) {
+            newYears[i] = (int) computeNewYear(i + 1);
+        }
+
+        int[] yearLengths = {353, 354, 355, 383, 384, 385};
+        int[][] monthOffsets = new int[yearLengths.length][13];
+
+        for (int t = 0; t < yearLengths.length; t++) {
+            int ylen = yearLengths[t];
+            int sum = 0;
+            for (int m = 1; m <= 13; m++) {
+                monthOffsets[t][m - 1] = sum;
+                if ((ylen > 355) || (m != 6)) {
+                    sum += lengthOfMonthInYear(ylen, HebrewMonth.valueOf(m));
+                }
+            }
+        }
+
+        NEW_YEARS = newYears;
+        MONTH_OFFSETS = monthOffsets;
+    }
 
     private static final int YEAR_INDEX = 0;
     private static final int DAY_OF_MONTH_INDEX = 2;
@@ -1141,7 +1171,14 @@ public final class HebrewCalendar
         HebrewMonth month
     ) {
 
-        int ylen;
+        return lengthOfMonthInYear(lengthOfYear(year), month);
+
+    }
+
+    private static int lengthOfMonthInYear(
+        int ylen,
+        HebrewMonth month
+    ) {
 
         switch (month) {
             case IYAR:
@@ -1151,10 +1188,8 @@ public final class HebrewCalendar
             case ADAR_II:
                 return 29;
             case HESHVAN:
-                ylen = lengthOfYear(year);
                 return ((ylen == 355 || ylen == 385) ? 30 : 29);
             case KISLEV:
-                ylen = lengthOfYear(year);
                 return ((ylen == 353 || ylen == 383) ? 29 : 30);
             default:
                 return 30;
@@ -1167,8 +1202,25 @@ public final class HebrewCalendar
 
     }
 
+    // index of year type in month offset table
+    private static int yearType(int ylen) {
+
+        return ((ylen < 380) ? ylen - 353 : ylen - 380);
+
+    }
+
     private static long hcNewYear(int year) {
 
+        if ((year >= 1) && (year <= MAX_YEAR + 1)) {
+            return NEW_YEARS[year - 1];
+        }
+
+        return computeNewYear(year);
+
+    }
+
+    private static long computeNewYear(int year) {
+
         return FIXED_EPOCH + hcDelay1(year) + hcDelay2(year);
 
     }
@@ -1381,41 +1433,23 @@ public final class HebrewCalendar
                 y++;
             }
 
-            fixedDays -= (hcNewYear(year) - 1);
-            boolean leap = isLeapYear(year);
-            int month = 1;
+            int doy = (int) (fixedDays - hcNewYear(year) + 1);
+            int[] offsets = MONTH_OFFSETS[yearType(lengthOfYear(year))];
+            int month = 13;
 
-            for (int m = 1; m < 13; m++) {
-                if ((m == 6) && !leap) {
-                    month = m + 1;
-                    continue;
-                }
-                int len = lengthOfMonth(year, HebrewMonth.valueOf(m));
-                if (fixedDays - len <= 0) {
-                    break;
-                } else {
-                    fixedDays -= len;
-                    month = m + 1;
-                }
+            while (offsets[month - 1] >= doy) {
+                month--;
             }
 
-            return HebrewCalendar.of(year, HebrewMonth.valueOf(month), (int) fixedDays);
+            return HebrewCalendar.of(year, HebrewMonth.valueOf(month), doy - offsets[month - 1]);
 
         }
 
         @Override
         public long transform(HebrewCalendar date) {
 
-            long utcDays = EpochDays.UTC.transform(hcNewYear(date.year), EpochDays.RATA_DIE) + date.dom - 1;
-            boolean leap = isLeapYear(date.year);
-
-            for (int m = 1, n = date.month.getValue(); m < n; m++) {
-                if (leap || (m != 6)) {
-                    utcDays += lengthOfMonth(date.year, HebrewMonth.valueOf(m));
-                }
-            }
-
-            return utcDays;
+            int offset = MONTH_OFFSETS[yearType(lengthOfYear(date.year))][date.month.getValue() - 1];
+            return EpochDays.UTC.transform(hcNewYear(date.year), EpochDays.RATA_DIE) + offset + date.dom - 1;
 
         }
 
@@ -1553,11 +1587,8 @@ public final class HebrewCalendar
                 case DAY_OF_MONTH_INDEX:
                     return context.dom;
                 case DAY_OF_YEAR_INDEX:
-                    int doy = 0;
-                    for (int m = 1; m < context.month.getValue(); m++) {
-                        doy += CALSYS.getLengthOfMonth(HebrewEra.ANNO_MUNDI, context.year, m);
-                    }
-                    return doy + context.dom;
+                    int ylen = lengthOfYear(context.year);
+                    return MONTH_OFFSETS[yearType(ylen)][context.month.getValue() - 1] + context.dom;
                 default:
                     throw new UnsupportedOperationException("Unknown element index: " + this.index);
             }
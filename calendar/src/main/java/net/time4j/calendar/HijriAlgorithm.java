@@ -223,7 +223,7 @@ public enum HijriAlgorithm
 	//~ Innere Klassen ----------------------------------------------------
 
 	private static class Transformer
-		implements EraYearMonthDaySystem<HijriCalendar> {
+		extends MonthSteppingSystem<HijriCalendar> {
 
 		//~ Instanzvariablen ----------------------------------------------
 
@@ -240,7 +240,11 @@ public enum HijriAlgorithm
 			boolean civil,
 			int adjustment
 		) {
-			super();
+			super(
+				HijriCalendar::getYear,
+				date -> date.getMonth().getValue(),
+				HijriCalendar::getDayOfMonth,
+				(year, month, dayOfMonth) -> HijriCalendar.of(variant, year, month, dayOfMonth));
 
 			this.variant = variant;
 			this.intercalaries = intercalaries;
@@ -421,7 +425,8 @@ public enum HijriAlgorithm
 			}
 
 			days += hdom;
-			return Math.subtractExact(this.getMinimumSinceUTC() + days - 1, this.adjustment);
+			long start = (this.civil ? START_622_07_16 : START_622_07_15);
+			return Math.subtractExact(start + days - 1, this.adjustment);
 
 		}
 
@@ -465,8 +465,7 @@ public final class HijriCalendar
     private static final CalendarFamily<HijriCalendar> ENGINE;
 
     static {
-        Map<String, EraYearMonthDaySystem<HijriCalendar>> calsys = new VariantMap();
-        calsys.put(VARIANT_UMALQURA, AstronomicalHijriData.UMALQURA);
+        Map<String, EraYearMonthDaySystem<HijriCalendar>> calsys = new VariantMap(); // umalqura loaded on demand
         for (HijriAlgorithm algo : HijriAlgorithm.values()) {
             calsys.put(algo.getVariant(), algo.getCalendarSystem(0));
         }
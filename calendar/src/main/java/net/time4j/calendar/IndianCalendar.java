@@ -905,7 +905,7 @@ public final class IndianCalendar
     }
 
     private static class Transformer
-        implements EraYearMonthDaySystem<IndianCalendar> {
+        implements SingleEraBulkSystem<IndianCalendar> {
 
         //~ Methoden ------------------------------------------------------
 
@@ -1127,6 +1127,120 @@ public final class IndianCalendar
 
         }
 
+        @Override
+        public void toFields(
+            long[] utcDays,
+            int[] years,
+            int[] months,
+            int[] daysOfMonth
+        ) {
+
+            int n = utcDays.length;
+
+            if ((years.length < n) || (months.length < n) || (daysOfMonth.length < n)) {
+                throw new IllegalArgumentException("Target arrays are too short: " + n);
+            }
+
+            long min = this.getMinimumSinceUTC();
+            long max = this.getMaximumSinceUTC();
+            int iyear = 0;
+            int lengthOfChaitra = 0;
+            long startOfYear = 0;
+            long endOfYear = 0; // empty range at the beginning
+
+            for (int i = 0; i < n; i++) {
+                long utc = utcDays[i];
+
+                if ((utc < startOfYear) || (utc >= endOfYear)) { // only computed if the year changes
+                    if ((utc < min) || (utc > max)) {
+                        throw new IllegalArgumentException("Out of range: " + utc);
+                    }
+                    long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(utc, EpochDays.UTC);
+                    iyear = GregorianMath.readYear(GregorianMath.toPackedDate(mjd)) - 78;
+                    startOfYear = newYear(iyear);
+                    if (utc < startOfYear) {
+                        iyear--;
+                        startOfYear = newYear(iyear);
+                    }
+                    endOfYear = ((iyear == MAX_YEAR) ? max + 1 : newYear(iyear + 1));
+                    lengthOfChaitra = (GregorianMath.isLeapYear(iyear + 78) ? 31 : 30);
+                }
+
+                int dayOfYear = (int) (utc - startOfYear);
+                years[i] = iyear;
+
+                if (dayOfYear < lengthOfChaitra) {
+                    months[i] = 1;
+                    daysOfMonth[i] = dayOfYear + 1;
+                } else if (dayOfYear < lengthOfChaitra + 155) { // five months with 31 days
+                    dayOfYear -= lengthOfChaitra;
+                    months[i] = (dayOfYear / 31) + 2;
+                    daysOfMonth[i] = (dayOfYear % 31) + 1;
+                } else {
+                    dayOfYear -= (lengthOfChaitra + 155);
+                    months[i] = (dayOfYear / 30) + 7;
+                    daysOfMonth[i] = (dayOfYear % 30) + 1;
+                }
+            }
+
+        }
+
+        @Override
+        public void fromFields(
+            int[] years,
+            int[] months,
+            int[] daysOfMonth,
+            long[] utcDays
+        ) {
+
+            int n = years.length;
+
+            if ((months.length < n) || (daysOfMonth.length < n) || (utcDays.length < n)) {
+                throw new IllegalArgumentException("Arrays are too short: " + n);
+            }
+
+            CalendarEra era = IndianEra.SAKA;
+            int iyear = 0;
+            int lengthOfChaitra = 0;
+            long startOfYear = 0;
+
+            for (int i = 0; i < n; i++) {
+                int y = years[i];
+                int m = months[i];
+                int d = daysOfMonth[i];
+
+                if (!this.isValid(era, y, m, d)) {
+                    throw new IllegalArgumentException("Invalid date: " + y + "-" + m + "-" + d);
+                } else if (y != iyear) { // only computed if the year changes
+                    iyear = y;
+                    startOfYear = newYear(y);
+                    lengthOfChaitra = (GregorianMath.isLeapYear(y + 78) ? 31 : 30);
+                }
+
+                int dayOfYear;
+
+                if (m == 1) {
+                    dayOfYear = 0;
+                } else if (m <= 7) {
+                    dayOfYear = lengthOfChaitra + 31 * (m - 2);
+                } else {
+                    dayOfYear = lengthOfChaitra + 155 + 30 * (m - 7);
+                }
+
+                utcDays[i] = startOfYear + dayOfYear + d - 1;
+            }
+
+        }
+
+        // first day of given saka year as count of days since UTC epoch
+        private static long newYear(int iyear) {
+
+            int y = iyear + 78;
+            long mjd = GregorianMath.toMJD(y, 3, (GregorianMath.isLeapYear(y) ? 21 : 22));
+            return EpochDays.UTC.transform(mjd, EpochDays.MODIFIED_JULIAN_DATE);
+
+        }
+
     }
 
     private static class IntegerRule
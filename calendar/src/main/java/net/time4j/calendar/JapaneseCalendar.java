@@ -1356,12 +1356,7 @@ public final class JapaneseCalendar
     private JapaneseCalendar tryWithNorthernCourt() {
 
         if ((this.relgregyear >= 1332) && (this.relgregyear < 1394)) {
-            Nengo nengo = Nengo.ofRelatedGregorianYear(this.relgregyear, NORTHERN_COURT);
-
-            while (nengo.getStartAsDaysSinceEpochUTC() > this.getDaysSinceEpochUTC()) {
-                nengo = nengo.findPrevious().get();
-            }
-
+            Nengo nengo = Nengo.ofDaysSinceEpochUTC(this.getDaysSinceEpochUTC(), true);
             return new JapaneseCalendar(nengo, this.relgregyear, this.dayOfYear, this.month, this.dayOfMonth);
         }
 
@@ -1375,24 +1370,7 @@ public final class JapaneseCalendar
         long utcDays
     ) {
 
-        Nengo nengo;
-
-        if (northern && (relgregyear >= 1332) && (relgregyear < 1394)) {
-            nengo = Nengo.ofRelatedGregorianYear(relgregyear, NORTHERN_COURT);
-        } else {
-            nengo = Nengo.ofRelatedGregorianYear(relgregyear, OFFICIAL);
-        }
-
-        while (nengo.getStartAsDaysSinceEpochUTC() > utcDays) {
-            Optional<Nengo> previous = nengo.findPrevious();
-            if (previous.isPresent()) {
-                nengo = previous.get();
-            } else {
-                break;
-            }
-        }
-
-        return nengo;
+        return Nengo.ofDaysSinceEpochUTC(utcDays, northern && (relgregyear >= 1332) && (relgregyear < 1394));
 
     }
 
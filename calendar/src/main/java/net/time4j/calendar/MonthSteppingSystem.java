@@ -0,0 +1,206 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MonthSteppingSystem.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.calendar;
+
+import net.time4j.engine.CalendarEra;
+
+import java.util.function.ToIntFunction;
+
+
+/**
+ * <p>Single-era calendar system whose bulk conversions step from month to month. </p>
+ *
+ * <p>The bulk conversions remember the current month and only transform single dates
+ * if the next input does not fall into the current or the following month. The access
+ * to the fields of a calendar date is given by the constructor. </p>
+ *
+ * @param   <D> generic type of calendar date (subtype of {@code Calendrical} or {@code CalendarVariant})
+ * @author  Meno Hochschild
+ * @since   4.37
+ */
+abstract class MonthSteppingSystem<D>
+    implements SingleEraBulkSystem<D> {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ToIntFunction<D> yearOf;
+    private final ToIntFunction<D> monthOf;
+    private final ToIntFunction<D> dayOfMonthOf;
+    private final Factory<D> factory;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new instance. </p>
+     *
+     * @param   yearOf          yields the year of a date in the only era
+     * @param   monthOf         yields the numerical month of a date starting with {@code 1}
+     * @param   dayOfMonthOf    yields the day of month of a date
+     * @param   factory         creates a date of this calendar system
+     */
+    MonthSteppingSystem(
+        ToIntFunction<D> yearOf,
+        ToIntFunction<D> monthOf,
+        ToIntFunction<D> dayOfMonthOf,
+        Factory<D> factory
+    ) {
+        super();
+
+        this.yearOf = yearOf;
+        this.monthOf = monthOf;
+        this.dayOfMonthOf = dayOfMonthOf;
+        this.factory = factory;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public final void toFields(
+        long[] utcDays,
+        int[] years,
+        int[] months,
+        int[] daysOfMonth
+    ) {
+
+        int n = utcDays.length;
+
+        if ((years.length < n) || (months.length < n) || (daysOfMonth.length < n)) {
+            throw new IllegalArgumentException("Target arrays are too short: " + n);
+        }
+
+        CalendarEra era = this.getEras().get(0);
+        int year = 0;
+        int month = 0;
+        long start = 0; // first day of current month
+        long end = 0; // first day after current month (empty range at the beginning)
+
+        for (int i = 0; i < n; i++) {
+            long utc = utcDays[i];
+
+            if ((utc >= end) && (end > start) && (utc - end < 31)) {
+                int y = year;
+                int m = month + 1;
+                if (!this.isValid(era, y, m, 1)) {
+                    y++;
+                    m = 1;
+                }
+                if (this.isValid(era, y, m, 1)) {
+                    year = y;
+                    month = m;
+                    start = end;
+                    end = start + this.getLengthOfMonth(era, y, m);
+                }
+            }
+
+            if ((utc < start) || (utc >= end)) {
+                D date = this.transform(utc);
+                year = this.yearOf.applyAsInt(date);
+                month = this.monthOf.applyAsInt(date);
+                start = utc - this.dayOfMonthOf.applyAsInt(date) + 1;
+                end = start + this.getLengthOfMonth(era, year, month);
+            }
+
+            years[i] = year;
+            months[i] = month;
+            daysOfMonth[i] = (int) (utc - start + 1);
+        }
+
+    }
+
+    @Override
+    public final void fromFields(
+        int[] years,
+        int[] months,
+        int[] daysOfMonth,
+        long[] utcDays
+    ) {
+
+        int n = years.length;
+
+        if ((months.length < n) || (daysOfMonth.length < n) || (utcDays.length < n)) {
+            throw new IllegalArgumentException("Arrays are too short: " + n);
+        }
+
+        CalendarEra era = this.getEras().get(0);
+        int year = 0;
+        int month = 0;
+        long start = 0; // first day of current month
+        int length = 0; // zero if there is no current month yet
+
+        for (int i = 0; i < n; i++) {
+            int y = years[i];
+            int m = months[i];
+            int d = daysOfMonth[i];
+
+            if ((length == 0) || (y != year) || (m != month)) {
+                if (!this.isValid(era, y, m, 1)) {
+                    throw new IllegalArgumentException("Invalid date: " + y + "-" + m + "-" + d);
+                }
+                boolean next = (
+                    (length > 0)
+                    && (((y == year) && (m == month + 1))
+                        || ((y == year + 1) && (m == 1) && !this.isValid(era, year, month + 1, 1)))
+                );
+                start = (next ? start + length : this.transform(this.factory.create(y, m, 1)));
+                year = y;
+                month = m;
+                length = this.getLengthOfMonth(era, y, m);
+            }
+
+            if ((d < 1) || (d > length)) {
+                throw new IllegalArgumentException("Invalid date: " + y + "-" + m + "-" + d);
+            }
+
+            utcDays[i] = start + d - 1;
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Creates calendar dates from year, month and day of month. </p>
+     *
+     * @param   <D> generic type of calendar date
+     */
+    @FunctionalInterface
+    interface Factory<D> {
+
+        /**
+         * <p>Creates a new calendar date. </p>
+         *
+         * @param   year        year of the only era
+         * @param   month       numerical month
+         * @param   dayOfMonth  day of month
+         * @return  new calendar date
+         * @throws  IllegalArgumentException if the parameters are invalid
+         */
+        D create(
+            int year,
+            int month,
+            int dayOfMonth
+        );
+
+    }
+
+}
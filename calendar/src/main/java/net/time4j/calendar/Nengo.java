@@ -108,8 +108,12 @@ public final class Nengo
     private static final Nengo[] NORTHERN_NENGOS;
     private static final Nengo NENGO_KENMU;
     private static final Nengo NENGO_OEI;
-    private static final Map<String, Nengo> KANJI_TO_NENGO;
-    private static final Map<String, Nengo> CHINESE_TO_NENGO;
+    private static final long[] OFFICIAL_STARTS; // utc-days, ascending
+    private static final long[] NORTHERN_STARTS; // utc-days, ascending
+    private static final int[] OFFICIAL_YEARS; // first related gregorian years, ascending
+    private static final int[] NORTHERN_YEARS; // first related gregorian years, ascending
+    private static final TST KANJI_TO_NENGO;
+    private static final TST CHINESE_TO_NENGO;
     private static final TST KOREAN_TO_NENGO;
     private static final TST RUSSIAN_TO_NENGO;
     private static final TST ROMAJI_TO_NENGO;
@@ -265,8 +269,24 @@ public final class Nengo
         NENGO_KENMU = kenmu;   // southern variant
         NENGO_OEI = oei;       // after nanboku-chō-period
 
-        KANJI_TO_NENGO = Collections.unmodifiableMap(kanjiToNengo);
-        CHINESE_TO_NENGO = Collections.unmodifiableMap(chineseToNengo);
+        OFFICIAL_STARTS = new long[OFFICIAL_NENGOS.length];
+        OFFICIAL_YEARS = new int[OFFICIAL_NENGOS.length];
+        NORTHERN_STARTS = new long[NORTHERN_NENGOS.length];
+        NORTHERN_YEARS = new int[NORTHERN_NENGOS.length];
+        fillIndex(OFFICIAL_NENGOS, OFFICIAL_STARTS, OFFICIAL_YEARS);
+        fillIndex(NORTHERN_NENGOS, NORTHERN_STARTS, NORTHERN_YEARS);
+
+        TST kanjiTrie = new TST();
+        TST chineseTrie = new TST();
+        for (Map.Entry<String, Nengo> entry : kanjiToNengo.entrySet()) {
+            kanjiTrie.insert(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, Nengo> entry : chineseToNengo.entrySet()) {
+            chineseTrie.insert(entry.getKey(), entry.getValue());
+        }
+
+        KANJI_TO_NENGO = kanjiTrie;
+        CHINESE_TO_NENGO = chineseTrie;
         KOREAN_TO_NENGO = koreanToNengo;
         RUSSIAN_TO_NENGO = russianToNengo;
         ROMAJI_TO_NENGO = romajiToNengo;
@@ -456,69 +476,38 @@ public final class Nengo
         Nengo nengo = null;
 
         if (year >= 701) {
+            int i;
             switch (selector) {
                 case OFFICIAL:
                     if (year >= 1873) {
                         return Nengo.ofRelatedGregorianYear(year, Selector.MODERN);
                     } else {
-                        int low = 0;
-                        int high = OFFICIAL_NENGOS.length - 1;
-                        while (low <= high) {
-                            int middle = ((low + high) >> 1);
-                            if (OFFICIAL_NENGOS[middle].getFirstRelatedGregorianYear() <= year) {
-                                low = middle + 1;
-                            } else {
-                                high = middle - 1;
-                            }
-                        }
-                        if (low == 0) {
-                            break;
-                        } else {
-                            return OFFICIAL_NENGOS[low - 1];
-                        }
+                        i = search(OFFICIAL_YEARS, 0, OFFICIAL_NENGOS.length - 1, year);
+                        nengo = ((i < 0) ? null : OFFICIAL_NENGOS[i]);
                     }
+                    break;
                 case MODERN:
-                    for (int i = OFFICIAL_NENGOS.length - 1, n = getLowerBound(selector); i >= n; i--) {
-                        Nengo test = OFFICIAL_NENGOS[i];
-                        if (test.relgregyear <= year) {
-                            nengo = test;
-                            break;
-                        }
-                    }
+                    i = search(OFFICIAL_YEARS, getLowerBound(selector), OFFICIAL_NENGOS.length - 1, year);
+                    nengo = ((i < 0) ? null : OFFICIAL_NENGOS[i]);
                     break;
                 case NORTHERN_COURT:
                     if ((year >= 1332) && (year <= 1394)) {
-                        for (int i = NORTHERN_NENGOS.length - 1; i >= 0; i--) {
-                            Nengo northern = NORTHERN_NENGOS[i];
-                            if (northern.relgregyear <= year) {
-                                nengo = northern;
-                                break;
-                            }
-                        }
+                        i = search(NORTHERN_YEARS, 0, NORTHERN_NENGOS.length - 1, year);
+                        nengo = ((i < 0) ? null : NORTHERN_NENGOS[i]);
                     }
                     break;
                 case SOUTHERN_COURT:
                     if ((year >= 1334) && (year <= 1393)) {
-                        for (int i = NENGO_OEI.index - 1; OFFICIAL_NENGOS[i].court == COURT_SOUTHERN; i--) {
-                            Nengo southern = OFFICIAL_NENGOS[i];
-                            if (southern.relgregyear <= year) {
-                                nengo = southern;
-                                break;
-                            }
-                        }
+                        i = search(OFFICIAL_YEARS, getLowerBound(selector), NENGO_OEI.index - 1, year);
+                        nengo = ((i < 0) ? null : OFFICIAL_NENGOS[i]);
                     }
                     break;
                 default:
                     int min = getLowerBound(selector);
                     int max = getUpperBound(selector);
                     if ((year >= OFFICIAL_NENGOS[min].relgregyear) && (year <= OFFICIAL_NENGOS[max + 1].relgregyear)) {
-                        for (int i = max; i >= min; i--) {
-                            Nengo test = OFFICIAL_NENGOS[i];
-                            if (test.relgregyear <= year) {
-                                nengo = test;
-                                break;
-                            }
-                        }
+                        i = search(OFFICIAL_YEARS, min, max, year);
+                        nengo = ((i < 0) ? null : OFFICIAL_NENGOS[i]);
                     }
                     break;
             }
@@ -549,13 +538,13 @@ public final class Nengo
      */
     public static Nengo ofKanji(String kanji) {
 
-        Nengo nengo = KANJI_TO_NENGO.get(kanji);
+        List<Nengo> nengos = KANJI_TO_NENGO.find(kanji);
 
-        if (nengo == null) {
+        if (nengos.isEmpty()) {
             throw new IllegalArgumentException(
                 "Could not find any nengo for Japanese kanji: " + kanji);
         } else {
-            return nengo;
+            return nengos.get(0);
         }
 
     }
@@ -1040,6 +1029,26 @@ public final class Nengo
 
     }
 
+    // verwendet in JapaneseCalendar
+    static Nengo ofDaysSinceEpochUTC(
+        long utcDays,
+        boolean northern
+    ) {
+
+        if (northern) {
+            int i = search(NORTHERN_STARTS, 0, NORTHERN_NENGOS.length - 1, utcDays);
+            if (i >= 0) {
+                return NORTHERN_NENGOS[i];
+            }
+            i = search(OFFICIAL_STARTS, 0, NENGO_KENMU.index - 1, utcDays); // predecessors of northern court
+            return OFFICIAL_NENGOS[Math.max(i, 0)];
+        }
+
+        int i = search(OFFICIAL_STARTS, 0, OFFICIAL_NENGOS.length - 1, utcDays);
+        return OFFICIAL_NENGOS[Math.max(i, 0)];
+
+    }
+
     // verwendet in JapaneseCalendar
     static Nengo ofIndexOfficial(int index) {
 
@@ -1134,6 +1143,68 @@ public final class Nengo
 
     }
 
+    private static void fillIndex(
+        Nengo[] nengos,
+        long[] starts,
+        int[] years
+    ) {
+
+        for (int i = 0; i < nengos.length; i++) {
+            starts[i] = nengos[i].start;
+            years[i] = nengos[i].relgregyear;
+            if ((i > 0) && ((starts[i] <= starts[i - 1]) || (years[i] < years[i - 1]))) { // sanity check
+                throw new IllegalStateException("Nengo data not in ascending order: " + nengos[i].romaji);
+            }
+        }
+
+    }
+
+    // index of last element in range [low, high] which is not greater than key or -1
+    private static int search(
+        long[] keys,
+        int low,
+        int high,
+        long key
+    ) {
+
+        int min = low;
+
+        while (low <= high) {
+            int middle = ((low + high) >>> 1);
+            if (keys[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return ((low == min) ? -1 : low - 1);
+
+    }
+
+    // index of last element in range [low, high] which is not greater than key or -1
+    private static int search(
+        int[] keys,
+        int low,
+        int high,
+        int key
+    ) {
+
+        int min = low;
+
+        while (low <= high) {
+            int middle = ((low + high) >>> 1);
+            if (keys[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return ((low == min) ? -1 : low - 1);
+
+    }
+
     private static int getLowerBound(Selector selector) {
 
         switch (selector) {
@@ -1501,42 +1572,22 @@ public final class Nengo
             List<Nengo> candidates = Collections.emptyList();
 
             switch (locale.getLanguage()) {
-                case "ja": {
-                    int end = ((query.length() >= 4) ? 4 : 2);
-                    String test = query.substring(0, end);
-                    Nengo nengo = KANJI_TO_NENGO.get(test);
-                    if ((nengo == null) && (end == 4)) {
-                        test = query.substring(0, 2);
-                        nengo = KANJI_TO_NENGO.get(test);
-                    }
-                    if (nengo != null) {
-                        prefix = test;
-                        if (nengo == candidate) { // resolving Shōwa
-                            candidate = null;
-                        }
-                        candidates = Collections.singletonList(nengo);
+                case "ja":
+                    prefix = KANJI_TO_NENGO.longestPrefixOf(query, 0);
+                    candidates = KANJI_TO_NENGO.find(prefix);
+                    if (candidates.contains(candidate)) { // resolving Shōwa
+                        candidate = null;
                     }
                     break;
-                }
-                case "zh": {
-                    int end = ((query.length() >= 4) ? 4 : 2);
-                    String test = query.substring(0, end);
-                    Nengo nengo = CHINESE_TO_NENGO.get(test);
-                    if ((nengo == null) && (end == 4)) {
-                        test = query.substring(0, 2);
-                        nengo = CHINESE_TO_NENGO.get(test);
-                    }
-                    if (nengo != null) {
-                        prefix = test;
-                        if (nengo == candidate) { // resolving Shōwa
-                            candidate = null;
-                        }
-                        candidates = Collections.singletonList(nengo);
+                case "zh":
+                    prefix = CHINESE_TO_NENGO.longestPrefixOf(query, 0);
+                    candidates = CHINESE_TO_NENGO.find(prefix);
+                    if (candidates.contains(candidate)) { // resolving Shōwa
+                        candidate = null;
                     }
                     break;
-                }
                 case "ko":
-                    prefix = KOREAN_TO_NENGO.longestPrefixOf(query, offset);
+                    prefix = KOREAN_TO_NENGO.longestPrefixOf(query, 0);
                     candidates = KOREAN_TO_NENGO.find(prefix);
                     break;
                 case "ru":
@@ -1544,11 +1595,11 @@ public final class Nengo
                         query = query.substring(7);
                         extra = 7;
                     }
-                    prefix = RUSSIAN_TO_NENGO.longestPrefixOf(query, offset);
+                    prefix = RUSSIAN_TO_NENGO.longestPrefixOf(query, 0);
                     candidates = RUSSIAN_TO_NENGO.find(prefix);
                     break;
                 default:
-                    prefix = ROMAJI_TO_NENGO.longestPrefixOf(query, offset);
+                    prefix = ROMAJI_TO_NENGO.longestPrefixOf(query, 0);
                     candidates = ROMAJI_TO_NENGO.find(prefix);
                     break;
             }
@@ -1729,7 +1780,7 @@ public final class Nengo
 
             Node node = find(this.root, key, 0);
 
-            if (node == null) {
+            if ((node == null) || (node.nengos == null)) { // no match or only prefix of a stored key
                 return Collections.emptyList();
             } else {
                 return Collections.unmodifiableList(node.nengos);
@@ -26,6 +26,7 @@ import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
 import net.time4j.calendar.astro.AstronomicalSeason;
 import net.time4j.calendar.astro.SolarTime;
+import net.time4j.calendar.service.EquinoxTable;
 import net.time4j.engine.AttributeKey;
 import net.time4j.engine.CalendarSystem;
 import net.time4j.engine.EpochDays;
@@ -394,12 +395,10 @@ public enum PersianAlgorithm {
             if (date.getMonth() < 3) {
                 pyear--; // optimization
             }
-            PlainDate equinox = vernalEquinox(pyear, offset);
-            long delta = CalendarUnit.DAYS.between(equinox, date);
+            long delta = utcDays - newYear(pyear, offset);
             while (delta < 0) {
                 pyear--;
-                equinox = vernalEquinox(pyear, offset);
-                delta = CalendarUnit.DAYS.between(equinox, date);
+                delta = utcDays - newYear(pyear, offset);
             }
             int pmonth = 1;
             while (pmonth < 12) {
@@ -421,21 +420,18 @@ public enum PersianAlgorithm {
         ) {
             int pyear = date.getYear();
             int pmonth = date.getMonth().getValue();
-            long utcDays = vernalEquinox(pyear, offset).getDaysSinceEpochUTC();
+            long utcDays = newYear(pyear, offset);
             utcDays += ((pmonth) - 1) * 31 - ((pmonth / 7) * (pmonth - 7)) + date.getDayOfMonth() - 1;
             return utcDays;
         }
-        private PlainDate vernalEquinox(
+        private long newYear(
             int pyear,
             ZonalOffset offset
         ) {
-            PlainTimestamp tsp =
-                AstronomicalSeason.VERNAL_EQUINOX.inYear(pyear + 621).get(SolarTime.apparentAt(offset));
-            if (tsp.getHour() >= 12) {
-                return tsp.getCalendarDate().plus(1, CalendarUnit.DAYS);
-            } else {
-                return tsp.getCalendarDate();
+            if ((EQUINOX_TABLE != null) && EQUINOX_TABLE.containsYear(pyear) && offset.equals(STD_OFFSET)) {
+                return EQUINOX_TABLE.getNewYear(pyear);
             }
+            return computeNewYear(pyear, offset);
         }
     };
 
@@ -445,6 +441,10 @@ public enum PersianAlgorithm {
     private static final long REFERENCE_ZERO_KHAYYAM = 493363L;
     private static final long START_OF_BIRASHK_CYCLE = -319872L;
 
+    static final String EQUINOX_VERSION = "1.0"; // must be changed if the astronomical calculations change
+    private static final EquinoxTable EQUINOX_TABLE = // only for standard offset
+        EquinoxTable.load("persian", EQUINOX_VERSION);
+
     private static final AttributeKey<PersianAlgorithm> ATTRIBUTE =
         Attributes.createKey("PERSIAN_ALGORITHM", PersianAlgorithm.class);
 
@@ -567,6 +567,29 @@ public enum PersianAlgorithm {
 
     }
 
+    /**
+     * <p>Determines the first day of given Persian year by astronomical calculation of the vernal equinox
+     * in apparent solar time. </p>
+     *
+     * <p>Used by the astronomical algorithm outside of the precomputed equinox table or if the offset is
+     * not the standard offset. </p>
+     *
+     * @param   pyear   Persian year
+     * @param   offset  timezone offset of the reference meridian
+     * @return  utc-days of new year
+     */
+    static long computeNewYear(
+        int pyear,
+        ZonalOffset offset
+    ) {
+
+        PlainTimestamp tsp =
+            AstronomicalSeason.VERNAL_EQUINOX.inYear(pyear + 621).get(SolarTime.apparentAt(offset));
+        long utcDays = tsp.getCalendarDate().getDaysSinceEpochUTC();
+        return ((tsp.getHour() >= 12) ? utcDays + 1 : utcDays);
+
+    }
+
     private static void checkRange(long utcDays) {
 
         CalendarSystem<PersianCalendar> calsys = PersianCalendar.axis().getCalendarSystem();
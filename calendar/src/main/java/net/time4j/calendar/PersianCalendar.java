@@ -1362,7 +1362,18 @@ public final class PersianCalendar
     }
 
     private static class Transformer
-        implements EraYearMonthDaySystem<PersianCalendar> {
+        extends MonthSteppingSystem<PersianCalendar> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Transformer() {
+            super(
+                PersianCalendar::getYear,
+                date -> date.getMonth().getValue(),
+                PersianCalendar::getDayOfMonth,
+                PersianCalendar::of);
+
+        }
 
         //~ Methoden ------------------------------------------------------
 
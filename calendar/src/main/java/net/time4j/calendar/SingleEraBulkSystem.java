@@ -0,0 +1,40 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (SingleEraBulkSystem.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.calendar;
+
+import net.time4j.engine.BulkCalendarSystem;
+
+
+/**
+ * <p>Month-based calendar system with only one era which supports bulk conversions. </p>
+ *
+ * <p>Arithmetic calendar systems implement the bulk conversions directly. Other systems can
+ * extend {@link MonthSteppingSystem}. </p>
+ *
+ * @param   <D> generic type of calendar date (subtype of {@code Calendrical} or {@code CalendarVariant})
+ * @author  Meno Hochschild
+ * @since   4.37
+ */
+interface SingleEraBulkSystem<D>
+    extends EraYearMonthDaySystem<D>, BulkCalendarSystem<D> {
+
+}
@@ -763,6 +763,13 @@ public final class VietnameseCalendar
 
         private static final long MIN_LIMIT = PlainDate.of(1813, 2, 1).getDaysSinceEpochUTC(); // new year 1813
 
+        //~ Konstruktoren -------------------------------------------------
+
+        Transformer() {
+            super("vietnamese");
+
+        }
+
         //~ Methoden ------------------------------------------------------
 
         @Override
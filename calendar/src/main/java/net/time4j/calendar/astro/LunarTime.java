@@ -36,6 +36,7 @@ import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleFunction;
 
 
 /**
@@ -323,23 +324,130 @@ public final class LunarTime
      */
     public Moonlight on(CalendarDate date) {
 
-        // initialization
         PlainDate d = SolarTime.toGregorian(date);
         Timezone tz = Timezone.of(this.observerZoneID);
-        Moment start =
-            ((tz.getHistory() == null)
-                ? d.at(PlainTime.midnightAtStartOfDay()).in(tz)
-                : d.atFirstMoment(this.observerZoneID));
-
+        Moment start = this.startOfDay(d, tz);
         double mjd0 = JulianDay.ofMeanSolarTime(start).getMJD();
+        double deltaT = TimeScale.deltaT(d);
+        double[] events = this.search(mjd0, mjd -> MoonPosition.calculateMeeus(toJulianCenturies(mjd + (deltaT / 86400))));
+
+        // evaluate moonrise and moonset
+        Moment rising = null;
+        Moment setting = null;
+
+        if (!Double.isNaN(events[0])) {
+            rising = add(start, events[0]);
+            if (!rising.toZonalTimestamp(this.observerZoneID).getCalendarDate().equals(d)) {
+                rising = null;
+            }
+        }
+        if (!Double.isNaN(events[1])) {
+            setting = add(start, events[1]);
+            if (!setting.toZonalTimestamp(this.observerZoneID).getCalendarDate().equals(d)) {
+                setting = null;
+            }
+        }
+
+        return new Moonlight(d, this.observerZoneID, rising, setting, events[2] > 0.0);
+
+    }
+
+    /**
+     * <p>Tabulates moonrise and moonset for a range of consecutive calendar dates. </p>
+     *
+     * <p>The position of the moon does not depend on the location of the observer. Therefore it is
+     * calculated only every six hours along the whole range and then interpolated for the hourly search
+     * steps of the method {@link #on(CalendarDate)}, so the expensive lunar theory is evaluated about
+     * four times per day instead of up to 26 times. The results usually deviate by at most one second
+     * from the single function {@code on(CalendarDate)}. </p>
+     *
+     * @param   start       first calendar date
+     * @param   days        count of days (at least one)
+     * @return  new table of moonrise and moonset
+     * @throws  IllegalArgumentException if the count of days is not positive or the dates are out of range
+     * @see     Table#ABSENT
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Tabelliert Mondaufgang und Monduntergang f&uuml;r eine Reihe von aufeinanderfolgenden
+     * Kalendertagen. </p>
+     *
+     * <p>Die Position des Mondes h&auml;ngt nicht vom Ort des Beobachters ab. Deshalb wird sie nur alle
+     * sechs Stunden entlang des ganzen Zeitraums berechnet und dann f&uuml;r die st&uuml;ndlichen
+     * Suchschritte der Methode {@link #on(CalendarDate)} interpoliert, so da&szlig; die aufwendige
+     * Mondtheorie etwa viermal pro Tag statt bis zu 26mal ausgewertet wird. Die Ergebnisse weichen
+     * gew&ouml;hnlich um h&ouml;chstens eine Sekunde von der einzelnen Funktion {@code on(CalendarDate)}
+     * ab. </p>
+     *
+     * @param   start       first calendar date
+     * @param   days        count of days (at least one)
+     * @return  new table of moonrise and moonset
+     * @throws  IllegalArgumentException if the count of days is not positive or the dates are out of range
+     * @see     Table#ABSENT
+     * @since   4.37
+     */
+    public LunarTime.Table tabulate(
+        CalendarDate start,
+        int days
+    ) {
+
+        if (days < 1) {
+            throw new IllegalArgumentException("Count of days must be positive: " + days);
+        }
+
+        PlainDate first = SolarTime.toGregorian(start);
+        Timezone tz = Timezone.of(this.observerZoneID);
+        Moment[] starts = new Moment[days + 1];
+        double[] mjds = new double[days + 1];
+
+        for (int i = 0; i <= days; i++) {
+            starts[i] = this.startOfDay(first.plus(i, CalendarUnit.DAYS), tz);
+            mjds[i] = JulianDay.ofMeanSolarTime(starts[i]).getMJD();
+        }
+
+        Ephemeris ephemeris = new Ephemeris(first, mjds[0], mjds[days - 1] + 26 / 24.0);
+        long[] moonrises = new long[days];
+        long[] moonsets = new long[days];
+        boolean[] above = new boolean[days];
+
+        for (int i = 0; i < days; i++) {
+            double[] events = this.search(mjds[i], ephemeris);
+            moonrises[i] = toPosix(starts[i], events[0], starts[i + 1]);
+            moonsets[i] = toPosix(starts[i], events[1], starts[i + 1]);
+            above[i] = (events[2] > 0.0);
+        }
+
+        return new Table(first, this.observerZoneID, moonrises, moonsets, above);
+
+    }
+
+    private Moment startOfDay(
+        PlainDate date,
+        Timezone tz
+    ) {
+
+        return (
+            (tz.getHistory() == null)
+            ? date.at(PlainTime.midnightAtStartOfDay()).in(tz)
+            : date.atFirstMoment(this.observerZoneID));
+
+    }
+
+    // result: rising hour, setting hour (both relative to mjd0 and NaN if not found), above at start of day
+    private double[] search(
+        double mjd0, // earliest moment of calendar date (usually midnight)
+        DoubleFunction<double[]> ephemeris // moon data in dependency on mjd (UT)
+    ) {
+
+        // initialization
         double longitudeRad = Math.toRadians(this.longitude);
         double cosLatitude = Math.cos(Math.toRadians(this.latitude));
         double sinLatitude = Math.sin(Math.toRadians(this.latitude));
         double geodeticAngle = StdSolarCalculator.TIME4J.getGeodeticAngle(this.latitude, this.altitude);
         double refraction = AstroUtils.refractionFactorOfStdAtmosphere(this.altitude) * SolarTime.STD_REFRACTION / 60;
-        double deltaT = TimeScale.deltaT(d);
         double hour = 1.0;
-        double y_minus = sinAlt(mjd0, 0.0, longitudeRad, cosLatitude, sinLatitude, geodeticAngle, refraction, deltaT);
+        double y_minus =
+            sinAlt(mjd0, 0.0, ephemeris, longitudeRad, cosLatitude, sinLatitude, geodeticAngle, refraction);
         double[] result = new double[4];
 
         // declaration of result data
@@ -352,9 +460,9 @@ public final class LunarTime
         // loop over 2-hour-search-intervals applying quadratic interpolation
         do {
             double y_0 =
-                sinAlt(mjd0, hour, longitudeRad, cosLatitude, sinLatitude, geodeticAngle, refraction, deltaT);
+                sinAlt(mjd0, hour, ephemeris, longitudeRad, cosLatitude, sinLatitude, geodeticAngle, refraction);
             double y_plus =
-                sinAlt(mjd0, hour + 1, longitudeRad, cosLatitude, sinLatitude, geodeticAngle, refraction, deltaT);
+                sinAlt(mjd0, hour + 1, ephemeris, longitudeRad, cosLatitude, sinLatitude, geodeticAngle, refraction);
             int count =
                 interpolate(y_minus, y_0, y_plus, result);
             if (count == 1) {
@@ -384,26 +492,22 @@ public final class LunarTime
             hour += 2.0;
         } while (!((hour > 25.0) || (rises && sets))); // (> 25.0)-condition cares about possible 25-h-day (end-of-DST)
 
-        // evaluate moonrise and moonset
-        Moment rising = null;
-        Moment setting = null;
+        return new double[] {risingHour, settingHour, (above ? 1.0 : 0.0)};
 
-        if (rises) {
-            rising = add(start, risingHour);
-            if (!rising.toZonalTimestamp(this.observerZoneID).getCalendarDate().equals(d)) {
-                rising = null;
-                // rises = false;
-            }
-        }
-        if (sets) {
-            setting = add(start, settingHour);
-            if (!setting.toZonalTimestamp(this.observerZoneID).getCalendarDate().equals(d)) {
-                setting = null;
-                // sets = false;
-            }
+    }
+
+    private static long toPosix(
+        Moment start,
+        double hourValue,
+        Moment end
+    ) {
+
+        if (Double.isNaN(hourValue)) {
+            return Table.ABSENT;
         }
 
-        return new Moonlight(d, this.observerZoneID, rising, setting, above);
+        Moment event = add(start, hourValue);
+        return (event.isBefore(end) ? event.getPosixTime() : Table.ABSENT);
 
     }
 
@@ -427,17 +531,16 @@ public final class LunarTime
     private static double sinAlt(
         double mjd0, // earliest moment of calendar date (usually midnight)
         double hour,
+        DoubleFunction<double[]> ephemeris,
         double longitudeRad,
         double cosLatitude,
         double sinLatitude,
         double geodeticAngle,
-        double refraction,
-        double deltaT
+        double refraction
     ) {
 
         double mjd = mjd0 + hour / 24.0; // UT
-        double jct = toJulianCenturies(mjd + (deltaT / 86400));
-        double[] data = MoonPosition.calculateMeeus(jct);
+        double[] data = ephemeris.apply(mjd);
         double nutationCorr = data[0] * Math.cos(Math.toRadians(data[1])); // for apparent sidereal time
         double tau = AstroUtils.gmst(mjd) + Math.toRadians(nutationCorr) + longitudeRad - Math.toRadians(data[2]);
         double decl = Math.toRadians(data[3]);
@@ -1175,4 +1278,273 @@ public final class LunarTime
 
     }
 
+    /**
+     * <p>Table of moonrise and moonset for consecutive calendar dates. </p>
+     *
+     * <p>All times are given as POSIX seconds since 1970-01-01T00:00:00Z. If the moon does not rise or
+     * set on a day then the related column contains {@link #ABSENT}. </p>
+     *
+     * @author  Meno Hochschild
+     * @see     LunarTime#tabulate(CalendarDate, int)
+     * @since   4.37
+     * @doctags.concurrency {immutable}
+     */
+    /*[deutsch]
+     * <p>Tabelle von Mondaufgang und Monduntergang f&uuml;r aufeinanderfolgende Kalendertage. </p>
+     *
+     * <p>Alle Zeiten werden als POSIX-Sekunden seit 1970-01-01T00:00:00Z angegeben. Wenn der Mond an
+     * einem Tag nicht auf- oder untergeht, enth&auml;lt die zugeh&ouml;rige Spalte {@link #ABSENT}. </p>
+     *
+     * @author  Meno Hochschild
+     * @see     LunarTime#tabulate(CalendarDate, int)
+     * @since   4.37
+     * @doctags.concurrency {immutable}
+     */
+    public static final class Table {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        /**
+         * Marks a day without moonrise or moonset.
+         */
+        /*[deutsch]
+         * Markiert einen Tag ohne Mondaufgang oder Monduntergang.
+         */
+        public static final long ABSENT = Long.MIN_VALUE;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final PlainDate start;
+        private final TZID observerZoneID;
+        private final long[] moonrises;
+        private final long[] moonsets;
+        private final boolean[] above; // at start of day
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Table(
+            PlainDate start,
+            TZID observerZoneID,
+            long[] moonrises,
+            long[] moonsets,
+            boolean[] above
+        ) {
+            super();
+
+            this.start = start;
+            this.observerZoneID = observerZoneID;
+            this.moonrises = moonrises;
+            this.moonsets = moonsets;
+            this.above = above;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Yields the count of days. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Tage. </p>
+         *
+         * @return  int
+         */
+        public int getDayCount() {
+
+            return this.moonrises.length;
+
+        }
+
+        /**
+         * <p>Obtains the moonrise of given day. </p>
+         *
+         * @param   day         index of day relative to the start date
+         * @return  POSIX seconds or {@link #ABSENT}
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        /*[deutsch]
+         * <p>Liefert den Mondaufgang des angegebenen Tags. </p>
+         *
+         * @param   day         index of day relative to the start date
+         * @return  POSIX seconds or {@link #ABSENT}
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        public long getMoonrise(int day) {
+
+            return this.moonrises[day];
+
+        }
+
+        /**
+         * <p>Obtains the moonset of given day. </p>
+         *
+         * @param   day         index of day relative to the start date
+         * @return  POSIX seconds or {@link #ABSENT}
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        /*[deutsch]
+         * <p>Liefert den Monduntergang des angegebenen Tags. </p>
+         *
+         * @param   day         index of day relative to the start date
+         * @return  POSIX seconds or {@link #ABSENT}
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        public long getMoonset(int day) {
+
+            return this.moonsets[day];
+
+        }
+
+        /**
+         * <p>Copies the moonrises of all days. </p>
+         *
+         * @return  new array of POSIX seconds or {@link #ABSENT}
+         */
+        /*[deutsch]
+         * <p>Kopiert die Mondaufg&auml;nge aller Tage. </p>
+         *
+         * @return  new array of POSIX seconds or {@link #ABSENT}
+         */
+        public long[] getMoonrises() {
+
+            return this.moonrises.clone();
+
+        }
+
+        /**
+         * <p>Copies the moonsets of all days. </p>
+         *
+         * @return  new array of POSIX seconds or {@link #ABSENT}
+         */
+        /*[deutsch]
+         * <p>Kopiert die Mondunterg&auml;nge aller Tage. </p>
+         *
+         * @return  new array of POSIX seconds or {@link #ABSENT}
+         */
+        public long[] getMoonsets() {
+
+            return this.moonsets.clone();
+
+        }
+
+        /**
+         * <p>Obtains the moon presence data of given day. </p>
+         *
+         * @param   day         index of day relative to the start date
+         * @return  data with moonrise and moonset
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        /*[deutsch]
+         * <p>Liefert die Mondpr&auml;senzdaten des angegebenen Tags. </p>
+         *
+         * @param   day         index of day relative to the start date
+         * @return  data with moonrise and moonset
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        public Moonlight getMoonlight(int day) {
+
+            return new Moonlight(
+                this.start.plus(day, CalendarUnit.DAYS),
+                this.observerZoneID,
+                toMoment(this.moonrises[day]),
+                toMoment(this.moonsets[day]),
+                this.above[day]);
+
+        }
+
+        private static Moment toMoment(long posix) {
+
+            return ((posix == ABSENT) ? null : Moment.of(posix, TimeScale.POSIX));
+
+        }
+
+    }
+
+    // moon data sampled every six hours and interpolated by cubic polynomials
+    private static class Ephemeris
+        implements DoubleFunction<double[]> {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final double STEP = 0.25; // in days
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final double mjdStart;
+        private final double[][] samples;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Ephemeris(
+            PlainDate date,
+            double mjdStart,
+            double mjdEnd
+        ) {
+            super();
+
+            this.mjdStart = mjdStart - STEP; // extra sample at the beginning for interpolation
+            int count = (int) Math.ceil((mjdEnd - mjdStart) / STEP) + 4;
+            this.samples = new double[count][];
+
+            for (int k = 0; k < count; k++) {
+                double mjd = this.mjdStart + k * STEP;
+                double deltaT = TimeScale.deltaT(date.plus((long) Math.floor(mjd - mjdStart), CalendarUnit.DAYS));
+                this.samples[k] = MoonPosition.calculateMeeus(toJulianCenturies(mjd + (deltaT / 86400)));
+            }
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public double[] apply(double mjd) {
+
+            double x = (mjd - this.mjdStart) / STEP;
+            int k = Math.min(Math.max((int) Math.floor(x), 1), this.samples.length - 3);
+            double t = x - k;
+
+            // Lagrange weights for the sample points -1, 0, 1, 2 relative to k
+            double w0 = -t * (t - 1) * (t - 2) / 6;
+            double w1 = (t + 1) * (t - 1) * (t - 2) / 2;
+            double w2 = -(t + 1) * t * (t - 2) / 2;
+            double w3 = (t + 1) * t * (t - 1) / 6;
+
+            double[] result = new double[5];
+
+            for (int i = 0; i < 5; i++) {
+                double v0 = this.samples[k - 1][i];
+                double v1 = this.samples[k][i];
+                double v2 = this.samples[k + 1][i];
+                double v3 = this.samples[k + 2][i];
+                if (i == 2) { // right ascension must be continuous
+                    v1 = unwrap(v0, v1);
+                    v2 = unwrap(v1, v2);
+                    v3 = unwrap(v2, v3);
+                }
+                result[i] = w0 * v0 + w1 * v1 + w2 * v2 + w3 * v3;
+            }
+
+            return result;
+
+        }
+
+        private static double unwrap(
+            double previous,
+            double angle
+        ) {
+
+            if (angle - previous > 180) {
+                return angle - 360;
+            } else if (previous - angle > 180) {
+                return angle + 360;
+            } else {
+                return angle;
+            }
+
+        }
+
+    }
+
 }
@@ -24,8 +24,10 @@ package net.time4j.calendar.astro;
 import net.time4j.Moment;
 import net.time4j.PlainTimestamp;
 import net.time4j.base.MathUtils;
+import net.time4j.scale.TimeScale;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 
 /**
@@ -77,6 +79,8 @@ public enum MoonPhase {
 	LAST_QUARTER(270);
 
 	private static final int[] FACTORS = {100, 1_000, 10_000, 100_000};
+	private static final int CHUNK_SIZE = 256; // count of lunations computed together (about 20 years)
+	private static final long NOT_CACHED = Long.MIN_VALUE;
 	private static final double MEAN_SYNODIC_MONTH = 29.530588861;
 	private static final Moment ZERO_REF = PlainTimestamp.of(2000, 1, 6, 18, 13, 42).atUTC(); // NEW_MOON.atLunation(0)
 
@@ -124,11 +128,13 @@ public enum MoonPhase {
 	//~ Instanzvariablen --------------------------------------------------
 
 	private transient final int phase;
+	private transient final AtomicReferenceArray<long[]> cache; // posix seconds of lunations, filled on demand
 
 	//~ Konstruktoren -----------------------------------------------------
 
 	private MoonPhase(int phase) {
 		this.phase = phase;
+		this.cache = new AtomicReferenceArray<>((maxLunation() - minLunation()) / CHUNK_SIZE + 1);
 	}
 
 	//~ Methoden ----------------------------------------------------------
@@ -149,28 +155,20 @@ public enum MoonPhase {
 	 */
 	public Moment after(Moment moment) {
 
-		int estimation = this.getEstimatedLunations(moment);
-		Moment m = this.atLunation(estimation);
-		int n = estimation;
+		int n = this.getEstimatedLunations(moment);
+		long posix = moment.getPosixTime();
 
-		while (!m.isAfter(moment)) {
-			n++;
-			m = this.atLunation(n);
-		}
-
-		if (n <= estimation) {
-			while (true) {
+		if (!this.isAfter(n, posix, moment)) {
+			do {
+				n++;
+			} while (!this.isAfter(n, posix, moment));
+		} else {
+			while (this.isAfter(n - 1, posix, moment)) {
 				n--;
-				Moment test = this.atLunation(n);
-				if (test.isAfter(moment)) {
-					m = test;
-				} else {
-					break;
-				}
 			}
 		}
 
-		return m;
+		return this.atLunation(n);
 
 	}
 
@@ -192,28 +190,21 @@ public enum MoonPhase {
 	 */
 	public Moment atOrAfter(Moment moment) {
 
-		int estimation = this.getEstimatedLunations(moment);
-		Moment m = this.atLunation(estimation);
-		int n = estimation;
-
-		while (m.isBefore(moment)) {
-			n++;
-			m = this.atLunation(n);
-		}
+		int n = this.getEstimatedLunations(moment);
+		long posix = moment.getPosixTime();
+		boolean fraction = hasFraction(moment);
 
-		if (n <= estimation) {
-			while (true) {
+		if (this.isBefore(n, posix, fraction, moment)) {
+			do {
+				n++;
+			} while (this.isBefore(n, posix, fraction, moment));
+		} else {
+			while (!this.isBefore(n - 1, posix, fraction, moment)) {
 				n--;
-				Moment test = this.atLunation(n);
-				if (!test.isBefore(moment)) {
-					m = test;
-				} else {
-					break;
-				}
 			}
 		}
 
-		return m;
+		return this.atLunation(n);
 
 	}
 
@@ -233,28 +224,24 @@ public enum MoonPhase {
 	 */
 	public Moment before(Moment moment) {
 
-		int estimation = this.getEstimatedLunations(moment);
-		Moment m = this.atLunation(estimation);
-		int n = estimation;
-
-		while (!m.isBefore(moment)) {
-			n--;
-			m = this.atLunation(n);
-		}
+		int n = this.getEstimatedLunations(moment);
+		long posix = moment.getPosixTime();
+		boolean fraction = hasFraction(moment);
 
-		if (n >= estimation) {
-			while (m.plus(29, TimeUnit.DAYS).isBefore(moment)) { // optimization
+		if (!this.isBefore(n, posix, fraction, moment)) {
+			do {
+				n--;
+			} while (!this.isBefore(n, posix, fraction, moment));
+		} else {
+			while (
+				(this.getPosixTime(n) + 29 * 86400 < posix) // optimization
+				&& this.isBefore(n + 1, posix, fraction, moment)
+			) {
 				n++;
-				Moment test = this.atLunation(n);
-				if (test.isBefore(moment)) {
-					m = test;
-				} else {
-					break;
-				}
 			}
 		}
 
-		return m;
+		return this.atLunation(n);
 
 	}
 
@@ -306,6 +293,8 @@ public enum MoonPhase {
 	 * which is on the date 2000-01-06 (UTC). The lunation parameter should be chosen within the range
 	 * {@code minLunation() <= n <= maxLunation()}. </p>
 	 *
+	 * <p>Lunations within this range are calculated only once and then shared by all callers. </p>
+	 *
 	 * @param 	n	count of lunations (distance between two consecutive moon phases of same type)
 	 * @return	moment of this phase after given lunations
 	 * @throws  IllegalArgumentException if the associated year is not in the range {@code -2000 <= year <= 3000}
@@ -320,6 +309,9 @@ public enum MoonPhase {
 	 * berechnen, und zwar zum Datum 2000-01-06 (UTC). Die Lunation sollte innerhalb des Bereichs
 	 * {@code minLunation() <= n <= maxLunation()} liegen. </p>
 	 *
+	 * <p>Lunationen innerhalb dieses Bereichs werden nur einmal berechnet und dann von allen
+	 * Aufrufern gemeinsam genutzt. </p>
+	 *
 	 * @param 	n	count of lunations (distance between two consecutive moon phases of same type)
 	 * @return	moment of this phase after given lunations
 	 * @throws  IllegalArgumentException if the associated year is not in the range {@code -2000 <= year <= 3000}
@@ -328,6 +320,25 @@ public enum MoonPhase {
 	 */
 	public Moment atLunation(int n) {
 
+		long posix = this.getCachedLunation(n);
+
+		if (posix == NOT_CACHED) {
+			return this.calculateLunation(n);
+		}
+
+		return Moment.of(posix, TimeScale.POSIX);
+
+	}
+
+	/**
+	 * <p>Calculates the n-th lunation without using the cache. </p>
+	 *
+	 * @param 	n	count of lunations
+	 * @return	moment of this phase after given lunations
+	 * @throws  IllegalArgumentException if the associated year is not in the range {@code -2000 <= year <= 3000}
+	 */
+	Moment calculateLunation(int n) {
+
 		// Meeus (Chapter 49)
 		double k = n + this.phase / 360.0;
 		double jct = k / 1236.85;
@@ -493,6 +504,93 @@ public enum MoonPhase {
 
 	}
 
+	// lunations of all phases in the supported range are shared by all callers and computed chunk by chunk
+	private long getCachedLunation(int n) {
+
+		int min = minLunation();
+		int max = maxLunation();
+
+		if ((n < min) || (n > max)) {
+			return NOT_CACHED;
+		}
+
+		int index = n - min;
+		int chunk = index / CHUNK_SIZE;
+		long[] values = this.cache.get(chunk);
+
+		if (values == null) {
+			values = new long[CHUNK_SIZE];
+			int start = min + chunk * CHUNK_SIZE;
+			for (int i = 0; i < CHUNK_SIZE; i++) {
+				int k = start + i;
+				values[i] = NOT_CACHED;
+				if (k <= max) {
+					try {
+						Moment m = this.calculateLunation(k);
+						if (!m.isLeapSecond()) { // posix scale cannot represent leap seconds
+							values[i] = m.getPosixTime();
+						}
+					} catch (IllegalArgumentException iae) {
+						// let atLunation(int) report the error
+					}
+				}
+			}
+			this.cache.compareAndSet(chunk, null, values); // both arrays are equal in case of concurrent access
+		}
+
+		return values[index % CHUNK_SIZE];
+
+	}
+
+	private long getPosixTime(int n) {
+
+		long posix = this.getCachedLunation(n);
+		return ((posix == NOT_CACHED) ? this.calculateLunation(n).getPosixTime() : posix);
+
+	}
+
+	// is the n-th lunation before given moment?
+	private boolean isBefore(
+		int n,
+		long posix,
+		boolean fraction,
+		Moment moment
+	) {
+
+		long test = this.getCachedLunation(n);
+
+		if (test == NOT_CACHED) {
+			return this.calculateLunation(n).isBefore(moment);
+		}
+
+		return ((test < posix) || ((test == posix) && fraction));
+
+	}
+
+	// is the n-th lunation after given moment?
+	private boolean isAfter(
+		int n,
+		long posix,
+		Moment moment
+	) {
+
+		long test = this.getCachedLunation(n);
+
+		if (test == NOT_CACHED) {
+			return this.calculateLunation(n).isAfter(moment);
+		}
+
+		return (test > posix);
+
+	}
+
+	// cached lunations have no fraction and are never leap seconds
+	private static boolean hasFraction(Moment moment) {
+
+		return ((moment.getNanosecond() > 0) || moment.isLeapSecond());
+
+	}
+
 	private int getEstimatedLunations(Moment moment) {
 
 		return MathUtils.safeCast(
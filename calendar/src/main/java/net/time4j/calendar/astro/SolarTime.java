@@ -44,10 +44,13 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 
 /**
@@ -956,6 +959,115 @@ public final class SolarTime
 
     }
 
+    /**
+     * <p>Tabulates sunrise, sunset and noon for many locations and a range of consecutive days. </p>
+     *
+     * <p>Only the calculator {@link StdSolarCalculator#TIME4J} is optimized. Its declination and equation
+     * of time only depend on the date, so they are calculated once per day and then interpolated for every
+     * location, and the sunrise and sunset times are determined by iterating the local hour angle. Results
+     * deviate by up to three seconds from the single functions {@link #sunrise()} or {@link #sunset()} and
+     * by up to one second from {@link #transitAtNoon()}. All other calculators do not use the hour angle
+     * method so the table delegates to their own event functions and yields exactly the same results as
+     * the single functions. Large tables are calculated in parallel for different locations using the
+     * common fork-join-pool. </p>
+     *
+     * @param   locations   list of locations which all use the same calculator
+     * @param   start       first calendar date
+     * @param   days        count of days (at least one)
+     * @return  new table of solar events
+     * @throws  IllegalArgumentException if the list of locations is empty or the calculators are different
+     *          or the count of days is not positive or the dates are out of range
+     * @see     Table#POLAR_NIGHT
+     * @see     Table#MIDNIGHT_SUN
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Tabelliert Sonnenaufgang, Sonnenuntergang und Mittag f&uuml;r viele Orte und eine Reihe von
+     * aufeinanderfolgenden Tagen. </p>
+     *
+     * <p>Nur die Berechnungsmethode {@link StdSolarCalculator#TIME4J} ist optimiert. Ihre Deklination und
+     * Zeitgleichung h&auml;ngen nur vom Datum ab, so da&szlig; sie einmal pro Tag berechnet und dann f&uuml;r
+     * jeden Ort interpoliert werden, und die Zeiten von Sonnenaufgang und Sonnenuntergang werden durch
+     * Iteration des lokalen Stundenwinkels bestimmt. Die Ergebnisse weichen um bis zu drei Sekunden von den
+     * einzelnen Funktionen {@link #sunrise()} oder {@link #sunset()} und um bis zu eine Sekunde von
+     * {@link #transitAtNoon()} ab. Alle anderen Berechnungsmethoden verwenden nicht die Stundenwinkelmethode,
+     * so da&szlig; die Tabelle an deren eigene Ereignisfunktionen delegiert und genau die gleichen Ergebnisse
+     * wie die einzelnen Funktionen liefert. Gro&szlig;e Tabellen werden f&uuml;r verschiedene Orte parallel
+     * im gemeinsamen Fork-Join-Pool berechnet. </p>
+     *
+     * @param   locations   list of locations which all use the same calculator
+     * @param   start       first calendar date
+     * @param   days        count of days (at least one)
+     * @return  new table of solar events
+     * @throws  IllegalArgumentException if the list of locations is empty or the calculators are different
+     *          or the count of days is not positive or the dates are out of range
+     * @see     Table#POLAR_NIGHT
+     * @see     Table#MIDNIGHT_SUN
+     * @since   4.37
+     */
+    public static SolarTime.Table tabulate(
+        List<SolarTime> locations,
+        CalendarDate start,
+        int days
+    ) {
+
+        return new Table(locations, start, days, null);
+
+    }
+
+    /**
+     * <p>Tabulates the start and end of given twilight and noon for many locations and a range of
+     * consecutive days. </p>
+     *
+     * <p>Works like {@link #tabulate(List, CalendarDate, int)} but the sunrise and sunset columns of
+     * the result refer to the start and end of given twilight. The atmospheric refraction is not taken
+     * into account. </p>
+     *
+     * @param   locations   list of locations which all use the same calculator
+     * @param   start       first calendar date
+     * @param   days        count of days (at least one)
+     * @param   twilight    relevant definition of twilight
+     * @return  new table of solar events
+     * @throws  IllegalArgumentException if the list of locations is empty or the calculators are different
+     *          or the count of days is not positive or the dates are out of range
+     * @see     #sunrise(Twilight)
+     * @see     #sunset(Twilight)
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Tabelliert den Beginn und das Ende der angegebenen D&auml;mmerung und den Mittag f&uuml;r viele
+     * Orte und eine Reihe von aufeinanderfolgenden Tagen. </p>
+     *
+     * <p>Funktioniert wie {@link #tabulate(List, CalendarDate, int)}, aber die Spalten f&uuml;r
+     * Sonnenaufgang und Sonnenuntergang beziehen sich auf den Beginn und das Ende der angegebenen
+     * D&auml;mmerung. Die atmosph&auml;rische Lichtbeugung wird nicht ber&uuml;cksichtigt. </p>
+     *
+     * @param   locations   list of locations which all use the same calculator
+     * @param   start       first calendar date
+     * @param   days        count of days (at least one)
+     * @param   twilight    relevant definition of twilight
+     * @return  new table of solar events
+     * @throws  IllegalArgumentException if the list of locations is empty or the calculators are different
+     *          or the count of days is not positive or the dates are out of range
+     * @see     #sunrise(Twilight)
+     * @see     #sunset(Twilight)
+     * @since   4.37
+     */
+    public static SolarTime.Table tabulate(
+        List<SolarTime> locations,
+        CalendarDate start,
+        int days,
+        Twilight twilight
+    ) {
+
+        if (twilight == null) {
+            throw new NullPointerException("Missing twilight.");
+        }
+
+        return new Table(locations, start, days, twilight);
+
+    }
+
     @Override
     public boolean equals(Object obj) {
 
@@ -2288,4 +2400,470 @@ public final class SolarTime
 
     }
 
+    /**
+     * <p>Table of sunrise, sunset and noon for many locations and consecutive days. </p>
+     *
+     * <p>All times are given as POSIX seconds since 1970-01-01T00:00:00Z. If the sun does not rise or
+     * set on a day then the sunrise and sunset columns contain either {@link #POLAR_NIGHT} or
+     * {@link #MIDNIGHT_SUN}. </p>
+     *
+     * @author  Meno Hochschild
+     * @see     SolarTime#tabulate(List, CalendarDate, int)
+     * @since   4.37
+     * @doctags.concurrency {immutable}
+     */
+    /*[deutsch]
+     * <p>Tabelle von Sonnenaufgang, Sonnenuntergang und Mittag f&uuml;r viele Orte und
+     * aufeinanderfolgende Tage. </p>
+     *
+     * <p>Alle Zeiten werden als POSIX-Sekunden seit 1970-01-01T00:00:00Z angegeben. Wenn die Sonne an
+     * einem Tag weder auf- noch untergeht, enthalten die Spalten f&uuml;r Sonnenaufgang und Sonnenuntergang
+     * entweder {@link #POLAR_NIGHT} oder {@link #MIDNIGHT_SUN}. </p>
+     *
+     * @author  Meno Hochschild
+     * @see     SolarTime#tabulate(List, CalendarDate, int)
+     * @since   4.37
+     * @doctags.concurrency {immutable}
+     */
+    public static final class Table {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        /**
+         * Marks a day without sunrise and sunset because the sun stays below the horizon.
+         */
+        /*[deutsch]
+         * Markiert einen Tag ohne Sonnenaufgang und Sonnenuntergang, weil die Sonne unter dem
+         * Horizont bleibt.
+         */
+        public static final long POLAR_NIGHT = Long.MIN_VALUE;
+
+        /**
+         * Marks a day without sunrise and sunset because the sun stays above the horizon.
+         */
+        /*[deutsch]
+         * Markiert einen Tag ohne Sonnenaufgang und Sonnenuntergang, weil die Sonne &uuml;ber dem
+         * Horizont bleibt.
+         */
+        public static final long MIDNIGHT_SUN = Long.MAX_VALUE;
+
+        private static final int MARGIN = 2; // extra days around the range because of longitude and hour angle
+        private static final int PARALLEL_THRESHOLD = 4096;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long startUTC;
+        private final int days;
+        private final int locations;
+        private final long[] sunrises;
+        private final long[] sunsets;
+        private final long[] transits;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Table(
+            List<SolarTime> locations,
+            CalendarDate start,
+            int days,
+            Twilight twilight
+        ) {
+            super();
+
+            if (locations.isEmpty()) {
+                throw new IllegalArgumentException("Missing locations.");
+            } else if (days < 1) {
+                throw new IllegalArgumentException("Count of days must be positive: " + days);
+            }
+
+            String name = locations.get(0).calculator;
+
+            for (SolarTime location : locations) {
+                if (!location.calculator.equals(name)) {
+                    throw new IllegalArgumentException(
+                        "All locations must use the same calculator: " + name + " <> " + location.calculator);
+                }
+            }
+
+            this.startUTC = start.getDaysSinceEpochUTC();
+            this.days = days;
+            this.locations = locations.size();
+            this.sunrises = new long[this.locations * days];
+            this.sunsets = new long[this.locations * days];
+            this.transits = new long[this.locations * days];
+
+            // date-dependent quantities sampled at the start of every day
+            Calculator c = CALCULATORS.get(name);
+            int count = days + 2 * MARGIN + 1;
+            double[] posix = new double[count];
+            double[] eot = new double[count];
+            double[] dec = new double[count];
+
+            for (int i = 0; i < count; i++) {
+                long secs = (this.startUTC + i - MARGIN) * 86400;
+                TimeScale scale = TimeScale.UT;
+                if (!LeapSeconds.getInstance().isEnabled()) {
+                    secs += (86400 * 730);
+                    scale = TimeScale.POSIX;
+                }
+                Moment m = Moment.of(secs, scale);
+                double jde = JulianDay.getValue(m, TimeScale.TT);
+                posix[i] = m.getPosixTime() + m.getNanosecond() / 1_000_000_000.0;
+                eot[i] = c.equationOfTime(jde);
+                dec[i] = c.declination(jde);
+            }
+
+            Calculator events = (name.equals(StdSolarCalculator.TIME4J.name()) ? null : c); // null: hour angle
+
+            if ((long) this.locations * days >= PARALLEL_THRESHOLD) {
+                IntStream.range(0, this.locations).parallel().forEach(
+                    index -> this.fill(index, locations.get(index), twilight, posix, eot, dec, events));
+            } else {
+                for (int index = 0; index < this.locations; index++) {
+                    this.fill(index, locations.get(index), twilight, posix, eot, dec, events);
+                }
+            }
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Yields the count of locations. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Orte. </p>
+         *
+         * @return  int
+         */
+        public int getLocationCount() {
+
+            return this.locations;
+
+        }
+
+        /**
+         * <p>Yields the count of days. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Tage. </p>
+         *
+         * @return  int
+         */
+        public int getDayCount() {
+
+            return this.days;
+
+        }
+
+        /**
+         * <p>Obtains the sunrise of given location and day. </p>
+         *
+         * @param   location    index of location in the original list
+         * @param   day         index of day relative to the start date
+         * @return  POSIX seconds or {@link #POLAR_NIGHT} or {@link #MIDNIGHT_SUN}
+         * @throws  IndexOutOfBoundsException if any index is out of range
+         */
+        /*[deutsch]
+         * <p>Liefert den Sonnenaufgang des angegebenen Orts und Tags. </p>
+         *
+         * @param   location    index of location in the original list
+         * @param   day         index of day relative to the start date
+         * @return  POSIX seconds or {@link #POLAR_NIGHT} or {@link #MIDNIGHT_SUN}
+         * @throws  IndexOutOfBoundsException if any index is out of range
+         */
+        public long getSunrise(
+            int location,
+            int day
+        ) {
+
+            return this.sunrises[this.index(location, day)];
+
+        }
+
+        /**
+         * <p>Obtains the sunset of given location and day. </p>
+         *
+         * @param   location    index of location in the original list
+         * @param   day         index of day relative to the start date
+         * @return  POSIX seconds or {@link #POLAR_NIGHT} or {@link #MIDNIGHT_SUN}
+         * @throws  IndexOutOfBoundsException if any index is out of range
+         */
+        /*[deutsch]
+         * <p>Liefert den Sonnenuntergang des angegebenen Orts und Tags. </p>
+         *
+         * @param   location    index of location in the original list
+         * @param   day         index of day relative to the start date
+         * @return  POSIX seconds or {@link #POLAR_NIGHT} or {@link #MIDNIGHT_SUN}
+         * @throws  IndexOutOfBoundsException if any index is out of range
+         */
+        public long getSunset(
+            int location,
+            int day
+        ) {
+
+            return this.sunsets[this.index(location, day)];
+
+        }
+
+        /**
+         * <p>Obtains the noon (highest position of sun) of given location and day. </p>
+         *
+         * @param   location    index of location in the original list
+         * @param   day         index of day relative to the start date
+         * @return  POSIX seconds
+         * @throws  IndexOutOfBoundsException if any index is out of range
+         */
+        /*[deutsch]
+         * <p>Liefert den Mittag (h&ouml;chste Position der Sonne) des angegebenen Orts und Tags. </p>
+         *
+         * @param   location    index of location in the original list
+         * @param   day         index of day relative to the start date
+         * @return  POSIX seconds
+         * @throws  IndexOutOfBoundsException if any index is out of range
+         */
+        public long getTransit(
+            int location,
+            int day
+        ) {
+
+            return this.transits[this.index(location, day)];
+
+        }
+
+        /**
+         * <p>Copies the sunrises of all days of given location. </p>
+         *
+         * @param   location    index of location in the original list
+         * @return  new array of POSIX seconds or {@link #POLAR_NIGHT} or {@link #MIDNIGHT_SUN}
+         * @throws  IndexOutOfBoundsException if the location index is out of range
+         */
+        /*[deutsch]
+         * <p>Kopiert die Sonnenaufg&auml;nge aller Tage des angegebenen Orts. </p>
+         *
+         * @param   location    index of location in the original list
+         * @return  new array of POSIX seconds or {@link #POLAR_NIGHT} or {@link #MIDNIGHT_SUN}
+         * @throws  IndexOutOfBoundsException if the location index is out of range
+         */
+        public long[] getSunrises(int location) {
+
+            return this.row(this.sunrises, location);
+
+        }
+
+        /**
+         * <p>Copies the sunsets of all days of given location. </p>
+         *
+         * @param   location    index of location in the original list
+         * @return  new array of POSIX seconds or {@link #POLAR_NIGHT} or {@link #MIDNIGHT_SUN}
+         * @throws  IndexOutOfBoundsException if the location index is out of range
+         */
+        /*[deutsch]
+         * <p>Kopiert die Sonnenunterg&auml;nge aller Tage des angegebenen Orts. </p>
+         *
+         * @param   location    index of location in the original list
+         * @return  new array of POSIX seconds or {@link #POLAR_NIGHT} or {@link #MIDNIGHT_SUN}
+         * @throws  IndexOutOfBoundsException if the location index is out of range
+         */
+        public long[] getSunsets(int location) {
+
+            return this.row(this.sunsets, location);
+
+        }
+
+        /**
+         * <p>Copies the noon times of all days of given location. </p>
+         *
+         * @param   location    index of location in the original list
+         * @return  new array of POSIX seconds
+         * @throws  IndexOutOfBoundsException if the location index is out of range
+         */
+        /*[deutsch]
+         * <p>Kopiert die Mittagszeiten aller Tage des angegebenen Orts. </p>
+         *
+         * @param   location    index of location in the original list
+         * @return  new array of POSIX seconds
+         * @throws  IndexOutOfBoundsException if the location index is out of range
+         */
+        public long[] getTransits(int location) {
+
+            return this.row(this.transits, location);
+
+        }
+
+        private void fill(
+            int index,
+            SolarTime location,
+            Twilight twilight,
+            double[] posix,
+            double[] eot,
+            double[] dec,
+            Calculator events
+        ) {
+
+            double zenith = (
+                (twilight == null)
+                ? location.zenithAngle()
+                : 90.0 + location.geodeticAngle() + twilight.getAngle());
+            double cosZenith = Math.cos(Math.toRadians(zenith));
+            double latRad = Math.toRadians(location.latitude);
+            double sinLat = Math.sin(latRad);
+            double cosLat = Math.cos(latRad);
+            boolean lmt = (location.observerZoneID != null) && (Math.abs(location.longitude) >= 150.0);
+            int offset = index * this.days;
+
+            for (int d = 0; d < this.days; d++) {
+                long utcDays = this.startUTC + d;
+                if (lmt) {
+                    utcDays = location.toLMT(PlainDate.of(utcDays, EpochDays.UTC)).getDaysSinceEpochUTC();
+                }
+
+                // relative to first sample, the equation of time is approximated in two steps like in single case
+                double u = (utcDays - this.startUTC + MARGIN) * 86400.0 + 43200 - location.longitude * 240;
+                double noon = u - interpolate(eot, u - interpolate(eot, u));
+
+                if (events != null) { // other calculators than TIME4J do not use the hour angle method
+                    CalendarDate date = PlainDate.of(utcDays, EpochDays.UTC);
+                    Moment transit = transitAtNoon(date, location.longitude, location.calculator);
+                    this.transits[offset + d] = transit.getPosixTime();
+                    Optional<Moment> sunrise = events.sunrise(date, location.latitude, location.longitude, zenith);
+                    Optional<Moment> sunset = events.sunset(date, location.latitude, location.longitude, zenith);
+                    if (!sunrise.isPresent() || !sunset.isPresent()) {
+                        this.flag(offset + d, interpolate(dec, noon), cosZenith, sinLat, cosLat);
+                    }
+                    if (sunrise.isPresent()) {
+                        this.sunrises[offset + d] = sunrise.get().getPosixTime();
+                    }
+                    if (sunset.isPresent()) {
+                        this.sunsets[offset + d] = sunset.get().getPosixTime();
+                    }
+                    continue;
+                }
+
+                this.transits[offset + d] = (long) Math.floor(toPosix(posix, noon));
+
+                double rise = 0.0;
+                double set = 0.0;
+                double oldH;
+
+                do {
+                    oldH = rise;
+                    rise = -hourAngle(interpolate(dec, noon + oldH), cosZenith, sinLat, cosLat);
+                } while (Math.abs(rise - oldH) >= 15);
+
+                if (Double.isNaN(rise)) {
+                    this.flag(offset + d, interpolate(dec, noon), cosZenith, sinLat, cosLat);
+                    continue;
+                }
+
+                do {
+                    oldH = set;
+                    set = hourAngle(interpolate(dec, noon + oldH), cosZenith, sinLat, cosLat);
+                } while (Math.abs(set - oldH) >= 15);
+
+                if (Double.isNaN(set)) {
+                    this.flag(offset + d, interpolate(dec, noon), cosZenith, sinLat, cosLat);
+                } else {
+                    this.sunrises[offset + d] = (long) Math.floor(toPosix(posix, noon + rise));
+                    this.sunsets[offset + d] = (long) Math.floor(toPosix(posix, noon + set));
+                }
+            }
+
+        }
+
+        private void flag(
+            int index,
+            double declination,
+            double cosZenith,
+            double sinLat,
+            double cosLat
+        ) {
+
+            double decRad = Math.toRadians(declination);
+            double cosH = (cosZenith - Math.sin(decRad) * sinLat) / (Math.cos(decRad) * cosLat);
+            long flag = ((Double.compare(cosH, 0.0) > 0) ? POLAR_NIGHT : MIDNIGHT_SUN);
+            this.sunrises[index] = flag;
+            this.sunsets[index] = flag;
+
+        }
+
+        private int index(
+            int location,
+            int day
+        ) {
+
+            if ((location < 0) || (location >= this.locations) || (day < 0) || (day >= this.days)) {
+                throw new IndexOutOfBoundsException("Out of range: location=" + location + ", day=" + day);
+            }
+
+            return location * this.days + day;
+
+        }
+
+        private long[] row(
+            long[] column,
+            int location
+        ) {
+
+            int start = this.index(location, 0);
+            return Arrays.copyOfRange(column, start, start + this.days);
+
+        }
+
+        // hour angle in seconds (positive) or NaN if the sun does not reach the zenith angle
+        private static double hourAngle(
+            double declination,
+            double cosZenith,
+            double sinLat,
+            double cosLat
+        ) {
+
+            double decRad = Math.toRadians(declination);
+            double cosH = (cosZenith - Math.sin(decRad) * sinLat) / (Math.cos(decRad) * cosLat);
+
+            if ((Double.compare(cosH, 1.0) > 0) || (Double.compare(cosH, -1.0) < 0)) {
+                return Double.NaN;
+            }
+
+            return Math.toDegrees(Math.acos(cosH)) * 240;
+
+        }
+
+        // linear interpolation between the samples at the start of days, u = seconds since first sample
+        private static double interpolate(
+            double[] samples,
+            double u
+        ) {
+
+            int k = sampleIndex(samples, u);
+            double fraction = (u - k * 86400.0) / 86400;
+            return samples[k] + (samples[k + 1] - samples[k]) * fraction;
+
+        }
+
+        private static double toPosix(
+            double[] posix,
+            double u
+        ) {
+
+            int k = sampleIndex(posix, u);
+            return posix[k] + (u - k * 86400.0);
+
+        }
+
+        private static int sampleIndex(
+            double[] samples,
+            double u
+        ) {
+
+            int k = (int) Math.floor(u / 86400);
+            return Math.max(0, Math.min(k, samples.length - 2));
+
+        }
+
+    }
+
 }
@@ -21,12 +21,12 @@
 
 package net.time4j.calendar.frenchrev;
 
-import net.time4j.CalendarUnit;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
 import net.time4j.base.MathUtils;
 import net.time4j.calendar.astro.AstronomicalSeason;
 import net.time4j.calendar.astro.SolarTime;
+import net.time4j.calendar.service.EquinoxTable;
 import net.time4j.engine.AttributeKey;
 import net.time4j.engine.EpochDays;
 import net.time4j.format.Attributes;
@@ -63,8 +63,8 @@ public enum FrenchRepublicanAlgorithm {
             if (fyear < 1 || fyear > FrenchRepublicanCalendar.MAX_YEAR) {
                 throw new IllegalArgumentException("Out of range: " + fyear);
             }
-            long thisYear = autumnalEquinox(fyear).getDaysSinceEpochUTC();
-            long nextYear = autumnalEquinox(fyear + 1).getDaysSinceEpochUTC();
+            long thisYear = newYear(fyear);
+            long nextYear = newYear(fyear + 1);
             return ((nextYear - thisYear) == 366L);
         }
         @Override
@@ -75,27 +75,23 @@ public enum FrenchRepublicanAlgorithm {
             if (date.getMonth() < 9) {
                 fyear--; // optimization
             }
-            PlainDate equinox = autumnalEquinox(fyear);
-            long delta = CalendarUnit.DAYS.between(equinox, date);
+            long delta = utcDays - newYear(fyear);
             while (delta < 0) {
                 fyear--;
-                equinox = autumnalEquinox(fyear);
-                delta = CalendarUnit.DAYS.between(equinox, date);
+                delta = utcDays - newYear(fyear);
             }
             int fdoy = (int) (delta + 1);
             return new FrenchRepublicanCalendar(fyear, fdoy);
         }
         @Override
         long transform(FrenchRepublicanCalendar cal) {
-            long newYear = autumnalEquinox(cal.getYear()).getDaysSinceEpochUTC();
-            return newYear + cal.getDayOfYear() - 1;
+            return newYear(cal.getYear()) + cal.getDayOfYear() - 1;
         }
-        private PlainDate autumnalEquinox(int fyear) {
-            PlainTimestamp tsp =
-                AstronomicalSeason.AUTUMNAL_EQUINOX
-                    .inYear(fyear + 1791)
-                    .get(SolarTime.apparentAt(PARIS_OBSERVATORY));
-            return tsp.getCalendarDate();
+        private long newYear(int fyear) {
+            if ((EQUINOX_TABLE != null) && EQUINOX_TABLE.containsYear(fyear)) {
+                return EQUINOX_TABLE.getNewYear(fyear);
+            }
+            return computeNewYear(fyear);
         }
     },
 
@@ -175,6 +171,9 @@ public enum FrenchRepublicanAlgorithm {
     private static final long ABOLITION = PlainDate.of(1806, 1, 1).get(EpochDays.UTC); // XIV-04-11
     private static final long EPOCH = PlainDate.of(1792, 9, 22).get(EpochDays.UTC); // I-01-01
 
+    static final String EQUINOX_VERSION = "1.0"; // must be changed if the astronomical calculations change
+    private static final EquinoxTable EQUINOX_TABLE = EquinoxTable.load("french", EQUINOX_VERSION);
+
     private static final AttributeKey<FrenchRepublicanAlgorithm> ATTRIBUTE =
         Attributes.createKey("FRENCH_REPUBLICAN_ALGORITHM", FrenchRepublicanAlgorithm.class);
 
@@ -221,6 +220,25 @@ public enum FrenchRepublicanAlgorithm {
 
     abstract long transform(FrenchRepublicanCalendar date);
 
+    /**
+     * <p>Determines the first day of given republican year by astronomical calculation of the autumnal
+     * equinox in apparent solar time at the meridian of Paris observatory. </p>
+     *
+     * <p>Used by the equinox algorithm outside of the precomputed equinox table. </p>
+     *
+     * @param   fyear   republican year
+     * @return  utc-days of new year
+     */
+    static long computeNewYear(int fyear) {
+
+        PlainTimestamp tsp =
+            AstronomicalSeason.AUTUMNAL_EQUINOX
+                .inYear(fyear + 1791)
+                .get(SolarTime.apparentAt(PARIS_OBSERVATORY));
+        return tsp.getCalendarDate().getDaysSinceEpochUTC();
+
+    }
+
     private static void check(long utcDays) {
 
         if ((utcDays < -65478L) || (utcDays > 373542L)) {
@@ -0,0 +1,221 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (EquinoxTable.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.calendar.service;
+
+import net.time4j.base.ResourceLoader;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+
+/**
+ * <p>Precomputed table of new years for solar calendars whose years start at an equinox. </p>
+ *
+ * <p>Binary format of the resource: </p>
+ *
+ * <ul>
+ *     <li>UTF: calendar type</li>
+ *     <li>UTF: version of underlying astronomical calculations</li>
+ *     <li>short: first year</li>
+ *     <li>short: count of years</li>
+ *     <li>int: utc-days of first new year</li>
+ *     <li>one bit per year (highest bit of every byte first): set if the year has 366 days else 365 days</li>
+ * </ul>
+ *
+ * @author  Meno Hochschild
+ * @since   4.37
+ * @doctags.concurrency {immutable}
+ */
+public final class EquinoxTable {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int firstYear;
+    private final int[] newYears; // utc-days, last element = first day after table
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private EquinoxTable(
+        int firstYear,
+        int[] newYears
+    ) {
+        super();
+
+        this.firstYear = firstYear;
+        this.newYears = newYears;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Loads the table of given calendar type. </p>
+     *
+     * <p>A table generated by another version of the astronomical calculations than expected
+     * is outdated and will be ignored like a missing resource. </p>
+     *
+     * @param   type    calendar type which is also the prefix of the resource name
+     * @param   version expected version of underlying astronomical calculations
+     * @return  table or {@code null} if the resource cannot be found or has another version
+     * @throws  IllegalStateException if the resource is not readable
+     */
+    public static EquinoxTable load(
+        String type,
+        String version
+    ) {
+
+        String path = "data/" + type + "_equinox.data";
+        URI uri = ResourceLoader.getInstance().locate("calendar", EquinoxTable.class, path);
+        InputStream is = ResourceLoader.getInstance().load(uri, true);
+
+        try {
+            if (is == null) {
+                try {
+                    is = ResourceLoader.getInstance().load(EquinoxTable.class, path, true);
+                } catch (FileNotFoundException fnfe) {
+                    return null; // fallback to astronomical calculations
+                }
+            }
+
+            return read(new DataInputStream(is), type, version);
+        } catch (IOException ioe) {
+            throw new IllegalStateException("Invalid equinox data: " + path, ioe);
+        } finally {
+            try {
+                if (is != null) {
+                    is.close();
+                }
+            } catch (IOException ex) {
+                ex.printStackTrace(System.err);
+            }
+        }
+
+    }
+
+    /**
+     * <p>Writes given new years in binary format. </p>
+     *
+     * @param   out         data output
+     * @param   type        calendar type
+     * @param   version     version of underlying astronomical calculations
+     * @param   firstYear   first year
+     * @param   newYears    utc-days of all new years starting with first year (including the end of last year)
+     * @throws  IOException if writing fails or if any year has not 365 or 366 days
+     */
+    public static void write(
+        DataOutput out,
+        String type,
+        String version,
+        int firstYear,
+        long[] newYears
+    ) throws IOException {
+
+        int count = newYears.length - 1;
+        out.writeUTF(type);
+        out.writeUTF(version);
+        out.writeShort(firstYear);
+        out.writeShort(count);
+        out.writeInt((int) newYears[0]);
+
+        int bits = 0;
+
+        for (int i = 0; i < count; i++) {
+            long len = newYears[i + 1] - newYears[i];
+            if (len == 366) {
+                bits |= (0x80 >>> (i % 8));
+            } else if (len != 365) {
+                throw new IOException("Invalid length of year " + (firstYear + i) + ": " + len);
+            }
+            if ((i % 8 == 7) || (i == count - 1)) {
+                out.writeByte(bits);
+                bits = 0;
+            }
+        }
+
+    }
+
+    /**
+     * <p>Is the new year of given year covered by this table? </p>
+     *
+     * @param   year    calendar year
+     * @return  boolean
+     */
+    public boolean containsYear(int year) {
+
+        return (year >= this.firstYear) && (year - this.firstYear < this.newYears.length);
+
+    }
+
+    /**
+     * <p>Yields the first day of given year. </p>
+     *
+     * @param   year    calendar year (must be covered by this table)
+     * @return  utc-days
+     */
+    public long getNewYear(int year) {
+
+        return this.newYears[year - this.firstYear];
+
+    }
+
+    private static EquinoxTable read(
+        DataInput in,
+        String type,
+        String expectedVersion
+    ) throws IOException {
+
+        String calendarType = in.readUTF();
+
+        if (!calendarType.equals(type)) {
+            throw new IOException("Wrong calendar type: expected=" + type + ", found=" + calendarType);
+        }
+
+        String version = in.readUTF();
+
+        if (!version.equals(expectedVersion)) {
+            return null; // outdated table, fallback to astronomical calculations
+        }
+
+        int firstYear = in.readShort();
+        int count = in.readShort();
+        int[] newYears = new int[count + 1];
+        newYears[0] = in.readInt();
+        int bits = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (i % 8 == 0) {
+                bits = in.readUnsignedByte();
+            }
+            int len = (((bits & (0x80 >>> (i % 8))) != 0) ? 366 : 365);
+            newYears[i + 1] = newYears[i] + len;
+        }
+
+        return new EquinoxTable(firstYear, newYears);
+
+    }
+
+}
@@ -6,7 +6,9 @@ import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
 import net.time4j.Weekday;
 import net.time4j.calendar.astro.MoonPhase;
+import net.time4j.engine.CachedCalendarSystem;
 import net.time4j.engine.CalendarDate;
+import net.time4j.engine.CalendarSystem;
 import net.time4j.engine.EpochDays;
 import net.time4j.format.DisplayMode;
 import net.time4j.format.expert.ChronoFormatter;
@@ -17,6 +19,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.io.IOException;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -82,6 +85,63 @@ public class ChineseMiscellaneousTest {
         }
     }
 
+    @Test
+    public void precomputedTable() {
+        checkPrecomputedTable(ChineseCalendar.nowInSystemTime().getCalendarSystem());
+    }
+
+    @Test
+    public void tableResource() throws IOException {
+        checkTableResource(ChineseCalendar.nowInSystemTime().getCalendarSystem(), "chinese", 4281, 1355);
+    }
+
+    static void checkTableResource(
+        EastAsianCS<?> calsys,
+        String name,
+        int firstYear,
+        int count
+    ) throws IOException {
+        GeneratedResources.assertUpToDate(
+            "data/" + name + ".data",
+            out -> EastAsianTable.write(out, calsys, firstYear, count));
+    }
+
+    static void checkPrecomputedTable(EastAsianCS<?> calsys) { // samples of years plus the edges of the table
+        int min = elapsedYears(calsys.transform(calsys.getMinimumSinceUTC()));
+        int max = elapsedYears(calsys.transform(calsys.getMaximumSinceUTC()));
+
+        for (int elapsedYears = min; elapsedYears < max - 1; elapsedYears += 25) {
+            checkPrecomputedYear(calsys, elapsedYears);
+        }
+
+        checkPrecomputedYear(calsys, max - 1);
+        checkPrecomputedYear(calsys, max);
+    }
+
+    private static void checkPrecomputedYear(
+        EastAsianCS<?> calsys,
+        int elapsedYears
+    ) {
+        int cycle = elapsedYears / 60 + 1;
+        int yearOfCycle = elapsedYears % 60 + 1;
+        long utcDays = calsys.newYear(cycle, yearOfCycle);
+        assertThat(utcDays, is(calsys.computeNewYear(cycle, yearOfCycle)));
+
+        do { // compares the table with astronomical calculations
+            EastAsianCalendar<?, ?> cal = calsys.transform(utcDays);
+            assertThat(cal.getDayOfMonth(), is(1));
+            assertThat(cal, is(calsys.computeDate(utcDays)));
+            long next = calsys.newMoonOnOrAfter(utcDays + 1);
+            assertThat(next, is(calsys.computeNewMoonOnOrAfter(utcDays + 1)));
+            assertThat(calsys.transform(utcDays + 14), is(calsys.computeDate(utcDays + 14)));
+            utcDays = next;
+        } while ((utcDays <= calsys.getMaximumSinceUTC()) && (calsys.transform(utcDays).getDayOfYear() != 1));
+    }
+
+    private static int elapsedYears(EastAsianCalendar<?, ?> cal) {
+        return (cal.getCycle() - 1) * 60 + cal.getYear().getNumber() - 1;
+    }
+
     @Test
     public void defaultFirstDayOfWeek() {
         assertThat(ChineseCalendar.DAY_OF_WEEK.getDefaultMinimum(), is(Weekday.SUNDAY));
@@ -143,6 +203,35 @@ public class ChineseMiscellaneousTest {
     }
 */
 
+/* Full comparison of precomputed tables with astronomical calculations (long runner)
+
+    @Test
+    public void precomputedTableComplete() {
+        checkCompleteTable(ChineseCalendar.nowInSystemTime().getCalendarSystem());
+        checkCompleteTable(KoreanCalendar.nowInSystemTime().getCalendarSystem());
+        checkCompleteTable(VietnameseCalendar.nowInSystemTime().getCalendarSystem());
+    }
+
+    private static void checkCompleteTable(EastAsianCS<?> calsys) {
+        long utcDays = calsys.getMinimumSinceUTC();
+
+        while (utcDays <= calsys.getMaximumSinceUTC()) {
+            EastAsianCalendar<?, ?> cal = calsys.transform(utcDays);
+            assertThat(cal.getDayOfMonth(), is(1));
+            assertThat(cal, is(calsys.computeDate(utcDays)));
+            if (cal.getDayOfYear() == 1) {
+                int cycle = cal.getCycle();
+                int yearOfCycle = cal.getYear().getNumber();
+                assertThat(calsys.newYear(cycle, yearOfCycle), is(calsys.computeNewYear(cycle, yearOfCycle)));
+            }
+            long next = calsys.newMoonOnOrAfter(utcDays + 1);
+            assertThat(next, is(calsys.computeNewMoonOnOrAfter(utcDays + 1)));
+            assertThat(calsys.transform(utcDays + 14), is(calsys.computeDate(utcDays + 14)));
+            utcDays = next;
+        }
+    }
+*/
+
     @Test
     public void minmax(){
         ChineseCalendar min = ChineseCalendar.axis().getMinimum();
@@ -260,6 +349,44 @@ public class ChineseMiscellaneousTest {
         // Tet-festival in South Vietnam, see also: http://www.math.nus.edu.sg/aslaksen/calendar/cal.pdf (page 29)
     }
 
+    @Test
+    public void cachedCalendarSystem() {
+        CalendarSystem<ChineseCalendar> raw = ChineseCalendar.axis().getCalendarSystem();
+        CachedCalendarSystem<ChineseCalendar> calsys = CachedCalendarSystem.of(raw, 32);
+        long start = PlainDate.of(2018, 1, 1).getDaysSinceEpochUTC();
+
+        for (int i = 0; i < 2; i++) {
+            for (long utcDays = start; utcDays < start + 16; utcDays++) {
+                ChineseCalendar cal = calsys.transform(utcDays);
+                assertThat(cal, is(raw.transform(utcDays)));
+                assertThat(calsys.transform(cal), is(utcDays));
+            }
+        }
+
+        assertThat(calsys.getMissCount(), is(16L));
+        assertThat(calsys.getHitCount(), is(48L));
+        assertThat(calsys.getDelegate(), is(raw));
+        assertThat(calsys.getMaximumSize(), is(32));
+        assertThat(calsys.getMinimumSinceUTC(), is(raw.getMinimumSinceUTC()));
+        assertThat(calsys.getMaximumSinceUTC(), is(raw.getMaximumSinceUTC()));
+        assertThat(calsys.getEras(), is(raw.getEras()));
+
+        for (long utcDays = start + 1000; utcDays < start + 2000; utcDays++) {
+            assertThat(calsys.transform(utcDays), is(raw.transform(utcDays))); // evicts old entries
+        }
+        calsys.transform(start);
+        assertThat(calsys.getMissCount(), is(1017L));
+
+        calsys.clear();
+        calsys.transform(start + 1999);
+        assertThat(calsys.getMissCount(), is(1018L));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void cachedCalendarSystemWithoutSize() {
+        CachedCalendarSystem.of(ChineseCalendar.axis().getCalendarSystem(), 0);
+    }
+
     @Test
     public void hongkongObservatory2057() {
         ZonalOffset offset = ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 8);
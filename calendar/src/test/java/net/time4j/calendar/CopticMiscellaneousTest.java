@@ -2,6 +2,7 @@ package net.time4j.calendar;
 
 import net.time4j.PlainDate;
 import net.time4j.Weekday;
+import net.time4j.engine.BulkCalendarSystem;
 import net.time4j.engine.CalendarDate;
 import net.time4j.engine.CalendarDays;
 import net.time4j.format.DisplayMode;
@@ -11,6 +12,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import java.text.ParseException;
+import java.util.Arrays;
 import java.util.Locale;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -74,4 +76,79 @@ public class CopticMiscellaneousTest {
             is("Sunday, Tout 21, 1734 A.M."));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void bulkConversion() {
+        @SuppressWarnings("unchecked")
+        BulkCalendarSystem<CopticCalendar> calsys =
+            (BulkCalendarSystem<CopticCalendar>) CopticCalendar.axis().getCalendarSystem();
+        long start = CopticCalendar.of(1730, 1, 1).getDaysSinceEpochUTC();
+        int n = 3 * 366;
+        long[] utcDays = new long[n + 3];
+        for (int i = 0; i < n; i++) {
+            utcDays[i] = start + i;
+        }
+        utcDays[n] = start + 10000; // unsorted input
+        utcDays[n + 1] = start - 1;
+        utcDays[n + 2] = start;
+        int[] years = new int[utcDays.length];
+        int[] months = new int[utcDays.length];
+        int[] days = new int[utcDays.length];
+        calsys.toFields(utcDays, years, months, days);
+        for (int i = 0; i < utcDays.length; i++) {
+            CopticCalendar coptic = calsys.transform(utcDays[i]);
+            assertThat(years[i], is(coptic.getYear()));
+            assertThat(months[i], is(coptic.getMonth().getValue()));
+            assertThat(days[i], is(coptic.getDayOfMonth()));
+        }
+        long[] result = new long[utcDays.length];
+        calsys.fromFields(years, months, days, result);
+        assertThat(Arrays.equals(result, utcDays), is(true));
+    }
+
+    @Test
+    public void bulkConversionAtEdges() {
+        @SuppressWarnings("unchecked")
+        BulkCalendarSystem<CopticCalendar> calsys =
+            (BulkCalendarSystem<CopticCalendar>) CopticCalendar.axis().getCalendarSystem();
+        long min = calsys.getMinimumSinceUTC();
+        long max = calsys.getMaximumSinceUTC();
+        long[] utcDays = {min, min + 1, min + 365, max - 366, max - 1, max};
+        int[] years = new int[utcDays.length];
+        int[] months = new int[utcDays.length];
+        int[] days = new int[utcDays.length];
+        calsys.toFields(utcDays, years, months, days);
+        assertThat(years[0], is(1));
+        assertThat(months[0], is(1));
+        assertThat(days[0], is(1));
+        assertThat(years[5], is(9999));
+        assertThat(months[5], is(13));
+        assertThat(days[5], is(6));
+        for (int i = 0; i < utcDays.length; i++) {
+            CopticCalendar coptic = calsys.transform(utcDays[i]);
+            assertThat(years[i], is(coptic.getYear()));
+            assertThat(months[i], is(coptic.getMonth().getValue()));
+            assertThat(days[i], is(coptic.getDayOfMonth()));
+        }
+        long[] result = new long[utcDays.length];
+        calsys.fromFields(years, months, days, result);
+        assertThat(Arrays.equals(result, utcDays), is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void bulkConversionOutOfRange() {
+        @SuppressWarnings("unchecked")
+        BulkCalendarSystem<CopticCalendar> calsys =
+            (BulkCalendarSystem<CopticCalendar>) CopticCalendar.axis().getCalendarSystem();
+        long min = calsys.getMinimumSinceUTC();
+        calsys.toFields(new long[] {min + 1, min, min - 1}, new int[3], new int[3], new int[3]);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void bulkConversionWithInvalidDate() {
+        @SuppressWarnings("unchecked")
+        BulkCalendarSystem<CopticCalendar> calsys =
+            (BulkCalendarSystem<CopticCalendar>) CopticCalendar.axis().getCalendarSystem();
+        calsys.fromFields(new int[] {1733, 1733}, new int[] {13, 13}, new int[] {5, 6}, new long[2]);
+    }
+
+}
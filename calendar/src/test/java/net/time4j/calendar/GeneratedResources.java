@@ -0,0 +1,46 @@
+package net.time4j.calendar;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+
+public final class GeneratedResources {
+
+    private GeneratedResources() {
+        // no instantiation
+    }
+
+    public static void assertUpToDate(
+        String resource,
+        Generator generator
+    ) throws IOException {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        generator.write(new DataOutputStream(expected));
+        ByteArrayOutputStream found = new ByteArrayOutputStream();
+        try (InputStream is = GeneratedResources.class.getClassLoader().getResourceAsStream(resource)) {
+            assertThat(resource, is, notNullValue());
+            byte[] buffer = new byte[1024];
+            int n;
+            while ((n = is.read(buffer)) != -1) {
+                found.write(buffer, 0, n);
+            }
+        }
+        assertThat( // resource must be regenerated if the generating calculations or source data change
+            resource,
+            Arrays.equals(found.toByteArray(), expected.toByteArray()),
+            is(true));
+    }
+
+    @FunctionalInterface
+    public interface Generator {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+}
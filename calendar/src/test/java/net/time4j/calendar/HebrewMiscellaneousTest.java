@@ -167,6 +167,52 @@ public class HebrewMiscellaneousTest {
         }
     }
 
+    @Test
+    public void yearTypes() {
+        int[] lengths = {353, 354, 385, 355, 353, 384, 355};
+        PlainDate[] newYears = {
+            PlainDate.of(2016, 10, 3),
+            PlainDate.of(2017, 9, 21),
+            PlainDate.of(2018, 9, 10),
+            PlainDate.of(2019, 9, 30),
+            PlainDate.of(2020, 9, 19),
+            PlainDate.of(2021, 9, 7),
+            PlainDate.of(2022, 9, 26)
+        };
+        for (int i = 0; i < lengths.length; i++) {
+            HebrewCalendar hebrew = HebrewCalendar.of(5777 + i, HebrewMonth.TISHRI, 1);
+            assertThat(hebrew.lengthOfYear(), is(lengths[i]));
+            assertThat(hebrew.transform(PlainDate.class), is(newYears[i]));
+            assertThat(newYears[i].transform(HebrewCalendar.class), is(hebrew));
+        }
+    }
+
+    @Test
+    public void dayOfYearInCommonYear() {
+        HebrewCalendar hebrew = HebrewCalendar.of(5778, HebrewMonth.ELUL, 29);
+        assertThat(hebrew.getDayOfYear(), is(354));
+        assertThat(HebrewCalendar.of(5778, HebrewMonth.NISAN, 1).getDayOfYear(), is(178));
+        assertThat(hebrew.with(HebrewCalendar.DAY_OF_YEAR, 178), is(HebrewCalendar.of(5778, HebrewMonth.NISAN, 1)));
+    }
+
+    @Test
+    public void yearBoundaries() {
+        for (int y = 1; y < 9999; y++) {
+            HebrewCalendar start = HebrewCalendar.of(y, HebrewMonth.TISHRI, 1);
+            HebrewCalendar end = HebrewCalendar.of(y, HebrewMonth.ELUL, 29);
+            HebrewCalendar next = HebrewCalendar.of(y + 1, HebrewMonth.TISHRI, 1);
+            int len = start.lengthOfYear();
+            if (HebrewCalendar.isLeapYear(y)) {
+                assertThat(len >= 383 && len <= 385, is(true));
+            } else {
+                assertThat(len >= 353 && len <= 355, is(true));
+            }
+            assertThat(end.getDayOfYear(), is(len));
+            assertThat(end.plus(CalendarDays.ONE), is(next));
+            assertThat(next.getDaysSinceEpochUTC() - start.getDaysSinceEpochUTC(), is((long) len));
+        }
+    }
+
     @Test
     public void defaultOrderFormatter() throws ParseException {
         ChronoFormatter<HebrewCalendar> f =
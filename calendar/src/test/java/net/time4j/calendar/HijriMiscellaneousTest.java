@@ -5,6 +5,7 @@ import net.time4j.SystemClock;
 import net.time4j.Weekday;
 import net.time4j.Weekmodel;
 import net.time4j.calendar.service.GenericDatePatterns;
+import net.time4j.engine.BulkCalendarSystem;
 import net.time4j.engine.CalendarDate;
 import net.time4j.engine.CalendarSystem;
 import net.time4j.engine.ChronoException;
@@ -17,7 +18,10 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.io.IOException;
 import java.text.ParseException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -164,6 +168,28 @@ public class HijriMiscellaneousTest {
         assertThat(maxHijri.toString(), is("AH-1600-12-29[islamic-civil:+3]"));
     }
 
+    @Test
+    public void dayAdjustmentWestIslamicCivilDayNumbers() {
+        assertThat(HijriCalendar.of("islamic-civil", 1439, 1, 1).getDaysSinceEpochUTC(), is(16701L));
+        assertThat(HijriCalendar.of("islamic-civil:+3", 1439, 1, 1).getDaysSinceEpochUTC(), is(16698L));
+        assertThat(HijriCalendar.of("islamic-civil:-2", 1439, 1, 1).getDaysSinceEpochUTC(), is(16703L));
+        assertThat(HijriCalendar.of("islamic-civil:+3", 1, 1, 1).getDaysSinceEpochUTC(), is(-492881L));
+        assertThat(HijriCalendar.of("islamic-civil:+3", 1600, 12, 29).getDaysSinceEpochUTC(), is(74104L));
+    }
+
+    @Test
+    public void dayAdjustmentWestIslamicCivilRoundtrip() {
+        for (String variant : Arrays.asList("islamic-civil:+3", "islamic-civil:-2")) {
+            CalendarSystem<HijriCalendar> calsys = HijriCalendar.family().getCalendarSystem(variant);
+            long start = PlainDate.of(2017, 1, 1).getDaysSinceEpochUTC();
+            for (long utcDays = start; utcDays < start + 800; utcDays++) {
+                HijriCalendar hijri = calsys.transform(utcDays);
+                assertThat(calsys.transform(hijri), is(utcDays));
+                assertThat(hijri.getDaysSinceEpochUTC(), is(utcDays));
+            }
+        }
+    }
+
     @Test
     public void weekdayInMonth() {
         HijriCalendar hijri =
@@ -361,4 +387,65 @@ public class HijriMiscellaneousTest {
             is(CommonElements.boundedWeekOfMonth(HijriCalendar.family(), HijriCalendar.getDefaultWeekmodel())));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void binaryData() throws IOException {
+        for (String variant : new String[] {"islamic-umalqura", "islamic-diyanet", "islamic-icu4j"}) {
+            AstronomicalHijriData text = new AstronomicalHijriData(variant, false);
+            AstronomicalHijriData binary = new AstronomicalHijriData(variant, true);
+
+            GeneratedResources.assertUpToDate( // binary resource must be regenerated if the textual resource changes
+                "data/" + variant.replace('-', '_') + ".bin",
+                text::writeBinary);
+
+            assertThat(binary.getVersion(), is(text.getVersion()));
+            assertThat(binary.getMinimumSinceUTC(), is(text.getMinimumSinceUTC()));
+            assertThat(binary.getMaximumSinceUTC(), is(text.getMaximumSinceUTC()));
+            for (long utc = text.getMinimumSinceUTC(); utc <= text.getMaximumSinceUTC(); utc++) {
+                HijriCalendar hijri = binary.transform(utc);
+                assertThat(hijri, is(text.transform(utc)));
+                assertThat(binary.transform(hijri), is(utc));
+            }
+        }
+    }
+
+    @Test
+    public void bulkConversion() {
+        List<BulkCalendarSystem<HijriCalendar>> systems = Arrays.asList(
+            (BulkCalendarSystem<HijriCalendar>) HijriCalendar.family().getCalendarSystem("islamic-umalqura"),
+            (BulkCalendarSystem<HijriCalendar>) HijriCalendar.family().getCalendarSystem("islamic-civil"),
+            (BulkCalendarSystem<HijriCalendar>) HijriCalendar.family().getCalendarSystem("islamic-umalqura:+1"),
+            (BulkCalendarSystem<HijriCalendar>) HijriAlgorithm.WEST_ISLAMIC_CIVIL.getCalendarSystem(-2));
+        for (BulkCalendarSystem<HijriCalendar> calsys : systems) {
+            long start = PlainDate.of(2014, 9, 22).getDaysSinceEpochUTC();
+            int n = 1000;
+            long[] utcDays = new long[n + 2];
+            for (int i = 0; i < n; i++) {
+                utcDays[i] = start + i;
+            }
+            utcDays[n] = start - 500; // unsorted input
+            utcDays[n + 1] = start + 5000;
+            int[] years = new int[utcDays.length];
+            int[] months = new int[utcDays.length];
+            int[] days = new int[utcDays.length];
+            calsys.toFields(utcDays, years, months, days);
+            for (int i = 0; i < utcDays.length; i++) {
+                HijriCalendar hijri = calsys.transform(utcDays[i]);
+                assertThat(years[i], is(hijri.getYear()));
+                assertThat(months[i], is(hijri.getMonth().getValue()));
+                assertThat(days[i], is(hijri.getDayOfMonth()));
+            }
+            long[] result = new long[utcDays.length];
+            calsys.fromFields(years, months, days, result);
+            assertThat(Arrays.equals(result, utcDays), is(true));
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void bulkConversionOutOfRange() {
+        BulkCalendarSystem<HijriCalendar> calsys =
+            (BulkCalendarSystem<HijriCalendar>) HijriCalendar.family().getCalendarSystem("islamic-umalqura");
+        long max = calsys.getMaximumSinceUTC();
+        calsys.toFields(new long[] {max - 1, max, max + 1}, new int[3], new int[3], new int[3]);
+    }
+
+}
@@ -2,6 +2,7 @@ package net.time4j.calendar;
 
 import net.time4j.PlainDate;
 import net.time4j.Weekday;
+import net.time4j.engine.BulkCalendarSystem;
 import net.time4j.engine.CalendarDate;
 import net.time4j.engine.CalendarDays;
 import net.time4j.format.DisplayMode;
@@ -11,6 +12,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import java.text.ParseException;
+import java.util.Arrays;
 import java.util.Locale;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -99,4 +101,56 @@ public class IndianMiscellaneousTest {
             is("Sunday, Asvina 9, 1939 Saka"));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void bulkConversion() {
+        @SuppressWarnings("unchecked")
+        BulkCalendarSystem<IndianCalendar> calsys =
+            (BulkCalendarSystem<IndianCalendar>) IndianCalendar.axis().getCalendarSystem();
+        long start = IndianCalendar.of(1918, 1, 1).getDaysSinceEpochUTC();
+        long min = calsys.getMinimumSinceUTC();
+        long max = calsys.getMaximumSinceUTC();
+        int n = 5 * 366;
+        long[] utcDays = new long[n + 7];
+        for (int i = 0; i < n; i++) {
+            utcDays[i] = start + i;
+        }
+        utcDays[n] = start + 10000; // unsorted input
+        utcDays[n + 1] = start - 1;
+        utcDays[n + 2] = start;
+        utcDays[n + 3] = min;
+        utcDays[n + 4] = min + 400;
+        utcDays[n + 5] = max - 300;
+        utcDays[n + 6] = max;
+        int[] years = new int[utcDays.length];
+        int[] months = new int[utcDays.length];
+        int[] days = new int[utcDays.length];
+        calsys.toFields(utcDays, years, months, days);
+        for (int i = 0; i < utcDays.length; i++) {
+            IndianCalendar indian = calsys.transform(utcDays[i]);
+            assertThat(years[i], is(indian.getYear()));
+            assertThat(months[i], is(indian.getMonth().getValue()));
+            assertThat(days[i], is(indian.getDayOfMonth()));
+        }
+        long[] result = new long[utcDays.length];
+        calsys.fromFields(years, months, days, result);
+        assertThat(Arrays.equals(result, utcDays), is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void bulkConversionOutOfRange() {
+        @SuppressWarnings("unchecked")
+        BulkCalendarSystem<IndianCalendar> calsys =
+            (BulkCalendarSystem<IndianCalendar>) IndianCalendar.axis().getCalendarSystem();
+        long max = calsys.getMaximumSinceUTC();
+        calsys.toFields(new long[] {max - 1, max, max + 1}, new int[3], new int[3], new int[3]);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void bulkConversionWithInvalidDate() {
+        @SuppressWarnings("unchecked")
+        BulkCalendarSystem<IndianCalendar> calsys =
+            (BulkCalendarSystem<IndianCalendar>) IndianCalendar.axis().getCalendarSystem();
+        calsys.fromFields(new int[] {1937, 1938}, new int[] {1, 1}, new int[] {31, 31}, new long[2]); // 1937 is no leap year
+    }
+
+}
@@ -11,6 +11,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.io.IOException;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -76,6 +77,17 @@ public class KoreanMiscellaneousTest {
         }
     }
 
+    @Test
+    public void precomputedTable() {
+        ChineseMiscellaneousTest.checkPrecomputedTable(KoreanCalendar.nowInSystemTime().getCalendarSystem());
+    }
+
+    @Test
+    public void tableResource() throws IOException {
+        ChineseMiscellaneousTest.checkTableResource(
+            KoreanCalendar.nowInSystemTime().getCalendarSystem(), "korean", 4281, 1355);
+    }
+
     @Test
     public void defaultFirstDayOfWeek() {
         assertThat(KoreanCalendar.DAY_OF_WEEK.getDefaultMinimum(), is(Weekday.SUNDAY));
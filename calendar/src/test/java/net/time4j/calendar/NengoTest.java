@@ -29,6 +29,7 @@ import java.util.Locale;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 
 @RunWith(JUnit4.class)
@@ -245,6 +246,78 @@ public class NengoTest {
         assertThat(nengo, is(Nengo.SHOWA));
     }
 
+    @Test
+    public void parseWithOffset() {
+        Nengo.Element element = Nengo.Element.SINGLETON;
+        Nengo expected = Nengo.ofRelatedGregorianYear(1394);
+        for (String language : Arrays.asList("ja", "zh", "ko", "ru", "en", "de")) {
+            Locale locale = new Locale(language);
+            Attributes attrs = new Attributes.Builder().setLanguage(locale).build();
+            String text = "x" + expected.getDisplayName(locale) + " 1";
+            ParsePosition pp = new ParsePosition(1);
+            assertThat(element.parse(text, pp, attrs), is(expected));
+            assertThat(pp.getIndex(), is(text.length() - 2));
+        }
+    }
+
+    @Test
+    public void ofRelatedGregorianYearConsistency() {
+        for (Nengo.Selector selector : Nengo.Selector.values()) {
+            List<Nengo> nengos = Nengo.list(selector);
+            int[] range = yearRange(selector, nengos);
+            for (int year = 701; year <= 2100; year++) {
+                Nengo expected = null;
+                for (Nengo nengo : nengos) {
+                    if (nengo.getFirstRelatedGregorianYear() <= year) {
+                        expected = nengo;
+                    }
+                }
+                if ((expected != null) && (year >= range[0]) && (year <= range[1])) {
+                    assertThat(Nengo.ofRelatedGregorianYear(year, selector), is(expected));
+                } else {
+                    try {
+                        Nengo.ofRelatedGregorianYear(year, selector);
+                        fail("Missing exception: year=" + year + ", selector=" + selector);
+                    } catch (IllegalArgumentException iae) {
+                        // ok
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void ofKanjiPrefixOfShowa() {
+        Nengo.ofKanji("昭");
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void ofKanjiPrefixOfTenpyoKanpo() {
+        Nengo.ofKanji("天平感");
+    }
+
+    @Test
+    public void ofKanji() {
+        assertThat(Nengo.ofKanji("平成"), is(Nengo.HEISEI));
+        assertThat(Nengo.ofKanji("昭和"), is(Nengo.SHOWA));
+    }
+
+    @Test
+    public void ofDaysSinceEpochUTC() {
+        for (Nengo nengo : Nengo.list(Nengo.Selector.OFFICIAL)) {
+            long start = nengo.getStartAsDaysSinceEpochUTC();
+            assertThat(Nengo.ofDaysSinceEpochUTC(start, false), is(nengo));
+            if (nengo.findPrevious().isPresent()) {
+                assertThat(Nengo.ofDaysSinceEpochUTC(start - 1, false), is(nengo.findPrevious().get()));
+            }
+        }
+        for (Nengo nengo : Nengo.list(Nengo.Selector.NORTHERN_COURT)) {
+            long start = nengo.getStartAsDaysSinceEpochUTC();
+            assertThat(Nengo.ofDaysSinceEpochUTC(start, true), is(nengo));
+            assertThat(Nengo.ofDaysSinceEpochUTC(start - 1, true), is(nengo.findPrevious().get()));
+        }
+    }
+
     @Test
     public void calendarEra() {
         Nengo nengo = Nengo.ofRelatedGregorianYear(1393, Nengo.Selector.NORTHERN_COURT);
@@ -262,6 +335,28 @@ public class NengoTest {
         }
     }
 
+    // documented range of related gregorian years for given selector
+    private static int[] yearRange(
+        Nengo.Selector selector,
+        List<Nengo> nengos
+    ) {
+        switch (selector) {
+            case OFFICIAL:
+            case MODERN:
+                return new int[] {701, Integer.MAX_VALUE};
+            case NORTHERN_COURT:
+                return new int[] {1332, 1394};
+            case SOUTHERN_COURT:
+                return new int[] {1334, 1393};
+            default:
+                Nengo last = nengos.get(nengos.size() - 1);
+                return new int[] {
+                    nengos.get(0).getFirstRelatedGregorianYear(),
+                    last.findNext().get().getFirstRelatedGregorianYear()
+                };
+        }
+    }
+
     private static int roundtrip(Object obj)
         throws IOException, ClassNotFoundException {
 
@@ -7,6 +7,7 @@ import net.time4j.PlainTimestamp;
 import net.time4j.Weekday;
 import net.time4j.calendar.astro.AstronomicalSeason;
 import net.time4j.calendar.astro.JulianDay;
+import net.time4j.calendar.service.EquinoxTable;
 import net.time4j.engine.CalendarDate;
 import net.time4j.engine.CalendarDays;
 import net.time4j.engine.ChronoElement;
@@ -15,11 +16,13 @@ import net.time4j.format.DisplayMode;
 import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.PatternType;
 import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSign;
 import net.time4j.tz.ZonalOffset;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.io.IOException;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -360,4 +363,22 @@ public class PersianMiscellaneousTest {
             is(CommonElements.boundedWeekOfMonth(PersianCalendar.axis(), PersianCalendar.getDefaultWeekmodel())));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void equinoxTable() throws IOException {
+        long[] newYears = new long[2379];
+        for (int pyear = 1; pyear <= newYears.length; pyear++) {
+            newYears[pyear - 1] = PersianAlgorithm.computeNewYear(pyear, PersianAlgorithm.STD_OFFSET);
+        }
+        GeneratedResources.assertUpToDate(
+            "data/persian_equinox.data",
+            out -> EquinoxTable.write(out, "persian", PersianAlgorithm.EQUINOX_VERSION, 1, newYears));
+
+        PersianCalendar pcal = PersianCalendar.of(1403, 1, 1);
+        assertThat(pcal.getDate(PersianAlgorithm.ASTRONOMICAL).toString(), is("AP-1403-01-01[ASTRONOMICAL+03:30]"));
+        ZonalOffset kabul = ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 4, 30);
+        assertThat(
+            PersianAlgorithm.ASTRONOMICAL.transform(pcal.getDaysSinceEpochUTC(), kabul),
+            is(PersianCalendar.of(1403, 1, 1)));
+    }
+
+}
@@ -11,6 +11,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.io.IOException;
 import java.util.Locale;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -85,6 +86,17 @@ public class VietnameseMiscellaneousTest {
 //        }
 //    }
 
+    @Test
+    public void precomputedTable() {
+        ChineseMiscellaneousTest.checkPrecomputedTable(VietnameseCalendar.nowInSystemTime().getCalendarSystem());
+    }
+
+    @Test
+    public void tableResource() throws IOException {
+        ChineseMiscellaneousTest.checkTableResource(
+            VietnameseCalendar.nowInSystemTime().getCalendarSystem(), "vietnamese", 4449, 1187);
+    }
+
     @Test
     public void defaultFirstDayOfWeek() {
         assertThat(VietnameseCalendar.DAY_OF_WEEK.getDefaultMinimum(), is(Weekday.MONDAY));
@@ -16,6 +16,12 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import static net.time4j.calendar.astro.AstronomicalSeason.*;
@@ -930,4 +936,98 @@ public class AstroTest {
             is(true));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void tabulateSunriseSunset() {
+        List<SolarTime> locations = new ArrayList<>();
+        for (int lat = -60; lat <= 60; lat += 20) {
+            for (int lng = -165; lng < 180; lng += 55) {
+                locations.add(SolarTime.ofLocation(lat, lng, 0, "TIME4J"));
+            }
+        }
+        locations.add(SolarTime.ofLocation(70, 28, 0, "TIME4J")); // Lapland
+        PlainDate start = PlainDate.of(2014, 1, 1);
+        int days = 200;
+        SolarTime.Table table = SolarTime.tabulate(locations, start, days);
+        assertThat(table.getLocationCount(), is(locations.size()));
+        assertThat(table.getDayCount(), is(days));
+
+        for (int i = 0; i < locations.size(); i++) {
+            SolarTime location = locations.get(i);
+            long[] sunrises = table.getSunrises(i);
+            long[] sunsets = table.getSunsets(i);
+            long[] transits = table.getTransits(i);
+            for (int d = 0; d < days; d += 3) {
+                PlainDate date = start.plus(d, CalendarUnit.DAYS);
+                assertThat(sunrises[d], is(table.getSunrise(i, d)));
+                assertThat(Math.abs(date.get(location.transitAtNoon()).getPosixTime() - transits[d]) <= 1, is(true));
+                if (date.matches(location.polarNight())) {
+                    assertThat(sunrises[d], is(SolarTime.Table.POLAR_NIGHT));
+                    assertThat(sunsets[d], is(SolarTime.Table.POLAR_NIGHT));
+                } else if (date.matches(location.midnightSun())) {
+                    assertThat(sunrises[d], is(SolarTime.Table.MIDNIGHT_SUN));
+                    assertThat(sunsets[d], is(SolarTime.Table.MIDNIGHT_SUN));
+                } else if (i < locations.size() - 1) { // no polar edge cases
+                    long sunrise = date.get(location.sunrise()).get().getPosixTime();
+                    long sunset = date.get(location.sunset()).get().getPosixTime();
+                    assertThat(Math.abs(sunrise - sunrises[d]) <= 1, is(true));
+                    assertThat(Math.abs(sunset - sunsets[d]) <= 1, is(true));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void tabulateWithOtherCalculators() {
+        PlainDate start = PlainDate.of(2018, 1, 1);
+        int days = 366;
+        for (StdSolarCalculator calculator : EnumSet.complementOf(EnumSet.of(StdSolarCalculator.TIME4J))) {
+            List<SolarTime> locations =
+                Arrays.asList(
+                    SolarTime.ofLocation(53.55, 10.0, 0, calculator),
+                    SolarTime.ofLocation(-33.9, 151.2, 0, calculator),
+                    SolarTime.ofLocation(70, 28, 0, calculator)); // Lapland
+            SolarTime.Table table = SolarTime.tabulate(locations, start, days);
+            for (int i = 0; i < locations.size(); i++) {
+                SolarTime location = locations.get(i);
+                for (int d = 0; d < days; d++) {
+                    PlainDate date = start.plus(d, CalendarUnit.DAYS);
+                    Optional<Moment> sunrise = date.get(location.sunrise());
+                    Optional<Moment> sunset = date.get(location.sunset());
+                    assertThat(date.get(location.transitAtNoon()).getPosixTime(), is(table.getTransit(i, d)));
+                    if (sunrise.isPresent()) {
+                        assertThat(sunrise.get().getPosixTime(), is(table.getSunrise(i, d)));
+                    } else {
+                        long flag = table.getSunrise(i, d);
+                        assertThat(
+                            (flag == SolarTime.Table.POLAR_NIGHT) || (flag == SolarTime.Table.MIDNIGHT_SUN),
+                            is(true));
+                    }
+                    if (sunset.isPresent()) {
+                        assertThat(sunset.get().getPosixTime(), is(table.getSunset(i, d)));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void tabulateTwilight() {
+        SolarTime hamburg = SolarTime.ofLocation(53.55, 10.0);
+        PlainDate date = PlainDate.of(2018, 3, 21);
+        SolarTime.Table table =
+            SolarTime.tabulate(Collections.singletonList(hamburg), date, 1, Twilight.ASTRONOMICAL);
+        long start = date.get(hamburg.sunrise(Twilight.ASTRONOMICAL)).get().getPosixTime();
+        long end = date.get(hamburg.sunset(Twilight.ASTRONOMICAL)).get().getPosixTime();
+        assertThat(Math.abs(start - table.getSunrise(0, 0)) <= 1, is(true));
+        assertThat(Math.abs(end - table.getSunset(0, 0)) <= 1, is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void tabulateWithDifferentCalculators() {
+        SolarTime.tabulate(
+            Arrays.asList(SolarTime.ofLocation(53.55, 10.0, 0, "NOAA"), SolarTime.ofLocation(53.55, 10.0, 0, "CC")),
+            PlainDate.of(2018, 3, 21),
+            1);
+    }
+
+}
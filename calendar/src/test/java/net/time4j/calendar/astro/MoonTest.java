@@ -1,5 +1,6 @@
 package net.time4j.calendar.astro;
 
+import net.time4j.CalendarUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
@@ -108,6 +109,28 @@ public class MoonTest {
             is(PlainTimestamp.of(2017, 11, 10, 20, 37).atUTC()));
     }
 
+    @Test
+    public void cachedLunations() {
+        for (MoonPhase phase : MoonPhase.values()) {
+            for (int n = -300; n <= 300; n += 7) {
+                Moment m = phase.atLunation(n);
+                assertThat(m, is(phase.calculateLunation(n)));
+                assertThat(phase.atOrAfter(m), is(m));
+                assertThat(phase.atOrAfter(m.plus(1, TimeUnit.NANOSECONDS)), is(phase.atLunation(n + 1)));
+                assertThat(phase.after(m), is(phase.atLunation(n + 1)));
+                assertThat(phase.after(m.minus(1, TimeUnit.NANOSECONDS)), is(m));
+                assertThat(phase.before(m), is(phase.atLunation(n - 1)));
+                assertThat(phase.before(m.plus(1, TimeUnit.NANOSECONDS)), is(m));
+            }
+        }
+        assertThat(
+            MoonPhase.NEW_MOON.atLunation(MoonPhase.maxLunation()),
+            is(MoonPhase.NEW_MOON.calculateLunation(MoonPhase.maxLunation())));
+        assertThat(
+            MoonPhase.NEW_MOON.atLunation(MoonPhase.minLunation()),
+            is(MoonPhase.NEW_MOON.calculateLunation(MoonPhase.minLunation())));
+    }
+
     @Test
     public void illuminationOfMoon() {
         Moment m =
@@ -449,6 +472,67 @@ public class MoonTest {
         assertThat(moonlight7.isPresentAllDay(), is(false));
     }
 
+    @Test
+    public void tabulateMoonlight() {
+        Timezone tz = Timezone.of("Europe/Berlin");
+        LunarTime munich = LunarTime.ofLocation(tz.getID(), 48.1, 11.6);
+        PlainDate start = PlainDate.of(2000, 1, 1);
+        LunarTime.Table table = munich.tabulate(start, 366);
+        assertThat(table.getDayCount(), is(366));
+
+        for (int i = 0; i < 366; i++) {
+            LunarTime.Moonlight expected = munich.on(start.plus(i, CalendarUnit.DAYS));
+            LunarTime.Moonlight moonlight = table.getMoonlight(i);
+            assertThat(moonlight.isAbsent(), is(expected.isAbsent()));
+            assertThat(moonlight.isPresentAllDay(), is(expected.isPresentAllDay()));
+            assertThat(
+                table.getMoonrise(i) == LunarTime.Table.ABSENT,
+                is(!expected.moonrise().isPresent()));
+            assertThat(
+                table.getMoonset(i) == LunarTime.Table.ABSENT,
+                is(!expected.moonset().isPresent()));
+            if (expected.moonrise().isPresent()) {
+                assertThat(Math.abs(table.getMoonrise(i) - expected.moonrise().get().getPosixTime()) <= 1, is(true));
+            }
+            if (expected.moonset().isPresent()) {
+                assertThat(Math.abs(table.getMoonset(i) - expected.moonset().get().getPosixTime()) <= 1, is(true));
+            }
+        }
+
+        assertThat(table.getMoonrises()[84], is(LunarTime.Table.ABSENT));
+        assertThat(
+            table.getMoonsets()[84],
+            is(PlainTimestamp.of(2000, 3, 25, 8, 58, 33).in(tz).getPosixTime()));
+    }
+
+    @Test
+    public void tabulateMoonlightNorthPole() {
+        Timezone tz = Timezone.of("Arctic/Longyearbyen");
+        LunarTime lunarTime =
+            LunarTime.ofLocation(tz.getID())
+                .northernLatitude(90, 0, 0.0)
+                .easternLongitude(0, 0, 0.0)
+                .build();
+        PlainDate start = PlainDate.of(2017, 5, 22);
+        LunarTime.Table table = lunarTime.tabulate(start, 206);
+
+        for (int i = 0; i < 206; i++) {
+            LunarTime.Moonlight expected = lunarTime.on(start.plus(i, CalendarUnit.DAYS));
+            LunarTime.Moonlight moonlight = table.getMoonlight(i);
+            assertThat(moonlight.isAbsent(), is(expected.isAbsent()));
+            assertThat(moonlight.isPresentAllDay(), is(expected.isPresentAllDay()));
+        }
+
+        assertThat(table.getMoonrise(0), is(PlainTimestamp.of(2017, 5, 22, 1, 29, 45).in(tz).getPosixTime()));
+        assertThat(table.getMoonlight(10).isPresentAllDay(), is(true));
+        assertThat(table.getMoonlight(205).isAbsent(), is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void tabulateMoonlightWithoutDays() {
+        LunarTime.ofLocation(Timezone.of("Europe/Berlin").getID(), 48.1, 11.6).tabulate(PlainDate.of(2000, 1, 1), 0);
+    }
+
     @Test
     public void minLunation() {
         int min = MoonPhase.minLunation();
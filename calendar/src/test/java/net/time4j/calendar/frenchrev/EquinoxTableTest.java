@@ -0,0 +1,52 @@
+package net.time4j.calendar.frenchrev;
+
+import net.time4j.PlainDate;
+import net.time4j.calendar.GeneratedResources;
+import net.time4j.calendar.service.EquinoxTable;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class EquinoxTableTest {
+
+    @Test
+    public void resourceData() throws IOException {
+        long[] newYears = new long[FrenchRepublicanCalendar.MAX_YEAR + 1];
+        for (int fyear = 1; fyear <= newYears.length; fyear++) {
+            newYears[fyear - 1] = FrenchRepublicanAlgorithm.computeNewYear(fyear);
+        }
+        GeneratedResources.assertUpToDate(
+            "data/french_equinox.data",
+            out -> EquinoxTable.write(out, "french", FrenchRepublicanAlgorithm.EQUINOX_VERSION, 1, newYears));
+    }
+
+    @Test
+    public void outdatedVersion() {
+        assertThat(EquinoxTable.load("french", FrenchRepublicanAlgorithm.EQUINOX_VERSION), notNullValue());
+        assertThat(EquinoxTable.load("french", "0.9"), nullValue());
+    }
+
+    @Test
+    public void newYears() {
+        for (int fyear = 1; fyear <= FrenchRepublicanCalendar.MAX_YEAR; fyear++) {
+            long utcDays = FrenchRepublicanAlgorithm.computeNewYear(fyear);
+            FrenchRepublicanCalendar cal = FrenchRepublicanAlgorithm.EQUINOX.transform(utcDays);
+            assertThat(cal.getYear(), is(fyear));
+            assertThat(cal.getDayOfYear(), is(1));
+            assertThat(FrenchRepublicanAlgorithm.EQUINOX.transform(cal), is(utcDays));
+        }
+        assertThat(
+            PlainDate.of(1792, 9, 22).transform(FrenchRepublicanCalendar.axis()),
+            is(FrenchRepublicanCalendar.of(1, 1, 1)));
+    }
+
+}
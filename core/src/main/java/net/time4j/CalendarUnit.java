@@ -704,10 +704,10 @@ public enum CalendarUnit
                     amount = this.monthDelta(d1, d2);
                     break;
                 case WEEKS:
-                    amount = dayDelta(d1, d2) / 7;
+                    amount = PlainDate.dayDelta(d1, d2) / 7;
                     break;
                 case DAYS:
-                    amount = dayDelta(d1, d2);
+                    amount = PlainDate.dayDelta(d1, d2);
                     break;
                 default:
                     throw new UnsupportedOperationException(this.unit.name());
@@ -773,19 +773,6 @@ public enum CalendarUnit
 
         }
 
-        private static long dayDelta(
-            PlainDate start,
-            PlainDate end
-        ) {
-
-            if (start.getYear() == end.getYear()) {
-                return end.getDayOfYear() - start.getDayOfYear();
-            }
-
-            return end.getDaysSinceUTC() - start.getDaysSinceUTC();
-
-        }
-
     }
 
 }
@@ -43,6 +43,7 @@ import java.time.temporal.IsoFields;
 import java.time.temporal.TemporalAmount;
 import java.time.temporal.TemporalUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -463,6 +464,49 @@ public final class Duration<U extends IsoUnit>
 
     }
 
+    /**
+     * <p>Creates a new mutable accumulator for summing up many durations
+     * without creating intermediate {@code Duration}-objects. </p>
+     *
+     * <p>Example: </p>
+     *
+     * <pre>
+     *  Duration.Accumulator&lt;ClockUnit&gt; acc = Duration.accumulator();
+     *  for (Duration&lt;ClockUnit&gt; d : durations) {
+     *      acc.add(d);
+     *  }
+     *  Duration&lt;ClockUnit&gt; total = acc.toDuration();
+     * </pre>
+     *
+     * @param   <U> generic unit type
+     * @return  new empty accumulator
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen ver&auml;nderlichen Akkumulator, um viele
+     * Zeitspannen ohne die Erzeugung von {@code Duration}-Zwischenobjekten
+     * aufzusummieren. </p>
+     *
+     * <p>Beispiel: </p>
+     *
+     * <pre>
+     *  Duration.Accumulator&lt;ClockUnit&gt; acc = Duration.accumulator();
+     *  for (Duration&lt;ClockUnit&gt; d : durations) {
+     *      acc.add(d);
+     *  }
+     *  Duration&lt;ClockUnit&gt; total = acc.toDuration();
+     * </pre>
+     *
+     * @param   <U> generic unit type
+     * @return  new empty accumulator
+     * @since   4.37
+     */
+    public static <U extends IsoUnit> Accumulator<U> accumulator() {
+
+        return new Accumulator<>();
+
+    }
+
     /**
      * <p>Creates a positive duration in years, months and days. </p>
      *
@@ -3020,86 +3064,10 @@ public final class Duration<U extends IsoUnit>
             }
         }
 
-        Map<U, Long> map = new HashMap<>();
-
-        for (int i = 0, n = duration.count(); i < n; i++) {
-            Item<U> item = duration.getTotalLength().get(i);
-            map.put(
-                item.getUnit(),
-                Long.valueOf(
-                    MathUtils.safeMultiply(
-                        item.getAmount(),
-                        (duration.isNegative() ? -1 : 1)
-                    )
-                )
-            );
-        }
-
-        boolean tsign = timespan.isNegative();
-
-        for (int i = 0, n = timespan.getTotalLength().size(); i < n; i++) {
-            TimeSpan.Item<? extends U> e = timespan.getTotalLength().get(i);
-            U unit = e.getUnit();
-            long amount = e.getAmount();
-
-            // Millis und Micros ersetzen
-            Item<U> item = replaceFraction(amount, unit);
-
-            if (item != null) {
-                amount = item.getAmount();
-                unit = item.getUnit();
-            }
-
-            // Items aktualisieren
-            if (map.containsKey(unit)) {
-                map.put(
-                    unit,
-                    Long.valueOf(
-                        MathUtils.safeAdd(
-                            map.get(unit).longValue(),
-                            MathUtils.safeMultiply(amount, (tsign ? -1 : 1))
-                        )
-                    )
-                );
-            } else {
-                map.put(
-                    unit,
-                    MathUtils.safeMultiply(amount, (tsign ? -1 : 1))
-                );
-            }
-        }
-
-        boolean negative = false;
-
-        if (duration.isNegative() == tsign) {
-        	negative = tsign;
-        } else {
-            boolean firstScan = true;
-            for (Map.Entry<U, Long> entry : map.entrySet()) {
-                boolean nsign = (entry.getValue().longValue() < 0);
-                if (firstScan) {
-                    negative = nsign;
-                    firstScan = false;
-                } else if (negative != nsign) {
-                	return null; // mixed signs
-                }
-            }
-        }
-
-        if (negative) {
-            for (Map.Entry<U, Long> entry : map.entrySet()) {
-                long value = entry.getValue().longValue();
-                map.put(
-                    entry.getKey(),
-                    Long.valueOf(
-                        (value < 0)
-                        ? MathUtils.safeNegate(value)
-                        : value)
-                );
-            }
-        }
-
-        return Duration.create(map, negative);
+        Accumulator<U> acc = new Accumulator<>();
+        acc.add(duration);
+        acc.add(timespan);
+        return acc.build(); // null in case of mixed signs
 
     }
 
@@ -4161,6 +4129,446 @@ public final class Duration<U extends IsoUnit>
 
     }
 
+    /**
+     * <p>Mutable accumulator for summing up durations in place. </p>
+     *
+     * <p>The amounts of standard calendar units and clock units are held in
+     * primitive fields so that adding a duration does not create any objects.
+     * Other exotic units are supported by a generic fallback. Milliseconds
+     * and microseconds are always converted to nanoseconds. The partial
+     * amounts may temporarily have different signs. An instance is created
+     * by {@link Duration#accumulator()} and is only intended for local use
+     * in one thread because it is not thread-safe. </p>
+     *
+     * @param   <U> generic unit type
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Ver&auml;nderlicher Akkumulator, der Zeitspannen direkt
+     * aufsummiert. </p>
+     *
+     * <p>Die Betr&auml;ge der Standard-Kalender- und Uhrzeiteinheiten werden
+     * in primitiven Feldern gehalten, so da&szlig; die Addition einer Dauer
+     * keine Objekte erzeugt. Andere exotische Einheiten werden &uuml;ber einen
+     * generischen Ausweichmechanismus unterst&uuml;tzt. Millisekunden und
+     * Mikrosekunden werden immer in Nanosekunden umgerechnet. Die einzelnen
+     * Betr&auml;ge d&uuml;rfen vor&uuml;bergehend verschiedene Vorzeichen
+     * haben. Eine Instanz wird mittels {@link Duration#accumulator()} erzeugt
+     * und ist nur zur lokalen Verwendung in einem Thread gedacht, da keine
+     * Thread-Sicherheit gegeben ist. </p>
+     *
+     * @param   <U> generic unit type
+     * @since   4.37
+     */
+    public static final class Accumulator<U extends IsoUnit> {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int HOURS_INDEX = 8; // after all calendar units
+        private static final int MINUTES_INDEX = 9;
+        private static final int SECONDS_INDEX = 10;
+        private static final int NANOS_INDEX = 11;
+
+        private static final IsoUnit[] SLOT_UNITS = {
+            MILLENNIA, CENTURIES, DECADES, YEARS, QUARTERS, MONTHS, WEEKS, DAYS,
+            HOURS, MINUTES, SECONDS, NANOS
+        };
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long[] amounts;
+        private Map<U, Long> others;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Accumulator() {
+            super();
+
+            this.amounts = new long[SLOT_UNITS.length];
+            this.others = null;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Adds given time span to this accumulator. </p>
+         *
+         * @param   timespan    time span to be added
+         * @return  this instance for method chaining
+         * @throws  ArithmeticException in case of long overflow
+         */
+        /*[deutsch]
+         * <p>Addiert die angegebene Zeitspanne zu diesem Akkumulator. </p>
+         *
+         * @param   timespan    time span to be added
+         * @return  this instance for method chaining
+         * @throws  ArithmeticException in case of long overflow
+         */
+        public Accumulator<U> add(TimeSpan<? extends U> timespan) {
+
+            this.addAll(timespan, timespan.isNegative());
+            return this;
+
+        }
+
+        /**
+         * <p>Subtracts given time span from this accumulator. </p>
+         *
+         * @param   timespan    time span to be subtracted
+         * @return  this instance for method chaining
+         * @throws  ArithmeticException in case of long overflow
+         */
+        /*[deutsch]
+         * <p>Subtrahiert die angegebene Zeitspanne von diesem Akkumulator. </p>
+         *
+         * @param   timespan    time span to be subtracted
+         * @return  this instance for method chaining
+         * @throws  ArithmeticException in case of long overflow
+         */
+        public Accumulator<U> subtract(TimeSpan<? extends U> timespan) {
+
+            this.addAll(timespan, !timespan.isNegative());
+            return this;
+
+        }
+
+        /**
+         * <p>Adds given amount in given unit to this accumulator. </p>
+         *
+         * @param   amount      temporal amount to be added (maybe negative)
+         * @param   unit        associated time unit
+         * @return  this instance for method chaining
+         * @throws  ArithmeticException in case of long overflow
+         */
+        /*[deutsch]
+         * <p>Addiert den angegebenen Betrag in der angegebenen Zeiteinheit
+         * zu diesem Akkumulator. </p>
+         *
+         * @param   amount      temporal amount to be added (maybe negative)
+         * @param   unit        associated time unit
+         * @return  this instance for method chaining
+         * @throws  ArithmeticException in case of long overflow
+         */
+        public Accumulator<U> add(
+            long amount,
+            U unit
+        ) {
+
+            if (unit == null) {
+                throw new NullPointerException("Missing chronological unit.");
+            }
+
+            this.addItem(amount, unit);
+            return this;
+
+        }
+
+        /**
+         * <p>Yields the current signed amount associated with given unit. </p>
+         *
+         * <p>Milliseconds and microseconds are derived from the accumulated
+         * nanoseconds by truncation. </p>
+         *
+         * @param   unit    time unit the amount is queried for
+         * @return  signed amount associated with given unit
+         */
+        /*[deutsch]
+         * <p>Liefert den aktuellen vorzeichenbehafteten Betrag zur
+         * angegebenen Zeiteinheit. </p>
+         *
+         * <p>Millisekunden und Mikrosekunden werden aus den aufsummierten
+         * Nanosekunden durch Abschneiden abgeleitet. </p>
+         *
+         * @param   unit    time unit the amount is queried for
+         * @return  signed amount associated with given unit
+         */
+        public long getPartialAmount(U unit) {
+
+            if (unit == MILLIS) {
+                return this.amounts[NANOS_INDEX] / MIO;
+            } else if (unit == MICROS) {
+                return this.amounts[NANOS_INDEX] / 1000;
+            }
+
+            int index = slot(unit);
+
+            if (index >= 0) {
+                return this.amounts[index];
+            } else if (this.others != null) {
+                Long value = this.others.get(unit);
+                if (value != null) {
+                    return value.longValue();
+                }
+            }
+
+            return 0;
+
+        }
+
+        /**
+         * <p>Queries if all accumulated amounts are zero. </p>
+         *
+         * @return  boolean
+         */
+        /*[deutsch]
+         * <p>Ermittelt, ob alle aufsummierten Betr&auml;ge null sind. </p>
+         *
+         * @return  boolean
+         */
+        public boolean isZero() {
+
+            for (long amount : this.amounts) {
+                if (amount != 0) {
+                    return false;
+                }
+            }
+
+            if (this.others != null) {
+                for (Long value : this.others.values()) {
+                    if (value.longValue() != 0) {
+                        return false;
+                    }
+                }
+            }
+
+            return true;
+
+        }
+
+        /**
+         * <p>Sets all accumulated amounts to zero so this instance can be reused. </p>
+         *
+         * @return  this instance for method chaining
+         */
+        /*[deutsch]
+         * <p>Setzt alle aufsummierten Betr&auml;ge auf null, so da&szlig;
+         * diese Instanz wiederverwendet werden kann. </p>
+         *
+         * @return  this instance for method chaining
+         */
+        public Accumulator<U> reset() {
+
+            Arrays.fill(this.amounts, 0L);
+            this.others = null;
+            return this;
+
+        }
+
+        /**
+         * <p>Creates a duration based on the accumulated amounts. </p>
+         *
+         * <p>If the accumulated amounts have different signs then Time4J
+         * tries to apply a normalization in the same way as
+         * {@link Duration#plus(TimeSpan)}. </p>
+         *
+         * @return  new duration
+         * @throws  IllegalStateException if the amounts have mixed signs
+         *          which cannot be resolved by normalization
+         * @throws  ArithmeticException in case of long overflow
+         */
+        /*[deutsch]
+         * <p>Erzeugt eine Zeitspanne auf Basis der aufsummierten
+         * Betr&auml;ge. </p>
+         *
+         * <p>Haben die aufsummierten Betr&auml;ge verschiedene Vorzeichen,
+         * versucht Time4J eine Normalisierung in der gleichen Art wie
+         * {@link Duration#plus(TimeSpan)}. </p>
+         *
+         * @return  new duration
+         * @throws  IllegalStateException if the amounts have mixed signs
+         *          which cannot be resolved by normalization
+         * @throws  ArithmeticException in case of long overflow
+         */
+        public Duration<U> toDuration() {
+
+            Duration<U> result = this.build();
+
+            if (result == null) {
+                Duration<U> positivePart = this.build(false);
+                Duration<U> negativePart = this.build(true);
+                result = positivePart.plus(negativePart);
+            }
+
+            return result;
+
+        }
+
+        /**
+         * <p>Creates a duration or {@code null} in case of mixed signs. </p>
+         *
+         * @return  duration or {@code null}
+         */
+        Duration<U> build() {
+
+            boolean positive = false;
+            boolean negative = false;
+
+            for (long amount : this.amounts) {
+                if (amount > 0) {
+                    positive = true;
+                } else if (amount < 0) {
+                    negative = true;
+                }
+            }
+
+            if (this.others != null) {
+                for (Long value : this.others.values()) {
+                    long amount = value.longValue();
+                    if (amount > 0) {
+                        positive = true;
+                    } else if (amount < 0) {
+                        negative = true;
+                    }
+                }
+            }
+
+            if (positive && negative) {
+                return null; // mixed signs
+            }
+
+            return this.build(negative);
+
+        }
+
+        @Override
+        public String toString() {
+
+            StringBuilder sb = new StringBuilder("Accumulator[");
+            boolean first = true;
+
+            for (int i = 0; i < SLOT_UNITS.length; i++) {
+                if (this.amounts[i] != 0) {
+                    if (!first) {
+                        sb.append(',');
+                    }
+                    sb.append(SLOT_UNITS[i]).append('=').append(this.amounts[i]);
+                    first = false;
+                }
+            }
+
+            if (this.others != null) {
+                for (Map.Entry<U, Long> entry : this.others.entrySet()) {
+                    if (!first) {
+                        sb.append(',');
+                    }
+                    sb.append(entry.getKey()).append('=').append(entry.getValue());
+                    first = false;
+                }
+            }
+
+            return sb.append(']').toString();
+
+        }
+
+        // builds a duration from all amounts with given sign
+        private Duration<U> build(boolean negative) {
+
+            List<Item<U>> temp = new ArrayList<>();
+
+            for (int i = 0; i < SLOT_UNITS.length; i++) {
+                long amount = this.amounts[i];
+                if ((negative && (amount < 0)) || (!negative && (amount > 0))) {
+                    U unit = cast(SLOT_UNITS[i]);
+                    temp.add(Item.of(negative ? MathUtils.safeNegate(amount) : amount, unit));
+                }
+            }
+
+            if (this.others != null) {
+                for (Map.Entry<U, Long> entry : this.others.entrySet()) {
+                    long amount = entry.getValue().longValue();
+                    if ((negative && (amount < 0)) || (!negative && (amount > 0))) {
+                        temp.add(Item.of(negative ? MathUtils.safeNegate(amount) : amount, entry.getKey()));
+                    }
+                }
+            }
+
+            if (temp.isEmpty()) {
+                return ofZero();
+            }
+
+            return new Duration<>(temp, negative);
+
+        }
+
+        private void addAll(
+            TimeSpan<? extends U> timespan,
+            boolean negative
+        ) {
+
+            List<? extends Item<? extends U>> items = timespan.getTotalLength();
+
+            for (int i = 0, n = items.size(); i < n; i++) {
+                Item<? extends U> item = items.get(i);
+                long amount = item.getAmount();
+                this.addItem((negative ? MathUtils.safeNegate(amount) : amount), item.getUnit());
+            }
+
+        }
+
+        private void addItem(
+            long amount,
+            U unit
+        ) {
+
+            if (amount == 0) {
+                return;
+            } else if (unit == MILLIS) {
+                this.addToSlot(NANOS_INDEX, MathUtils.safeMultiply(amount, MIO));
+                return;
+            } else if (unit == MICROS) {
+                this.addToSlot(NANOS_INDEX, MathUtils.safeMultiply(amount, 1000L));
+                return;
+            }
+
+            int index = slot(unit);
+
+            if (index >= 0) {
+                this.addToSlot(index, amount);
+            } else {
+                if (this.others == null) {
+                    this.others = new HashMap<>();
+                }
+                Long old = this.others.get(unit);
+                this.others.put(unit, (old == null) ? amount : MathUtils.safeAdd(old.longValue(), amount));
+            }
+
+        }
+
+        private void addToSlot(
+            int index,
+            long amount
+        ) {
+
+            this.amounts[index] = MathUtils.safeAdd(this.amounts[index], amount);
+
+        }
+
+        private static int slot(IsoUnit unit) {
+
+            if (unit instanceof CalendarUnit) {
+                return ((CalendarUnit) unit).ordinal();
+            } else if (unit instanceof ClockUnit) {
+                switch ((ClockUnit) unit) {
+                    case HOURS:
+                        return HOURS_INDEX;
+                    case MINUTES:
+                        return MINUTES_INDEX;
+                    case SECONDS:
+                        return SECONDS_INDEX;
+                    case NANOS:
+                        return NANOS_INDEX;
+                    default:
+                        return -1;
+                }
+            }
+
+            return -1;
+
+        }
+
+    }
+
     private static class ZonalMetric
         implements TimeMetric<IsoUnit, Duration<IsoUnit>> {
 
@@ -1443,6 +1443,54 @@ public final class PlainDate
 
     }
 
+    /**
+     * <p>Calculates the temporal distance between this date and given end date in only one calendar unit. </p>
+     *
+     * <p>Covers the most important units and is overloaded for performance reasons. Day- and week-based
+     * distances are directly calculated as difference of epoch days. </p>
+     *
+     * @param   end         end date
+     * @param   unit        the unit to be used in calculation
+     * @return  difference between this and given end date as count of given unit
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #until(TimePoint, Object) until(PlainDate, IsoDateUnit)
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Ermittelt den zeitlichen Abstand zwischen diesem Datum und dem angegebenen Endedatum
+     * in nur einer Kalendereinheit. </p>
+     *
+     * <p>Deckt die wichtigsten Zeiteinheiten ab, die mit diesem Typ verwendet werden
+     * k&ouml;nnen und ist aus Performance-Gr&uuml;nden &uuml;berladen. Tages- und wochenbasierte
+     * Abst&auml;nde werden direkt als Differenz von Epochentagen berechnet. </p>
+     *
+     * @param   end         end date
+     * @param   unit        the unit to be used in calculation
+     * @return  difference between this and given end date as count of given unit
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #until(TimePoint, Object) until(PlainDate, IsoDateUnit)
+     * @since   4.37
+     */
+    public long until(
+        PlainDate end,
+        CalendarUnit unit
+    ) {
+
+        if (unit == null) {
+            throw new NullPointerException("Missing unit.");
+        }
+
+        switch (unit) {
+            case DAYS:
+                return PlainDate.dayDelta(this, end);
+            case WEEKS:
+                return PlainDate.dayDelta(this, end) / 7;
+            default:
+                return super.until(end, unit);
+        }
+
+    }
+
     /**
      * <p>Creates a new formatter which uses the given pattern in the
      * default locale for formatting and parsing plain dates. </p>
@@ -1873,6 +1921,26 @@ public final class PlainDate
 
     }
 
+    /**
+     * <p>Ermittelt die Differenz in Tagen zwischen den angegebenen Datumsangaben. </p>
+     *
+     * @param   start       start date
+     * @param   end         end date
+     * @return  count of days between start and end
+     */
+    static long dayDelta(
+        PlainDate start,
+        PlainDate end
+    ) {
+
+        if (start.year == end.year) {
+            return end.getDayOfYear() - start.getDayOfYear();
+        }
+
+        return end.getDaysSinceUTC() - start.getDaysSinceUTC();
+
+    }
+
     /**
      * <p>Liefert die ISO-Kalenderwoche des Jahres. </p>
      *
@@ -2119,26 +2187,50 @@ public final class PlainDate
                 weekday = date.weekday.next();
             } else if (amount == 7) {
                 weekday = date.weekday;
+            } else {
+                weekday = date.weekday.roll(MathUtils.floorModulo(amount, 7));
             }
         }
 
-        if ((dom >= 1) && (dom <= 28)) {
-            if (hasDOW && (weekday == null)) {
-                weekday = date.weekday.roll((int) amount);
-            }
+        if ((dom >= 1) && ((dom <= 28) || (dom <= date.lengthOfMonth()))) {
             return PlainDate.create(date.year, date.month, (int) dom, weekday, false);
         }
 
         long doy = MathUtils.safeAdd(date.getDayOfYear(), amount);
+        int lengthOfYear = date.lengthOfYear();
 
-        if ((doy >= 1) && (doy <= 365)) {
-            if (hasDOW && (weekday == null)) {
-                weekday = date.weekday.roll((int) amount);
-            }
+        if ((doy >= 1) && (doy <= lengthOfYear)) {
             return PlainDate.ofYearDay(date.year, (int) doy, weekday);
+        } else if ((doy > lengthOfYear) && (date.year < GregorianMath.MAX_YEAR)) {
+            // fast path for crossing the next new year
+            long doyNext = doy - lengthOfYear;
+            if (doyNext <= 365) {
+                return PlainDate.ofYearDay(date.year + 1, (int) doyNext, weekday);
+            }
+        } else if ((doy < 1) && (date.year > GregorianMath.MIN_YEAR)) {
+            // fast path for crossing the previous new year
+            long doyPrev = doy + (GregorianMath.isLeapYear(date.year - 1) ? 366 : 365);
+            if (doyPrev >= 1) {
+                return PlainDate.ofYearDay(date.year - 1, (int) doyPrev, weekday);
+            }
+        }
+
+        // general case: epoch day arithmetic in long-primitives
+        long utcDays = MathUtils.safeAdd(date.getDaysSinceUTC(), amount);
+
+        if (!hasDOW || (utcDays == Transformer.MIN_LONG) || (utcDays == Transformer.MAX_LONG)) {
+            return TRANSFORMER.transform(utcDays);
         }
 
-        return TRANSFORMER.transform(MathUtils.safeAdd(date.getDaysSinceUTC(), amount));
+        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(utcDays, EpochDays.UTC);
+        long packedDate = GregorianMath.toPackedDate(mjd);
+
+        return PlainDate.create(
+            GregorianMath.readYear(packedDate),
+            GregorianMath.readMonth(packedDate),
+            GregorianMath.readDayOfMonth(packedDate),
+            weekday,
+            false);
 
     }
 
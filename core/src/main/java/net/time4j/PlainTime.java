@@ -2070,7 +2070,7 @@ public final class PlainTime
 
     }
 
-    private static PlainTime createFromNanos(long nanosOfDay) {
+    static PlainTime createFromNanos(long nanosOfDay) {
 
         int nanosecond = (int) (nanosOfDay % MRD);
         int secondsOfDay = (int) (nanosOfDay / MRD);
@@ -2083,7 +2083,7 @@ public final class PlainTime
 
     }
 
-    private long getNanoOfDay() {
+    long getNanoOfDay() {
 
         return (
             this.nano
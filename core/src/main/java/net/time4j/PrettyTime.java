@@ -25,6 +25,7 @@ import net.time4j.base.MathUtils;
 import net.time4j.base.ResourceLoader;
 import net.time4j.base.TimeSource;
 import net.time4j.base.UnixTime;
+import net.time4j.engine.TimeMetric;
 import net.time4j.engine.TimeSpan;
 import net.time4j.format.NumberSymbolProvider;
 import net.time4j.format.NumberSystem;
@@ -136,6 +137,7 @@ public final class PrettyTime {
     private final IsoUnit emptyUnit;
     private final boolean weekToDays;
     private final boolean shortStyle;
+    private final UnitPatterns patterns;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -165,6 +167,7 @@ public final class PrettyTime {
         this.minusSign = minusSign;
         this.weekToDays = weekToDays;
         this.shortStyle = shortStyle;
+        this.patterns = UnitPatterns.of(loc);
 
     }
 
@@ -574,7 +577,7 @@ public final class PrettyTime {
      */
     public String printToday() {
 
-        return UnitPatterns.of(this.getLocale()).getTodayWord();
+        return this.patterns.getTodayWord();
 
     }
 
@@ -611,7 +614,6 @@ public final class PrettyTime {
         TextWidth width
     ) {
 
-        UnitPatterns p = UnitPatterns.of(this.locale);
         CalendarUnit u;
 
         switch (unit) {
@@ -652,8 +654,8 @@ public final class PrettyTime {
                 throw new UnsupportedOperationException(unit.name());
         }
 
-        String pattern = p.getPattern(width, this.getCategory(amount), u);
-        return this.format(pattern, amount);
+        UnitPatterns.Template template = this.patterns.getTemplate(width, this.getCategory(amount), u);
+        return this.format(template, amount);
 
     }
 
@@ -683,8 +685,8 @@ public final class PrettyTime {
         TextWidth width
     ) {
 
-        String pattern = UnitPatterns.of(this.locale).getPattern(width, this.getCategory(amount), unit);
-        return this.format(pattern, amount);
+        UnitPatterns.Template template = this.patterns.getTemplate(width, this.getCategory(amount), unit);
+        return this.format(template, amount);
 
     }
 
@@ -924,7 +926,7 @@ public final class PrettyTime {
 
         // multiple items >= 2
         return MessageFormat.format(
-            UnitPatterns.of(this.locale).getListPattern(width, count),
+            this.patterns.getListPattern(width, count),
             parts.toArray(new Object[count]));
 
     }
@@ -1184,19 +1186,20 @@ public final class PrettyTime {
         TimeUnit precision
     ) {
 
-        UnixTime ref = this.getReferenceClock().currentTime();
-        Moment t1 = Moment.from(ref);
+        Moment t1 = Moment.from(this.getReferenceClock().currentTime());
         Moment t2 = Moment.from(moment);
 
         if (precision.compareTo(TimeUnit.SECONDS) <= 0) {
             long delta = t1.until(t2, TimeUnit.SECONDS);
 
-            if (Math.abs(delta) < 60L) {
-                return this.printRelativeSeconds(t1, t2, delta);
+            if (Math.abs(delta) < 60L) { // cheap shortcut without any printer set-up
+                StringBuilder buffer = new StringBuilder();
+                this.printRelativeSeconds(t1, t2, delta, buffer);
+                return buffer.toString();
             }
         }
 
-        return this.printRelativeTime(t1, t2, tz, precision, null, null);
+        return this.relativeTo(t1, tz, precision).print(t2);
 
     }
 
@@ -1244,7 +1247,9 @@ public final class PrettyTime {
             (precision.compareTo(TimeUnit.SECONDS) <= 0)
             && (Math.abs(delta) < 60L)
         ) {
-            return this.printRelativeSeconds(t1, t2, delta);
+            StringBuilder buffer = new StringBuilder();
+            this.printRelativeSeconds(t1, t2, delta, buffer);
+            return buffer.toString();
         }
 
         return this.printRelativeTime(t1, t2, tz, precision, null, null);
@@ -1297,7 +1302,9 @@ public final class PrettyTime {
             (precision.compareTo(TimeUnit.SECONDS) <= 0)
             && (Math.abs(delta) < 60L)
         ) {
-            return this.printRelativeSeconds(t1, t2, delta);
+            StringBuilder buffer = new StringBuilder();
+            this.printRelativeSeconds(t1, t2, delta, buffer);
+            return buffer.toString();
         }
 
         return this.printRelativeTime(t1, t2, tz, precision, maxRelativeUnit, formatter);
@@ -1362,15 +1369,17 @@ public final class PrettyTime {
             (amount == 1L)
             && unit.equals(CalendarUnit.DAYS)
         ) {
-            UnitPatterns patterns = UnitPatterns.of(this.locale);
-            String replacement = (duration.isNegative() ? patterns.getYesterdayWord() : patterns.getTomorrowWord());
+            String replacement = (
+                duration.isNegative()
+                ? this.patterns.getYesterdayWord()
+                : this.patterns.getTomorrowWord());
 
             if (!replacement.isEmpty()) {
                 return replacement;
             }
         }
 
-        String pattern = (
+        UnitPatterns.Template pattern = (
             duration.isNegative()
             ? this.getPastPattern(amount, unit)
             : this.getFuturePattern(amount, unit));
@@ -1378,24 +1387,97 @@ public final class PrettyTime {
 
     }
 
-    private String printRelativeSeconds(
+    /**
+     * <p>Yields a printer which formats time points relative to given fixed reference moment
+     * as duration in at most second precision or less. </p>
+     *
+     * <p>The local reference timestamp is determined only once so that printing many time points
+     * relative to the same moment (for example a list of notifications relative to &quot;now&quot;)
+     * is cheaper than calling {@code printRelative(...)} repeatedly. The reference clock of
+     * this instance is ignored by the printer. </p>
+     *
+     * @param   ref         reference moment
+     * @param   tz          time zone for translating to a local duration
+     * @return  immutable printer for relative times
+     * @see     #printRelative(UnixTime, Timezone, TimeUnit)
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Liefert einen Formatierer, der Zeitpunkte relativ zum angegebenen festen Referenzmoment
+     * als Dauer in maximal Sekundengenauigkeit ausgibt. </p>
+     *
+     * <p>Der lokale Referenzzeitstempel wird nur einmal bestimmt, so da&szlig; die Ausgabe vieler
+     * Zeitpunkte relativ zum selben Moment (zum Beispiel eine Liste von Benachrichtigungen relativ
+     * zu &quot;jetzt&quot;) g&uuml;nstiger als wiederholte Aufrufe von {@code printRelative(...)}
+     * ist. Die Referenzuhr dieser Instanz wird vom Formatierer ignoriert. </p>
+     *
+     * @param   ref         reference moment
+     * @param   tz          time zone for translating to a local duration
+     * @return  immutable printer for relative times
+     * @see     #printRelative(UnixTime, Timezone, TimeUnit)
+     * @since   4.37
+     */
+    public RelativePrinter relativeTo(
+        Moment ref,
+        Timezone tz
+    ) {
+
+        return this.relativeTo(ref, tz, TimeUnit.SECONDS);
+
+    }
+
+    /**
+     * <p>Yields a printer which formats time points relative to given fixed reference moment
+     * as duration in given precision or less. </p>
+     *
+     * @param   ref         reference moment
+     * @param   tz          time zone for translating to a local duration
+     * @param   precision   maximum precision of relative time (not more than seconds)
+     * @return  immutable printer for relative times
+     * @see     #printRelative(UnixTime, Timezone, TimeUnit)
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Liefert einen Formatierer, der Zeitpunkte relativ zum angegebenen festen Referenzmoment
+     * als Dauer in der angegebenen maximalen Genauigkeit ausgibt. </p>
+     *
+     * @param   ref         reference moment
+     * @param   tz          time zone for translating to a local duration
+     * @param   precision   maximum precision of relative time (not more than seconds)
+     * @return  immutable printer for relative times
+     * @see     #printRelative(UnixTime, Timezone, TimeUnit)
+     * @since   4.37
+     */
+    public RelativePrinter relativeTo(
+        Moment ref,
+        Timezone tz,
+        TimeUnit precision
+    ) {
+
+        return new RelativePrinter(this, ref, tz, precision);
+
+    }
+
+    private void printRelativeSeconds(
         Moment t1,
         Moment t2,
-        long delta
+        long delta,
+        StringBuilder buffer
     ) {
 
         if (t1.getPosixTime() >= START_1972 && t2.getPosixTime() >= START_1972) {
             delta = SI.SECONDS.between(t1, t2); // leap second correction
         }
         if (delta == 0) {
-            return UnitPatterns.of(this.locale).getNowWord();
+            buffer.append(this.patterns.getNowWord());
+            return;
         }
         long amount = Math.abs(delta);
-        String pattern = (
+        UnitPatterns.Template pattern = (
             (delta < 0)
             ? this.getPastPattern(amount, ClockUnit.SECONDS)
             : this.getFuturePattern(amount, ClockUnit.SECONDS));
-        return this.format(pattern, amount);
+        this.format(pattern, amount, buffer);
 
     }
 
@@ -1412,16 +1494,37 @@ public final class PrettyTime {
             PlainTimestamp.from(
                 ref,
                 tz.getOffset(ref));
+        StringBuilder buffer = new StringBuilder();
+
+        if (this.printRelativeTime(start, moment, tz, this.getMetric(tz), precision, maxRelativeUnit, buffer)) {
+            return buffer.toString();
+        }
+
+        return formatter.format(moment);
+
+    }
+
+    // returns false if the leading unit is bigger than maxRelativeUnit
+    private boolean printRelativeTime(
+        PlainTimestamp start,
+        Moment moment,
+        Timezone tz,
+        TimeMetric<IsoUnit, Duration<IsoUnit>> metric,
+        TimeUnit precision,
+        CalendarUnit maxRelativeUnit,
+        StringBuilder buffer
+    ) {
+
         PlainTimestamp end =
             PlainTimestamp.from(
                 moment,
                 tz.getOffset(moment));
 
-        IsoUnit[] units = (this.weekToDays ? TSP_UNITS : STD_UNITS);
-        Duration<IsoUnit> duration = Duration.in(tz, units).between(start, end);
+        Duration<IsoUnit> duration = metric.between(start, end);
 
         if (duration.isEmpty()) {
-            return this.getEmptyRelativeString(precision);
+            buffer.append(this.getEmptyRelativeString(precision));
+            return true;
         }
 
         TimeSpan.Item<IsoUnit> item = duration.getTotalLength().get(0);
@@ -1430,26 +1533,30 @@ public final class PrettyTime {
 
         if (unit instanceof ClockUnit) {
             if (5 - ((ClockUnit) unit).ordinal() < precision.ordinal()) {
-                return this.getEmptyRelativeString(precision);
+                buffer.append(this.getEmptyRelativeString(precision));
+                return true;
             }
         } else if (
             (maxRelativeUnit != null)
             && (Double.compare(unit.getLength(), maxRelativeUnit.getLength()) > 0)
         ) {
-            return formatter.format(moment);
+            return false;
         } else if (
             (amount == 1L)
             && unit.equals(CalendarUnit.DAYS)
         ) {
-            UnitPatterns patterns = UnitPatterns.of(this.locale);
-            String replacement = (duration.isNegative() ? patterns.getYesterdayWord() : patterns.getTomorrowWord());
+            String replacement = (
+                duration.isNegative()
+                ? this.patterns.getYesterdayWord()
+                : this.patterns.getTomorrowWord());
 
             if (!replacement.isEmpty()) {
-                return replacement;
+                buffer.append(replacement);
+                return true;
             }
         }
 
-        String pattern;
+        UnitPatterns.Template pattern;
 
         if (duration.isNegative()) {
             if (unit.isCalendrical()) {
@@ -1465,67 +1572,69 @@ public final class PrettyTime {
             }
         }
 
-        return this.format(pattern, amount);
+        this.format(pattern, amount, buffer);
+        return true;
 
     }
 
-    private String getEmptyRelativeString(TimeUnit precision) {
+    private TimeMetric<IsoUnit, Duration<IsoUnit>> getMetric(Timezone tz) {
+
+        IsoUnit[] units = (this.weekToDays ? TSP_UNITS : STD_UNITS);
+        return Duration.in(tz, units);
+
+    }
 
-        UnitPatterns patterns = UnitPatterns.of(this.locale);
+    private String getEmptyRelativeString(TimeUnit precision) {
 
         if (precision.equals(TimeUnit.DAYS)) {
-            String replacement = patterns.getTodayWord();
+            String replacement = this.patterns.getTodayWord();
 
             if (!replacement.isEmpty()) {
                 return replacement;
             }
         }
 
-        return patterns.getNowWord();
+        return this.patterns.getNowWord();
 
     }
 
-    private String getPastPattern(
+    private UnitPatterns.Template getPastPattern(
         long amount,
         CalendarUnit unit
     ) {
 
-        UnitPatterns patterns = UnitPatterns.of(this.locale);
         PluralCategory category = this.getCategory(amount);
-        return patterns.getPatternInPast(category, this.shortStyle, unit);
+        return this.patterns.getTemplateInPast(category, this.shortStyle, unit);
 
     }
 
-    private String getFuturePattern(
+    private UnitPatterns.Template getFuturePattern(
         long amount,
         CalendarUnit unit
     ) {
 
-        UnitPatterns patterns = UnitPatterns.of(this.locale);
         PluralCategory category = this.getCategory(amount);
-        return patterns.getPatternInFuture(category, this.shortStyle, unit);
+        return this.patterns.getTemplateInFuture(category, this.shortStyle, unit);
 
     }
 
-    private String getPastPattern(
+    private UnitPatterns.Template getPastPattern(
         long amount,
         ClockUnit unit
     ) {
 
-        UnitPatterns patterns = UnitPatterns.of(this.locale);
         PluralCategory category = this.getCategory(amount);
-        return patterns.getPatternInPast(category, this.shortStyle, unit);
+        return this.patterns.getTemplateInPast(category, this.shortStyle, unit);
 
     }
 
-    private String getFuturePattern(
+    private UnitPatterns.Template getFuturePattern(
         long amount,
         ClockUnit unit
     ) {
 
-        UnitPatterns patterns = UnitPatterns.of(this.locale);
         PluralCategory category = this.getCategory(amount);
-        return patterns.getPatternInFuture(category, this.shortStyle, unit);
+        return this.patterns.getTemplateInFuture(category, this.shortStyle, unit);
 
     }
 
@@ -1699,50 +1808,246 @@ public final class PrettyTime {
     }
 
     private String format(
-        String pattern,
+        UnitPatterns.Template template,
         long amount
     ) {
 
-        for (int i = 0, n = pattern.length(); i < n; i++) {
-            if (
-                (i < n - 2)
-                && (pattern.charAt(i) == '{')
-                && (pattern.charAt(i + 1) == '0')
-                && (pattern.charAt(i + 2) == '}')
-            ) {
-                StringBuilder sb = new StringBuilder(pattern);
-                sb.replace(i, i + 3, this.format(amount));
-                return sb.toString();
+        String prefix = template.getPrefix();
+
+        if (!template.hasPlaceholder()) {
+            return ((amount < 0) ? this.minusSign + prefix : prefix);
+        }
+
+        StringBuilder sb = new StringBuilder(prefix.length() + template.getSuffix().length() + 20);
+        this.format(template, amount, sb);
+        return sb.toString();
+
+    }
+
+    private void format(
+        UnitPatterns.Template template,
+        long amount,
+        StringBuilder buffer
+    ) {
+
+        if (!template.hasPlaceholder()) {
+            if (amount < 0) {
+                buffer.append(this.minusSign);
             }
+            buffer.append(template.getPrefix());
+            return;
         }
 
+        buffer.append(template.getPrefix());
+
         if (amount < 0) {
-            return this.minusSign + pattern;
+            buffer.append(this.minusSign);
         }
 
-        return pattern;
+        int start = buffer.length();
+        buffer.append(Math.abs(amount));
+        char zero = this.zeroDigit;
+
+        if (zero != '0') {
+            for (int i = start, n = buffer.length(); i < n; i++) {
+                buffer.setCharAt(i, (char) (buffer.charAt(i) + zero - '0'));
+            }
+        }
+
+        buffer.append(template.getSuffix());
 
     }
 
-    private String format(long amount) {
+    //~ Innere Klassen ----------------------------------------------------
 
-        String num = String.valueOf(Math.abs(amount));
-        char zero = this.zeroDigit;
-        StringBuilder sb = new StringBuilder();
+    /**
+     * <p>Prints time points relative to a fixed reference moment. </p>
+     *
+     * @see     PrettyTime#relativeTo(Moment, Timezone)
+     * @see     PrettyTime#relativeTo(Moment, Timezone, TimeUnit)
+     * @since   4.37
+     * @doctags.concurrency {immutable}
+     */
+    /*[deutsch]
+     * <p>Formatiert Zeitpunkte relativ zu einem festen Referenzmoment. </p>
+     *
+     * @see     PrettyTime#relativeTo(Moment, Timezone)
+     * @see     PrettyTime#relativeTo(Moment, Timezone, TimeUnit)
+     * @since   4.37
+     * @doctags.concurrency {immutable}
+     */
+    public static final class RelativePrinter {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final PrettyTime pt;
+        private final Moment ref;
+        private final Timezone tz;
+        private final TimeUnit precision;
+        private final ZonalOffset offset;
+        private final PlainTimestamp start;
+        private final TimeMetric<IsoUnit, Duration<IsoUnit>> metric;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private RelativePrinter(
+            PrettyTime pt,
+            Moment ref,
+            Timezone tz,
+            TimeUnit precision
+        ) {
+            super();
+
+            if (ref == null) {
+                throw new NullPointerException("Missing reference moment.");
+            } else if (precision == null) {
+                throw new NullPointerException("Missing precision.");
+            }
+
+            this.pt = pt;
+            this.ref = ref;
+            this.tz = tz;
+            this.precision = precision;
+            this.offset = tz.getOffset(ref);
+            this.start = PlainTimestamp.from(ref, this.offset);
+            this.metric = pt.getMetric(tz);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Yields the reference moment. </p>
+         *
+         * @return  Moment
+         */
+        /*[deutsch]
+         * <p>Liefert den Referenzmoment. </p>
+         *
+         * @return  Moment
+         */
+        public Moment getReference() {
+
+            return this.ref;
+
+        }
+
+        /**
+         * <p>Formats given time point relative to the reference moment. </p>
+         *
+         * @param   moment      relative time point
+         * @return  formatted output of relative time, either in past or in future
+         */
+        /*[deutsch]
+         * <p>Formatiert den angegebenen Zeitpunkt relativ zum Referenzmoment. </p>
+         *
+         * @param   moment      relative time point
+         * @return  formatted output of relative time, either in past or in future
+         */
+        public String print(UnixTime moment) {
+
+            StringBuilder buffer = new StringBuilder();
+            this.print(moment, buffer);
+            return buffer.toString();
 
-        if (amount < 0) {
-            sb.append(this.minusSign);
         }
 
-        for (int i = 0, n = num.length(); i < n; i++) {
-            char c = num.charAt(i);
-            if (zero != '0') {
-                c = (char) (c + zero - '0');
+        /**
+         * <p>Formats given time point relative to the reference moment and appends
+         * the result to given buffer. </p>
+         *
+         * @param   moment      relative time point
+         * @param   buffer      the buffer the formatted output will be appended to
+         */
+        /*[deutsch]
+         * <p>Formatiert den angegebenen Zeitpunkt relativ zum Referenzmoment und
+         * h&auml;ngt das Ergebnis an den angegebenen Puffer an. </p>
+         *
+         * @param   moment      relative time point
+         * @param   buffer      the buffer the formatted output will be appended to
+         */
+        public void print(
+            UnixTime moment,
+            StringBuilder buffer
+        ) {
+
+            Moment t2 = Moment.from(moment);
+            long delta = this.ref.until(t2, TimeUnit.SECONDS);
+
+            if (
+                (this.precision.compareTo(TimeUnit.SECONDS) <= 0)
+                && (Math.abs(delta) < 60L)
+            ) {
+                this.pt.printRelativeSeconds(this.ref, t2, delta, buffer);
+            } else if (
+                (Math.abs(delta) < 86400L)
+                && this.offset.equals(this.tz.getOffset(t2))
+            ) {
+                // same offset and less than one day: only clock units are relevant
+                long seconds = Math.abs(delta);
+                ClockUnit unit;
+                long amount;
+
+                if (seconds >= 3600L) {
+                    unit = HOURS;
+                    amount = seconds / 3600L;
+                } else if (seconds >= 60L) {
+                    unit = MINUTES;
+                    amount = seconds / 60L;
+                } else {
+                    unit = SECONDS;
+                    amount = seconds;
+                }
+
+                if ((amount == 0) || (5 - unit.ordinal() < this.precision.ordinal())) {
+                    buffer.append(this.pt.getEmptyRelativeString(this.precision));
+                } else {
+                    UnitPatterns.Template pattern = (
+                        (delta < 0)
+                        ? this.pt.getPastPattern(amount, unit)
+                        : this.pt.getFuturePattern(amount, unit));
+                    this.pt.format(pattern, amount, buffer);
+                }
+            } else {
+                this.pt.printRelativeTime(this.start, t2, this.tz, this.metric, this.precision, null, buffer);
             }
-            sb.append(c);
+
         }
 
-        return sb.toString();
+        /**
+         * <p>Formats all given time points relative to the reference moment and appends
+         * the results to given buffer. </p>
+         *
+         * @param   moments     relative time points
+         * @param   buffer      the buffer the formatted output will be appended to
+         * @param   separator   text to be inserted between two formatted time points
+         */
+        /*[deutsch]
+         * <p>Formatiert alle angegebenen Zeitpunkte relativ zum Referenzmoment und
+         * h&auml;ngt die Ergebnisse an den angegebenen Puffer an. </p>
+         *
+         * @param   moments     relative time points
+         * @param   buffer      the buffer the formatted output will be appended to
+         * @param   separator   text to be inserted between two formatted time points
+         */
+        public void printAll(
+            Iterable<? extends UnixTime> moments,
+            StringBuilder buffer,
+            String separator
+        ) {
+
+            boolean first = true;
+
+            for (UnixTime moment : moments) {
+                if (first) {
+                    first = false;
+                } else {
+                    buffer.append(separator);
+                }
+                this.print(moment, buffer);
+            }
+
+        }
 
     }
 
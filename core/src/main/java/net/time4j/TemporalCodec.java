@@ -0,0 +1,1038 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (TemporalCodec.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.LeapSeconds;
+import net.time4j.scale.TimeScale;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * <p>Encodes the basic temporal types of Time4J as primitive values suitable for compact (off-heap)
+ * storage. </p>
+ *
+ * <p>The encoding is stable and preserves the natural order: Comparing two encoded values as signed
+ * primitives yields the same result as the method {@code compareTo()} of the original objects.
+ * Calendar dates and wall times are encoded as single {@code long}-values. Timestamps and moments
+ * need a {@code long}-value for the seconds and an {@code int}-value for the fraction part which
+ * must be compared secondarily. Overview: </p>
+ *
+ * <table border="1" style="margin-top:5px;">
+ *  <caption>Encoding schema</caption>
+ *  <tr><th>type</th><th>primary long</th><th>secondary int</th><th>bytes</th></tr>
+ *  <tr><td>PlainDate</td><td>year &lt;&lt; 9 | month &lt;&lt; 5 | day-of-month</td><td>-</td><td>8</td></tr>
+ *  <tr><td>PlainTime</td><td>nano-of-day (24:00 as 86400 * 10^9)</td><td>-</td><td>8</td></tr>
+ *  <tr><td>PlainTimestamp</td><td>local seconds since 1970-01-01T00</td><td>nanosecond</td><td>12</td></tr>
+ *  <tr><td>Moment</td><td>POSIX time</td><td>nanosecond (+ 2^30 if leap second)</td><td>12</td></tr>
+ * </table>
+ *
+ * <p>The {@code ByteBuffer}-related methods use the byte order of given buffer. The nested flyweight
+ * views read the fields directly from a buffer without creating any temporal objects. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.37
+ */
+/*[deutsch]
+ * <p>Kodiert die grundlegenden Zeittypen von Time4J als primitive Werte, die sich f&uuml;r eine
+ * kompakte Speicherung (auch au&szlig;erhalb des Heap) eignen. </p>
+ *
+ * <p>Die Kodierung ist stabil und erh&auml;lt die nat&uuml;rliche Ordnung: Der Vergleich zweier
+ * kodierter Werte als vorzeichenbehaftete Primitive liefert das gleiche Ergebnis wie die Methode
+ * {@code compareTo()} der Ausgangsobjekte. Kalenderdaten und Uhrzeiten werden als einzelne
+ * {@code long}-Werte kodiert. Zeitstempel und Momente brauchen einen {@code long}-Wert f&uuml;r
+ * die Sekunden und einen {@code int}-Wert f&uuml;r den Bruchteil, der nachrangig zu vergleichen
+ * ist. &Uuml;bersicht: </p>
+ *
+ * <table border="1" style="margin-top:5px;">
+ *  <caption>Kodierungsschema</caption>
+ *  <tr><th>Typ</th><th>long (prim&auml;r)</th><th>int (sekund&auml;r)</th><th>Bytes</th></tr>
+ *  <tr><td>PlainDate</td><td>year &lt;&lt; 9 | month &lt;&lt; 5 | day-of-month</td><td>-</td><td>8</td></tr>
+ *  <tr><td>PlainTime</td><td>nano-of-day (24:00 als 86400 * 10^9)</td><td>-</td><td>8</td></tr>
+ *  <tr><td>PlainTimestamp</td><td>lokale Sekunden seit 1970-01-01T00</td><td>nanosecond</td><td>12</td></tr>
+ *  <tr><td>Moment</td><td>POSIX-Zeit</td><td>nanosecond (+ 2^30 falls Schaltsekunde)</td><td>12</td></tr>
+ * </table>
+ *
+ * <p>Die {@code ByteBuffer}-bezogenen Methoden verwenden die Byte-Reihenfolge des angegebenen
+ * Puffers. Die eingebetteten Flyweight-Sichten lesen die Felder direkt aus einem Puffer, ohne
+ * irgendwelche Zeitobjekte zu erzeugen. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.37
+ */
+public final class TemporalCodec {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * <p>Count of bytes needed for an encoded calendar date. </p>
+     */
+    /*[deutsch]
+     * <p>Anzahl der Bytes f&uuml;r ein kodiertes Kalenderdatum. </p>
+     */
+    public static final int DATE_BYTES = 8;
+
+    /**
+     * <p>Count of bytes needed for an encoded wall time. </p>
+     */
+    /*[deutsch]
+     * <p>Anzahl der Bytes f&uuml;r eine kodierte Uhrzeit. </p>
+     */
+    public static final int TIME_BYTES = 8;
+
+    /**
+     * <p>Count of bytes needed for an encoded local timestamp. </p>
+     */
+    /*[deutsch]
+     * <p>Anzahl der Bytes f&uuml;r einen kodierten lokalen Zeitstempel. </p>
+     */
+    public static final int TIMESTAMP_BYTES = 12;
+
+    /**
+     * <p>Count of bytes needed for an encoded moment. </p>
+     */
+    /*[deutsch]
+     * <p>Anzahl der Bytes f&uuml;r einen kodierten Moment. </p>
+     */
+    public static final int MOMENT_BYTES = 12;
+
+    private static final int LEAP_SECOND_FLAG = 0x40000000;
+    private static final int MRD = 1_000_000_000;
+    private static final long MAX_NANO_OF_DAY = 86_400L * MRD;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private TemporalCodec() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Encodes given calendar date as order-preserving {@code long}. </p>
+     *
+     * @param   date    calendar date to be encoded
+     * @return  packed date
+     * @see     #unpackDate(long)
+     */
+    /*[deutsch]
+     * <p>Kodiert das angegebene Kalenderdatum als ordnungserhaltenden {@code long}-Wert. </p>
+     *
+     * @param   date    calendar date to be encoded
+     * @return  packed date
+     * @see     #unpackDate(long)
+     */
+    public static long packDate(PlainDate date) {
+
+        return packDate(date.getYear(), date.getMonth(), date.getDayOfMonth());
+
+    }
+
+    /**
+     * <p>Decodes given packed date. </p>
+     *
+     * @param   packedDate  encoded calendar date
+     * @return  PlainDate
+     * @throws  IllegalArgumentException if given value does not represent a valid date
+     * @see     #packDate(PlainDate)
+     */
+    /*[deutsch]
+     * <p>Dekodiert das angegebene kodierte Datum. </p>
+     *
+     * @param   packedDate  encoded calendar date
+     * @return  PlainDate
+     * @throws  IllegalArgumentException if given value does not represent a valid date
+     * @see     #packDate(PlainDate)
+     */
+    public static PlainDate unpackDate(long packedDate) {
+
+        return PlainDate.of(readYear(packedDate), readMonth(packedDate), readDayOfMonth(packedDate));
+
+    }
+
+    /**
+     * <p>Obtains the proleptic iso year of given packed date. </p>
+     *
+     * @param   packedDate  encoded calendar date
+     * @return  proleptic iso year
+     */
+    /*[deutsch]
+     * <p>Liefert das proleptische ISO-Jahr des angegebenen kodierten Datums. </p>
+     *
+     * @param   packedDate  encoded calendar date
+     * @return  proleptic iso year
+     */
+    public static int readYear(long packedDate) {
+
+        return (int) (packedDate >> 9);
+
+    }
+
+    /**
+     * <p>Obtains the gregorian month of given packed date. </p>
+     *
+     * @param   packedDate  encoded calendar date
+     * @return  gregorian month (1-12)
+     */
+    /*[deutsch]
+     * <p>Liefert den gregorianischen Monat des angegebenen kodierten Datums. </p>
+     *
+     * @param   packedDate  encoded calendar date
+     * @return  gregorian month (1-12)
+     */
+    public static int readMonth(long packedDate) {
+
+        return (int) ((packedDate >> 5) & 0xF);
+
+    }
+
+    /**
+     * <p>Obtains the day of month of given packed date. </p>
+     *
+     * @param   packedDate  encoded calendar date
+     * @return  day of month (1-31)
+     */
+    /*[deutsch]
+     * <p>Liefert den Tag des Monats des angegebenen kodierten Datums. </p>
+     *
+     * @param   packedDate  encoded calendar date
+     * @return  day of month (1-31)
+     */
+    public static int readDayOfMonth(long packedDate) {
+
+        return (int) (packedDate & 0x1F);
+
+    }
+
+    /**
+     * <p>Encodes given wall time as order-preserving {@code long} (nano of day). </p>
+     *
+     * @param   time    wall time to be encoded
+     * @return  packed time
+     * @see     #unpackTime(long)
+     */
+    /*[deutsch]
+     * <p>Kodiert die angegebene Uhrzeit als ordnungserhaltenden {@code long}-Wert (Nanosekunde
+     * des Tages). </p>
+     *
+     * @param   time    wall time to be encoded
+     * @return  packed time
+     * @see     #unpackTime(long)
+     */
+    public static long packTime(PlainTime time) {
+
+        return time.getNanoOfDay();
+
+    }
+
+    /**
+     * <p>Decodes given packed time. </p>
+     *
+     * @param   packedTime  encoded wall time
+     * @return  PlainTime
+     * @throws  IllegalArgumentException if given value is out of range
+     * @see     #packTime(PlainTime)
+     */
+    /*[deutsch]
+     * <p>Dekodiert die angegebene kodierte Uhrzeit. </p>
+     *
+     * @param   packedTime  encoded wall time
+     * @return  PlainTime
+     * @throws  IllegalArgumentException if given value is out of range
+     * @see     #packTime(PlainTime)
+     */
+    public static PlainTime unpackTime(long packedTime) {
+
+        if ((packedTime < 0) || (packedTime > MAX_NANO_OF_DAY)) {
+            throw new IllegalArgumentException("Nano of day out of range: " + packedTime);
+        }
+
+        return PlainTime.createFromNanos(packedTime);
+
+    }
+
+    /**
+     * <p>Encodes the primary part of given local timestamp as count of local seconds since
+     * [1970-01-01T00:00]. </p>
+     *
+     * @param   tsp     local timestamp to be encoded
+     * @return  local seconds (primary part)
+     * @see     #getNanos(PlainTimestamp)
+     * @see     #unpackTimestamp(long, int)
+     */
+    /*[deutsch]
+     * <p>Kodiert den prim&auml;ren Teil des angegebenen lokalen Zeitstempels als Anzahl der
+     * lokalen Sekunden seit [1970-01-01T00:00]. </p>
+     *
+     * @param   tsp     local timestamp to be encoded
+     * @return  local seconds (primary part)
+     * @see     #getNanos(PlainTimestamp)
+     * @see     #unpackTimestamp(long, int)
+     */
+    public static long getSeconds(PlainTimestamp tsp) {
+
+        long days = EpochDays.UNIX.transform(tsp.getCalendarDate().getDaysSinceUTC(), EpochDays.UTC);
+        return days * 86400 + tsp.getWallTime().getNanoOfDay() / MRD;
+
+    }
+
+    /**
+     * <p>Encodes the secondary part of given local timestamp. </p>
+     *
+     * @param   tsp     local timestamp to be encoded
+     * @return  nanosecond (secondary part)
+     * @see     #getSeconds(PlainTimestamp)
+     * @see     #unpackTimestamp(long, int)
+     */
+    /*[deutsch]
+     * <p>Kodiert den sekund&auml;ren Teil des angegebenen lokalen Zeitstempels. </p>
+     *
+     * @param   tsp     local timestamp to be encoded
+     * @return  nanosecond (secondary part)
+     * @see     #getSeconds(PlainTimestamp)
+     * @see     #unpackTimestamp(long, int)
+     */
+    public static int getNanos(PlainTimestamp tsp) {
+
+        return tsp.getNanosecond();
+
+    }
+
+    /**
+     * <p>Decodes given packed local timestamp. </p>
+     *
+     * @param   seconds     local seconds since [1970-01-01T00:00]
+     * @param   nanos       nanosecond
+     * @return  PlainTimestamp
+     * @throws  IllegalArgumentException if any argument is out of range
+     * @see     #getSeconds(PlainTimestamp)
+     * @see     #getNanos(PlainTimestamp)
+     */
+    /*[deutsch]
+     * <p>Dekodiert den angegebenen kodierten lokalen Zeitstempel. </p>
+     *
+     * @param   seconds     local seconds since [1970-01-01T00:00]
+     * @param   nanos       nanosecond
+     * @return  PlainTimestamp
+     * @throws  IllegalArgumentException if any argument is out of range
+     * @see     #getSeconds(PlainTimestamp)
+     * @see     #getNanos(PlainTimestamp)
+     */
+    public static PlainTimestamp unpackTimestamp(
+        long seconds,
+        int nanos
+    ) {
+
+        if ((nanos < 0) || (nanos >= MRD)) {
+            throw new IllegalArgumentException("Nanosecond out of range: " + nanos);
+        }
+
+        PlainDate date = PlainDate.of(MathUtils.floorDivide(seconds, 86400), EpochDays.UNIX);
+        PlainTime time = PlainTime.createFromNanos(MathUtils.floorModulo(seconds, 86400) * (long) MRD + nanos);
+        return PlainTimestamp.of(date, time);
+
+    }
+
+    /**
+     * <p>Encodes the primary part of given moment as POSIX time. </p>
+     *
+     * @param   moment  moment to be encoded
+     * @return  POSIX time (primary part)
+     * @see     #getNanos(Moment)
+     * @see     #unpackMoment(long, int)
+     */
+    /*[deutsch]
+     * <p>Kodiert den prim&auml;ren Teil des angegebenen Moments als POSIX-Zeit. </p>
+     *
+     * @param   moment  moment to be encoded
+     * @return  POSIX time (primary part)
+     * @see     #getNanos(Moment)
+     * @see     #unpackMoment(long, int)
+     */
+    public static long getSeconds(Moment moment) {
+
+        return moment.getPosixTime();
+
+    }
+
+    /**
+     * <p>Encodes the secondary part of given moment as nanosecond with the additional flag
+     * {@code 2^30} in case of a leap second. </p>
+     *
+     * @param   moment  moment to be encoded
+     * @return  nanosecond with leap second flag (secondary part)
+     * @see     #getSeconds(Moment)
+     * @see     #unpackMoment(long, int)
+     */
+    /*[deutsch]
+     * <p>Kodiert den sekund&auml;ren Teil des angegebenen Moments als Nanosekunde mit dem
+     * zus&auml;tzlichen Merkmal {@code 2^30} im Fall einer Schaltsekunde. </p>
+     *
+     * @param   moment  moment to be encoded
+     * @return  nanosecond with leap second flag (secondary part)
+     * @see     #getSeconds(Moment)
+     * @see     #unpackMoment(long, int)
+     */
+    public static int getNanos(Moment moment) {
+
+        int nanos = moment.getNanosecond();
+        return (moment.isLeapSecond() ? (nanos | LEAP_SECOND_FLAG) : nanos);
+
+    }
+
+    /**
+     * <p>Decodes given packed moment. </p>
+     *
+     * @param   posixTime   POSIX time
+     * @param   nanos       nanosecond with optional leap second flag
+     * @return  Moment
+     * @throws  IllegalArgumentException if any argument is out of range or if the leap second
+     *          flag does not match any registered leap second
+     * @see     #getSeconds(Moment)
+     * @see     #getNanos(Moment)
+     */
+    /*[deutsch]
+     * <p>Dekodiert den angegebenen kodierten Moment. </p>
+     *
+     * @param   posixTime   POSIX time
+     * @param   nanos       nanosecond with optional leap second flag
+     * @return  Moment
+     * @throws  IllegalArgumentException if any argument is out of range or if the leap second
+     *          flag does not match any registered leap second
+     * @see     #getSeconds(Moment)
+     * @see     #getNanos(Moment)
+     */
+    public static Moment unpackMoment(
+        long posixTime,
+        int nanos
+    ) {
+
+        Moment moment = Moment.of(posixTime, nanos & ~LEAP_SECOND_FLAG, TimeScale.POSIX);
+
+        if ((nanos & LEAP_SECOND_FLAG) != 0) {
+            if (!LeapSeconds.getInstance().isEnabled()) {
+                throw new IllegalArgumentException("Leap seconds are not supported by configuration.");
+            }
+            Moment ls = Moment.of(moment.getElapsedTime(TimeScale.UTC) + 1, moment.getNanosecond(), TimeScale.UTC);
+            if (!ls.isLeapSecond()) {
+                throw new IllegalArgumentException("Not registered as leap second event: " + moment);
+            }
+            return ls;
+        }
+
+        return moment;
+
+    }
+
+    /**
+     * <p>Writes given calendar date at the current position of given buffer. </p>
+     *
+     * @param   buffer  target buffer
+     * @param   date    calendar date to be written
+     * @see     #readDate(ByteBuffer)
+     */
+    /*[deutsch]
+     * <p>Schreibt das angegebene Kalenderdatum an die aktuelle Position des Puffers. </p>
+     *
+     * @param   buffer  target buffer
+     * @param   date    calendar date to be written
+     * @see     #readDate(ByteBuffer)
+     */
+    public static void write(
+        ByteBuffer buffer,
+        PlainDate date
+    ) {
+
+        buffer.putLong(packDate(date));
+
+    }
+
+    /**
+     * <p>Writes given wall time at the current position of given buffer. </p>
+     *
+     * @param   buffer  target buffer
+     * @param   time    wall time to be written
+     * @see     #readTime(ByteBuffer)
+     */
+    /*[deutsch]
+     * <p>Schreibt die angegebene Uhrzeit an die aktuelle Position des Puffers. </p>
+     *
+     * @param   buffer  target buffer
+     * @param   time    wall time to be written
+     * @see     #readTime(ByteBuffer)
+     */
+    public static void write(
+        ByteBuffer buffer,
+        PlainTime time
+    ) {
+
+        buffer.putLong(packTime(time));
+
+    }
+
+    /**
+     * <p>Writes given local timestamp at the current position of given buffer. </p>
+     *
+     * @param   buffer  target buffer
+     * @param   tsp     local timestamp to be written
+     * @see     #readTimestamp(ByteBuffer)
+     */
+    /*[deutsch]
+     * <p>Schreibt den angegebenen lokalen Zeitstempel an die aktuelle Position des Puffers. </p>
+     *
+     * @param   buffer  target buffer
+     * @param   tsp     local timestamp to be written
+     * @see     #readTimestamp(ByteBuffer)
+     */
+    public static void write(
+        ByteBuffer buffer,
+        PlainTimestamp tsp
+    ) {
+
+        buffer.putLong(getSeconds(tsp));
+        buffer.putInt(getNanos(tsp));
+
+    }
+
+    /**
+     * <p>Writes given moment at the current position of given buffer. </p>
+     *
+     * @param   buffer  target buffer
+     * @param   moment  moment to be written
+     * @see     #readMoment(ByteBuffer)
+     */
+    /*[deutsch]
+     * <p>Schreibt den angegebenen Moment an die aktuelle Position des Puffers. </p>
+     *
+     * @param   buffer  target buffer
+     * @param   moment  moment to be written
+     * @see     #readMoment(ByteBuffer)
+     */
+    public static void write(
+        ByteBuffer buffer,
+        Moment moment
+    ) {
+
+        buffer.putLong(getSeconds(moment));
+        buffer.putInt(getNanos(moment));
+
+    }
+
+    /**
+     * <p>Reads a calendar date at the current position of given buffer. </p>
+     *
+     * @param   buffer  source buffer
+     * @return  PlainDate
+     * @throws  IllegalArgumentException if the buffer does not contain a valid encoded date
+     */
+    /*[deutsch]
+     * <p>Liest ein Kalenderdatum an der aktuellen Position des Puffers. </p>
+     *
+     * @param   buffer  source buffer
+     * @return  PlainDate
+     * @throws  IllegalArgumentException if the buffer does not contain a valid encoded date
+     */
+    public static PlainDate readDate(ByteBuffer buffer) {
+
+        return unpackDate(buffer.getLong());
+
+    }
+
+    /**
+     * <p>Reads a wall time at the current position of given buffer. </p>
+     *
+     * @param   buffer  source buffer
+     * @return  PlainTime
+     * @throws  IllegalArgumentException if the buffer does not contain a valid encoded time
+     */
+    /*[deutsch]
+     * <p>Liest eine Uhrzeit an der aktuellen Position des Puffers. </p>
+     *
+     * @param   buffer  source buffer
+     * @return  PlainTime
+     * @throws  IllegalArgumentException if the buffer does not contain a valid encoded time
+     */
+    public static PlainTime readTime(ByteBuffer buffer) {
+
+        return unpackTime(buffer.getLong());
+
+    }
+
+    /**
+     * <p>Reads a local timestamp at the current position of given buffer. </p>
+     *
+     * @param   buffer  source buffer
+     * @return  PlainTimestamp
+     * @throws  IllegalArgumentException if the buffer does not contain a valid encoded timestamp
+     */
+    /*[deutsch]
+     * <p>Liest einen lokalen Zeitstempel an der aktuellen Position des Puffers. </p>
+     *
+     * @param   buffer  source buffer
+     * @return  PlainTimestamp
+     * @throws  IllegalArgumentException if the buffer does not contain a valid encoded timestamp
+     */
+    public static PlainTimestamp readTimestamp(ByteBuffer buffer) {
+
+        long seconds = buffer.getLong();
+        return unpackTimestamp(seconds, buffer.getInt());
+
+    }
+
+    /**
+     * <p>Reads a moment at the current position of given buffer. </p>
+     *
+     * @param   buffer  source buffer
+     * @return  Moment
+     * @throws  IllegalArgumentException if the buffer does not contain a valid encoded moment
+     */
+    /*[deutsch]
+     * <p>Liest einen Moment an der aktuellen Position des Puffers. </p>
+     *
+     * @param   buffer  source buffer
+     * @return  Moment
+     * @throws  IllegalArgumentException if the buffer does not contain a valid encoded moment
+     */
+    public static Moment readMoment(ByteBuffer buffer) {
+
+        long posixTime = buffer.getLong();
+        return unpackMoment(posixTime, buffer.getInt());
+
+    }
+
+    private static long packDate(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+
+        return ((((long) year) << 9) | (month << 5) | dayOfMonth);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Flyweight view on encoded calendar dates stored in a buffer with fixed record size. </p>
+     *
+     * <p>Instances are mutable and can be moved to another record without any allocation. </p>
+     *
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Flyweight-Sicht auf kodierte Kalenderdaten, die in einem Puffer mit fester
+     * Datensatzgr&ouml;&szlig;e gespeichert sind. </p>
+     *
+     * <p>Instanzen sind ver&auml;nderlich und k&ouml;nnen ohne Objekterzeugung zu einem anderen
+     * Datensatz bewegt werden. </p>
+     *
+     * @since   4.37
+     */
+    public static final class DateView {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int stride;
+
+        private int index = 0;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        /**
+         * <p>Creates a new view. </p>
+         *
+         * @param   buffer      source buffer
+         * @param   offset      byte offset of encoded date inside the first record
+         * @param   stride      record size in bytes (at least {@link #DATE_BYTES})
+         * @throws  IllegalArgumentException if the offset is negative or the stride is too small
+         */
+        /*[deutsch]
+         * <p>Erzeugt eine neue Sicht. </p>
+         *
+         * @param   buffer      source buffer
+         * @param   offset      byte offset of encoded date inside the first record
+         * @param   stride      record size in bytes (at least {@link #DATE_BYTES})
+         * @throws  IllegalArgumentException if the offset is negative or the stride is too small
+         */
+        public DateView(
+            ByteBuffer buffer,
+            int offset,
+            int stride
+        ) {
+            super();
+
+            if (buffer == null) {
+                throw new NullPointerException("Missing buffer.");
+            } else if (offset < 0) {
+                throw new IllegalArgumentException("Negative offset: " + offset);
+            } else if (stride < DATE_BYTES) {
+                throw new IllegalArgumentException("Record size too small: " + stride);
+            }
+
+            this.buffer = buffer;
+            this.offset = offset;
+            this.stride = stride;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Moves this view to the record with given index. </p>
+         *
+         * @param   index   record index
+         * @return  this view
+         */
+        /*[deutsch]
+         * <p>Bewegt diese Sicht zum Datensatz mit dem angegebenen Index. </p>
+         *
+         * @param   index   record index
+         * @return  this view
+         */
+        public DateView moveTo(int index) {
+
+            this.index = index;
+            return this;
+
+        }
+
+        /**
+         * <p>Yields the count of records available in the underlying buffer. </p>
+         *
+         * @return  count of records
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der verf&uuml;gbaren Datens&auml;tze im zugrundeliegenden Puffer. </p>
+         *
+         * @return  count of records
+         */
+        public int size() {
+
+            return (this.buffer.limit() - this.offset + this.stride - DATE_BYTES) / this.stride;
+
+        }
+
+        /**
+         * <p>Yields the encoded date of current record. </p>
+         *
+         * @return  packed date
+         */
+        /*[deutsch]
+         * <p>Liefert das kodierte Datum des aktuellen Datensatzes. </p>
+         *
+         * @return  packed date
+         */
+        public long getPacked() {
+
+            return this.buffer.getLong(this.offset + this.index * this.stride);
+
+        }
+
+        /**
+         * <p>Yields the year of current record. </p>
+         *
+         * @return  proleptic iso year
+         */
+        /*[deutsch]
+         * <p>Liefert das Jahr des aktuellen Datensatzes. </p>
+         *
+         * @return  proleptic iso year
+         */
+        public int getYear() {
+
+            return readYear(this.getPacked());
+
+        }
+
+        /**
+         * <p>Yields the month of current record. </p>
+         *
+         * @return  gregorian month (1-12)
+         */
+        /*[deutsch]
+         * <p>Liefert den Monat des aktuellen Datensatzes. </p>
+         *
+         * @return  gregorian month (1-12)
+         */
+        public int getMonth() {
+
+            return readMonth(this.getPacked());
+
+        }
+
+        /**
+         * <p>Yields the day of month of current record. </p>
+         *
+         * @return  day of month (1-31)
+         */
+        /*[deutsch]
+         * <p>Liefert den Tag des Monats des aktuellen Datensatzes. </p>
+         *
+         * @return  day of month (1-31)
+         */
+        public int getDayOfMonth() {
+
+            return readDayOfMonth(this.getPacked());
+
+        }
+
+        /**
+         * <p>Yields the days since UTC epoch [1972-01-01] of current record. </p>
+         *
+         * @return  epoch days relative to UTC epoch
+         */
+        /*[deutsch]
+         * <p>Liefert die Tage seit der UTC-Epoche [1972-01-01] des aktuellen Datensatzes. </p>
+         *
+         * @return  epoch days relative to UTC epoch
+         */
+        public long getDaysSinceEpochUTC() {
+
+            long packed = this.getPacked();
+            long mjd = GregorianMath.toMJD(readYear(packed), readMonth(packed), readDayOfMonth(packed));
+            return EpochDays.UTC.transform(mjd, EpochDays.MODIFIED_JULIAN_DATE);
+
+        }
+
+        /**
+         * <p>Creates a calendar date object for current record. </p>
+         *
+         * @return  PlainDate
+         */
+        /*[deutsch]
+         * <p>Erzeugt ein Kalenderdatumsobjekt f&uuml;r den aktuellen Datensatz. </p>
+         *
+         * @return  PlainDate
+         */
+        public PlainDate toDate() {
+
+            return unpackDate(this.getPacked());
+
+        }
+
+    }
+
+    /**
+     * <p>Flyweight view on encoded moments stored in a buffer with fixed record size. </p>
+     *
+     * <p>Instances are mutable and can be moved to another record without any allocation. </p>
+     *
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Flyweight-Sicht auf kodierte Momente, die in einem Puffer mit fester
+     * Datensatzgr&ouml;&szlig;e gespeichert sind. </p>
+     *
+     * <p>Instanzen sind ver&auml;nderlich und k&ouml;nnen ohne Objekterzeugung zu einem anderen
+     * Datensatz bewegt werden. </p>
+     *
+     * @since   4.37
+     */
+    public static final class MomentView {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int stride;
+
+        private int index = 0;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        /**
+         * <p>Creates a new view. </p>
+         *
+         * @param   buffer      source buffer
+         * @param   offset      byte offset of encoded moment inside the first record
+         * @param   stride      record size in bytes (at least {@link #MOMENT_BYTES})
+         * @throws  IllegalArgumentException if the offset is negative or the stride is too small
+         */
+        /*[deutsch]
+         * <p>Erzeugt eine neue Sicht. </p>
+         *
+         * @param   buffer      source buffer
+         * @param   offset      byte offset of encoded moment inside the first record
+         * @param   stride      record size in bytes (at least {@link #MOMENT_BYTES})
+         * @throws  IllegalArgumentException if the offset is negative or the stride is too small
+         */
+        public MomentView(
+            ByteBuffer buffer,
+            int offset,
+            int stride
+        ) {
+            super();
+
+            if (buffer == null) {
+                throw new NullPointerException("Missing buffer.");
+            } else if (offset < 0) {
+                throw new IllegalArgumentException("Negative offset: " + offset);
+            } else if (stride < MOMENT_BYTES) {
+                throw new IllegalArgumentException("Record size too small: " + stride);
+            }
+
+            this.buffer = buffer;
+            this.offset = offset;
+            this.stride = stride;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Moves this view to the record with given index. </p>
+         *
+         * @param   index   record index
+         * @return  this view
+         */
+        /*[deutsch]
+         * <p>Bewegt diese Sicht zum Datensatz mit dem angegebenen Index. </p>
+         *
+         * @param   index   record index
+         * @return  this view
+         */
+        public MomentView moveTo(int index) {
+
+            this.index = index;
+            return this;
+
+        }
+
+        /**
+         * <p>Yields the count of records available in the underlying buffer. </p>
+         *
+         * @return  count of records
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der verf&uuml;gbaren Datens&auml;tze im zugrundeliegenden Puffer. </p>
+         *
+         * @return  count of records
+         */
+        public int size() {
+
+            return (this.buffer.limit() - this.offset + this.stride - MOMENT_BYTES) / this.stride;
+
+        }
+
+        /**
+         * <p>Yields the POSIX time of current record. </p>
+         *
+         * @return  elapsed seconds since UNIX epoch without leap seconds
+         */
+        /*[deutsch]
+         * <p>Liefert die POSIX-Zeit des aktuellen Datensatzes. </p>
+         *
+         * @return  elapsed seconds since UNIX epoch without leap seconds
+         */
+        public long getPosixTime() {
+
+            return this.buffer.getLong(this.offset + this.index * this.stride);
+
+        }
+
+        /**
+         * <p>Yields the nanosecond of current record. </p>
+         *
+         * @return  nanosecond (0 - 999,999,999)
+         */
+        /*[deutsch]
+         * <p>Liefert die Nanosekunde des aktuellen Datensatzes. </p>
+         *
+         * @return  nanosecond (0 - 999,999,999)
+         */
+        public int getNanosecond() {
+
+            return (this.getFraction() & ~LEAP_SECOND_FLAG);
+
+        }
+
+        /**
+         * <p>Does the current record represent a leap second? </p>
+         *
+         * @return  boolean
+         */
+        /*[deutsch]
+         * <p>Stellt der aktuelle Datensatz eine Schaltsekunde dar? </p>
+         *
+         * @return  boolean
+         */
+        public boolean isLeapSecond() {
+
+            return ((this.getFraction() & LEAP_SECOND_FLAG) != 0);
+
+        }
+
+        /**
+         * <p>Compares the current record with the current record of another view in natural order. </p>
+         *
+         * @param   other   another view
+         * @return  negative, zero or positive integer if current record is earlier, equal or later
+         */
+        /*[deutsch]
+         * <p>Vergleicht den aktuellen Datensatz mit dem aktuellen Datensatz einer anderen Sicht in
+         * nat&uuml;rlicher Reihenfolge. </p>
+         *
+         * @param   other   another view
+         * @return  negative, zero or positive integer if current record is earlier, equal or later
+         */
+        public int compareTo(MomentView other) {
+
+            int result = Long.compare(this.getPosixTime(), other.getPosixTime());
+
+            if (result == 0) {
+                result = Integer.compare(this.getFraction(), other.getFraction());
+            }
+
+            return result;
+
+        }
+
+        /**
+         * <p>Creates a moment object for current record. </p>
+         *
+         * @return  Moment
+         */
+        /*[deutsch]
+         * <p>Erzeugt ein Moment-Objekt f&uuml;r den aktuellen Datensatz. </p>
+         *
+         * @return  Moment
+         */
+        public Moment toMoment() {
+
+            return unpackMoment(this.getPosixTime(), this.getFraction());
+
+        }
+
+        private int getFraction() {
+
+            return this.buffer.getInt(this.offset + this.index * this.stride + 8);
+
+        }
+
+    }
+
+}
@@ -88,11 +88,11 @@ final class UnitPatterns {
     //~ Instanzvariablen --------------------------------------------------
 
     private final Locale locale;
-    private final Map<IsoUnit, Map<TextWidth, Map<PluralCategory, String>>> patterns;
-    private final Map<IsoUnit, Map<PluralCategory, String>> past;
-    private final Map<IsoUnit, Map<PluralCategory, String>> future;
-    private final Map<IsoUnit, Map<PluralCategory, String>> shortPast;
-    private final Map<IsoUnit, Map<PluralCategory, String>> shortFuture;
+    private final Template[][][] patterns; // [unit][width][plural category]
+    private final Template[][] past; // [unit][plural category]
+    private final Template[][] future;
+    private final Template[][] shortPast;
+    private final Template[][] shortFuture;
     private final Map<Integer, Map<TextWidth, String>> list;
     private final String now;
     private final String yesterday;
@@ -106,59 +106,42 @@ final class UnitPatterns {
 
         this.locale = language;
 
-        Map<IsoUnit, Map<TextWidth, Map<PluralCategory, String>>> map = new HashMap<>(10);
-        Map<IsoUnit, Map<PluralCategory, String>> mapPast = new HashMap<>(10);
-        Map<IsoUnit, Map<PluralCategory, String>> mapFuture = new HashMap<>(10);
+        int countOfWidths = TextWidth.values().length;
+        int countOfCategories = PluralCategory.values().length;
+
+        Template[][][] tmpPatterns = new Template[UNIT_IDS.length][countOfWidths][countOfCategories];
+        Template[][] tmpPast = new Template[UNIT_IDS.length][];
+        Template[][] tmpFuture = new Template[UNIT_IDS.length][];
+        Template[][] tmpShortPast = new Template[UNIT_IDS.length][];
+        Template[][] tmpShortFuture = new Template[UNIT_IDS.length][];
         Map<Integer, Map<TextWidth, String>> mapList = new HashMap<>(10);
-        Map<IsoUnit, Map<PluralCategory, String>> mapShortPast = new HashMap<>(10);
-        Map<IsoUnit, Map<PluralCategory, String>> mapShortFuture = new HashMap<>(10);
 
-        for (IsoUnit unit : UNIT_IDS) {
+        for (int u = 0; u < UNIT_IDS.length; u++) {
+            IsoUnit unit = UNIT_IDS[u];
+
             // Standard-Muster
-            Map<TextWidth, Map<PluralCategory, String>> tmp1 = new EnumMap<>(TextWidth.class);
             for (TextWidth width : TextWidth.values()) {
-                Map<PluralCategory, String> tmp2 = new EnumMap<>(PluralCategory.class);
                 for (PluralCategory cat : PluralCategory.values()) {
-                    tmp2.put(cat, lookup(language, unit, width, cat));
+                    tmpPatterns[u][width.ordinal()][cat.ordinal()] =
+                        new Template(lookup(language, unit, width, cat));
                 }
-                tmp1.put(width, Collections.unmodifiableMap(tmp2));
             }
-            map.put(
-                unit,
-                Collections.unmodifiableMap(tmp1));
 
             if (!Character.isDigit(unit.getSymbol())) { // no subseconds
-                // Vergangenheit
-                Map<PluralCategory, String> tmp3 = new EnumMap<>(PluralCategory.class);
-                for (PluralCategory cat : PluralCategory.values()) {
-                    tmp3.put(cat, lookup(language, unit, false, false, cat));
-                }
-                mapPast.put(
-                    unit,
-                    Collections.unmodifiableMap(tmp3));
-                Map<PluralCategory, String> tmp3a = new EnumMap<>(PluralCategory.class);
-                for (PluralCategory cat : PluralCategory.values()) {
-                    tmp3a.put(cat, lookup(language, unit, false, true, cat));
-                }
-                mapShortPast.put(
-                    unit,
-                    Collections.unmodifiableMap(tmp3a));
+                tmpPast[u] = new Template[countOfCategories];
+                tmpFuture[u] = new Template[countOfCategories];
+                tmpShortPast[u] = new Template[countOfCategories];
+                tmpShortFuture[u] = new Template[countOfCategories];
 
-                // Zukunft
-                Map<PluralCategory, String> tmp4 = new EnumMap<>(PluralCategory.class);
                 for (PluralCategory cat : PluralCategory.values()) {
-                    tmp4.put(cat, lookup(language, unit, true, false, cat));
+                    int c = cat.ordinal();
+                    // Vergangenheit
+                    tmpPast[u][c] = new Template(lookup(language, unit, false, false, cat));
+                    tmpShortPast[u][c] = new Template(lookup(language, unit, false, true, cat));
+                    // Zukunft
+                    tmpFuture[u][c] = new Template(lookup(language, unit, true, false, cat));
+                    tmpShortFuture[u][c] = new Template(lookup(language, unit, true, true, cat));
                 }
-                mapFuture.put(
-                    unit,
-                    Collections.unmodifiableMap(tmp4));
-                Map<PluralCategory, String> tmp4a = new EnumMap<>(PluralCategory.class);
-                for (PluralCategory cat : PluralCategory.values()) {
-                    tmp4a.put(cat, lookup(language, unit, true, true, cat));
-                }
-                mapShortFuture.put(
-                    unit,
-                    Collections.unmodifiableMap(tmp4a));
             }
         }
 
@@ -174,11 +157,11 @@ final class UnitPatterns {
                 Collections.unmodifiableMap(tmp5));
         }
 
-        this.patterns = Collections.unmodifiableMap(map);
-        this.past = Collections.unmodifiableMap(mapPast);
-        this.future = Collections.unmodifiableMap(mapFuture);
-        this.shortPast = Collections.unmodifiableMap(mapShortPast);
-        this.shortFuture = Collections.unmodifiableMap(mapShortFuture);
+        this.patterns = tmpPatterns;
+        this.past = tmpPast;
+        this.future = tmpFuture;
+        this.shortPast = tmpShortPast;
+        this.shortFuture = tmpShortFuture;
         this.list = Collections.unmodifiableMap(mapList);
 
         String n;
@@ -236,7 +219,7 @@ final class UnitPatterns {
     }
 
     /**
-     * <p>Yields a unit pattern which optionally contains a placeholder
+     * <p>Yields a precompiled unit pattern which optionally contains a placeholder
      * of the form &quot;{0}&quot; standing for the count of units. </p>
      *
      * @param   width       text width (ABBREVIATED as synonym for SHORT)
@@ -244,19 +227,19 @@ final class UnitPatterns {
      * @param   unit        associated iso unit
      * @return  unit pattern
      */
-    String getPattern(
+    Template getTemplate(
         TextWidth width,
         PluralCategory category,
         IsoUnit unit
     ) {
 
         checkNull(width, category);
-        return this.patterns.get(unit).get(width).get(category);
+        return this.patterns[indexOf(unit)][width.ordinal()][category.ordinal()];
 
     }
 
     /**
-     * <p>Yields a unit pattern which optionally contains a placeholder
+     * <p>Yields a precompiled unit pattern which optionally contains a placeholder
      * of the form &quot;{0}&quot; standing for the count of units in the
      * past. </p>
      *
@@ -266,24 +249,20 @@ final class UnitPatterns {
      * @return  unit pattern in the past
      * @since   3.6/4.4
      */
-    String getPatternInPast(
+    Template getTemplateInPast(
         PluralCategory category,
         boolean abbreviated,
         IsoUnit unit
     ) {
 
         checkNull(category);
-
-        if (abbreviated) {
-            return this.shortPast.get(unit).get(category);
-        } else {
-            return this.past.get(unit).get(category);
-        }
+        Template[][] templates = (abbreviated ? this.shortPast : this.past);
+        return templates[indexOf(unit)][category.ordinal()];
 
     }
 
     /**
-     * <p>Yields a unit pattern which optionally contains a placeholder
+     * <p>Yields a precompiled unit pattern which optionally contains a placeholder
      * of the form &quot;{0}&quot; standing for the count of units in the
      * future. </p>
      *
@@ -293,19 +272,15 @@ final class UnitPatterns {
      * @return  unit pattern in the future
      * @since   3.6/4.4
      */
-    String getPatternInFuture(
+    Template getTemplateInFuture(
         PluralCategory category,
         boolean abbreviated,
         IsoUnit unit
     ) {
 
         checkNull(category);
-
-        if (abbreviated) {
-            return this.shortFuture.get(unit).get(category);
-        } else {
-            return this.future.get(unit).get(category);
-        }
+        Template[][] templates = (abbreviated ? this.shortFuture : this.future);
+        return templates[indexOf(unit)][category.ordinal()];
 
     }
 
@@ -406,6 +381,18 @@ final class UnitPatterns {
 
     }
 
+    private static int indexOf(IsoUnit unit) {
+
+        for (int i = 0; i < UNIT_IDS.length; i++) {
+            if (UNIT_IDS[i] == unit) {
+                return i;
+            }
+        }
+
+        throw new UnsupportedOperationException("Unsupported unit: " + unit);
+
+    }
+
     private static char getID(IsoUnit unit) {
 
         char unitID = unit.getSymbol();
@@ -552,6 +539,76 @@ final class UnitPatterns {
 
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * <p>Unit pattern which is split at the placeholder &quot;{0}&quot; in advance. </p>
+     *
+     * @doctags.concurrency {immutable}
+     */
+    static final class Template {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String pattern;
+        private final String prefix;
+        private final String suffix;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Template(String pattern) {
+            super();
+
+            int pos = pattern.indexOf("{0}");
+
+            this.pattern = pattern;
+            this.prefix = ((pos == -1) ? pattern : pattern.substring(0, pos));
+            this.suffix = ((pos == -1) ? null : pattern.substring(pos + 3));
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Has this template a placeholder for the count of units? </p>
+         *
+         * @return  boolean
+         */
+        boolean hasPlaceholder() {
+
+            return (this.suffix != null);
+
+        }
+
+        /**
+         * <p>Yields the literal text before the placeholder or the whole pattern if there is no placeholder. </p>
+         *
+         * @return  String
+         */
+        String getPrefix() {
+
+            return this.prefix;
+
+        }
+
+        /**
+         * <p>Yields the literal text after the placeholder. </p>
+         *
+         * @return  String (empty if there is no placeholder)
+         */
+        String getSuffix() {
+
+            return ((this.suffix == null) ? "" : this.suffix);
+
+        }
+
+        @Override
+        public String toString() {
+
+            return this.pattern;
+
+        }
+
+    }
+
     private static class FallbackProvider
         implements UnitPatternProvider {
 
@@ -0,0 +1,126 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BulkCalendarSystem.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.engine;
+
+
+/**
+ * <p>Calendar system with a single era which can convert whole columns of day numbers to
+ * year-month-day-fields and vice versa without creating any intermediate calendar dates. </p>
+ *
+ * <p>Implementations are optimized for ascending input where consecutive day numbers mostly
+ * fall into the same month, but any order of input is permitted. The year always refers to
+ * the only era of this calendar system, and the month is the numerical month value as
+ * defined by the month enum of the related calendar (starting with {@code 1}). </p>
+ *
+ * @param   <D> generic type of calendar date (subtype of {@code Calendrical} or {@code CalendarVariant})
+ * @author  Meno Hochschild
+ * @since   4.37
+ * @doctags.spec    All implementations must be immutable.
+ */
+/*[deutsch]
+ * <p>Kalendersystem mit nur einer &Auml;ra, das ganze Spalten von Tagesnummern in
+ * Jahr-Monat-Tag-Felder und umgekehrt umwandeln kann, ohne zwischendurch Datumsobjekte
+ * zu erzeugen. </p>
+ *
+ * <p>Implementierungen sind f&uuml;r aufsteigend sortierte Eingaben optimiert, in denen
+ * aufeinanderfolgende Tagesnummern meistens in den gleichen Monat fallen, aber jede Reihenfolge
+ * ist erlaubt. Das Jahr bezieht sich immer auf die einzige &Auml;ra dieses Kalendersystems, und
+ * der Monat ist der numerische Monatswert, wie er durch das Monats-Enum des zugeh&ouml;rigen
+ * Kalenders definiert ist (beginnend mit {@code 1}). </p>
+ *
+ * @param   <D> generic type of calendar date (subtype of {@code Calendrical} or {@code CalendarVariant})
+ * @author  Meno Hochschild
+ * @since   4.37
+ * @doctags.spec    All implementations must be immutable.
+ */
+public interface BulkCalendarSystem<D>
+    extends CalendarSystem<D> {
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Converts all given day numbers to year-month-day-fields. </p>
+     *
+     * <p>The element at index {@code i} of every target array is set to the corresponding field of
+     * {@code utcDays[i]}. If any day number is out of range then the target arrays might be partially
+     * filled. </p>
+     *
+     * @param   utcDays     counts of days since UTC epoch [1972-01-01]
+     * @param   years       target array for the years
+     * @param   months      target array for the numerical months
+     * @param   daysOfMonth target array for the days of month
+     * @throws  IllegalArgumentException if any day number is out of range or if any target array is too short
+     */
+    /*[deutsch]
+     * <p>Wandelt alle angegebenen Tagesnummern in Jahr-Monat-Tag-Felder um. </p>
+     *
+     * <p>Das Element am Index {@code i} jedes Zielarrays wird auf das entsprechende Feld von
+     * {@code utcDays[i]} gesetzt. Wenn eine Tagesnummer au&szlig;erhalb des Wertebereichs liegt,
+     * k&ouml;nnen die Zielarrays teilweise gef&uuml;llt sein. </p>
+     *
+     * @param   utcDays     counts of days since UTC epoch [1972-01-01]
+     * @param   years       target array for the years
+     * @param   months      target array for the numerical months
+     * @param   daysOfMonth target array for the days of month
+     * @throws  IllegalArgumentException if any day number is out of range or if any target array is too short
+     */
+    void toFields(
+        long[] utcDays,
+        int[] years,
+        int[] months,
+        int[] daysOfMonth
+    );
+
+    /**
+     * <p>Converts all given year-month-day-fields to day numbers. </p>
+     *
+     * <p>The element at index {@code i} of the target array is set to the day number of the date
+     * defined by {@code years[i]}, {@code months[i]} and {@code daysOfMonth[i]}. If any date is
+     * invalid then the target array might be partially filled. </p>
+     *
+     * @param   years       years of the only era of this calendar system
+     * @param   months      numerical months
+     * @param   daysOfMonth days of month
+     * @param   utcDays     target array for the counts of days since UTC epoch [1972-01-01]
+     * @throws  IllegalArgumentException if any date is invalid or if any array is too short
+     */
+    /*[deutsch]
+     * <p>Wandelt alle angegebenen Jahr-Monat-Tag-Felder in Tagesnummern um. </p>
+     *
+     * <p>Das Element am Index {@code i} des Zielarrays wird auf die Tagesnummer des Datums gesetzt,
+     * das durch {@code years[i]}, {@code months[i]} und {@code daysOfMonth[i]} definiert ist. Wenn
+     * ein Datum ung&uuml;ltig ist, kann das Zielarray teilweise gef&uuml;llt sein. </p>
+     *
+     * @param   years       years of the only era of this calendar system
+     * @param   months      numerical months
+     * @param   daysOfMonth days of month
+     * @param   utcDays     target array for the counts of days since UTC epoch [1972-01-01]
+     * @throws  IllegalArgumentException if any date is invalid or if any array is too short
+     */
+    void fromFields(
+        int[] years,
+        int[] months,
+        int[] daysOfMonth,
+        long[] utcDays
+    );
+
+}
@@ -0,0 +1,478 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CachedCalendarSystem.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.engine;
+
+import net.time4j.format.CalendarType;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>Decorates an expensive calendar system with a size-bounded cache for the conversions
+ * between day numbers and calendar dates. </p>
+ *
+ * <p>The cache is divided into independently locked segments whose entries are evicted in
+ * least-recently-used order. Every computed conversion is stored in both directions, so the
+ * back-conversion of a recently converted date costs only one hash lookup. All other methods
+ * just delegate to the underlying calendar system. If the underlying calendar system is a
+ * {@link BulkCalendarSystem} then the decorator is a bulk calendar system, too, and passes bulk
+ * conversions through without caching them. </p>
+ *
+ * <p>Chronologies of calendars annotated with {@link CalendarType} use this cache automatically
+ * if the system property &quot;net.time4j.calendar.cache.{calendar-type}&quot; is set to a positive
+ * maximum count of entries, for example {@code -Dnet.time4j.calendar.cache.chinese=4096}. Calendar
+ * families apply the cache to every variant separately. The decorated calendar system is then
+ * obtained by {@link Chronology#getCalendarSystem()} or {@link Chronology#getCalendarSystem(String)}
+ * which permits to query the statistics. </p>
+ *
+ * @param   <D> generic type of calendar date (subtype of {@code Calendrical} or {@code CalendarVariant})
+ * @author  Meno Hochschild
+ * @since   4.37
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Dekoriert ein aufwendiges Kalendersystem mit einem gr&ouml;&szlig;enbeschr&auml;nkten Cache
+ * f&uuml;r die Umwandlungen zwischen Tagesnummern und Kalenderdaten. </p>
+ *
+ * <p>Der Cache ist in unabh&auml;ngig gesperrte Segmente aufgeteilt, deren Eintr&auml;ge in der
+ * Reihenfolge der am l&auml;ngsten nicht benutzten Eintr&auml;ge entfernt werden. Jede berechnete
+ * Umwandlung wird in beiden Richtungen gespeichert, so da&szlig; die R&uuml;ckumwandlung eines
+ * k&uuml;rzlich umgewandelten Datums nur einen Hash-Zugriff kostet. Alle anderen Methoden delegieren
+ * einfach an das zugrundeliegende Kalendersystem. Wenn das zugrundeliegende Kalendersystem ein
+ * {@link BulkCalendarSystem} ist, dann ist der Dekorierer auch ein solches Kalendersystem und reicht
+ * Massenumwandlungen ungecacht durch. </p>
+ *
+ * <p>Chronologien von mit {@link CalendarType} annotierten Kalendern verwenden diesen Cache automatisch,
+ * wenn die System-Property &quot;net.time4j.calendar.cache.{calendar-type}&quot; auf eine positive
+ * maximale Anzahl von Eintr&auml;gen gesetzt ist, zum Beispiel {@code -Dnet.time4j.calendar.cache.chinese=4096}.
+ * Kalenderfamilien wenden den Cache auf jede Variante getrennt an. Das dekorierte Kalendersystem wird dann
+ * mittels {@link Chronology#getCalendarSystem()} oder {@link Chronology#getCalendarSystem(String)}
+ * erhalten, was die Abfrage der Statistik erlaubt. </p>
+ *
+ * @param   <D> generic type of calendar date (subtype of {@code Calendrical} or {@code CalendarVariant})
+ * @author  Meno Hochschild
+ * @since   4.37
+ * @doctags.concurrency {threadsafe}
+ */
+public class CachedCalendarSystem<D>
+    implements CalendarSystem<D> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final String PROPERTY_PREFIX = "net.time4j.calendar.cache.";
+    private static final int SEGMENTS = 16; // power of two
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final CalendarSystem<D> delegate;
+    private final int maximumSize;
+    private final Segment<Long, D>[] dates;
+    private final Segment<D, Long>[] days;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CachedCalendarSystem(
+        CalendarSystem<D> delegate,
+        int maximumSize
+    ) {
+        super();
+
+        int capacity = Math.max(1, (maximumSize + SEGMENTS - 1) / SEGMENTS);
+
+        this.delegate = delegate;
+        this.maximumSize = maximumSize;
+        this.dates = Segment.createArray(capacity);
+        this.days = Segment.createArray(capacity);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new cache for given calendar system. </p>
+     *
+     * <p>The maximum size applies to each conversion direction and is distributed evenly
+     * among the segments of the cache. </p>
+     *
+     * @param   <D> generic type of calendar date
+     * @param   delegate        calendar system to be decorated
+     * @param   maximumSize     maximum count of cached conversions per direction
+     * @return  new decorator
+     * @throws  IllegalArgumentException if the maximum size is not positive
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Cache f&uuml;r das angegebene Kalendersystem. </p>
+     *
+     * <p>Die maximale Gr&ouml;&szlig;e gilt f&uuml;r jede Umwandlungsrichtung und wird gleichm&auml;&szlig;ig
+     * auf die Segmente des Cache verteilt. </p>
+     *
+     * @param   <D> generic type of calendar date
+     * @param   delegate        calendar system to be decorated
+     * @param   maximumSize     maximum count of cached conversions per direction
+     * @return  new decorator
+     * @throws  IllegalArgumentException if the maximum size is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public static <D> CachedCalendarSystem<D> of(
+        CalendarSystem<D> delegate,
+        int maximumSize
+    ) {
+
+        if (delegate == null) {
+            throw new NullPointerException("Missing calendar system.");
+        } else if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+
+        if (delegate instanceof BulkCalendarSystem) {
+            return new Bulk<>((BulkCalendarSystem<D>) delegate, maximumSize);
+        }
+
+        return new CachedCalendarSystem<>(delegate, maximumSize);
+
+    }
+
+    @Override
+    public D transform(long utcDays) {
+
+        Long key = Long.valueOf(utcDays);
+        Segment<Long, D> segment = this.dates[index(key)];
+        D date;
+
+        synchronized (segment) {
+            date = segment.get(key);
+        }
+
+        if (date == null) {
+            this.misses.increment();
+            date = this.delegate.transform(utcDays);
+            this.store(key, date);
+        } else {
+            this.hits.increment();
+        }
+
+        return date;
+
+    }
+
+    @Override
+    public long transform(D date) {
+
+        Segment<D, Long> segment = this.days[index(date)];
+        Long utcDays;
+
+        synchronized (segment) {
+            utcDays = segment.get(date);
+        }
+
+        if (utcDays == null) {
+            this.misses.increment();
+            utcDays = Long.valueOf(this.delegate.transform(date));
+            this.store(utcDays, date);
+        } else {
+            this.hits.increment();
+        }
+
+        return utcDays.longValue();
+
+    }
+
+    @Override
+    public long getMinimumSinceUTC() {
+
+        return this.delegate.getMinimumSinceUTC();
+
+    }
+
+    @Override
+    public long getMaximumSinceUTC() {
+
+        return this.delegate.getMaximumSinceUTC();
+
+    }
+
+    @Override
+    public List<CalendarEra> getEras() {
+
+        return this.delegate.getEras();
+
+    }
+
+    /**
+     * <p>Yields the decorated calendar system. </p>
+     *
+     * @return  CalendarSystem
+     */
+    /*[deutsch]
+     * <p>Liefert das dekorierte Kalendersystem. </p>
+     *
+     * @return  CalendarSystem
+     */
+    public CalendarSystem<D> getDelegate() {
+
+        return this.delegate;
+
+    }
+
+    /**
+     * <p>Yields the maximum count of cached conversions per direction. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die maximale Anzahl der gespeicherten Umwandlungen pro Richtung. </p>
+     *
+     * @return  int
+     */
+    public int getMaximumSize() {
+
+        return this.maximumSize;
+
+    }
+
+    /**
+     * <p>Counts the conversions which could be answered by the cache. </p>
+     *
+     * @return  long
+     */
+    /*[deutsch]
+     * <p>Z&auml;hlt die Umwandlungen, die vom Cache beantwortet werden konnten. </p>
+     *
+     * @return  long
+     */
+    public long getHitCount() {
+
+        return this.hits.sum();
+
+    }
+
+    /**
+     * <p>Counts the conversions which had to be delegated to the underlying calendar system. </p>
+     *
+     * @return  long
+     */
+    /*[deutsch]
+     * <p>Z&auml;hlt die Umwandlungen, die an das zugrundeliegende Kalendersystem delegiert werden
+     * mu&szlig;ten. </p>
+     *
+     * @return  long
+     */
+    public long getMissCount() {
+
+        return this.misses.sum();
+
+    }
+
+    /**
+     * <p>Removes all cached conversions but keeps the statistics. </p>
+     */
+    /*[deutsch]
+     * <p>Entfernt alle gespeicherten Umwandlungen, beh&auml;lt aber die Statistik. </p>
+     */
+    public void clear() {
+
+        for (int i = 0; i < SEGMENTS; i++) {
+            synchronized (this.dates[i]) {
+                this.dates[i].clear();
+            }
+            synchronized (this.days[i]) {
+                this.days[i].clear();
+            }
+        }
+
+    }
+
+    /**
+     * <p>For debugging purposes. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>F&uuml;r Debugging-Zwecke. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        return "CachedCalendarSystem[delegate=" + this.delegate
+            + ",maximum-size=" + this.maximumSize
+            + ",hits=" + this.getHitCount()
+            + ",misses=" + this.getMissCount() + "]";
+
+    }
+
+    /**
+     * <p>Determines the configured maximum cache size for given chronological type. </p>
+     *
+     * @param   chronoType  chronological type
+     * @return  maximum count of cached conversions or zero if the cache is not configured
+     */
+    static int getConfiguredSize(Class<?> chronoType) {
+
+        CalendarType ct = chronoType.getAnnotation(CalendarType.class);
+
+        if (ct == null) {
+            return 0;
+        }
+
+        String size = System.getProperty(PROPERTY_PREFIX + ct.value());
+
+        if (size == null) {
+            return 0;
+        }
+
+        try {
+            return Math.max(0, Integer.parseInt(size.trim()));
+        } catch (NumberFormatException nfe) {
+            throw new IllegalStateException("Invalid cache size: " + PROPERTY_PREFIX + ct.value() + "=" + size);
+        }
+
+    }
+
+    private void store(
+        Long utcDays,
+        D date
+    ) {
+
+        Segment<Long, D> s1 = this.dates[index(utcDays)];
+
+        synchronized (s1) {
+            s1.put(utcDays, date);
+        }
+
+        Segment<D, Long> s2 = this.days[index(date)];
+
+        synchronized (s2) {
+            s2.put(date, utcDays);
+        }
+
+    }
+
+    private static int index(Object key) {
+
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return (h & (SEGMENTS - 1));
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Bulk<D>
+        extends CachedCalendarSystem<D>
+        implements BulkCalendarSystem<D> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final BulkCalendarSystem<D> bulk;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Bulk(
+            BulkCalendarSystem<D> delegate,
+            int maximumSize
+        ) {
+            super(delegate, maximumSize);
+
+            this.bulk = delegate;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void toFields(
+            long[] utcDays,
+            int[] years,
+            int[] months,
+            int[] daysOfMonth
+        ) {
+
+            this.bulk.toFields(utcDays, years, months, daysOfMonth);
+
+        }
+
+        @Override
+        public void fromFields(
+            int[] years,
+            int[] months,
+            int[] daysOfMonth,
+            long[] utcDays
+        ) {
+
+            this.bulk.fromFields(years, months, daysOfMonth, utcDays);
+
+        }
+
+    }
+
+    private static class Segment<K, V>
+        extends LinkedHashMap<K, V> {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final long serialVersionUID = 4215878512963524180L;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int capacity;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+
+            this.capacity = capacity;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        static <K, V> Segment<K, V>[] createArray(int capacity) {
+
+            Segment<K, V>[] segments = new Segment[SEGMENTS];
+
+            for (int i = 0; i < SEGMENTS; i++) {
+                segments[i] = new Segment<>(capacity);
+            }
+
+            return segments;
+
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+
+            return (this.size() > this.capacity);
+
+        }
+
+    }
+
+}
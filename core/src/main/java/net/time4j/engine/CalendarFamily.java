@@ -25,6 +25,8 @@ import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -47,6 +49,8 @@ public final class CalendarFamily<T extends CalendarVariant<T>>
     //~ Instanzvariablen --------------------------------------------------
 
     private final Map<String, ? extends CalendarSystem<T>> calendars; // must never be exposed
+    private final int cacheSize;
+    private final ConcurrentMap<String, CalendarSystem<T>> cachedCalendars;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -60,6 +64,8 @@ public final class CalendarFamily<T extends CalendarVariant<T>>
         super(chronoType, chronoMerger, ruleMap, extensions);
 
         this.calendars = calendars;
+        this.cacheSize = CachedCalendarSystem.getConfiguredSize(chronoType);
+        this.cachedCalendars = ((this.cacheSize > 0) ? new ConcurrentHashMap<>() : null);
 
     }
 
@@ -76,7 +82,8 @@ public final class CalendarFamily<T extends CalendarVariant<T>>
     public CalendarSystem<T> getCalendarSystem() {
 
         if (this.calendars.size() == 1) {
-            return this.calendars.values().iterator().next();
+            Map.Entry<String, ? extends CalendarSystem<T>> entry = this.calendars.entrySet().iterator().next();
+            return this.cache(entry.getKey(), entry.getValue());
         } else {
             throw new ChronoException("Cannot determine calendar system without variant.");
         }
@@ -95,7 +102,7 @@ public final class CalendarFamily<T extends CalendarVariant<T>>
         if (result == null) {
             return super.getCalendarSystem(variant);
         } else {
-            return result;
+            return this.cache(variant, result);
         }
 
     }
@@ -127,6 +134,19 @@ public final class CalendarFamily<T extends CalendarVariant<T>>
 
     }
 
+    private CalendarSystem<T> cache(
+        String variant,
+        CalendarSystem<T> calsys
+    ) {
+
+        if (this.cachedCalendars == null) {
+            return calsys;
+        }
+
+        return this.cachedCalendars.computeIfAbsent(variant, v -> CachedCalendarSystem.of(calsys, this.cacheSize));
+
+    }
+
     //~ Innere Klassen ----------------------------------------------------
 
     /**
@@ -1086,7 +1086,7 @@ public final class TimeAxis<U, T extends TimePoint<U, T>>
                     this.baseUnits,
                     this.min,
                     this.max,
-                    this.calendarSystem,
+                    cache(this.chronoType, this.calendarSystem),
                     this.timeline,
                     this.useEnumUnits
                 );
@@ -1096,6 +1096,22 @@ public final class TimeAxis<U, T extends TimePoint<U, T>>
 
         }
 
+        private static <T> CalendarSystem<T> cache(
+            Class<T> chronoType,
+            CalendarSystem<T> calsys
+        ) {
+
+            if (calsys != null) {
+                int size = CachedCalendarSystem.getConfiguredSize(chronoType);
+                if (size > 0) {
+                    return CachedCalendarSystem.of(calsys, size);
+                }
+            }
+
+            return calsys;
+
+        }
+
         private void checkUnitDuplicates(U unit) {
 
             if (this.time4j) {
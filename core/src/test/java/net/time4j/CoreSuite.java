@@ -1,5 +1,6 @@
 package net.time4j;
 
+import net.time4j.engine.CachedCalendarSystemTest;
 import net.time4j.format.NumberSuite;
 import net.time4j.scale.ScaleSuite;
 import net.time4j.sql.JDBCAdapterTest;
@@ -15,6 +16,7 @@ import org.junit.runners.Suite.SuiteClasses;
     {
         TestInitialization.class,
         AxisElementTest.class,
+        CachedCalendarSystemTest.class,
         CompareZonalDateTimeTest.class,
         ComponentElementTest.class,
         DateSuite.class,
@@ -26,9 +28,11 @@ import org.junit.runners.Suite.SuiteClasses;
         ScaleSuite.class,
         SerializationTest.class,
         SystemClockTest.class,
+        TemporalCodecTest.class,
         TemporalTypeTest.class,
         TimeLineTest.class,
         TimeSuite.class,
+        UnitPatternsTest.class,
         ZoneSuite.class
     }
 )
@@ -1,5 +1,7 @@
 package net.time4j;
 
+import net.time4j.engine.EpochDays;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -122,4 +124,58 @@ public class DayArithmeticTest {
             is(-2L));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void plusDaysAcrossLeapYear() {
+        assertThat(
+            PlainDate.of(2012, 2, 28).plus(1, DAYS),
+            is(PlainDate.of(2012, 2, 29)));
+        assertThat(
+            PlainDate.of(2012, 12, 30).plus(1, DAYS),
+            is(PlainDate.of(2012, 12, 31)));
+        assertThat(
+            PlainDate.of(2012, 12, 31).plus(1, DAYS),
+            is(PlainDate.of(2013, 1, 1)));
+        assertThat(
+            PlainDate.of(2013, 1, 1).minus(1, DAYS),
+            is(PlainDate.of(2012, 12, 31)));
+        assertThat(
+            PlainDate.of(2012, 3, 1).minus(367, DAYS),
+            is(PlainDate.of(2011, 2, 28)));
+        assertThat(
+            PlainDate.of(2011, 12, 31).plus(366, DAYS),
+            is(PlainDate.of(2012, 12, 31)));
+    }
+
+    @Test
+    public void plusDaysConsistentWithEpochDays() {
+        PlainDate start = PlainDate.of(1999, 11, 15);
+        long epoch = start.getDaysSinceEpochUTC();
+        for (int amount = -1000; amount <= 1000; amount++) {
+            PlainDate expected = PlainDate.of(epoch + amount, EpochDays.UTC);
+            PlainDate date = start.plus(amount, DAYS);
+            assertThat(date, is(expected));
+            assertThat(date.getDayOfWeek(), is(expected.getDayOfWeek()));
+        }
+    }
+
+    @Test
+    public void untilDays() {
+        assertThat(
+            PlainDate.of(2011, 12, 30).until(PlainDate.of(2014, 1, 3), DAYS),
+            is(735L));
+        assertThat(
+            PlainDate.of(2014, 1, 3).until(PlainDate.of(2013, 12, 30), DAYS),
+            is(-4L));
+    }
+
+    @Test
+    public void untilWeeks() {
+        assertThat(
+            PlainDate.of(2012, 2, 20).until(PlainDate.of(2012, 3, 4), WEEKS),
+            is(1L));
+        assertThat(
+            PlainDate.of(2012, 3, 5).until(PlainDate.of(2012, 2, 20), WEEKS),
+            is(-2L));
+    }
+
+}
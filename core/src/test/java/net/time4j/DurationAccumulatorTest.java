@@ -0,0 +1,85 @@
+package net.time4j;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static net.time4j.CalendarUnit.DAYS;
+import static net.time4j.CalendarUnit.MONTHS;
+import static net.time4j.CalendarUnit.YEARS;
+import static net.time4j.ClockUnit.HOURS;
+import static net.time4j.ClockUnit.MILLIS;
+import static net.time4j.ClockUnit.MINUTES;
+import static net.time4j.ClockUnit.NANOS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class DurationAccumulatorTest {
+
+    @Test
+    public void sumClockUnits() {
+        Duration.Accumulator<ClockUnit> acc = Duration.accumulator();
+        for (int i = 0; i < 1000; i++) {
+            acc.add(Duration.ofClockUnits(1, 2, 3));
+            acc.add(5, MILLIS);
+        }
+        assertThat(acc.getPartialAmount(HOURS), is(1000L));
+        assertThat(acc.getPartialAmount(MINUTES), is(2000L));
+        assertThat(acc.getPartialAmount(MILLIS), is(5000L));
+        assertThat(
+            acc.toDuration(),
+            is(Duration.ofClockUnits(1000, 2000, 3000).plus(5000000000L, NANOS)));
+    }
+
+    @Test
+    public void sumCalendarUnits() {
+        Duration.Accumulator<CalendarUnit> acc = Duration.accumulator();
+        acc.add(Duration.ofCalendarUnits(1, 2, 3)).add(Duration.of(-2, DAYS)).subtract(Duration.of(1, YEARS));
+        assertThat(acc.getPartialAmount(YEARS), is(0L));
+        assertThat(acc.toDuration(), is(Duration.ofCalendarUnits(0, 2, 1)));
+    }
+
+    @Test
+    public void negativeResult() {
+        Duration.Accumulator<ClockUnit> acc = Duration.accumulator();
+        acc.add(Duration.of(2, HOURS)).subtract(Duration.ofClockUnits(3, 30, 0));
+        assertThat(acc.toDuration(), is(Duration.ofClockUnits(1, 30, 0).inverse()));
+    }
+
+    @Test
+    public void mixedSignsNormalized() {
+        Duration.Accumulator<ClockUnit> acc = Duration.accumulator();
+        acc.add(Duration.of(2, HOURS)).add(-30, MINUTES);
+        assertThat(acc.toDuration(), is(Duration.ofClockUnits(1, 30, 0)));
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void mixedSignsNotResolvable() {
+        Duration.Accumulator<CalendarUnit> acc = Duration.accumulator();
+        acc.add(1, MONTHS).add(-1, DAYS).toDuration();
+    }
+
+    @Test
+    public void exoticUnits() {
+        Duration.Accumulator<IsoUnit> acc = Duration.accumulator();
+        acc.add(2, CalendarUnit.weekBasedYears()).add(3, DAYS).add(1, CalendarUnit.weekBasedYears());
+        assertThat(acc.getPartialAmount(CalendarUnit.weekBasedYears()), is(3L));
+        assertThat(
+            acc.toDuration(),
+            is(Duration.<IsoUnit>of(3, CalendarUnit.weekBasedYears()).plus(3, DAYS)));
+    }
+
+    @Test
+    public void resetAndZero() {
+        Duration.Accumulator<ClockUnit> acc = Duration.accumulator();
+        assertThat(acc.isZero(), is(true));
+        acc.add(Duration.of(2, HOURS));
+        assertThat(acc.isZero(), is(false));
+        acc.reset();
+        assertThat(acc.isZero(), is(true));
+        assertThat(acc.toDuration().isEmpty(), is(true));
+    }
+
+}
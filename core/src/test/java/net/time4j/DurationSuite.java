@@ -10,6 +10,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses(
     {
         ClockDurationTest.class,
+        DurationAccumulatorTest.class,
         DurationArithmeticTest.class,
         DurationBasicsTest.class,
         DurationFormatterTest.class,
@@ -0,0 +1,125 @@
+package net.time4j;
+
+import net.time4j.scale.TimeScale;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TemporalCodecTest {
+
+    @Test
+    public void roundTripDate() {
+        PlainDate[] dates = {
+            PlainDate.MIN, PlainDate.of(-1, 12, 31), PlainDate.of(0, 1, 1),
+            PlainDate.of(2012, 2, 29), PlainDate.MAX
+        };
+        for (PlainDate date : dates) {
+            long packed = TemporalCodec.packDate(date);
+            assertThat(TemporalCodec.unpackDate(packed), is(date));
+            assertThat(TemporalCodec.readYear(packed), is(date.getYear()));
+            assertThat(TemporalCodec.readMonth(packed), is(date.getMonth()));
+            assertThat(TemporalCodec.readDayOfMonth(packed), is(date.getDayOfMonth()));
+        }
+    }
+
+    @Test
+    public void orderOfDates() {
+        PlainDate[] dates = {
+            PlainDate.MIN, PlainDate.of(-1, 12, 31), PlainDate.of(0, 1, 1),
+            PlainDate.of(2012, 2, 29), PlainDate.of(2012, 3, 1), PlainDate.MAX
+        };
+        for (int i = 1; i < dates.length; i++) {
+            assertThat(
+                TemporalCodec.packDate(dates[i - 1]) < TemporalCodec.packDate(dates[i]),
+                is(true));
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void unpackInvalidDate() {
+        TemporalCodec.unpackDate((2014L << 9) | (2 << 5) | 30);
+    }
+
+    @Test
+    public void roundTripTime() {
+        PlainTime[] times = {
+            PlainTime.midnightAtStartOfDay(), PlainTime.of(17, 45, 30, 123456789), PlainTime.midnightAtEndOfDay()
+        };
+        for (PlainTime time : times) {
+            assertThat(TemporalCodec.unpackTime(TemporalCodec.packTime(time)), is(time));
+        }
+        assertThat(
+            TemporalCodec.packTime(PlainTime.of(23, 59, 59, 999999999))
+                < TemporalCodec.packTime(PlainTime.midnightAtEndOfDay()),
+            is(true));
+    }
+
+    @Test
+    public void roundTripTimestamp() {
+        PlainTimestamp tsp = PlainTimestamp.of(1969, 12, 31, 23, 59, 59).plus(123, ClockUnit.NANOS);
+        assertThat(TemporalCodec.getSeconds(tsp), is(-1L));
+        assertThat(TemporalCodec.getNanos(tsp), is(123));
+        assertThat(TemporalCodec.unpackTimestamp(-1L, 123), is(tsp));
+        PlainTimestamp max = PlainTimestamp.axis().getMaximum();
+        assertThat(TemporalCodec.unpackTimestamp(TemporalCodec.getSeconds(max), TemporalCodec.getNanos(max)), is(max));
+    }
+
+    @Test
+    public void roundTripLeapSecond() {
+        Moment ls = PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        Moment next = ls.plus(1, SI.SECONDS);
+        assertThat(ls.isLeapSecond(), is(true));
+        assertThat(TemporalCodec.unpackMoment(TemporalCodec.getSeconds(ls), TemporalCodec.getNanos(ls)), is(ls));
+        assertThat(TemporalCodec.getSeconds(ls) < TemporalCodec.getSeconds(next), is(true));
+        assertThat(TemporalCodec.getSeconds(ls), is(ls.minus(1, SI.SECONDS).getPosixTime()));
+        assertThat(TemporalCodec.getNanos(ls) > TemporalCodec.getNanos(ls.minus(1, SI.SECONDS)), is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void unpackInvalidLeapSecond() {
+        Moment m = Moment.of(1000, TimeScale.POSIX);
+        TemporalCodec.unpackMoment(m.getPosixTime(), 0x40000000);
+    }
+
+    @Test
+    public void bufferAndViews() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(3 * 20);
+        Moment m1 = Moment.of(1000, 5, TimeScale.POSIX);
+        Moment m2 = Moment.of(1000, 7, TimeScale.POSIX);
+        Moment m3 = Moment.of(-1000, 0, TimeScale.POSIX);
+        Moment[] moments = {m1, m2, m3};
+        for (Moment m : moments) {
+            TemporalCodec.write(buffer, m.toZonalTimestamp(net.time4j.tz.ZonalOffset.UTC).getCalendarDate());
+            TemporalCodec.write(buffer, m);
+        }
+        buffer.flip();
+        TemporalCodec.DateView dateView = new TemporalCodec.DateView(buffer, 0, 20);
+        TemporalCodec.MomentView v1 = new TemporalCodec.MomentView(buffer, 8, 20);
+        TemporalCodec.MomentView v2 = new TemporalCodec.MomentView(buffer, 8, 20);
+        assertThat(v1.size(), is(3));
+        assertThat(dateView.size(), is(3));
+        for (int i = 0; i < 3; i++) {
+            assertThat(v1.moveTo(i).toMoment(), is(moments[i]));
+            assertThat(v1.getPosixTime(), is(moments[i].getPosixTime()));
+            assertThat(v1.getNanosecond(), is(moments[i].getNanosecond()));
+            assertThat(
+                dateView.moveTo(i).toDate(),
+                is(moments[i].toZonalTimestamp(net.time4j.tz.ZonalOffset.UTC).getCalendarDate()));
+            assertThat(dateView.getDaysSinceEpochUTC(), is(dateView.toDate().getDaysSinceEpochUTC()));
+        }
+        assertThat(v1.moveTo(0).compareTo(v2.moveTo(1)) < 0, is(true));
+        assertThat(v1.moveTo(2).compareTo(v2.moveTo(0)) < 0, is(true));
+        assertThat(v1.moveTo(1).compareTo(v2.moveTo(1)), is(0));
+        assertThat(TemporalCodec.readDate(buffer), is(dateView.moveTo(0).toDate()));
+        assertThat(TemporalCodec.readMoment(buffer), is(m1));
+    }
+
+}
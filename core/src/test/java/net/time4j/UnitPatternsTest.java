@@ -0,0 +1,137 @@
+package net.time4j;
+
+import net.time4j.format.PluralCategory;
+import net.time4j.format.TextWidth;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class UnitPatternsTest {
+
+    @Test
+    public void templateWithPlaceholderInMiddle() {
+        UnitPatterns.Template template = new UnitPatterns.Template("in {0} days");
+        assertThat(template.hasPlaceholder(), is(true));
+        assertThat(template.getPrefix(), is("in "));
+        assertThat(template.getSuffix(), is(" days"));
+        assertThat(template.toString(), is("in {0} days"));
+    }
+
+    @Test
+    public void templateWithPlaceholderAtStart() {
+        UnitPatterns.Template template = new UnitPatterns.Template("{0} days ago");
+        assertThat(template.hasPlaceholder(), is(true));
+        assertThat(template.getPrefix(), is(""));
+        assertThat(template.getSuffix(), is(" days ago"));
+    }
+
+    @Test
+    public void templateWithPlaceholderAtEnd() {
+        UnitPatterns.Template template = new UnitPatterns.Template("+{0}");
+        assertThat(template.hasPlaceholder(), is(true));
+        assertThat(template.getPrefix(), is("+"));
+        assertThat(template.getSuffix(), is(""));
+    }
+
+    @Test
+    public void templateWithOnlyPlaceholder() {
+        UnitPatterns.Template template = new UnitPatterns.Template("{0}");
+        assertThat(template.hasPlaceholder(), is(true));
+        assertThat(template.getPrefix(), is(""));
+        assertThat(template.getSuffix(), is(""));
+    }
+
+    @Test
+    public void templateWithLiteralTextOnly() {
+        UnitPatterns.Template template = new UnitPatterns.Template("one day");
+        assertThat(template.hasPlaceholder(), is(false));
+        assertThat(template.getPrefix(), is("one day"));
+        assertThat(template.getSuffix(), is(""));
+        assertThat(template.toString(), is("one day"));
+    }
+
+    @Test
+    public void templateWithSecondPlaceholderAsLiteral() {
+        UnitPatterns.Template template = new UnitPatterns.Template("{0} of {0}");
+        assertThat(template.hasPlaceholder(), is(true));
+        assertThat(template.getPrefix(), is(""));
+        assertThat(template.getSuffix(), is(" of {0}"));
+    }
+
+    @Test
+    public void templateWithOtherBraces() {
+        UnitPatterns.Template template = new UnitPatterns.Template("{1} days");
+        assertThat(template.hasPlaceholder(), is(false));
+        assertThat(template.getPrefix(), is("{1} days"));
+    }
+
+    @Test
+    public void pluralFormSelection() {
+        UnitPatterns patterns = UnitPatterns.of(Locale.ENGLISH);
+        assertThat(
+            patterns.getTemplate(TextWidth.WIDE, PluralCategory.ONE, CalendarUnit.DAYS).toString(),
+            is("{0} day"));
+        assertThat(
+            patterns.getTemplate(TextWidth.WIDE, PluralCategory.OTHER, CalendarUnit.DAYS).toString(),
+            is("{0} days"));
+        assertThat(
+            patterns.getTemplate(TextWidth.WIDE, PluralCategory.ONE, ClockUnit.HOURS).toString(),
+            is("{0} hour"));
+        assertThat(
+            patterns.getTemplate(TextWidth.WIDE, PluralCategory.OTHER, ClockUnit.HOURS).toString(),
+            is("{0} hours"));
+    }
+
+    @Test
+    public void pluralFormSelectionInPastAndFuture() {
+        UnitPatterns patterns = UnitPatterns.of(Locale.ENGLISH);
+        assertThat(
+            patterns.getTemplateInPast(PluralCategory.ONE, false, CalendarUnit.DAYS).toString(),
+            is("{0} day ago"));
+        assertThat(
+            patterns.getTemplateInPast(PluralCategory.OTHER, false, CalendarUnit.DAYS).toString(),
+            is("{0} days ago"));
+        assertThat(
+            patterns.getTemplateInFuture(PluralCategory.ONE, false, CalendarUnit.DAYS).toString(),
+            is("in {0} day"));
+        assertThat(
+            patterns.getTemplateInFuture(PluralCategory.OTHER, false, CalendarUnit.DAYS).toString(),
+            is("in {0} days"));
+    }
+
+    @Test
+    public void templatesAreCached() {
+        UnitPatterns patterns = UnitPatterns.of(Locale.ENGLISH);
+        UnitPatterns.Template template = patterns.getTemplate(TextWidth.WIDE, PluralCategory.OTHER, CalendarUnit.DAYS);
+        assertThat(
+            patterns.getTemplate(TextWidth.WIDE, PluralCategory.OTHER, CalendarUnit.DAYS) == template,
+            is(true));
+        assertThat(UnitPatterns.of(Locale.ENGLISH) == patterns, is(true));
+    }
+
+    @Test
+    public void placeholderSubstitution() {
+        PrettyTime pt = PrettyTime.of(Locale.ENGLISH);
+        assertThat(pt.print(1, CalendarUnit.DAYS, TextWidth.WIDE), is("1 day"));
+        assertThat(pt.print(3, CalendarUnit.DAYS, TextWidth.WIDE), is("3 days"));
+        assertThat(pt.print(-3, CalendarUnit.DAYS, TextWidth.WIDE), is("-3 days"));
+        assertThat(pt.print(0, ClockUnit.HOURS, TextWidth.WIDE), is("0 hours"));
+        assertThat(pt.print(1, ClockUnit.HOURS, TextWidth.WIDE), is("1 hour"));
+        assertThat(pt.print(1234567, ClockUnit.HOURS, TextWidth.WIDE), is("1234567 hours"));
+    }
+
+    @Test
+    public void placeholderSubstitutionWithOtherZeroDigit() {
+        PrettyTime pt = PrettyTime.of(Locale.ENGLISH).withZeroDigit('٠');
+        assertThat(pt.print(305, CalendarUnit.DAYS, TextWidth.WIDE), is("٣٠٥ days"));
+        assertThat(pt.print(-305, CalendarUnit.DAYS, TextWidth.WIDE), is("-٣٠٥ days"));
+    }
+
+}
@@ -0,0 +1,374 @@
+package net.time4j.engine;
+
+import net.time4j.PlainDate;
+import net.time4j.base.TimeSource;
+import net.time4j.format.CalendarType;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class CachedCalendarSystemTest {
+
+    private static final String AXIS_PROPERTY = "net.time4j.calendar.cache.cache-test-axis";
+    private static final String FAMILY_PROPERTY = "net.time4j.calendar.cache.cache-test-family";
+
+    @Test
+    public void transformAndStatistics() {
+        CountingSystem raw = new CountingSystem();
+        CachedCalendarSystem<TestDate> calsys = CachedCalendarSystem.of(raw, 32);
+
+        for (int i = 0; i < 2; i++) {
+            for (long utcDays = 100; utcDays < 116; utcDays++) {
+                TestDate date = calsys.transform(utcDays);
+                assertThat(date.utcDays, is(utcDays));
+                assertThat(calsys.transform(date), is(utcDays));
+            }
+        }
+
+        assertThat(raw.calls, is(16));
+        assertThat(calsys.getMissCount(), is(16L));
+        assertThat(calsys.getHitCount(), is(48L));
+        assertThat(calsys.getDelegate(), sameInstance((CalendarSystem<TestDate>) raw));
+        assertThat(calsys.getMaximumSize(), is(32));
+        assertThat(calsys.getMinimumSinceUTC(), is(raw.getMinimumSinceUTC()));
+        assertThat(calsys.getMaximumSinceUTC(), is(raw.getMaximumSinceUTC()));
+        assertThat(calsys.getEras(), is(raw.getEras()));
+    }
+
+    @Test
+    public void reverseConversionIsCached() {
+        CountingSystem raw = new CountingSystem();
+        CachedCalendarSystem<TestDate> calsys = CachedCalendarSystem.of(raw, 32);
+        TestDate date = new TestDate(500);
+
+        assertThat(calsys.transform(date), is(500L));
+        assertThat(calsys.transform(500), is(date));
+        assertThat(raw.calls, is(1));
+        assertThat(calsys.getHitCount(), is(1L));
+    }
+
+    @Test
+    public void evictionAndClear() {
+        CountingSystem raw = new CountingSystem();
+        CachedCalendarSystem<TestDate> calsys = CachedCalendarSystem.of(raw, 16);
+
+        for (long utcDays = 0; utcDays < 1000; utcDays++) {
+            calsys.transform(utcDays); // evicts old entries
+        }
+        calsys.transform(0);
+        assertThat(calsys.getMissCount(), is(1001L));
+
+        calsys.transform(999);
+        assertThat(calsys.getMissCount(), is(1001L));
+        calsys.clear();
+        calsys.transform(999);
+        assertThat(calsys.getMissCount(), is(1002L));
+        assertThat(raw.calls, is(1002));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void withoutSize() {
+        CachedCalendarSystem.of(new CountingSystem(), 0);
+    }
+
+    @Test
+    public void gregorianDelegate() {
+        CalendarSystem<PlainDate> raw = PlainDate.axis().getCalendarSystem();
+        CachedCalendarSystem<PlainDate> calsys = CachedCalendarSystem.of(raw, 64);
+        PlainDate date = PlainDate.of(2018, 10, 18);
+        long utcDays = date.getDaysSinceEpochUTC();
+
+        assertThat(calsys.transform(utcDays), is(date));
+        assertThat(calsys.transform(date), is(utcDays));
+        assertThat(calsys.getHitCount(), is(1L));
+        assertThat(calsys.getMissCount(), is(1L));
+    }
+
+    @Test
+    public void configuredSize() {
+        assertThat(CachedCalendarSystem.getConfiguredSize(TestDate.class), is(0));
+        assertThat(CachedCalendarSystem.getConfiguredSize(PlainDate.class), is(0));
+        try {
+            System.setProperty(AXIS_PROPERTY, " 128 ");
+            assertThat(CachedCalendarSystem.getConfiguredSize(TestDate.class), is(128));
+            System.setProperty(AXIS_PROPERTY, "-5");
+            assertThat(CachedCalendarSystem.getConfiguredSize(TestDate.class), is(0));
+        } finally {
+            System.clearProperty(AXIS_PROPERTY);
+        }
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void configuredSizeInvalid() {
+        try {
+            System.setProperty(AXIS_PROPERTY, "many");
+            CachedCalendarSystem.getConfiguredSize(TestDate.class);
+        } finally {
+            System.clearProperty(AXIS_PROPERTY);
+        }
+    }
+
+    @Test
+    public void timeAxisWithoutProperty() {
+        CalendarSystem<TestDate> calsys = TestDate.buildAxis().getCalendarSystem();
+        assertThat(calsys, instanceOf(CountingSystem.class));
+    }
+
+    @Test
+    public void timeAxisWithProperty() {
+        CalendarSystem<TestDate> calsys;
+        try {
+            System.setProperty(AXIS_PROPERTY, "256");
+            calsys = TestDate.buildAxis().getCalendarSystem();
+        } finally {
+            System.clearProperty(AXIS_PROPERTY);
+        }
+        assertThat(calsys, instanceOf(CachedCalendarSystem.class));
+        CachedCalendarSystem<TestDate> cached = (CachedCalendarSystem<TestDate>) calsys;
+        assertThat(cached.getMaximumSize(), is(256));
+        assertThat(cached.getDelegate(), instanceOf(CountingSystem.class));
+    }
+
+    @Test
+    public void calendarFamilyWithoutProperty() {
+        CalendarFamily<TestVariant> family = TestVariant.buildFamily();
+        assertThat(family.getCalendarSystem("a"), instanceOf(VariantSystem.class));
+    }
+
+    @Test
+    public void calendarFamilyWithProperty() {
+        CalendarFamily<TestVariant> family;
+        try {
+            System.setProperty(FAMILY_PROPERTY, "64");
+            family = TestVariant.buildFamily();
+        } finally {
+            System.clearProperty(FAMILY_PROPERTY);
+        }
+        CalendarSystem<TestVariant> a = family.getCalendarSystem("a");
+        CalendarSystem<TestVariant> b = family.getCalendarSystem("b");
+        assertThat(a, instanceOf(CachedCalendarSystem.class));
+        assertThat(((CachedCalendarSystem<TestVariant>) a).getMaximumSize(), is(64));
+        assertThat(family.getCalendarSystem("a"), sameInstance(a)); // cache per variant
+        assertThat(b, not(sameInstance(a)));
+        assertThat(a.transform(7).getVariant(), is("a"));
+        assertThat(b.transform(7).getVariant(), is("b"));
+    }
+
+    private static class CountingSystem
+        implements CalendarSystem<TestDate> {
+
+        private int calls = 0;
+
+        @Override
+        public TestDate transform(long utcDays) {
+            this.calls++;
+            return new TestDate(utcDays);
+        }
+
+        @Override
+        public long transform(TestDate date) {
+            this.calls++;
+            return date.utcDays;
+        }
+
+        @Override
+        public long getMinimumSinceUTC() {
+            return -100000;
+        }
+
+        @Override
+        public long getMaximumSinceUTC() {
+            return 100000;
+        }
+
+        @Override
+        public List<CalendarEra> getEras() {
+            return Collections.emptyList();
+        }
+
+    }
+
+    private static class VariantSystem
+        implements CalendarSystem<TestVariant> {
+
+        private final String variant;
+
+        VariantSystem(String variant) {
+            this.variant = variant;
+        }
+
+        @Override
+        public TestVariant transform(long utcDays) {
+            return new TestVariant(this.variant, utcDays);
+        }
+
+        @Override
+        public long transform(TestVariant date) {
+            return date.utcDays;
+        }
+
+        @Override
+        public long getMinimumSinceUTC() {
+            return -100000;
+        }
+
+        @Override
+        public long getMaximumSinceUTC() {
+            return 100000;
+        }
+
+        @Override
+        public List<CalendarEra> getEras() {
+            return Collections.emptyList();
+        }
+
+    }
+
+    private static class NoMerger<T>
+        implements ChronoMerger<T> {
+
+        @Override
+        public T createFrom(
+            TimeSource<?> clock,
+            AttributeQuery attributes
+        ) {
+            return null;
+        }
+
+        @Override
+        @Deprecated
+        public T createFrom(
+            ChronoEntity<?> entity,
+            AttributeQuery attributes,
+            boolean preparsing
+        ) {
+            return null;
+        }
+
+    }
+
+    private enum Unit {
+        DAYS
+    }
+
+    @CalendarType("cache-test-axis")
+    private static class TestDate
+        extends Calendrical<Unit, TestDate> {
+
+        private final long utcDays;
+        private transient TimeAxis<Unit, TestDate> axis;
+
+        TestDate(long utcDays) {
+            this.utcDays = utcDays;
+        }
+
+        static TimeAxis<Unit, TestDate> buildAxis() {
+            UnitRule<TestDate> rule =
+                new UnitRule<TestDate>() {
+                    @Override
+                    public TestDate addTo(TestDate timepoint, long amount) {
+                        return new TestDate(timepoint.utcDays + amount);
+                    }
+                    @Override
+                    public long between(TestDate start, TestDate end) {
+                        return end.utcDays - start.utcDays;
+                    }
+                };
+            return TimeAxis.Builder.setUp(Unit.class, TestDate.class, new NoMerger<>(), new CountingSystem())
+                .appendUnit(Unit.DAYS, rule, 86400.0)
+                .build();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return (obj instanceof TestDate) && (((TestDate) obj).utcDays == this.utcDays);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(this.utcDays);
+        }
+
+        @Override
+        public String toString() {
+            return "TestDate[" + this.utcDays + "]";
+        }
+
+        @Override
+        protected TimeAxis<Unit, TestDate> getChronology() {
+            if (this.axis == null) {
+                this.axis = buildAxis();
+            }
+            return this.axis;
+        }
+
+    }
+
+    @CalendarType("cache-test-family")
+    private static class TestVariant
+        extends CalendarVariant<TestVariant> {
+
+        private final String variant;
+        private final long utcDays;
+
+        TestVariant(
+            String variant,
+            long utcDays
+        ) {
+            this.variant = variant;
+            this.utcDays = utcDays;
+        }
+
+        static CalendarFamily<TestVariant> buildFamily() {
+            Map<String, CalendarSystem<TestVariant>> calendars = new HashMap<>();
+            calendars.put("a", new VariantSystem("a"));
+            calendars.put("b", new VariantSystem("b"));
+            return CalendarFamily.Builder.setUp(TestVariant.class, new NoMerger<>(), calendars).build();
+        }
+
+        @Override
+        public String getVariant() {
+            return this.variant;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof TestVariant) {
+                TestVariant that = (TestVariant) obj;
+                return this.variant.equals(that.variant) && (this.utcDays == that.utcDays);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.variant.hashCode() + 31 * Long.hashCode(this.utcDays);
+        }
+
+        @Override
+        public String toString() {
+            return "TestVariant[" + this.variant + "," + this.utcDays + "]";
+        }
+
+        @Override
+        protected CalendarFamily<TestVariant> getChronology() {
+            return buildFamily();
+        }
+
+    }
+
+}
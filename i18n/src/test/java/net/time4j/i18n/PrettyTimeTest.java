@@ -4,6 +4,7 @@ import net.time4j.CalendarUnit;
 import net.time4j.ClockUnit;
 import net.time4j.Duration;
 import net.time4j.IsoUnit;
+import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
 import net.time4j.PrettyTime;
@@ -25,7 +26,10 @@ import org.junit.runners.JUnit4;
 import java.io.IOException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static net.time4j.CalendarUnit.*;
@@ -93,6 +97,70 @@ public class PrettyTimeTest {
             is("2 h")); // inherited from Brazilian, does not exist in pt_PT-resource
     }
 
+    @Test
+    public void relativePrinterConsistentWithPrintRelative() {
+        Moment ref = PlainTimestamp.of(2014, 3, 29, 22, 15, 30).atUTC(); // shortly before dst-change
+        TimeSource<?> clock = () -> ref;
+        Timezone tz = Timezone.of("Europe/Berlin");
+        long[] deltas = {0, 59, 61, 3599, 7199, 14400, 86399, 172800, 40000000};
+        String[] expectedSeconds = {
+            "now", "now", "59 seconds ago", "in 59 seconds", "1 minute ago", "in 1 minute",
+            "59 minutes ago", "in 59 minutes", "1 hour ago", "in 1 hour", "4 hours ago", "in 4 hours",
+            "23 hours ago", "in 23 hours", "2 days ago", "in 2 days", "1 year ago", "in 1 year"
+        };
+        String[] expectedMinutes = {
+            "now", "now", "now", "now", "1 minute ago", "in 1 minute",
+            "59 minutes ago", "in 59 minutes", "1 hour ago", "in 1 hour", "4 hours ago", "in 4 hours",
+            "23 hours ago", "in 23 hours", "2 days ago", "in 2 days", "1 year ago", "in 1 year"
+        };
+        String[] expectedDays = {
+            "today", "today", "today", "today", "today", "today",
+            "today", "today", "today", "today", "today", "today",
+            "today", "today", "2 days ago", "in 2 days", "1 year ago", "in 1 year"
+        };
+        Map<TimeUnit, String[]> expectations = new LinkedHashMap<>();
+        expectations.put(TimeUnit.SECONDS, expectedSeconds);
+        expectations.put(TimeUnit.MINUTES, expectedMinutes);
+        expectations.put(TimeUnit.DAYS, expectedDays);
+
+        for (Map.Entry<TimeUnit, String[]> entry : expectations.entrySet()) {
+            TimeUnit precision = entry.getKey();
+            PrettyTime pt = PrettyTime.of(Locale.ENGLISH).withReferenceClock(clock);
+            PrettyTime.RelativePrinter printer = pt.relativeTo(ref, tz, precision);
+            int index = 0;
+
+            for (long delta : deltas) {
+                for (int sign = -1; sign <= 1; sign += 2) {
+                    Moment m = ref.plus(sign * delta, TimeUnit.SECONDS).plus(sign * 250, TimeUnit.MILLISECONDS);
+                    String expected = entry.getValue()[index++];
+                    assertThat(printer.print(m), is(expected));
+                    assertThat(pt.printRelative(m, tz, precision), is(expected));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void relativePrinterPrintAll() {
+        Moment ref = PlainTimestamp.of(2014, 9, 4, 14, 40, 10).atUTC();
+        PrettyTime.RelativePrinter printer = PrettyTime.of(Locale.ENGLISH).relativeTo(ref, Timezone.of(ZonalOffset.UTC));
+        StringBuilder buffer = new StringBuilder("Digest: ");
+
+        printer.printAll(
+            Arrays.asList(
+                ref,
+                PlainTimestamp.of(2014, 9, 4, 14, 40, 5).atUTC(),
+                PlainTimestamp.of(2014, 9, 4, 12, 40, 5).atUTC(),
+                PlainTimestamp.of(2014, 9, 5, 14, 40, 10).atUTC()),
+            buffer,
+            "; ");
+
+        assertThat(printer.getReference(), is(ref));
+        assertThat(
+            buffer.toString(),
+            is("Digest: now; 5 seconds ago; 2 hours ago; tomorrow"));
+    }
+
     @Test
     public void printRelativeOrDate() {
         TimeSource<?> clock = () -> PlainTimestamp.of(2014, 9, 4, 14, 40).atUTC();
@@ -50,6 +50,28 @@ class BusinessDayUnit
     BusinessDayUnit(final HolidayModel model) {
         super();
 
+        if (model instanceof CompiledHolidayModel) {
+            CompiledHolidayModel compiled = (CompiledHolidayModel) model;
+            this.dateRule =
+                new UnitRule<PlainDate>() {
+                    @Override
+                    public PlainDate addTo(
+                        PlainDate date,
+                        long amount
+                    ) {
+                        return compiled.addBusinessDays(date, amount);
+                    }
+                    @Override
+                    public long between(
+                        PlainDate start,
+                        PlainDate end
+                    ) {
+                        return compiled.between(start, end);
+                    }
+                };
+            return;
+        }
+
         this.dateRule =
             new UnitRule<PlainDate>() {
                 @Override
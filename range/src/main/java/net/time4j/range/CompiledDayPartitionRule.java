@@ -0,0 +1,216 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CompiledDayPartitionRule.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.Weekday;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+
+/**
+ * <p>Day partition rule as built by {@code DayPartitionBuilder} which stores the partitions of every
+ * weekday and every special date as precompiled table. </p>
+ *
+ * <p>Every table contains the unmodifiable list of partitions and the same partitions as primitive
+ * ranges of nanoseconds of day so that neither the lookup nor the matching of a timestamp nor the
+ * conversion to moments need to allocate any objects. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.37
+ * @doctags.concurrency {immutable}
+ */
+final class CompiledDayPartitionRule
+    implements DayPartitionRule {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Predicate<PlainDate> activeFilter;
+    private final Table[] weekdays; // index = weekday value - 1
+    private final Map<PlainDate, Table> specials;
+    private final Set<PlainDate> exclusions;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    CompiledDayPartitionRule(
+        Predicate<PlainDate> activeFilter,
+        Map<Weekday, List<ChronoInterval<PlainTime>>> weekdayRules,
+        Map<PlainDate, List<ChronoInterval<PlainTime>>> exceptionRules,
+        Set<PlainDate> exclusions
+    ) {
+        super();
+
+        Table[] w = new Table[7];
+
+        for (Map.Entry<Weekday, List<ChronoInterval<PlainTime>>> entry : weekdayRules.entrySet()) {
+            w[entry.getKey().getValue() - 1] = new Table(entry.getValue());
+        }
+
+        Map<PlainDate, Table> s = new HashMap<>(exceptionRules.size() * 2);
+
+        for (Map.Entry<PlainDate, List<ChronoInterval<PlainTime>>> entry : exceptionRules.entrySet()) {
+            s.put(entry.getKey(), new Table(entry.getValue()));
+        }
+
+        this.activeFilter = activeFilter;
+        this.weekdays = w;
+        this.specials = s;
+        this.exclusions = new HashSet<>(exclusions);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public List<ChronoInterval<PlainTime>> getPartition(PlainDate date) {
+
+        Table table = this.getTable(date);
+        return ((table == null) ? Collections.emptyList() : table.partitions);
+
+    }
+
+    @Override
+    public boolean isExcluded(PlainDate date) {
+
+        return (!this.exclusions.isEmpty() && this.exclusions.contains(date));
+
+    }
+
+    @Override
+    public boolean matches(PlainTimestamp timestamp) {
+
+        Table table = this.getTable(timestamp.getCalendarDate());
+
+        if (table != null) {
+            long nanoOfDay = timestamp.getWallTime().get(PlainTime.NANO_OF_DAY).longValue();
+            long[] ranges = table.ranges;
+
+            for (int i = 0; i < ranges.length; i += 2) {
+                if (nanoOfDay < ranges[i]) {
+                    break; // ranges are sorted
+                } else if (nanoOfDay < ranges[i + 1]) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+
+    }
+
+    /**
+     * <p>Obtains the partitions of given date as flat array of pairs of nanoseconds of day. </p>
+     *
+     * <p>Every pair consists of the inclusive start and the exclusive end. </p>
+     *
+     * @param   date    the calendar date to be queried
+     * @return  sorted ranges (maybe {@code null} if there are no partitions)
+     */
+    long[] getRanges(PlainDate date) {
+
+        Table table = this.getTable(date);
+        return ((table == null) ? null : table.ranges);
+
+    }
+
+    private Table getTable(PlainDate date) {
+
+        if (this.isExcluded(date) || !this.activeFilter.test(date)) {
+            return null;
+        }
+
+        Table table = (this.specials.isEmpty() ? null : this.specials.get(date));
+
+        if (table == null) {
+            table = this.weekdays[date.getDayOfWeek().getValue() - 1];
+        }
+
+        return table;
+
+    }
+
+    /**
+     * <p>Converts the partitions to sorted ranges of nanoseconds of day. </p>
+     *
+     * @param   partitions  canonical clock intervals
+     * @return  flat array of pairs of inclusive start and exclusive end
+     */
+    static long[] toRanges(List<ChronoInterval<PlainTime>> partitions) {
+
+        long[] ranges = new long[partitions.size() * 2];
+        int i = 0;
+
+        for (ChronoInterval<PlainTime> partition : partitions) {
+            ranges[i++] = toNanoOfDay(partition.getStart(), false);
+            ranges[i++] = toNanoOfDay(partition.getEnd(), true);
+        }
+
+        return ranges;
+
+    }
+
+    private static long toNanoOfDay(
+        Boundary<PlainTime> boundary,
+        boolean end
+    ) {
+
+        long nanos = boundary.getTemporal().get(PlainTime.NANO_OF_DAY).longValue();
+
+        if (boundary.isOpen() != end) {
+            nanos++; // open start or closed end
+        }
+
+        return nanos;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class Table {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final List<ChronoInterval<PlainTime>> partitions;
+        private final long[] ranges;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Table(List<ChronoInterval<PlainTime>> partitions) {
+            super();
+
+            this.partitions = Collections.unmodifiableList(new ArrayList<>(partitions));
+            this.ranges = toRanges(partitions);
+
+        }
+
+    }
+
+}
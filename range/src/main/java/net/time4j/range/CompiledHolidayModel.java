@@ -0,0 +1,435 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CompiledHolidayModel.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.engine.ChronoException;
+import net.time4j.engine.ChronoFunction;
+import net.time4j.engine.ChronoOperator;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+
+/**
+ * <p>Holiday model which evaluates another model only once per calendar year and then
+ * stores the result as bitmap of non-business days together with prefix counts of
+ * business days. </p>
+ *
+ * <p>The year tables are built lazily on first access and cached. Adding business days
+ * or counting them between two dates only needs one step per year plus some bit
+ * counting. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.37
+ * @doctags.concurrency {threadsafe}
+ */
+final class CompiledHolidayModel
+    implements HolidayModel {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final HolidayModel source;
+    private final ConcurrentMap<Integer, YearTable> tables;
+    private volatile YearTable last;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    CompiledHolidayModel(HolidayModel source) {
+        super();
+
+        if (source == null) {
+            throw new NullPointerException("Missing holiday model.");
+        }
+
+        this.source = source;
+        this.tables = new ConcurrentHashMap<>();
+        this.last = null;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public boolean test(PlainDate date) {
+
+        return this.getTable(date.getYear()).isHoliday(date.getDayOfYear());
+
+    }
+
+    @Override
+    public ChronoOperator<PlainDate> nextBusinessDay() {
+
+        return date -> this.addBusinessDays(date, 1);
+
+    }
+
+    @Override
+    public ChronoOperator<PlainDate> nextOrSameBusinessDay() {
+
+        return date -> (this.test(date) ? this.addBusinessDays(date, 1) : date);
+
+    }
+
+    @Override
+    public ChronoOperator<PlainDate> previousBusinessDay() {
+
+        return date -> this.addBusinessDays(date, -1);
+
+    }
+
+    @Override
+    public ChronoOperator<PlainDate> previousOrSameBusinessDay() {
+
+        return date -> (this.test(date) ? this.addBusinessDays(date, -1) : date);
+
+    }
+
+    @Override
+    public ChronoFunction<ChronoInterval<PlainDate>, PlainDate> firstBusinessDay() {
+
+        return interval -> {
+            if (!interval.isFinite()) {
+                throw new ChronoException("Cannot query infinite intervals.");
+            }
+            PlainDate start = interval.getStart().getTemporal();
+            PlainDate end = interval.getEnd().getTemporal();
+            if (this.test(start)) {
+                if (!start.isBefore(end)) {
+                    return null;
+                }
+                start = this.addBusinessDays(start, 1);
+                if (start.isAfter(end)) {
+                    return null;
+                }
+            }
+            return start;
+        };
+
+    }
+
+    @Override
+    public ChronoFunction<ChronoInterval<PlainDate>, PlainDate> lastBusinessDay() {
+
+        return interval -> {
+            if (!interval.isFinite()) {
+                throw new ChronoException("Cannot query infinite intervals.");
+            }
+            PlainDate start = interval.getStart().getTemporal();
+            PlainDate end = interval.getEnd().getTemporal();
+            if (this.test(end)) {
+                if (!end.isAfter(start)) {
+                    return null;
+                }
+                end = this.addBusinessDays(end, -1);
+                if (start.isAfter(end)) {
+                    return null;
+                }
+            }
+            return end;
+        };
+
+    }
+
+    @Override
+    public ChronoFunction<ChronoInterval<PlainDate>, Integer> countOfBusinessDays() {
+
+        return interval -> {
+            if (!interval.isFinite()) {
+                throw new ChronoException("Cannot query infinite intervals.");
+            } else if (interval.isEmpty()) {
+                return Integer.valueOf(0);
+            }
+            DateInterval di = DateInterval.from(interval);
+            return toInteger(this.countInclusive(di.getClosedFiniteStart(), di.getClosedFiniteEnd()));
+        };
+
+    }
+
+    @Override
+    public ChronoFunction<ChronoInterval<PlainDate>, Integer> countOfHolidays() {
+
+        return interval -> {
+            if (!interval.isFinite()) {
+                throw new ChronoException("Cannot query infinite intervals.");
+            } else if (interval.isEmpty()) {
+                return Integer.valueOf(0);
+            }
+            DateInterval di = DateInterval.from(interval);
+            PlainDate start = di.getClosedFiniteStart();
+            PlainDate end = di.getClosedFiniteEnd();
+            long days = CalendarUnit.DAYS.between(start, end) + 1;
+            return toInteger(days - this.countInclusive(start, end));
+        };
+
+    }
+
+    @Override
+    public HolidayModel compile() {
+
+        return this;
+
+    }
+
+    /**
+     * <p>Adds given count of business days to given date. </p>
+     *
+     * <p>Equivalent to applying {@link #nextBusinessDay()} or {@link #previousBusinessDay()}
+     * repeatedly. </p>
+     *
+     * @param   date    start date
+     * @param   amount  count of business days (maybe negative)
+     * @return  shifted date
+     * @throws  ArithmeticException if the result is out of range
+     */
+    PlainDate addBusinessDays(
+        PlainDate date,
+        long amount
+    ) {
+
+        if (amount == 0) {
+            return date;
+        }
+
+        int year = date.getYear();
+        YearTable table = this.getTable(year);
+        int doy = date.getDayOfYear();
+        long k; // k-th business day within year
+
+        if (amount > 0) {
+            k = MathUtils.safeAdd(table.rank(doy), amount);
+
+            while (k > table.total) {
+                k -= table.total;
+                year = nextYear(year, 1);
+                table = this.getTable(year);
+            }
+        } else {
+            k = MathUtils.safeAdd(table.rank(doy) - (table.isHoliday(doy) ? 0 : 1) + 1, amount);
+
+            while (k <= 0) {
+                year = nextYear(year, -1);
+                table = this.getTable(year);
+                k += table.total;
+            }
+        }
+
+        return PlainDate.of(year, table.select((int) k));
+
+    }
+
+    /**
+     * <p>Counts the business days between given dates in the same way as the business day unit. </p>
+     *
+     * <p>If start is before end then all business days in the half-open range {@code (start, end]}
+     * will be counted, otherwise the negative count of business days in {@code (end, start]}. </p>
+     *
+     * @param   start   first date
+     * @param   end     second date
+     * @return  count of business days (maybe negative)
+     */
+    long between(
+        PlainDate start,
+        PlainDate end
+    ) {
+
+        if (start.isAfter(end)) {
+            return -this.between(end, start);
+        }
+
+        int y1 = start.getYear();
+        int y2 = end.getYear();
+        YearTable table = this.getTable(y1);
+
+        if (y1 == y2) {
+            return table.rank(end.getDayOfYear()) - table.rank(start.getDayOfYear());
+        }
+
+        long count = table.total - table.rank(start.getDayOfYear());
+
+        for (int y = y1 + 1; y < y2; y++) {
+            count += this.getTable(y).total;
+        }
+
+        return count + this.getTable(y2).rank(end.getDayOfYear());
+
+    }
+
+    // counts the business days in closed range [start, end]
+    private long countInclusive(
+        PlainDate start,
+        PlainDate end
+    ) {
+
+        return this.between(start, end) + (this.test(start) ? 0 : 1);
+
+    }
+
+    private YearTable getTable(int year) {
+
+        YearTable table = this.last;
+
+        if ((table != null) && (table.year == year)) {
+            return table;
+        }
+
+        Integer key = Integer.valueOf(year);
+        table = this.tables.get(key);
+
+        if (table == null) {
+            table = new YearTable(year, this.source);
+            YearTable old = this.tables.putIfAbsent(key, table);
+            if (old != null) {
+                table = old;
+            }
+        }
+
+        this.last = table;
+        return table;
+
+    }
+
+    private static int nextYear(
+        int year,
+        int step
+    ) {
+
+        int next = year + step;
+
+        if ((next < GregorianMath.MIN_YEAR) || (next > GregorianMath.MAX_YEAR)) {
+            throw new ArithmeticException("Business day arithmetic out of range: " + next);
+        }
+
+        return next;
+
+    }
+
+    private static Integer toInteger(long count) {
+
+        if (count > Integer.MAX_VALUE) {
+            throw new ArithmeticException("Numerical overflow.");
+        }
+
+        return Integer.valueOf((int) count);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Bitmap of non-business days in one calendar year. </p>
+     */
+    private static final class YearTable {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int year;
+        private final long[] holidays; // bit set for non-business days, index = day-of-year - 1
+        private final int[] counts; // count of business days before the word with same index
+        private final int total;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        YearTable(
+            int year,
+            HolidayModel model
+        ) {
+            super();
+
+            int length = GregorianMath.isLeapYear(year) ? 366 : 365;
+            long[] bits = new long[(length + 63) >>> 6];
+            PlainDate date = PlainDate.of(year, 1);
+
+            for (int i = 0; i < length; i++) {
+                if (model.test(date)) {
+                    bits[i >>> 6] |= (1L << (i & 63));
+                }
+                if (i < length - 1) {
+                    date = date.plus(1, CalendarUnit.DAYS);
+                }
+            }
+
+            // days beyond the end of year are marked as non-business days
+            for (int i = length; i < (bits.length << 6); i++) {
+                bits[i >>> 6] |= (1L << (i & 63));
+            }
+
+            int[] prefix = new int[bits.length];
+            int sum = 0;
+
+            for (int w = 0; w < bits.length; w++) {
+                prefix[w] = sum;
+                sum += Long.bitCount(~bits[w]);
+            }
+
+            this.year = year;
+            this.holidays = bits;
+            this.counts = prefix;
+            this.total = sum;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        boolean isHoliday(int doy) {
+
+            int index = doy - 1;
+            return ((this.holidays[index >>> 6] & (1L << (index & 63))) != 0);
+
+        }
+
+        // count of business days in range [1, doy]
+        int rank(int doy) {
+
+            int index = doy - 1;
+            int w = index >>> 6;
+            int bit = index & 63;
+            long mask = ((bit == 63) ? -1L : (1L << (bit + 1)) - 1);
+            return this.counts[w] + Long.bitCount(~this.holidays[w] & mask);
+
+        }
+
+        // day-of-year of k-th business day (1 <= k <= total)
+        int select(int k) {
+
+            int w = this.counts.length - 1;
+
+            while (this.counts[w] >= k) {
+                w--;
+            }
+
+            long free = ~this.holidays[w];
+
+            for (int i = k - this.counts[w]; i > 1; i--) {
+                free &= (free - 1); // clear lowest business day
+            }
+
+            return (w << 6) + Long.numberOfTrailingZeros(free) + 1;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,430 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ConcurrentIntervalTree.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.TimeLine;
+
+import java.util.AbstractCollection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+
+/**
+ * <p>Mutable interval tree which supports insertion and removal of intervals in logarithmic time
+ * and can be queried by many threads concurrently. </p>
+ *
+ * <p>Every modification creates a new immutable {@link IntervalTree} which shares all nodes with the
+ * previous version except those on the modified path (copy-on-write with path copying). Writers are
+ * serialized among each other, but readers never block and never wait for writers: every query works
+ * on the snapshot which was current at the start of the query. Iterators are hence weakly consistent
+ * and never throw any {@code ConcurrentModificationException}. </p>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *     ConcurrentIntervalTree&lt;PlainDate, DateInterval&gt; tree = ConcurrentIntervalTree.onDateAxis();
+ *     DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 5, 31));
+ *     DateInterval i2 = DateInterval.between(PlainDate.of(2014, 5, 31), PlainDate.of(2014, 6, 1));
+ *     tree.add(i1);
+ *     tree.add(i2);
+ *     tree.remove(i1);
+ *     System.out.println(tree.findIntersections(PlainDate.of(2014, 5, 31))); // [[2014-05-31/2014-06-01]]
+ * </pre>
+ *
+ * @param   <T> the temporal type of time points in intervals
+ * @param   <I> the type of intervals stored in the tree
+ * @author  Meno Hochschild
+ * @since   4.37
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Ver&auml;nderlicher Intervallbaum, der das Einf&uuml;gen und Entfernen von Intervallen in
+ * logarithmischer Zeit unterst&uuml;tzt und von vielen Threads gleichzeitig abgefragt werden kann. </p>
+ *
+ * <p>Jede &Auml;nderung erzeugt einen neuen unver&auml;nderlichen {@link IntervalTree}, der sich alle
+ * Knoten mit der vorherigen Version teilt, au&szlig;er denen auf dem ge&auml;nderten Pfad (copy-on-write
+ * mit Pfadkopie). Schreibende Threads werden untereinander serialisiert, aber lesende Threads blockieren
+ * nie und warten nie auf schreibende Threads: Jede Abfrage arbeitet mit dem Schnappschuss, der zu Beginn
+ * der Abfrage aktuell war. Iteratoren sind deshalb schwach konsistent und werfen nie eine
+ * {@code ConcurrentModificationException}. </p>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *     ConcurrentIntervalTree&lt;PlainDate, DateInterval&gt; tree = ConcurrentIntervalTree.onDateAxis();
+ *     DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 5, 31));
+ *     DateInterval i2 = DateInterval.between(PlainDate.of(2014, 5, 31), PlainDate.of(2014, 6, 1));
+ *     tree.add(i1);
+ *     tree.add(i2);
+ *     tree.remove(i1);
+ *     System.out.println(tree.findIntersections(PlainDate.of(2014, 5, 31))); // [[2014-05-31/2014-06-01]]
+ * </pre>
+ *
+ * @param   <T> the temporal type of time points in intervals
+ * @param   <I> the type of intervals stored in the tree
+ * @author  Meno Hochschild
+ * @since   4.37
+ * @doctags.concurrency {threadsafe}
+ */
+public final class ConcurrentIntervalTree<T, I extends ChronoInterval<T>>
+    extends AbstractCollection<I> {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Object lock = new Object();
+    private volatile IntervalTree<T, I> snapshot;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ConcurrentIntervalTree(IntervalTree<T, I> initial) {
+        super();
+
+        this.snapshot = initial;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates an empty concurrent interval tree on the date axis. </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @return  new empty interval tree
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen leeren nebenl&auml;ufigen Intervallbaum auf der Datumsachse. </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @return  new empty interval tree
+     */
+    public static <I extends ChronoInterval<PlainDate>> ConcurrentIntervalTree<PlainDate, I> onDateAxis() {
+
+        return ConcurrentIntervalTree.onTimeLine(PlainDate.axis());
+
+    }
+
+    /**
+     * <p>Creates an empty concurrent interval tree on the timestamp axis. </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @return  new empty interval tree
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen leeren nebenl&auml;ufigen Intervallbaum auf der Zeitstempelachse. </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @return  new empty interval tree
+     */
+    public static <I extends ChronoInterval<PlainTimestamp>>
+    ConcurrentIntervalTree<PlainTimestamp, I> onTimestampAxis() {
+
+        return ConcurrentIntervalTree.onTimeLine(PlainTimestamp.axis());
+
+    }
+
+    /**
+     * <p>Creates an empty concurrent interval tree on the moment axis (UTC). </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @return  new empty interval tree
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen leeren nebenl&auml;ufigen Intervallbaum auf der Momentachse (UTC). </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @return  new empty interval tree
+     */
+    public static <I extends ChronoInterval<Moment>> ConcurrentIntervalTree<Moment, I> onMomentAxis() {
+
+        return ConcurrentIntervalTree.onTimeLine(Moment.axis());
+
+    }
+
+    /**
+     * <p>Creates an empty concurrent interval tree on given timeline. </p>
+     *
+     * @param   <T> the temporal type of time points in intervals
+     * @param   <I> the type of intervals stored in the tree
+     * @param   timeLine    the underlying timeline
+     * @return  new empty interval tree
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen leeren nebenl&auml;ufigen Intervallbaum auf dem angegebenen Zeitstrahl. </p>
+     *
+     * @param   <T> the temporal type of time points in intervals
+     * @param   <I> the type of intervals stored in the tree
+     * @param   timeLine    the underlying timeline
+     * @return  new empty interval tree
+     */
+    public static <T, I extends ChronoInterval<T>> ConcurrentIntervalTree<T, I> onTimeLine(TimeLine<T> timeLine) {
+
+        return new ConcurrentIntervalTree<>(IntervalTree.onTimeLine(timeLine, Collections.emptyList()));
+
+    }
+
+    /**
+     * <p>Creates a concurrent interval tree which initially contains all intervals of given tree. </p>
+     *
+     * <p>The initial tree will be used as it is without any copying. </p>
+     *
+     * @param   <T> the temporal type of time points in intervals
+     * @param   <I> the type of intervals stored in the tree
+     * @param   initial     the initial interval tree
+     * @return  new concurrent interval tree
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen nebenl&auml;ufigen Intervallbaum, der anfangs alle Intervalle des angegebenen
+     * Baums enth&auml;lt. </p>
+     *
+     * <p>Der Anfangsbaum wird ohne Kopieren so verwendet, wie er ist. </p>
+     *
+     * @param   <T> the temporal type of time points in intervals
+     * @param   <I> the type of intervals stored in the tree
+     * @param   initial     the initial interval tree
+     * @return  new concurrent interval tree
+     */
+    public static <T, I extends ChronoInterval<T>> ConcurrentIntervalTree<T, I> from(IntervalTree<T, I> initial) {
+
+        if (initial == null) {
+            throw new NullPointerException("Missing initial interval tree.");
+        }
+
+        return new ConcurrentIntervalTree<>(initial);
+
+    }
+
+    /**
+     * <p>Obtains the current state of this tree as immutable snapshot. </p>
+     *
+     * <p>This operation is very cheap because no copying is involved. Later modifications of
+     * this tree do not affect the returned snapshot. </p>
+     *
+     * @return  immutable interval tree
+     */
+    /*[deutsch]
+     * <p>Liefert den aktuellen Zustand dieses Baums als unver&auml;nderlichen Schnappschuss. </p>
+     *
+     * <p>Diese Operation ist sehr billig, weil nichts kopiert wird. Sp&auml;tere &Auml;nderungen
+     * dieses Baums wirken sich nicht auf den Schnappschuss aus. </p>
+     *
+     * @return  immutable interval tree
+     */
+    public IntervalTree<T, I> snapshot() {
+
+        return this.snapshot;
+
+    }
+
+    /**
+     * <p>Inserts given interval in {@code O(log n)}-time. </p>
+     *
+     * <p>Empty intervals will not be stored. Duplicates are permitted. </p>
+     *
+     * @param   interval    the interval to be added
+     * @return  {@code true} if the interval is not empty else {@code false}
+     * @throws  ArithmeticException if the count of intervals overflows an int
+     */
+    /*[deutsch]
+     * <p>F&uuml;gt das angegebene Intervall in {@code O(log n)}-Zeit ein. </p>
+     *
+     * <p>Leere Intervalle werden nicht gespeichert. Duplikate sind erlaubt. </p>
+     *
+     * @param   interval    the interval to be added
+     * @return  {@code true} if the interval is not empty else {@code false}
+     * @throws  ArithmeticException if the count of intervals overflows an int
+     */
+    @Override
+    public boolean add(I interval) {
+
+        if (interval.isEmpty()) {
+            return false;
+        }
+
+        synchronized (this.lock) {
+            this.snapshot = this.snapshot.plus(interval);
+        }
+
+        return true;
+
+    }
+
+    /**
+     * <p>Removes one occurrence of given interval in {@code O(log n)}-time. </p>
+     *
+     * @param   obj     the interval to be removed
+     * @return  {@code true} if the interval was found and removed else {@code false}
+     * @throws  ClassCastException if given interval has an incompatible temporal type
+     */
+    /*[deutsch]
+     * <p>Entfernt ein Vorkommen des angegebenen Intervalls in {@code O(log n)}-Zeit. </p>
+     *
+     * @param   obj     the interval to be removed
+     * @return  {@code true} if the interval was found and removed else {@code false}
+     * @throws  ClassCastException if given interval has an incompatible temporal type
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean remove(Object obj) {
+
+        if (!(obj instanceof ChronoInterval)) {
+            return false;
+        }
+
+        ChronoInterval<T> interval = (ChronoInterval<T>) obj;
+
+        synchronized (this.lock) {
+            IntervalTree<T, I> old = this.snapshot;
+            IntervalTree<T, I> tree = old.minus(interval);
+            this.snapshot = tree;
+            return (tree != old);
+        }
+
+    }
+
+    /**
+     * <p>Removes all intervals. </p>
+     */
+    /*[deutsch]
+     * <p>Entfernt alle Intervalle. </p>
+     */
+    @Override
+    public void clear() {
+
+        synchronized (this.lock) {
+            this.snapshot = IntervalTree.onTimeLine(this.snapshot.getTimeLine(), Collections.emptyList());
+        }
+
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        return this.snapshot.isEmpty();
+
+    }
+
+    /**
+     * <p>Obtains a read-only iterator over the current snapshot. </p>
+     *
+     * @return  weakly consistent {@code Iterator} which is read-only
+     */
+    /*[deutsch]
+     * <p>Liefert einen {@code Iterator} &uuml;ber den aktuellen Schnappschuss. </p>
+     *
+     * @return  weakly consistent {@code Iterator} which is read-only
+     */
+    @Override
+    public Iterator<I> iterator() {
+
+        return this.snapshot.iterator();
+
+    }
+
+    @Override
+    public int size() {
+
+        return this.snapshot.size();
+
+    }
+
+    /**
+     * <p>Obtains a list of all stored intervals which intersect given point in time. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @return  unmodifiable list of all stored intervals which contain given point in time, maybe empty
+     * @see     IntervalTree#findIntersections(Object)
+     */
+    /*[deutsch]
+     * <p>Liefert eine Liste aller gespeicherten Intervalle, die den angegebenen Suchzeitpunkt enthalten. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @return  unmodifiable list of all stored intervals which contain given point in time, maybe empty
+     * @see     IntervalTree#findIntersections(Object)
+     */
+    public List<I> findIntersections(T timepoint) {
+
+        return this.snapshot.findIntersections(timepoint);
+
+    }
+
+    /**
+     * <p>Obtains a list of all stored intervals which intersect given search interval. </p>
+     *
+     * @param   interval    the search interval
+     * @return  unmodifiable list of all stored intervals which intersect the search interval, maybe empty
+     * @see     IntervalTree#findIntersections(ChronoInterval)
+     */
+    /*[deutsch]
+     * <p>Liefert eine Liste aller gespeicherten Intervalle, die sich mit dem angegebenen Suchintervall
+     * &uuml;berschneiden. </p>
+     *
+     * @param   interval    the search interval
+     * @return  unmodifiable list of all stored intervals which intersect the search interval, maybe empty
+     * @see     IntervalTree#findIntersections(ChronoInterval)
+     */
+    public List<I> findIntersections(ChronoInterval<T> interval) {
+
+        return this.snapshot.findIntersections(interval);
+
+    }
+
+    /**
+     * <p>Queries if given interval is stored in this tree. </p>
+     *
+     * @param   interval    the interval to be checked
+     * @return  boolean
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob das angegebene Intervall in diesem Baum gespeichert ist. </p>
+     *
+     * @param   interval    the interval to be checked
+     * @return  boolean
+     */
+    public boolean contains(ChronoInterval<T> interval) {
+
+        return this.snapshot.contains(interval);
+
+    }
+
+    /**
+     * <p>Accepts given interval tree visitor on the current snapshot. </p>
+     *
+     * @param   visitor     the interval tree visitor
+     * @see     IntervalTree#accept(IntervalTree.Visitor)
+     */
+    /*[deutsch]
+     * <p>Nimmt den angegebenen Baumbesucher f&uuml;r den aktuellen Schnappschuss an. </p>
+     *
+     * @param   visitor     the interval tree visitor
+     * @see     IntervalTree#accept(IntervalTree.Visitor)
+     */
+    public void accept(IntervalTree.Visitor<I> visitor) {
+
+        this.snapshot.accept(visitor);
+
+    }
+
+}
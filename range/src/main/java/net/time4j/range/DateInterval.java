@@ -24,6 +24,7 @@ package net.time4j.range;
 import net.time4j.CalendarUnit;
 import net.time4j.Duration;
 import net.time4j.IsoDateUnit;
+import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
@@ -31,6 +32,7 @@ import net.time4j.Weekcycle;
 import net.time4j.Weekday;
 import net.time4j.Weekmodel;
 import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
 import net.time4j.engine.AttributeQuery;
 import net.time4j.engine.ChronoDisplay;
 import net.time4j.engine.ChronoElement;
@@ -46,11 +48,15 @@ import net.time4j.format.expert.IsoDateStyle;
 import net.time4j.format.expert.ParseLog;
 import net.time4j.format.expert.PatternType;
 import net.time4j.format.expert.SignPolicy;
+import net.time4j.scale.TimeScale;
 import net.time4j.tz.GapResolver;
 import net.time4j.tz.OverlapResolver;
 import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
 import net.time4j.tz.TransitionStrategy;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
 
 import java.io.IOException;
 import java.io.InvalidObjectException;
@@ -59,11 +65,14 @@ import java.io.Serializable;
 import java.text.ParseException;
 import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.stream.LongStream;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -107,6 +116,9 @@ public final class DateInterval
 
     private static final long serialVersionUID = 8074261825266036014L;
 
+    private static final double DAYS_PER_YEAR = 146097.0 / 400; // average length of gregorian year
+    private static final double DAYS_PER_MONTH = DAYS_PER_YEAR / 12;
+
     private static final Comparator<ChronoInterval<PlainDate>> COMPARATOR =
         new IntervalComparator<>(PlainDate.axis());
     private static final ChronoPrinter<PlainDate> REDUCED_DD =
@@ -980,24 +992,23 @@ public final class DateInterval
             throw new IllegalArgumentException("Start after end: " + start + "/" + end);
         }
 
-        long n = 1 + ((e - s) / (Math.addExact(Math.multiplyExact(eMonths, 31), eDays))); // first estimate
-        PlainDate date;
-        long size;
-
-        do {
-            size = n;
-            long m = Math.multiplyExact(eMonths, n);
-            long d = Math.multiplyExact(eDays, n);
-            date = start.plus(m, CalendarUnit.MONTHS).plus(d, CalendarUnit.DAYS);
-            n++;
-        } while (!date.isAfter(end));
+        double step = eMonths * DAYS_PER_MONTH + eDays; // average length of duration in days
+        long size =
+            StepSpliterator.count(
+                (long) ((e - s) / step),
+                Long.MAX_VALUE - 1,
+                index -> !start.plus(
+                    Math.multiplyExact(eMonths, index), CalendarUnit.MONTHS
+                ).plus(Math.multiplyExact(eDays, index), CalendarUnit.DAYS).isAfter(end));
 
         if (size == 1) {
             return Stream.of(start); // short-cut
         }
 
-        return LongStream.range(0, size).mapToObj(
-            index -> start.plus(eMonths * index, CalendarUnit.MONTHS).plus(eDays * index, CalendarUnit.DAYS));
+        return StepSpliterator.stream(
+            size,
+            index -> start.plus(eMonths * index, CalendarUnit.MONTHS).plus(eDays * index, CalendarUnit.DAYS),
+            Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.ORDERED);
 
     }
 
@@ -1120,24 +1131,23 @@ public final class DateInterval
         long s = start.getDaysSinceEpochUTC();
         long e = end.getDaysSinceEpochUTC();
 
-        long n = 1 + ((e - s) / (Math.addExact(Math.multiplyExact(effYears, 371), effDays))); // first estimate
-        PlainDate date;
-        long size;
-
-        do {
-            size = n;
-            long y = Math.multiplyExact(effYears, n);
-            long d = Math.multiplyExact(effDays, n);
-            date = start.plus(y, Weekcycle.YEARS).plus(d, CalendarUnit.DAYS);
-            n++;
-        } while (!date.isAfter(end));
+        double step = effYears * DAYS_PER_YEAR + effDays; // average length of duration in days
+        long size =
+            StepSpliterator.count(
+                (long) ((e - s) / step),
+                Long.MAX_VALUE - 1,
+                index -> !start.plus(
+                    Math.multiplyExact(effYears, index), Weekcycle.YEARS
+                ).plus(Math.multiplyExact(effDays, index), CalendarUnit.DAYS).isAfter(end));
 
         if (size == 1) {
             return Stream.of(start); // short-cut
         }
 
-        return LongStream.range(0, size).mapToObj(
-            index -> start.plus(effYears * index, Weekcycle.YEARS).plus(effDays * index, CalendarUnit.DAYS));
+        return StepSpliterator.stream(
+            size,
+            index -> start.plus(effYears * index, Weekcycle.YEARS).plus(effDays * index, CalendarUnit.DAYS),
+            Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.ORDERED);
 
     }
 
@@ -1223,6 +1233,98 @@ public final class DateInterval
 
     }
 
+    /**
+     * <p>Partitions every day of this interval according to given rule and reports the resulting
+     * moment intervals as primitive ranges of POSIX seconds to given sink. </p>
+     *
+     * <p>This method is designed for bulk consumers and yields the same results as
+     * {@link #streamPartitioned(DayPartitionRule, TZID)} but truncated to full seconds. Empty
+     * intervals will be skipped. Rules built by {@link DayPartitionBuilder} are evaluated with
+     * precompiled tables, and the timezone is only consulted near offset transitions so that
+     * no interval objects will be created. </p>
+     *
+     * @param   rule        day partition rule
+     * @param   tzid        timezone identifier
+     * @param   sink        receiver of the day partitions as half-open ranges of POSIX seconds
+     * @throws  IllegalArgumentException if given timezone cannot be loaded
+     * @throws  IllegalStateException if this interval is infinite or if there is no canonical form
+     * @see     #streamPartitioned(DayPartitionRule, TZID)
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Zerlegt jeden Tag dieses Intervalls entsprechend der angegebenen Regel in Tagesabschnitte und
+     * &uuml;bergibt die resultierenden Momentintervalle als primitive Bereiche von POSIX-Sekunden an
+     * den angegebenen Empf&auml;nger. </p>
+     *
+     * <p>Diese Methode ist f&uuml;r Massenverarbeitungen gedacht und liefert die gleichen Ergebnisse wie
+     * {@link #streamPartitioned(DayPartitionRule, TZID)}, aber auf volle Sekunden abgeschnitten. Leere
+     * Intervalle werden &uuml;bersprungen. Mit {@link DayPartitionBuilder} erzeugte Regeln werden mit
+     * vorkompilierten Tabellen ausgewertet, und die Zeitzone wird nur in der N&auml;he von
+     * Offset-Wechseln befragt, so da&szlig; keine Intervallobjekte erzeugt werden. </p>
+     *
+     * @param   rule        day partition rule
+     * @param   tzid        timezone identifier
+     * @param   sink        receiver of the day partitions as half-open ranges of POSIX seconds
+     * @throws  IllegalArgumentException if given timezone cannot be loaded
+     * @throws  IllegalStateException if this interval is infinite or if there is no canonical form
+     * @see     #streamPartitioned(DayPartitionRule, TZID)
+     * @since   4.37
+     */
+    public void forEachPartition(
+        DayPartitionRule rule,
+        TZID tzid,
+        DayPartitionRule.PartitionSink sink
+    ) {
+
+        if ((rule == null) || (sink == null)) {
+            throw new NullPointerException();
+        }
+
+        Timezone tz = Timezone.of(tzid).with(GapResolver.NEXT_VALID_TIME.and(OverlapResolver.EARLIER_OFFSET));
+
+        if (this.isEmpty()) {
+            return;
+        }
+
+        DateInterval interval = this.toCanonical();
+        PlainDate start = interval.getStartAsCalendarDate();
+        PlainDate end = interval.getEndAsCalendarDate();
+
+        if ((start == null) || (end == null)) {
+            throw new IllegalStateException("Streaming is not supported for infinite intervals.");
+        }
+
+        CompiledDayPartitionRule compiled = (
+            (rule instanceof CompiledDayPartitionRule) ? CompiledDayPartitionRule.class.cast(rule) : null);
+        PartitionConverter converter = new PartitionConverter(tz, sink);
+        long last = end.getDaysSinceEpochUTC();
+
+        for (long utcDays = start.getDaysSinceEpochUTC(); utcDays <= last; utcDays++) {
+            PlainDate date = PlainDate.of(utcDays, EpochDays.UTC);
+
+            if (compiled == null) {
+                List<ChronoInterval<PlainTime>> partitions = rule.getPartition(date);
+                if (!partitions.isEmpty()) {
+                    converter.prepare(date);
+                    for (ChronoInterval<PlainTime> partition : partitions) {
+                        converter.accept(
+                            partition.getStart().getTemporal().get(PlainTime.NANO_OF_DAY).longValue(),
+                            partition.getEnd().getTemporal().get(PlainTime.NANO_OF_DAY).longValue());
+                    }
+                }
+            } else {
+                long[] ranges = compiled.getRanges(date);
+                if (ranges != null) {
+                    converter.prepare(date);
+                    for (int i = 0; i < ranges.length; i += 2) {
+                        converter.accept(ranges[i], ranges[i + 1]);
+                    }
+                }
+            }
+        }
+
+    }
+
     /**
      * <p>Prints the canonical form of this interval in given ISO-8601 style. </p>
      *
@@ -1709,7 +1811,26 @@ public final class DateInterval
      */
     public static DateInterval parseISO(String text) throws ParseException {
 
-        if (text.isEmpty()) {
+        return parseISO(text, null);
+
+    }
+
+    /**
+     * <p>Interpretiert den angegebenen ISO-konformen Text als Intervall. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   cache       optional cache of formatters for reduced end components
+     * @return  parsed interval
+     * @throws  IndexOutOfBoundsException if given text is empty
+     * @throws  ParseException if the text is not parseable
+     * @since   4.37
+     */
+    static DateInterval parseISO(
+        CharSequence text,
+        Map<Object, Object> cache
+    ) throws ParseException {
+
+        if (text.length() == 0) {
             throw new IndexOutOfBoundsException("Empty text.");
         }
 
@@ -1798,8 +1919,8 @@ public final class DateInterval
         ChronoFormatter<PlainDate> endFormat = (sameFormat ? startFormat : null); // null means reduced iso format
 
         // create interval
-        Parser parser = new Parser(startFormat, endFormat, extended, weekStyle, ordinalStyle);
-        return parser.parse(text);
+        Parser parser = new Parser(startFormat, endFormat, extended, weekStyle, ordinalStyle, cache);
+        return parser.parseFully(text);
 
     }
 
@@ -1948,9 +2069,10 @@ public final class DateInterval
             ChronoParser<PlainDate> endFormat, // optional
             boolean extended,
             boolean weekStyle,
-            boolean ordinalStyle
+            boolean ordinalStyle,
+            Map<Object, Object> reducedFormats // optional
         ) {
-            super(DateIntervalFactory.INSTANCE, startFormat, endFormat, BracketPolicy.SHOW_NEVER, '/');
+            super(DateIntervalFactory.INSTANCE, startFormat, endFormat, BracketPolicy.SHOW_NEVER, '/', reducedFormats);
 
             this.extended = extended;
             this.weekStyle = weekStyle;
@@ -1970,15 +2092,23 @@ public final class DateInterval
         ) {
 
             ChronoFormatter<PlainDate> reducedParser =
-                this.createEndFormat(
+                this.getReducedFormat(
+                    this.getConfig(),
                     PlainDate.axis().preformat(start, attrs),
-                    lowerLog.getRawValues());
+                    lowerLog.getRawValues(),
+                    this::createEndFormat);
             return reducedParser.parse(text, upperLog);
 
         }
 
+        private int getConfig() {
+
+            return (this.extended ? 1 : 0) | (this.weekStyle ? 2 : 0) | (this.ordinalStyle ? 4 : 0);
+
+        }
+
         private ChronoFormatter<PlainDate> createEndFormat(
-            ChronoDisplay defaultSupplier,
+            Supplier<ChronoDisplay> defaultSupplier,
             ChronoEntity<?> rawData
         ) {
 
@@ -2038,10 +2168,114 @@ public final class DateInterval
         private static <V> void setDefault(
             ChronoFormatter.Builder<PlainDate> builder,
             ChronoElement<V> element,
-            ChronoDisplay defaultSupplier
+            Supplier<ChronoDisplay> defaultSupplier
+        ) {
+
+            builder.setDefaultSupplier(element, () -> defaultSupplier.get().get(element));
+
+        }
+
+    }
+
+    private static class PartitionConverter {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final long MARGIN = 2 * 86400L; // covers any ambiguity after a change of offset
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Timezone tz;
+        private final TransitionHistory history;
+        private final DayPartitionRule.PartitionSink sink;
+
+        private PlainDate date = null;
+        private long localDay = 0; // local seconds of start of day (as if UTC)
+        private int offset = 0; // valid total offset in seconds
+        private long validFrom = Long.MAX_VALUE; // inclusive posix time of offset window
+        private long validUntil = Long.MIN_VALUE; // exclusive posix time of offset window
+
+        //~ Konstruktoren -------------------------------------------------
+
+        PartitionConverter(
+            Timezone tz,
+            DayPartitionRule.PartitionSink sink
         ) {
+            super();
+
+            this.tz = tz;
+            this.sink = sink;
+
+            ZonalOffset fixed = (tz.isFixed() ? tz.getOffset(Moment.UNIX_EPOCH) : null);
+
+            if ((fixed != null) && (fixed.getFractionalAmount() == 0)) {
+                this.history = null;
+                this.offset = fixed.getIntegralAmount();
+                this.validFrom = Long.MIN_VALUE;
+                this.validUntil = Long.MAX_VALUE;
+            } else {
+                this.history = ((fixed == null) ? tz.getHistory() : null);
+            }
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // sets the current day and updates the offset window if necessary
+        void prepare(PlainDate date) {
+
+            this.date = date;
+            this.localDay = MathUtils.safeMultiply(date.get(EpochDays.UNIX).longValue(), 86400L);
+
+            if ((this.history != null) && !this.isCovered()) {
+                Moment ut = Moment.of(this.localDay, TimeScale.POSIX);
+                ZonalTransition previous = this.history.getStartTransition(ut);
+                Optional<ZonalTransition> next = this.history.findNextTransition(ut);
+                this.offset = (
+                    (previous == null)
+                    ? this.history.getInitialOffset().getIntegralAmount()
+                    : previous.getTotalOffset());
+                this.validFrom = ((previous == null) ? Long.MIN_VALUE : previous.getPosixTime());
+                this.validUntil = (next.isPresent() ? next.get().getPosixTime() : Long.MAX_VALUE);
+            }
+
+        }
+
+        // converts a partition given in nanoseconds of day and passes it to the sink
+        void accept(
+            long startNanos,
+            long endNanos
+        ) {
+
+            long start;
+            long end;
+
+            if (this.isCovered()) {
+                start = this.localDay + startNanos / 1_000_000_000L - this.offset;
+                end = this.localDay + endNanos / 1_000_000_000L - this.offset;
+            } else {
+                start = this.toPosix(startNanos);
+                end = this.toPosix(endNanos);
+            }
+
+            if (start < end) {
+                this.sink.accept(start, end);
+            }
+
+        }
+
+        // does the offset window cover the whole current day including its ambiguous neighbourhood?
+        private boolean isCovered() {
+
+            long utc = this.localDay - this.offset;
+            return ((utc - MARGIN >= this.validFrom) && (utc + 86400L < this.validUntil));
+
+        }
+
+        private long toPosix(long nanoOfDay) {
 
-            builder.setDefault(element, defaultSupplier.get(element));
+            PlainTime time = PlainTime.midnightAtStartOfDay().with(PlainTime.NANO_OF_DAY, nanoOfDay);
+            return this.date.at(time).in(this.tz).getPosixTime();
 
         }
 
@@ -27,7 +27,6 @@ import net.time4j.Weekday;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -444,29 +443,8 @@ public class DayPartitionBuilder {
      */
     public DayPartitionRule build() {
 
-        final Map<Weekday, List<ChronoInterval<PlainTime>>> wRules = new EnumMap<>(this.weekdayRules);
-        final Map<PlainDate, List<ChronoInterval<PlainTime>>> eRules = new HashMap<>(this.exceptionRules);
-        final Set<PlainDate> invalid = new HashSet<>(this.exclusions);
-
-        return new DayPartitionRule() {
-            @Override
-            public List<ChronoInterval<PlainTime>> getPartition(PlainDate date) {
-                if (!this.isExcluded(date) && activeFilter.test(date)) {
-                    List<ChronoInterval<PlainTime>> partitions = eRules.get(date);
-                    if (partitions == null) {
-                        partitions = wRules.get(date.getDayOfWeek());
-                    }
-                    if (partitions != null) {
-                        return Collections.unmodifiableList(partitions);
-                    }
-                }
-                return Collections.emptyList();
-            }
-            @Override
-            public boolean isExcluded(PlainDate date) {
-                return invalid.contains(date);
-            }
-        };
+        return new CompiledDayPartitionRule(
+            this.activeFilter, this.weekdayRules, this.exceptionRules, this.exclusions);
 
     }
 
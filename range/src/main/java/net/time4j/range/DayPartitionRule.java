@@ -24,6 +24,7 @@ package net.time4j.range;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
+import net.time4j.tz.TZID;
 
 import java.util.Collections;
 import java.util.List;
@@ -145,4 +146,46 @@ public interface DayPartitionRule {
         return false;
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Primitive consumer of day partitions which have been converted to half-open ranges of
+     * POSIX seconds. </p>
+     *
+     * <p>Bulk consumers can avoid the allocation of any interval objects this way. </p>
+     *
+     * @see     DateInterval#forEachPartition(DayPartitionRule, TZID, PartitionSink)
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Primitiver Empf&auml;nger von Tagesabschnitten, die in halb-offene Bereiche von POSIX-Sekunden
+     * umgewandelt wurden. </p>
+     *
+     * <p>Massenverarbeitungen k&ouml;nnen so die Erzeugung von Intervallobjekten vermeiden. </p>
+     *
+     * @see     DateInterval#forEachPartition(DayPartitionRule, TZID, PartitionSink)
+     * @since   4.37
+     */
+    @FunctionalInterface
+    interface PartitionSink {
+
+        /**
+         * <p>Receives the next day partition. </p>
+         *
+         * @param   epochSecondStart    inclusive start in seconds since UNIX epoch
+         * @param   epochSecondEnd      exclusive end in seconds since UNIX epoch
+         */
+        /*[deutsch]
+         * <p>Empf&auml;ngt den n&auml;chsten Tagesabschnitt. </p>
+         *
+         * @param   epochSecondStart    inclusive start in seconds since UNIX epoch
+         * @param   epochSecondEnd      exclusive end in seconds since UNIX epoch
+         */
+        void accept(
+            long epochSecondStart,
+            long epochSecondEnd
+        );
+
+    }
+
 }
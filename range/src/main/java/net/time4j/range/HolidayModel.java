@@ -457,6 +457,51 @@ public interface HolidayModel
         return date -> !test(date) && (date.with(nextBusinessDay()).getMonth() != date.getMonth());
     }
 
+    /**
+     * <p>Yields a compiled form of this model which is optimized for repeated queries. </p>
+     *
+     * <p>The compiled model evaluates this model only once per calendar year and stores the
+     * non-business days as bitmap together with the counts of business days. The year tables
+     * are built lazily and cached. Then adding business days via {@link #businessDays()} or
+     * counting them only needs one step per year instead of one step per day. This model
+     * must always yield the same results for the same dates, otherwise the compiled form
+     * would not reflect later changes. Example: </p>
+     *
+     * <pre>
+     *     HolidayModel hm = HolidayModel.ofSaturdayOrSunday().compile(); // keep this instance
+     *     PlainDate date = PlainDate.of(2017, 2, 3).plus(250, hm.businessDays());
+     *     System.out.println(date); // 2018-01-19
+     * </pre>
+     *
+     * @return  compiled holiday model (this instance if already compiled)
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Liefert eine kompilierte Form dieses Modells, die f&uuml;r wiederholte Abfragen
+     * optimiert ist. </p>
+     *
+     * <p>Das kompilierte Modell wertet dieses Modell nur einmal pro Kalenderjahr aus und
+     * speichert die arbeitsfreien Tage als Bitmap zusammen mit der Anzahl der Arbeitstage.
+     * Die Jahrestabellen werden erst bei Bedarf erzeugt und dann zwischengespeichert. Das
+     * Addieren von Arbeitstagen mit Hilfe von {@link #businessDays()} oder ihr Z&auml;hlen
+     * ben&ouml;tigt dann nur einen Schritt pro Jahr statt eines Schritts pro Tag. Dieses
+     * Modell mu&szlig; f&uuml;r gleiche Datumsangaben immer die gleichen Ergebnisse liefern,
+     * sonst w&uuml;rde die kompilierte Form sp&auml;tere &Auml;nderungen nicht
+     * widerspiegeln. Beispiel: </p>
+     *
+     * <pre>
+     *     HolidayModel hm = HolidayModel.ofSaturdayOrSunday().compile(); // Instanz behalten
+     *     PlainDate date = PlainDate.of(2017, 2, 3).plus(250, hm.businessDays());
+     *     System.out.println(date); // 2018-01-19
+     * </pre>
+     *
+     * @return  compiled holiday model (this instance if already compiled)
+     * @since   4.37
+     */
+    default HolidayModel compile() {
+        return new CompiledHolidayModel(this);
+    }
+
     /**
      * <p>Creates a special time unit for the counting of business days. </p>
      *
@@ -36,7 +36,11 @@ import java.util.Comparator;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 
 /**
@@ -649,9 +653,25 @@ public abstract class IntervalCollection<T>
             return this;
         }
 
-        List<ChronoInterval<T>> windows = new ArrayList<>(this.intervals);
-        windows.add(this.adjust(interval));
-        Collections.sort(windows, this.getComparator());
+        ChronoInterval<T> iv = this.adjust(interval);
+        Comparator<ChronoInterval<T>> comparator = this.getComparator();
+        int low = 0;
+        int high = this.intervals.size();
+
+        while (low < high) { // insert behind equal intervals like a stable sort
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(this.intervals.get(mid), iv) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        int index = low;
+        List<ChronoInterval<T>> windows = new ArrayList<>(this.intervals.size() + 1);
+        windows.addAll(this.intervals.subList(0, index));
+        windows.add(iv);
+        windows.addAll(this.intervals.subList(index, this.intervals.size()));
         return this.create(windows);
 
     }
@@ -763,6 +783,46 @@ public abstract class IntervalCollection<T>
 
     }
 
+    /**
+     * <p>Creates a mutable builder which is initially filled with the intervals of this collection. </p>
+     *
+     * <p>The builder is suitable for adding or removing many intervals one at a time. Every
+     * single insertion or removal only needs logarithmic time. Example: </p>
+     *
+     * <pre>
+     *     IntervalCollection.Builder&lt;PlainDate&gt; builder = IntervalCollection.onDateAxis().toBuilder();
+     *     builder.add(DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 3, 31)));
+     *     builder.add(DateInterval.between(PlainDate.of(2014, 2, 1), PlainDate.of(2014, 2, 27)));
+     *     IntervalCollection&lt;PlainDate&gt; icoll = builder.freeze();
+     * </pre>
+     *
+     * @return  new builder which does not affect this instance
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen ver&auml;nderlichen Builder, der anfangs mit den Intervallen dieser
+     * Instanz gef&uuml;llt ist. </p>
+     *
+     * <p>Der Builder eignet sich dazu, viele Intervalle einzeln hinzuzuf&uuml;gen oder zu
+     * entfernen. Jedes einzelne Hinzuf&uuml;gen oder Entfernen ben&ouml;tigt nur logarithmische
+     * Zeit. Beispiel: </p>
+     *
+     * <pre>
+     *     IntervalCollection.Builder&lt;PlainDate&gt; builder = IntervalCollection.onDateAxis().toBuilder();
+     *     builder.add(DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 3, 31)));
+     *     builder.add(DateInterval.between(PlainDate.of(2014, 2, 1), PlainDate.of(2014, 2, 27)));
+     *     IntervalCollection&lt;PlainDate&gt; icoll = builder.freeze();
+     * </pre>
+     *
+     * @return  new builder which does not affect this instance
+     * @since   4.37
+     */
+    public Builder<T> toBuilder() {
+
+        return new Builder<>(this);
+
+    }
+
     /**
      * <p>Subtracts all timepoints of given interval from this interval collection. </p>
      *
@@ -1121,51 +1181,7 @@ public abstract class IntervalCollection<T>
         }
 
         List<ChronoInterval<T>> gaps = new ArrayList<>();
-        T previous = null;
-
-        for (int i = 0, n = len - 1; i < n; i++) {
-            ChronoInterval<T> current = this.intervals.get(i);
-
-            if (current.getEnd().isInfinite()) {
-                break;
-            }
-
-            T gapStart = current.getEnd().getTemporal();
-
-            if (current.getEnd().isClosed()) {
-                gapStart = this.getTimeLine().stepForward(gapStart);
-                if (gapStart == null) {
-                    break;
-                }
-            }
-
-            if ((previous == null) || this.isAfter(gapStart, previous)) {
-                previous = gapStart;
-            } else {
-                gapStart = previous;
-            }
-
-            T gapEnd = this.intervals.get(i + 1).getStart().getTemporal();
-
-            if ((gapEnd == null) || !this.isAfter(gapEnd, gapStart)) {
-                continue;
-            }
-
-            IntervalEdge edge = IntervalEdge.OPEN;
-
-            if (this.isCalendrical()) {
-                edge = IntervalEdge.CLOSED;
-                gapEnd = this.getTimeLine().stepBackwards(gapEnd);
-                if (gapEnd == null) {
-                    continue;
-                }
-            }
-
-            Boundary<T> s = Boundary.ofClosed(gapStart);
-            Boundary<T> e = Boundary.of(edge, gapEnd);
-            gaps.add(this.newInterval(s, e));
-        }
-
+        this.sweepGaps(gaps::add);
         return this.create(gaps);
 
     }
@@ -1202,52 +1218,14 @@ public abstract class IntervalCollection<T>
             return this;
         }
 
-        Boundary<T> s;
-        Boundary<T> e;
-
-        boolean calendrical = this.isCalendrical();
-        IntervalEdge edge = (
-            calendrical
-            ? IntervalEdge.CLOSED
-            : IntervalEdge.OPEN);
-
-        List<ChronoInterval<T>> gaps = this.withGaps().intervals;
         List<ChronoInterval<T>> blocks = new ArrayList<>();
-        T start = this.getMinimum();
-
-        for (int i = 0, n = gaps.size(); i < n; i++) {
-            T end = gaps.get(i).getStart().getTemporal();
-
-            if (calendrical) {
-                end = this.getTimeLine().stepBackwards(end);
-            }
-
-            s = this.createStartBoundary(start);
-            e = Boundary.of(edge, end);
-            blocks.add(this.newInterval(s, e));
+        BlockMerger merger = new BlockMerger(this.toIntervals(blocks::add));
 
-            Boundary<T> b = gaps.get(i).getEnd();
-            start = b.getTemporal();
-
-            if (b.isClosed()) {
-                start = this.getTimeLine().stepForward(start);
-            }
-        }
-
-        T max = this.getMaximum();
-        s = this.createStartBoundary(start);
-
-        if ((max != null) && !calendrical) {
-            max = this.getTimeLine().stepForward(max);
-        }
-
-        if (max == null) {
-            e = Boundary.infiniteFuture();
-        } else {
-            e = Boundary.of(edge, max);
+        for (ChronoInterval<T> interval : this.intervals) {
+            merger.push(interval);
         }
 
-        blocks.add(this.newInterval(s, e));
+        merger.finish();
         return this.create(blocks);
 
     }
@@ -1281,70 +1259,8 @@ public abstract class IntervalCollection<T>
             return this;
         }
 
-        List<Boundary<T>> dividers = new ArrayList<>(); // always finite
-        Boundary<T> infinitePast = null;
-        Boundary<T> infiniteFuture = null;
-
-        for (ChronoInterval<T> interval : this.intervals) {
-            Boundary<T> start = interval.getStart();
-            Boundary<T> end = interval.getEnd();
-
-            if (start.isInfinite()) {
-                infinitePast = Boundary.infinitePast();
-            } else {
-                int index = this.searchFiniteBoundary(dividers, start);
-                if (index < 0) {
-                    dividers.add(-index - 1, start);
-                }
-            }
-
-            if (end.isInfinite()) {
-                infiniteFuture = Boundary.infiniteFuture();
-            } else {
-                if (end.isClosed()) {
-                    T time = this.getTimeLine().stepForward(end.getTemporal());
-                    if (time == null) {
-                        infiniteFuture = Boundary.infiniteFuture();
-                        continue;
-                    }
-                    end = Boundary.ofClosed(time);
-                } else {
-                    end = Boundary.ofClosed(end.getTemporal());
-                }
-                int index = this.searchFiniteBoundary(dividers, end);
-                if (index < 0) {
-                    dividers.add(-index - 1, end);
-                }
-            }
-        }
-
         List<ChronoInterval<T>> splitted = new ArrayList<>();
-        Boundary<T> start = infinitePast;
-
-        for (Boundary<T> divider : dividers) {
-            T time = divider.getTemporal();
-            boolean nextInterval = this.encloses(time);
-            if (start != null) {
-                if (this.isCalendrical()) {
-                    time = this.getTimeLine().stepBackwards(time);
-                    if (time != null) {
-                        splitted.add(this.newInterval(start, Boundary.ofClosed(time)));
-                    }
-                } else {
-                    splitted.add(this.newInterval(start, Boundary.ofOpen(time)));
-                }
-            }
-            if (nextInterval) {
-                start = divider;
-            } else {
-                start = null;
-            }
-        }
-
-        if ((start != null) && (infiniteFuture != null)) {
-            splitted.add(this.newInterval(start, infiniteFuture));
-        }
-
+        this.sweepSplits(splitted::add);
         return this.create(splitted);
 
     }
@@ -1406,7 +1322,13 @@ public abstract class IntervalCollection<T>
      */
     public IntervalCollection<T> union(IntervalCollection<T> other) {
 
-        return this.plus(other).withBlocks();
+        if (this.intervals.size() + other.intervals.size() < 2) {
+            return this.plus(other);
+        }
+
+        List<ChronoInterval<T>> blocks = new ArrayList<>();
+        this.sweepUnion(other, this.toIntervals(blocks::add));
+        return this.create(blocks);
 
     }
 
@@ -1432,22 +1354,8 @@ public abstract class IntervalCollection<T>
         }
 
         List<ChronoInterval<T>> list = new ArrayList<>();
-
-        for (ChronoInterval<T> a : this.intervals) {
-            for (ChronoInterval<T> b : other.intervals) {
-                List<ChronoInterval<T>> candidates = new ArrayList<>(2);
-                candidates.add(a);
-                candidates.add(b);
-                Collections.sort(candidates, this.getComparator());
-                candidates = this.intersect(candidates);
-                if (!candidates.isEmpty()) {
-                    list.addAll(candidates);
-                }
-            }
-        }
-
-        Collections.sort(list, this.getComparator());
-        return this.create(list).withBlocks();
+        this.sweepIntersection(this.blockKeys(), other.blockKeys(), this.toIntervals(list::add));
+        return this.create(list);
 
     }
 
@@ -1475,50 +1383,174 @@ public abstract class IntervalCollection<T>
             return this;
         }
 
-        T min1 = this.getMinimum();
-        T max1 = this.getMaximum();
-        T min2 = other.getMinimum();
-        T max2 = other.getMaximum();
+        List<ChronoInterval<T>> list = new ArrayList<>();
+        this.sweepXor(other, this.toIntervals(list::add));
+        return this.create(list);
 
-        T min;
-        T max;
+    }
 
-        if ((min1 == null) || (min2 == null)) {
-            min = null;
-        } else {
-            min = (this.isAfter(min1, min2) ? min2 : min1);
+    /**
+     * <p>Streaming variant of {@link #withGaps()} which passes the gaps to given action
+     * without building a new interval collection. </p>
+     *
+     * @param   action      callback for every gap in ascending order
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Variante von {@link #withGaps()}, die die L&uuml;cken an die angegebene Aktion
+     * &uuml;bergibt, ohne eine neue Intervallmenge zu erzeugen. </p>
+     *
+     * @param   action      callback for every gap in ascending order
+     * @since   4.37
+     */
+    public void forEachGap(Consumer<? super ChronoInterval<T>> action) {
+
+        if (this.intervals.size() > 1) {
+            this.sweepGaps(action);
+        }
+
+    }
+
+    /**
+     * <p>Streaming variant of {@link #withBlocks()} which passes the blocks to given action
+     * without building a new interval collection. </p>
+     *
+     * @param   action      callback for every disjunct block in ascending order
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Variante von {@link #withBlocks()}, die die Bl&ouml;cke an die angegebene Aktion
+     * &uuml;bergibt, ohne eine neue Intervallmenge zu erzeugen. </p>
+     *
+     * @param   action      callback for every disjunct block in ascending order
+     * @since   4.37
+     */
+    public void forEachBlock(Consumer<? super ChronoInterval<T>> action) {
+
+        if (this.intervals.size() < 2) {
+            this.intervals.forEach(action);
+            return;
         }
 
-        if ((max1 == null) || (max2 == null)) {
-            max = null;
+        BlockMerger merger = new BlockMerger(this.toIntervals(action));
+
+        for (ChronoInterval<T> interval : this.intervals) {
+            merger.push(interval);
+        }
+
+        merger.finish();
+
+    }
+
+    /**
+     * <p>Streaming variant of {@link #withSplits()} which passes the sections to given action
+     * without building a new interval collection. </p>
+     *
+     * @param   action      callback for every disjunct section in ascending order
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Variante von {@link #withSplits()}, die die Abschnitte an die angegebene Aktion
+     * &uuml;bergibt, ohne eine neue Intervallmenge zu erzeugen. </p>
+     *
+     * @param   action      callback for every disjunct section in ascending order
+     * @since   4.37
+     */
+    public void forEachSplit(Consumer<? super ChronoInterval<T>> action) {
+
+        if (this.isDisjunct()) {
+            this.intervals.forEach(action);
         } else {
-            max = (this.isBefore(max1, max2) ? max2 : max1);
+            this.sweepSplits(action);
         }
 
-        Boundary<T> start = this.createStartBoundary(min);
-        Boundary<T> end;
+    }
 
-        if (max == null) {
-            end = Boundary.infiniteFuture();
-        } else if (this.isCalendrical()) {
-            end = Boundary.ofClosed(max);
+    /**
+     * <p>Streaming variant of {@link #union(IntervalCollection)} which passes the merged blocks
+     * to given action without building a new interval collection. </p>
+     *
+     * @param   other       another interval collection whose intervals are to be added to this instance
+     * @param   action      callback for every disjunct block in ascending order
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Variante von {@link #union(IntervalCollection)}, die die verschmolzenen Bl&ouml;cke
+     * an die angegebene Aktion &uuml;bergibt, ohne eine neue Intervallmenge zu erzeugen. </p>
+     *
+     * @param   other       another interval collection whose intervals are to be added to this instance
+     * @param   action      callback for every disjunct block in ascending order
+     * @since   4.37
+     */
+    public void forEachInUnion(
+        IntervalCollection<T> other,
+        Consumer<? super ChronoInterval<T>> action
+    ) {
+
+        if (this.intervals.size() + other.intervals.size() < 2) {
+            this.plus(other).intervals.forEach(action);
         } else {
-            max = this.getTimeLine().stepForward(max);
-            if (max == null) {
-                end = Boundary.infiniteFuture();
-            } else {
-                end = Boundary.ofOpen(max);
-            }
+            this.sweepUnion(other, this.toIntervals(action));
         }
 
-        ChronoInterval<T> window = this.newInterval(start, end);
-        List<ChronoInterval<T>> list = new ArrayList<>();
-        IntervalCollection<T> ic1 = this.withComplement(window).intersect(other);
-        IntervalCollection<T> ic2 = other.withComplement(window).intersect(this);
-        list.addAll(ic1.getIntervals());
-        list.addAll(ic2.getIntervals());
-        Collections.sort(list, this.getComparator());
-        return this.create(list).withBlocks();
+    }
+
+    /**
+     * <p>Streaming variant of {@link #intersect(IntervalCollection)} which passes the
+     * intersection blocks to given action without building a new interval collection. </p>
+     *
+     * @param   other       another interval collection
+     * @param   action      callback for every disjunct block in ascending order
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Variante von {@link #intersect(IntervalCollection)}, die die Bl&ouml;cke der
+     * Schnittmenge an die angegebene Aktion &uuml;bergibt, ohne eine neue Intervallmenge
+     * zu erzeugen. </p>
+     *
+     * @param   other       another interval collection
+     * @param   action      callback for every disjunct block in ascending order
+     * @since   4.37
+     */
+    public void forEachInIntersection(
+        IntervalCollection<T> other,
+        Consumer<? super ChronoInterval<T>> action
+    ) {
+
+        if (!this.isEmpty() && !other.isEmpty()) {
+            this.sweepIntersection(this.blockKeys(), other.blockKeys(), this.toIntervals(action));
+        }
+
+    }
+
+    /**
+     * <p>Streaming variant of {@link #xor(IntervalCollection)} which passes the
+     * resulting blocks to given action without building a new interval collection. </p>
+     *
+     * @param   other       another interval collection
+     * @param   action      callback for every disjunct block in ascending order
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Variante von {@link #xor(IntervalCollection)}, die die resultierenden Bl&ouml;cke
+     * an die angegebene Aktion &uuml;bergibt, ohne eine neue Intervallmenge zu erzeugen. </p>
+     *
+     * @param   other       another interval collection
+     * @param   action      callback for every disjunct block in ascending order
+     * @since   4.37
+     */
+    public void forEachInXor(
+        IntervalCollection<T> other,
+        Consumer<? super ChronoInterval<T>> action
+    ) {
+
+        if (this.isEmpty()) {
+            other.intervals.forEach(action);
+        } else if (other.isEmpty()) {
+            this.intervals.forEach(action);
+        } else {
+            this.sweepXor(other, this.toIntervals(action));
+        }
 
     }
 
@@ -1816,31 +1848,758 @@ public abstract class IntervalCollection<T>
 
     }
 
-    private int searchFiniteBoundary(
-        List<Boundary<T>> list,
-        Boundary<T> key
+    // key of closed start, null means infinite past
+    private static <T> T startKey(ChronoInterval<T> interval) {
+
+        Boundary<T> b = interval.getStart();
+        return (b.isInfinite() ? null : b.getTemporal());
+
+    }
+
+    // key of end: inclusive if calendrical else exclusive, null means infinite future
+    private T endKey(ChronoInterval<T> interval) {
+
+        Boundary<T> b = interval.getEnd();
+
+        if (b.isInfinite()) {
+            return null;
+        }
+
+        T end = b.getTemporal();
+
+        if (this.isCalendrical()) {
+            return (b.isOpen() ? this.getTimeLine().stepBackwards(end) : end);
+        } else {
+            return (b.isClosed() ? this.getTimeLine().stepForward(end) : end);
+        }
+
+    }
+
+    private int compareStartKeys(
+        T s1,
+        T s2
     ) {
 
-        int low = 0;
-        int high = list.size()-1;
+        if (s1 == null) {
+            return ((s2 == null) ? 0 : -1);
+        } else if (s2 == null) {
+            return 1;
+        }
 
-        while (low <= high) {
-            int mid = (low + high) >>> 1;
-            Boundary<T> midVal = list.get(mid);
-            T t1 = midVal.getTemporal();
-            T t2 = key.getTemporal();
-            int cmp = this.getTimeLine().compare(t1, t2);
+        return this.getTimeLine().compare(s1, s2);
 
-            if (cmp < 0) {
-                low = mid + 1;
-            } else if (cmp > 0) {
-                high = mid - 1;
+    }
+
+    private int compareEndKeys(
+        T e1,
+        T e2
+    ) {
+
+        if (e1 == null) {
+            return ((e2 == null) ? 0 : 1);
+        } else if (e2 == null) {
+            return -1;
+        }
+
+        return this.getTimeLine().compare(e1, e2);
+
+    }
+
+    // does the range between given keys contain at least one time point?
+    private boolean isNonEmpty(
+        T start,
+        T end
+    ) {
+
+        if ((start == null) || (end == null)) {
+            return true;
+        } else if (this.isCalendrical()) {
+            return !this.isAfter(start, end);
+        } else {
+            return this.isBefore(start, end);
+        }
+
+    }
+
+    // end key of a range which ends just before given finite start, maybe null if not possible
+    private T endBefore(T start) {
+
+        return (this.isCalendrical() ? this.getTimeLine().stepBackwards(start) : start);
+
+    }
+
+    // start key of a range which starts just after given finite end, maybe null if not possible
+    private T startAfter(T end) {
+
+        return (this.isCalendrical() ? this.getTimeLine().stepForward(end) : end);
+
+    }
+
+    private BiConsumer<T, T> toIntervals(Consumer<? super ChronoInterval<T>> action) {
+
+        return (start, end) -> {
+            Boundary<T> e;
+            if (end == null) {
+                e = Boundary.infiniteFuture();
+            } else if (this.isCalendrical()) {
+                e = Boundary.ofClosed(end);
+            } else {
+                e = Boundary.ofOpen(end);
+            }
+            action.accept(this.newInterval(this.createStartBoundary(start), e));
+        };
+
+    }
+
+    // list of alternating start and end keys of the disjunct blocks
+    private List<T> blockKeys() {
+
+        List<T> keys = new ArrayList<>();
+        BlockMerger merger =
+            new BlockMerger(
+                (start, end) -> {
+                    keys.add(start);
+                    keys.add(end);
+                });
+
+        for (ChronoInterval<T> interval : this.intervals) {
+            merger.push(interval);
+        }
+
+        merger.finish();
+        return keys;
+
+    }
+
+    private void sweepGaps(Consumer<? super ChronoInterval<T>> action) {
+
+        BlockMerger merger =
+            new BlockMerger(
+                new BiConsumer<T, T>() {
+                    private boolean first = true;
+                    private T previousEnd = null;
+                    @Override
+                    public void accept(T start, T end) {
+                        if (this.first) {
+                            this.first = false;
+                        } else {
+                            IntervalEdge edge = (isCalendrical() ? IntervalEdge.CLOSED : IntervalEdge.OPEN);
+                            Boundary<T> s = Boundary.ofClosed(startAfter(this.previousEnd));
+                            Boundary<T> e = Boundary.of(edge, endBefore(start));
+                            action.accept(newInterval(s, e));
+                        }
+                        this.previousEnd = end;
+                    }
+                });
+
+        for (ChronoInterval<T> interval : this.intervals) {
+            merger.push(interval);
+        }
+
+        merger.finish();
+
+    }
+
+    private void sweepSplits(Consumer<? super ChronoInterval<T>> action) {
+
+        // starts are already sorted, exclusive ends need sorting
+        List<T> ends = new ArrayList<>(this.intervals.size());
+        int count = 0; // count of intervals covering the current section
+        boolean calendrical = this.isCalendrical();
+
+        for (ChronoInterval<T> interval : this.intervals) {
+            if (interval.getStart().isInfinite()) {
+                count++;
+            }
+            T end = this.endKey(interval);
+            if ((end != null) && calendrical) {
+                end = this.getTimeLine().stepForward(end);
+            }
+            if (end != null) {
+                ends.add(end);
+            }
+        }
+
+        ends.sort(this.getTimeLine());
+
+        int i = count; // intervals with infinite start come first
+        int j = 0;
+        int n = this.intervals.size();
+        int m = ends.size();
+        T previous = null;
+
+        while ((i < n) || (j < m)) {
+            T point;
+
+            if (i == n) {
+                point = ends.get(j);
+            } else if (j == m) {
+                point = this.intervals.get(i).getStart().getTemporal();
+            } else {
+                T s = this.intervals.get(i).getStart().getTemporal();
+                T e = ends.get(j);
+                point = (this.isBefore(e, s) ? e : s);
+            }
+
+            if (count > 0) {
+                Boundary<T> s = this.createStartBoundary(previous);
+                if (calendrical) {
+                    T end = this.getTimeLine().stepBackwards(point);
+                    if (end != null) {
+                        action.accept(this.newInterval(s, Boundary.ofClosed(end)));
+                    }
+                } else {
+                    action.accept(this.newInterval(s, Boundary.ofOpen(point)));
+                }
+            }
+
+            while ((i < n) && (this.getTimeLine().compare(this.intervals.get(i).getStart().getTemporal(), point) == 0)) {
+                count++;
+                i++;
+            }
+
+            while ((j < m) && (this.getTimeLine().compare(ends.get(j), point) == 0)) {
+                count--;
+                j++;
+            }
+
+            previous = point;
+        }
+
+        if (count > 0) {
+            action.accept(this.newInterval(this.createStartBoundary(previous), Boundary.infiniteFuture()));
+        }
+
+    }
+
+    private void sweepUnion(
+        IntervalCollection<T> other,
+        BiConsumer<T, T> sink
+    ) {
+
+        BlockMerger merger = new BlockMerger(sink);
+        List<ChronoInterval<T>> list1 = this.intervals;
+        List<ChronoInterval<T>> list2 = other.intervals;
+        int i = 0;
+        int j = 0;
+
+        while ((i < list1.size()) || (j < list2.size())) {
+            if (
+                (j == list2.size())
+                || ((i < list1.size()) && (this.compareStartKeys(startKey(list1.get(i)), startKey(list2.get(j))) <= 0))
+            ) {
+                merger.push(list1.get(i++));
+            } else {
+                merger.push(this.adjust(list2.get(j++)));
+            }
+        }
+
+        merger.finish();
+
+    }
+
+    private void sweepIntersection(
+        List<T> blocks1,
+        List<T> blocks2,
+        BiConsumer<T, T> sink
+    ) {
+
+        int i = 0;
+        int j = 0;
+
+        while ((i < blocks1.size()) && (j < blocks2.size())) {
+            T s1 = blocks1.get(i);
+            T e1 = blocks1.get(i + 1);
+            T s2 = blocks2.get(j);
+            T e2 = blocks2.get(j + 1);
+            T start = ((this.compareStartKeys(s1, s2) < 0) ? s2 : s1);
+            int delta = this.compareEndKeys(e1, e2);
+            T end = ((delta < 0) ? e1 : e2);
+
+            if (this.isNonEmpty(start, end)) {
+                sink.accept(start, end);
+            }
+
+            if (delta < 0) {
+                i += 2;
             } else {
-                return mid; // key found
+                j += 2;
             }
         }
 
-        return -(low + 1);  // key not found
+    }
+
+    private void sweepXor(
+        IntervalCollection<T> other,
+        BiConsumer<T, T> sink
+    ) {
+
+        List<T> blocks1 = this.blockKeys();
+        List<T> blocks2 = other.blockKeys();
+        List<T> diff1 = new ArrayList<>();
+        List<T> diff2 = new ArrayList<>();
+        this.sweepDifference(blocks1, blocks2, diff1);
+        this.sweepDifference(blocks2, blocks1, diff2);
+
+        BlockMerger merger = new BlockMerger(sink);
+        int i = 0;
+        int j = 0;
+
+        while ((i < diff1.size()) || (j < diff2.size())) {
+            if (
+                (j == diff2.size())
+                || ((i < diff1.size()) && (this.compareStartKeys(diff1.get(i), diff2.get(j)) <= 0))
+            ) {
+                merger.push(diff1.get(i), diff1.get(i + 1));
+                i += 2;
+            } else {
+                merger.push(diff2.get(j), diff2.get(j + 1));
+                j += 2;
+            }
+        }
+
+        merger.finish();
+
+    }
+
+    // collects the key pairs of all time points in minuend blocks which are not in subtrahend blocks
+    private void sweepDifference(
+        List<T> minuend,
+        List<T> subtrahend,
+        List<T> result
+    ) {
+
+        int j = 0;
+
+        for (int i = 0; i < minuend.size(); i += 2) {
+            T current = minuend.get(i);
+            T end = minuend.get(i + 1);
+            boolean rest = true;
+
+            // skip subtrahend blocks which end before current start
+            while ((j < subtrahend.size()) && this.endsBefore(subtrahend.get(j + 1), current)) {
+                j += 2;
+            }
+
+            for (int k = j; k < subtrahend.size(); k += 2) {
+                T bs = subtrahend.get(k);
+                T be = subtrahend.get(k + 1);
+
+                if ((end != null) && (bs != null) && !this.isNonEmpty(bs, end)) {
+                    break; // subtrahend block starts after minuend block
+                }
+
+                if ((bs != null) && ((current == null) || this.isAfter(bs, current))) {
+                    result.add(current);
+                    result.add(this.endBefore(bs));
+                }
+
+                T next = ((be == null) ? null : this.startAfter(be));
+
+                if ((next == null) || !this.isNonEmpty(next, end)) {
+                    rest = false;
+                    break;
+                }
+
+                current = next;
+            }
+
+            if (rest) {
+                result.add(current);
+                result.add(end);
+            }
+        }
+
+    }
+
+    // does a block with given end key end before given start key?
+    private boolean endsBefore(
+        T end,
+        T start
+    ) {
+
+        if ((end == null) || (start == null)) {
+            return false;
+        } else if (this.isCalendrical()) {
+            return this.isBefore(end, start);
+        } else {
+            return !this.isAfter(end, start);
+        }
+
+    }
+
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Mutable builder for interval collections which keeps the intervals sorted in a balanced tree. </p>
+     *
+     * <p>Intervals are sorted by the same comparator as in the associated interval collection.
+     * Adding or removing a single interval needs logarithmic time. </p>
+     *
+     * @param   <T> generic type characterizing the associated time axis
+     * @author  Meno Hochschild
+     * @see     IntervalCollection#toBuilder()
+     * @since   4.37
+     * @doctags.concurrency {mutable}
+     */
+    /*[deutsch]
+     * <p>Ver&auml;nderlicher Builder f&uuml;r Intervallmengen, der die Intervalle in einem
+     * balancierten Baum sortiert h&auml;lt. </p>
+     *
+     * <p>Intervalle werden mit dem gleichen Vergleichsobjekt wie in der zugeh&ouml;rigen
+     * Intervallmenge sortiert. Das Hinzuf&uuml;gen oder Entfernen eines einzelnen Intervalls
+     * ben&ouml;tigt logarithmische Zeit. </p>
+     *
+     * @param   <T> generic type characterizing the associated time axis
+     * @author  Meno Hochschild
+     * @see     IntervalCollection#toBuilder()
+     * @since   4.37
+     * @doctags.concurrency {mutable}
+     */
+    public static final class Builder<T> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final IntervalCollection<T> prototype;
+        private final NavigableMap<ChronoInterval<T>, List<ChronoInterval<T>>> tree; // equal sort keys share a node
+        private int size;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Builder(IntervalCollection<T> collection) {
+            super();
+
+            this.prototype = collection;
+            this.tree = new TreeMap<>(collection.getComparator());
+            this.size = 0;
+
+            for (ChronoInterval<T> interval : collection.intervals) {
+                this.insert(interval);
+            }
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Adds given interval. </p>
+         *
+         * <p>An empty interval will be ignored. </p>
+         *
+         * @param   interval    the new interval to be added
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if given interval is finite and has
+         *          open start which cannot be adjusted to one with closed start
+         */
+        /*[deutsch]
+         * <p>F&uuml;gt das angegebene Intervall hinzu. </p>
+         *
+         * <p>Ein leeres Intervall wird ignoriert. </p>
+         *
+         * @param   interval    the new interval to be added
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if given interval is finite and has
+         *          open start which cannot be adjusted to one with closed start
+         */
+        public Builder<T> add(ChronoInterval<T> interval) {
+
+            if (!interval.isEmpty()) {
+                this.insert(this.prototype.adjust(interval));
+            }
+
+            return this;
+
+        }
+
+        /**
+         * <p>Adds all given intervals. </p>
+         *
+         * <p>Empty intervals will be ignored. </p>
+         *
+         * @param   intervals   the new intervals to be added
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if given collection contains a finite
+         *          interval with open start which cannot be adjusted to one with closed start
+         */
+        /*[deutsch]
+         * <p>F&uuml;gt alle angegebenen Intervalle hinzu. </p>
+         *
+         * <p>Leere Intervalle werden ignoriert. </p>
+         *
+         * @param   intervals   the new intervals to be added
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if given collection contains a finite
+         *          interval with open start which cannot be adjusted to one with closed start
+         */
+        public Builder<T> addAll(Collection<? extends ChronoInterval<T>> intervals) {
+
+            for (ChronoInterval<T> interval : intervals) {
+                this.add(interval);
+            }
+
+            return this;
+
+        }
+
+        /**
+         * <p>Removes one occurrence of given interval. </p>
+         *
+         * <p>Note: This method does not subtract any timepoints from other intervals but only
+         * removes an equal interval. </p>
+         *
+         * @param   interval    the interval to be removed
+         * @return  {@code true} if an equal interval was found and removed else {@code false}
+         * @throws  IllegalArgumentException if given interval is finite and has
+         *          open start which cannot be adjusted to one with closed start
+         */
+        /*[deutsch]
+         * <p>Entfernt ein Vorkommen des angegebenen Intervalls. </p>
+         *
+         * <p>Hinweis: Diese Methode subtrahiert keine Zeitpunkte von anderen Intervallen, sondern
+         * entfernt nur ein gleiches Intervall. </p>
+         *
+         * @param   interval    the interval to be removed
+         * @return  {@code true} if an equal interval was found and removed else {@code false}
+         * @throws  IllegalArgumentException if given interval is finite and has
+         *          open start which cannot be adjusted to one with closed start
+         */
+        public boolean remove(ChronoInterval<T> interval) {
+
+            if (interval.isEmpty()) {
+                return false;
+            }
+
+            ChronoInterval<T> iv = this.prototype.adjust(interval);
+            List<ChronoInterval<T>> node = this.tree.get(iv);
+
+            if ((node == null) || !node.remove(iv)) {
+                return false;
+            }
+
+            if (node.isEmpty()) {
+                this.tree.remove(iv);
+            }
+
+            this.size--;
+            return true;
+
+        }
+
+        /**
+         * <p>Merges all overlapping or abutting intervals to disjunct blocks in place. </p>
+         *
+         * @return  this instance for method chaining
+         * @see     IntervalCollection#withBlocks()
+         */
+        /*[deutsch]
+         * <p>Verschmilzt alle sich &uuml;berlappenden oder ber&uuml;hrenden Intervalle
+         * zu disjunkten Bl&ouml;cken. </p>
+         *
+         * @return  this instance for method chaining
+         * @see     IntervalCollection#withBlocks()
+         */
+        public Builder<T> merge() {
+
+            if (this.size > 1) {
+                IntervalCollection<T> blocks = this.freeze().withBlocks();
+                this.clear();
+
+                for (ChronoInterval<T> interval : blocks.intervals) {
+                    this.insert(interval);
+                }
+            }
+
+            return this;
+
+        }
+
+        /**
+         * <p>Removes all intervals. </p>
+         *
+         * @return  this instance for method chaining
+         */
+        /*[deutsch]
+         * <p>Entfernt alle Intervalle. </p>
+         *
+         * @return  this instance for method chaining
+         */
+        public Builder<T> clear() {
+
+            this.tree.clear();
+            this.size = 0;
+            return this;
+
+        }
+
+        /**
+         * <p>Yields the count of intervals. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Intervalle. </p>
+         *
+         * @return  int
+         */
+        public int size() {
+
+            return this.size;
+
+        }
+
+        /**
+         * <p>Queries if there is no interval. </p>
+         *
+         * @return  boolean
+         */
+        /*[deutsch]
+         * <p>Ermittelt, ob keine Intervalle vorhanden sind. </p>
+         *
+         * @return  boolean
+         */
+        public boolean isEmpty() {
+
+            return (this.size == 0);
+
+        }
+
+        /**
+         * <p>Creates an immutable interval collection containing all intervals of this builder. </p>
+         *
+         * <p>The intervals are already sorted so this method only needs linear time. The builder
+         * can still be used afterwards without affecting the result. </p>
+         *
+         * @return  new interval collection
+         */
+        /*[deutsch]
+         * <p>Erzeugt eine unver&auml;nderliche Intervallmenge mit allen Intervallen dieses
+         * Builders. </p>
+         *
+         * <p>Die Intervalle sind schon sortiert, so da&szlig; diese Methode nur lineare Zeit
+         * ben&ouml;tigt. Der Builder kann danach weiterverwendet werden, ohne das Ergebnis zu
+         * beeinflussen. </p>
+         *
+         * @return  new interval collection
+         */
+        public IntervalCollection<T> freeze() {
+
+            List<ChronoInterval<T>> list = new ArrayList<>(this.size);
+
+            for (List<ChronoInterval<T>> node : this.tree.values()) {
+                list.addAll(node);
+            }
+
+            return this.prototype.create(list);
+
+        }
+
+        /**
+         * <p>For debugging purposes. </p>
+         *
+         * @return  String
+         */
+        /*[deutsch]
+         * <p>F&uuml;r Debugging-Zwecke. </p>
+         *
+         * @return  String
+         */
+        @Override
+        public String toString() {
+
+            return "Builder" + this.freeze();
+
+        }
+
+        private void insert(ChronoInterval<T> interval) {
+
+            List<ChronoInterval<T>> node = this.tree.get(interval);
+
+            if (node == null) {
+                node = new ArrayList<>(1);
+                this.tree.put(interval, node);
+            }
+
+            node.add(interval);
+            this.size++;
+
+        }
+
+    }
+
+    /**
+     * <p>Merges overlapping or abutting ranges sorted by their start to disjunct blocks. </p>
+     */
+    private final class BlockMerger {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final BiConsumer<T, T> sink;
+        private boolean active;
+        private T blockStart;
+        private T blockEnd;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        BlockMerger(BiConsumer<T, T> sink) {
+            super();
+
+            this.sink = sink;
+            this.active = false;
+            this.blockStart = null;
+            this.blockEnd = null;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        void push(ChronoInterval<T> interval) {
+
+            this.push(startKey(interval), endKey(interval));
+
+        }
+
+        void push(
+            T start,
+            T end
+        ) {
+
+            if (!this.active) {
+                this.active = true;
+                this.blockStart = start;
+                this.blockEnd = end;
+            } else if (this.isConnected(start)) {
+                if ((this.blockEnd != null) && ((end == null) || isAfter(end, this.blockEnd))) {
+                    this.blockEnd = end;
+                }
+            } else {
+                this.sink.accept(this.blockStart, this.blockEnd);
+                this.blockStart = start;
+                this.blockEnd = end;
+            }
+
+        }
+
+        void finish() {
+
+            if (this.active) {
+                this.sink.accept(this.blockStart, this.blockEnd);
+                this.active = false;
+            }
+
+        }
+
+        // overlapping or abutting
+        private boolean isConnected(T start) {
+
+            if ((this.blockEnd == null) || (start == null)) {
+                return true;
+            }
+
+            T next = startAfter(this.blockEnd);
+            return ((next == null) || !isAfter(start, next));
+
+        }
 
     }
 
@@ -0,0 +1,758 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalIndex.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.TemporalCodec;
+import net.time4j.base.MathUtils;
+
+import java.util.Collection;
+import java.util.function.ToLongFunction;
+
+
+/**
+ * <p>Read-only index of intervals on the date axis, the timestamp axis or the moment axis
+ * which stores all boundaries as primitive {@code long}-keys in flat arrays. </p>
+ *
+ * <p>The keys are epoch days (UTC) for calendar dates and nanoseconds since [1970-01-01T00:00]
+ * for timestamps or moments. Every stored interval is transformed to the half-open key range
+ * {@code [start, end)}. The intervals are sorted by start and organized as implicit augmented
+ * binary tree (the middle element of every sorted subrange is the root of its subtree and knows
+ * the maximum end key of this subtree). Compared with the more general {@link IntervalTree},
+ * queries only need primitive comparisons and never allocate any result list: They report the
+ * indices of found intervals to an {@link IndexVisitor}. </p>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *     DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 5, 31));
+ *     DateInterval i2 = DateInterval.between(PlainDate.of(2014, 5, 31), PlainDate.of(2014, 6, 1));
+ *     DateInterval i3 = DateInterval.between(PlainDate.of(2014, 6, 15), PlainDate.of(2014, 6, 30));
+ *     IntervalIndex&lt;PlainDate, DateInterval&gt; index = IntervalIndex.onDateAxis(Arrays.asList(i3, i1, i2));
+ *
+ *     index.findIntersections(
+ *       PlainDate.of(2014, 5, 31),
+ *       (i) -&gt; {
+ *         System.out.println(index.get(i));
+ *         return false;
+ *       }
+ *     );
+ *
+ *     // output:
+ *     [2014-02-28/2014-05-31]
+ *     [2014-05-31/2014-06-01]
+ * </pre>
+ *
+ * @param   <T> the temporal type of time points in intervals
+ * @param   <I> the type of intervals stored in the index
+ * @author  Meno Hochschild
+ * @since   4.37
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Nur-Lese-Index von Intervallen auf der Datumsachse, der Zeitstempelachse oder der Momentachse,
+ * der alle Intervallgrenzen als primitive {@code long}-Schl&uuml;ssel in flachen Arrays speichert. </p>
+ *
+ * <p>Die Schl&uuml;ssel sind Epochentage (UTC) f&uuml;r Kalenderdaten und Nanosekunden seit
+ * [1970-01-01T00:00] f&uuml;r Zeitstempel oder Momente. Jedes gespeicherte Intervall wird in den
+ * halb-offenen Schl&uuml;sselbereich {@code [start, end)} umgewandelt. Die Intervalle werden nach
+ * dem Start sortiert und als implizit angereicherter Bin&auml;rbaum organisiert (das mittlere Element
+ * jedes sortierten Teilbereichs ist die Wurzel seines Teilbaums und kennt den maximalen Endschl&uuml;ssel
+ * dieses Teilbaums). Verglichen mit dem allgemeineren {@link IntervalTree} brauchen Abfragen nur
+ * primitive Vergleiche und legen nie Ergebnislisten an: Sie melden die Indexpositionen gefundener
+ * Intervalle an einen {@link IndexVisitor}. </p>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *     DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 5, 31));
+ *     DateInterval i2 = DateInterval.between(PlainDate.of(2014, 5, 31), PlainDate.of(2014, 6, 1));
+ *     DateInterval i3 = DateInterval.between(PlainDate.of(2014, 6, 15), PlainDate.of(2014, 6, 30));
+ *     IntervalIndex&lt;PlainDate, DateInterval&gt; index = IntervalIndex.onDateAxis(Arrays.asList(i3, i1, i2));
+ *
+ *     index.findIntersections(
+ *       PlainDate.of(2014, 5, 31),
+ *       (i) -&gt; {
+ *         System.out.println(index.get(i));
+ *         return false;
+ *       }
+ *     );
+ *
+ *     // Ausgabe:
+ *     [2014-02-28/2014-05-31]
+ *     [2014-05-31/2014-06-01]
+ * </pre>
+ *
+ * @param   <T> the temporal type of time points in intervals
+ * @param   <I> the type of intervals stored in the index
+ * @author  Meno Hochschild
+ * @since   4.37
+ * @doctags.concurrency {immutable}
+ */
+public final class IntervalIndex<T, I extends ChronoInterval<T>> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long MRD = 1_000_000_000L;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ToLongFunction<T> encoder;
+    private final Object[] intervals;
+    private final long[] starts; // inclusive, Long.MIN_VALUE if infinite
+    private final long[] ends; // exclusive, Long.MAX_VALUE if infinite
+    private final long[] maxEnds; // maximum end within implicit subtree
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private IntervalIndex(
+        Collection<I> intervals,
+        ToLongFunction<T> encoder
+    ) {
+        super();
+
+        int n = 0;
+
+        for (I interval : intervals) {
+            if (!interval.isEmpty()) {
+                n = Math.incrementExact(n);
+            }
+        }
+
+        Object[] values = new Object[n];
+        long[] s = new long[n];
+        long[] e = new long[n];
+        int i = 0;
+
+        for (I interval : intervals) {
+            if (!interval.isEmpty()) {
+                values[i] = interval;
+                s[i] = startKey(interval.getStart(), encoder);
+                e[i] = endKey(interval.getEnd(), encoder);
+                i++;
+            }
+        }
+
+        int[] order = new int[n];
+
+        for (i = 0; i < n; i++) {
+            order[i] = i;
+        }
+
+        sort(order, new int[n], 0, n, s, e);
+
+        this.encoder = encoder;
+        this.intervals = new Object[n];
+        this.starts = new long[n];
+        this.ends = new long[n];
+        this.maxEnds = new long[n];
+
+        for (i = 0; i < n; i++) {
+            int k = order[i];
+            this.intervals[i] = values[k];
+            this.starts[i] = s[k];
+            this.ends[i] = e[k];
+        }
+
+        this.augment(0, n - 1);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates an interval index on the date axis filled with given date intervals. </p>
+     *
+     * <p>The keys are the epoch days relative to [1970-01-01] (UTC). </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @param   intervals   collection of date intervals
+     * @return  new interval index
+     * @throws  ArithmeticException if the count of intervals overflows an int
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen Intervallindex auf der Datumsachse gef&uuml;llt mit den angegebenen Datumsintervallen. </p>
+     *
+     * <p>Die Schl&uuml;ssel sind die Epochentage relativ zu [1970-01-01] (UTC). </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @param   intervals   collection of date intervals
+     * @return  new interval index
+     * @throws  ArithmeticException if the count of intervals overflows an int
+     */
+    public static <I extends ChronoInterval<PlainDate>> IntervalIndex<PlainDate, I> onDateAxis(
+        Collection<I> intervals
+    ) {
+
+        return new IntervalIndex<>(intervals, PlainDate::getDaysSinceEpochUTC);
+
+    }
+
+    /**
+     * <p>Creates an interval index on the timestamp axis filled with given timestamp intervals. </p>
+     *
+     * <p>The keys are the local nanoseconds since [1970-01-01T00:00]. Hence all finite boundaries
+     * must be in the range of about &plusmn;292 years around 1970. </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @param   intervals   collection of timestamp intervals
+     * @return  new interval index
+     * @throws  ArithmeticException if the count of intervals overflows an int or if any
+     *          finite boundary cannot be expressed as count of nanoseconds
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen Intervallindex auf der Zeitstempelachse gef&uuml;llt mit den angegebenen
+     * Zeitstempelintervallen. </p>
+     *
+     * <p>Die Schl&uuml;ssel sind die lokalen Nanosekunden seit [1970-01-01T00:00]. Alle endlichen
+     * Intervallgrenzen m&uuml;ssen deshalb im Bereich von etwa &plusmn;292 Jahren um 1970 liegen. </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @param   intervals   collection of timestamp intervals
+     * @return  new interval index
+     * @throws  ArithmeticException if the count of intervals overflows an int or if any
+     *          finite boundary cannot be expressed as count of nanoseconds
+     */
+    public static <I extends ChronoInterval<PlainTimestamp>> IntervalIndex<PlainTimestamp, I> onTimestampAxis(
+        Collection<I> intervals
+    ) {
+
+        return new IntervalIndex<>(
+            intervals,
+            tsp -> MathUtils.safeAdd(
+                MathUtils.safeMultiply(TemporalCodec.getSeconds(tsp), MRD),
+                TemporalCodec.getNanos(tsp))
+        );
+
+    }
+
+    /**
+     * <p>Creates an interval index on the moment axis filled with given moment intervals. </p>
+     *
+     * <p>The keys are the POSIX nanoseconds since [1970-01-01T00:00Z]. Hence all finite boundaries
+     * must be in the range of about &plusmn;292 years around 1970. Leap seconds are folded into
+     * the last nanosecond of the preceding second. </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @param   intervals   collection of moment intervals
+     * @return  new interval index
+     * @throws  ArithmeticException if the count of intervals overflows an int or if any
+     *          finite boundary cannot be expressed as count of nanoseconds
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen Intervallindex auf der Momentachse gef&uuml;llt mit den angegebenen
+     * Momentintervallen. </p>
+     *
+     * <p>Die Schl&uuml;ssel sind die POSIX-Nanosekunden seit [1970-01-01T00:00Z]. Alle endlichen
+     * Intervallgrenzen m&uuml;ssen deshalb im Bereich von etwa &plusmn;292 Jahren um 1970 liegen.
+     * Schaltsekunden werden auf die letzte Nanosekunde der vorangehenden Sekunde abgebildet. </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @param   intervals   collection of moment intervals
+     * @return  new interval index
+     * @throws  ArithmeticException if the count of intervals overflows an int or if any
+     *          finite boundary cannot be expressed as count of nanoseconds
+     */
+    public static <I extends ChronoInterval<Moment>> IntervalIndex<Moment, I> onMomentAxis(
+        Collection<I> intervals
+    ) {
+
+        return new IntervalIndex<>(
+            intervals,
+            moment -> {
+                long nanos = MathUtils.safeMultiply(moment.getPosixTime(), MRD);
+                if (moment.isLeapSecond()) {
+                    return MathUtils.safeAdd(nanos, MRD - 1);
+                }
+                return MathUtils.safeAdd(nanos, moment.getNanosecond());
+            }
+        );
+
+    }
+
+    /**
+     * <p>Obtains the count of stored intervals. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Anzahl der gespeicherten Intervalle. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.intervals.length;
+
+    }
+
+    /**
+     * <p>Obtains the stored interval at given index position. </p>
+     *
+     * <p>The intervals are sorted first by start then by end. </p>
+     *
+     * @param   index   position of interval in the range {@code 0 <= index < size()}
+     * @return  stored interval
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert das gespeicherte Intervall an der angegebenen Indexposition. </p>
+     *
+     * <p>Die Intervalle sind zuerst nach dem Start und dann nach dem Ende sortiert. </p>
+     *
+     * @param   index   position of interval in the range {@code 0 <= index < size()}
+     * @return  stored interval
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public I get(int index) {
+
+        return (I) this.intervals[index];
+
+    }
+
+    /**
+     * <p>Obtains the inclusive start key of the interval at given index position. </p>
+     *
+     * @param   index   position of interval in the range {@code 0 <= index < size()}
+     * @return  start key, {@code Long.MIN_VALUE} in case of infinite start
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den inklusiven Startschl&uuml;ssel des Intervalls an der angegebenen Indexposition. </p>
+     *
+     * @param   index   position of interval in the range {@code 0 <= index < size()}
+     * @return  start key, {@code Long.MIN_VALUE} in case of infinite start
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long getStartKey(int index) {
+
+        return this.starts[index];
+
+    }
+
+    /**
+     * <p>Obtains the exclusive end key of the interval at given index position. </p>
+     *
+     * @param   index   position of interval in the range {@code 0 <= index < size()}
+     * @return  end key, {@code Long.MAX_VALUE} in case of infinite end
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den exklusiven Endschl&uuml;ssel des Intervalls an der angegebenen Indexposition. </p>
+     *
+     * @param   index   position of interval in the range {@code 0 <= index < size()}
+     * @return  end key, {@code Long.MAX_VALUE} in case of infinite end
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long getEndKey(int index) {
+
+        return this.ends[index];
+
+    }
+
+    /**
+     * <p>Encodes given point in time as primitive key. </p>
+     *
+     * @param   timepoint   the point in time to be encoded
+     * @return  key
+     * @throws  ArithmeticException if given point in time cannot be expressed as key
+     */
+    /*[deutsch]
+     * <p>Kodiert den angegebenen Zeitpunkt als primitiven Schl&uuml;ssel. </p>
+     *
+     * @param   timepoint   the point in time to be encoded
+     * @return  key
+     * @throws  ArithmeticException if given point in time cannot be expressed as key
+     */
+    public long toKey(T timepoint) {
+
+        return this.encoder.applyAsLong(timepoint);
+
+    }
+
+    /**
+     * <p>Reports the index positions of all stored intervals which contain given point in time. </p>
+     *
+     * <p>The found intervals are visited in ascending order of their index positions. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @param   visitor     callback for found index positions
+     * @return  {@code true} if the search was cancelled by the visitor else {@code false}
+     * @throws  ArithmeticException if given point in time cannot be expressed as key
+     */
+    /*[deutsch]
+     * <p>Meldet die Indexpositionen aller gespeicherten Intervalle, die den angegebenen Zeitpunkt
+     * enthalten. </p>
+     *
+     * <p>Die gefundenen Intervalle werden in aufsteigender Reihenfolge ihrer Indexpositionen besucht. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @param   visitor     callback for found index positions
+     * @return  {@code true} if the search was cancelled by the visitor else {@code false}
+     * @throws  ArithmeticException if given point in time cannot be expressed as key
+     */
+    public boolean findIntersections(
+        T timepoint,
+        IndexVisitor visitor
+    ) {
+
+        long key = this.toKey(timepoint);
+        return this.findIntersections(key, MathUtils.safeAdd(key, 1), visitor);
+
+    }
+
+    /**
+     * <p>Reports the index positions of all stored intervals which intersect given search interval. </p>
+     *
+     * <p>The found intervals are visited in ascending order of their index positions. </p>
+     *
+     * @param   interval    the search interval
+     * @param   visitor     callback for found index positions
+     * @return  {@code true} if the search was cancelled by the visitor else {@code false}
+     * @throws  ArithmeticException if any finite boundary of the search interval cannot be expressed as key
+     */
+    /*[deutsch]
+     * <p>Meldet die Indexpositionen aller gespeicherten Intervalle, die sich mit dem angegebenen
+     * Suchintervall &uuml;berschneiden. </p>
+     *
+     * <p>Die gefundenen Intervalle werden in aufsteigender Reihenfolge ihrer Indexpositionen besucht. </p>
+     *
+     * @param   interval    the search interval
+     * @param   visitor     callback for found index positions
+     * @return  {@code true} if the search was cancelled by the visitor else {@code false}
+     * @throws  ArithmeticException if any finite boundary of the search interval cannot be expressed as key
+     */
+    public boolean findIntersections(
+        ChronoInterval<T> interval,
+        IndexVisitor visitor
+    ) {
+
+        if (interval.isEmpty()) {
+            return false;
+        }
+
+        long low = startKey(interval.getStart(), this.encoder);
+        long high = endKey(interval.getEnd(), this.encoder);
+        return this.findIntersections(low, high, visitor);
+
+    }
+
+    /**
+     * <p>Reports the index positions of all stored intervals which intersect the half-open key range
+     * {@code [lowKey, highKey)}. </p>
+     *
+     * <p>The found intervals are visited in ascending order of their index positions. </p>
+     *
+     * @param   lowKey      inclusive lower key of search range
+     * @param   highKey     exclusive upper key of search range
+     * @param   visitor     callback for found index positions
+     * @return  {@code true} if the search was cancelled by the visitor else {@code false}
+     */
+    /*[deutsch]
+     * <p>Meldet die Indexpositionen aller gespeicherten Intervalle, die sich mit dem halb-offenen
+     * Schl&uuml;sselbereich {@code [lowKey, highKey)} &uuml;berschneiden. </p>
+     *
+     * <p>Die gefundenen Intervalle werden in aufsteigender Reihenfolge ihrer Indexpositionen besucht. </p>
+     *
+     * @param   lowKey      inclusive lower key of search range
+     * @param   highKey     exclusive upper key of search range
+     * @param   visitor     callback for found index positions
+     * @return  {@code true} if the search was cancelled by the visitor else {@code false}
+     */
+    public boolean findIntersections(
+        long lowKey,
+        long highKey,
+        IndexVisitor visitor
+    ) {
+
+        if (visitor == null) {
+            throw new NullPointerException("Missing visitor.");
+        } else if (lowKey >= highKey) {
+            return false;
+        }
+
+        return this.search(0, this.intervals.length - 1, lowKey, highKey, visitor);
+
+    }
+
+    /**
+     * <p>Counts all stored intervals which contain given point in time. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @return  count of found intervals
+     * @throws  ArithmeticException if given point in time cannot be expressed as key
+     */
+    /*[deutsch]
+     * <p>Z&auml;hlt alle gespeicherten Intervalle, die den angegebenen Zeitpunkt enthalten. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @return  count of found intervals
+     * @throws  ArithmeticException if given point in time cannot be expressed as key
+     */
+    public int countIntersections(T timepoint) {
+
+        long key = this.toKey(timepoint);
+        return this.count(0, this.intervals.length - 1, key, MathUtils.safeAdd(key, 1));
+
+    }
+
+    /**
+     * <p>Counts all stored intervals which intersect given search interval. </p>
+     *
+     * @param   interval    the search interval
+     * @return  count of found intervals
+     * @throws  ArithmeticException if any finite boundary of the search interval cannot be expressed as key
+     */
+    /*[deutsch]
+     * <p>Z&auml;hlt alle gespeicherten Intervalle, die sich mit dem angegebenen Suchintervall
+     * &uuml;berschneiden. </p>
+     *
+     * @param   interval    the search interval
+     * @return  count of found intervals
+     * @throws  ArithmeticException if any finite boundary of the search interval cannot be expressed as key
+     */
+    public int countIntersections(ChronoInterval<T> interval) {
+
+        if (interval.isEmpty()) {
+            return 0;
+        }
+
+        long low = startKey(interval.getStart(), this.encoder);
+        long high = endKey(interval.getEnd(), this.encoder);
+        return this.count(0, this.intervals.length - 1, low, high);
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "IntervalIndex[size=" + this.intervals.length + "]";
+
+    }
+
+    private boolean search(
+        int lo,
+        int hi,
+        long low,
+        long high,
+        IndexVisitor visitor
+    ) {
+
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+
+            // no interval in this subtree ends after the search start (short-cut)
+            if (this.maxEnds[mid] <= low) {
+                return false;
+            }
+
+            if (this.search(lo, mid - 1, low, high, visitor)) {
+                return true;
+            }
+
+            // all further intervals start at or after the search end (short-cut)
+            if (this.starts[mid] >= high) {
+                return false;
+            }
+
+            if ((this.ends[mid] > low) && visitor.visited(mid)) {
+                return true;
+            }
+
+            lo = mid + 1; // right subtree without recursion
+        }
+
+        return false;
+
+    }
+
+    private int count(
+        int lo,
+        int hi,
+        long low,
+        long high
+    ) {
+
+        int n = 0;
+
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+
+            if (this.maxEnds[mid] <= low) {
+                break;
+            }
+
+            n += this.count(lo, mid - 1, low, high);
+
+            if (this.starts[mid] >= high) {
+                break;
+            }
+
+            if (this.ends[mid] > low) {
+                n++;
+            }
+
+            lo = mid + 1;
+        }
+
+        return n;
+
+    }
+
+    private long augment(
+        int lo,
+        int hi
+    ) {
+
+        if (lo > hi) {
+            return Long.MIN_VALUE;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(this.ends[mid], Math.max(this.augment(lo, mid - 1), this.augment(mid + 1, hi)));
+        this.maxEnds[mid] = max;
+        return max;
+
+    }
+
+    private static <T> long startKey(
+        Boundary<T> boundary,
+        ToLongFunction<T> encoder
+    ) {
+
+        if (boundary.isInfinite()) {
+            return Long.MIN_VALUE;
+        }
+
+        long key = checkFinite(encoder.applyAsLong(boundary.getTemporal()));
+        return (boundary.isOpen() ? checkFinite(key + 1) : key);
+
+    }
+
+    private static <T> long endKey(
+        Boundary<T> boundary,
+        ToLongFunction<T> encoder
+    ) {
+
+        if (boundary.isInfinite()) {
+            return Long.MAX_VALUE;
+        }
+
+        long key = checkFinite(encoder.applyAsLong(boundary.getTemporal()));
+        return (boundary.isClosed() ? checkFinite(key + 1) : key);
+
+    }
+
+    private static long checkFinite(long key) {
+
+        if ((key == Long.MIN_VALUE) || (key == Long.MAX_VALUE)) {
+            throw new ArithmeticException("Finite boundary cannot be expressed as key: " + key);
+        }
+
+        return key;
+
+    }
+
+    // stable merge sort of index positions, first by start key then by end key
+    private static void sort(
+        int[] order,
+        int[] buffer,
+        int from,
+        int to,
+        long[] starts,
+        long[] ends
+    ) {
+
+        if (to - from < 2) {
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        sort(order, buffer, from, mid, starts, ends);
+        sort(order, buffer, mid, to, starts, ends);
+
+        if (!isBefore(order[mid], order[mid - 1], starts, ends)) {
+            return; // already sorted
+        }
+
+        System.arraycopy(order, from, buffer, from, to - from);
+        int i = from;
+        int j = mid;
+
+        for (int k = from; k < to; k++) {
+            if ((j >= to) || ((i < mid) && !isBefore(buffer[j], buffer[i], starts, ends))) {
+                order[k] = buffer[i++];
+            } else {
+                order[k] = buffer[j++];
+            }
+        }
+
+    }
+
+    private static boolean isBefore(
+        int a,
+        int b,
+        long[] starts,
+        long[] ends
+    ) {
+
+        return ((starts[a] < starts[b]) || ((starts[a] == starts[b]) && (ends[a] < ends[b])));
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Callback interface for reporting the index positions of found intervals. </p>
+     *
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Callback-Interface zum Melden der Indexpositionen gefundener Intervalle. </p>
+     *
+     * @since   4.37
+     */
+    @FunctionalInterface
+    public interface IndexVisitor {
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Called for every found interval. </p>
+         *
+         * @param   index   position of found interval which can be used in {@link IntervalIndex#get(int)}
+         * @return  {@code true} if further search shall be cancelled else {@code false}
+         */
+        /*[deutsch]
+         * <p>Wird f&uuml;r jedes gefundene Intervall aufgerufen. </p>
+         *
+         * @param   index   position of found interval which can be used in {@link IntervalIndex#get(int)}
+         * @return  {@code true} if further search shall be cancelled else {@code false}
+         */
+        boolean visited(int index);
+
+    }
+
+}
@@ -22,12 +22,21 @@
 package net.time4j.range;
 
 import net.time4j.engine.AttributeQuery;
+import net.time4j.engine.ChronoDisplay;
+import net.time4j.engine.ChronoElement;
+import net.time4j.engine.ChronoEntity;
 import net.time4j.engine.Temporal;
 import net.time4j.engine.TimeLine;
+import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.ChronoParser;
 import net.time4j.format.expert.ParseLog;
+import net.time4j.tz.TZID;
 
 import java.text.ParseException;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 import static net.time4j.format.Attributes.TRAILING_CHARACTERS;
 import static net.time4j.range.IntervalEdge.CLOSED;
@@ -53,6 +62,7 @@ class IntervalParser<T extends Temporal<? super T>, I extends IsoInterval<T, I>>
 	private final ChronoParser<T> endFormat;
 	private final BracketPolicy policy;
     private final Character separator;
+    private final Map<Object, Object> reducedFormats; // optional cache
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -62,6 +72,18 @@ class IntervalParser<T extends Temporal<? super T>, I extends IsoInterval<T, I>>
 		ChronoParser<T> endFormat, // optional
 		BracketPolicy policy,
         Character separator // optional
+	) {
+        this(factory, startFormat, endFormat, policy, separator, null);
+
+    }
+
+	IntervalParser(
+		IntervalFactory<T, I> factory,
+		ChronoParser<T> startFormat,
+		ChronoParser<T> endFormat, // optional
+		BracketPolicy policy,
+        Character separator, // optional
+        Map<Object, Object> reducedFormats // optional
 	) {
 		super();
 
@@ -74,6 +96,7 @@ class IntervalParser<T extends Temporal<? super T>, I extends IsoInterval<T, I>>
 		this.endFormat = endFormat;
 		this.policy = policy;
         this.separator = separator;
+        this.reducedFormats = reducedFormats;
 
 	}
 
@@ -150,6 +173,21 @@ class IntervalParser<T extends Temporal<? super T>, I extends IsoInterval<T, I>>
      */
 	I parse(String text) throws ParseException {
 
+        return this.parseFully(text);
+
+    }
+
+    /**
+     * <p>Interpretiert den angegebenen Text vollst&auml;ndig als chronologisches Intervall. </p>
+     *
+     * @param   text        text to be parsed (for example a reused line buffer)
+     * @return  parse result
+     * @throws  IndexOutOfBoundsException if the text is empty
+     * @throws  ParseException if the text is not parseable
+     * @since   4.37
+     */
+    I parseFully(CharSequence text) throws ParseException {
+
         ParseLog plog = new ParseLog();
         AttributeQuery attrs = this.startFormat.getAttributes();
         I ret = this.parse(text, plog, attrs);
@@ -630,6 +668,54 @@ class IntervalParser<T extends Temporal<? super T>, I extends IsoInterval<T, I>>
 
     }
 
+    /**
+     * <p>Liefert einen Formatierer f&uuml;r die reduzierte Endkomponente, bevorzugt aus dem Cache. </p>
+     *
+     * <p>Der Formatierer h&auml;ngt au&szlig;er von der Formatkonfiguration nur von der Menge der
+     * Elemente mit Standardwerten ab, und gegebenenfalls von der Zeitzone. Die Standardwerte selbst
+     * stammen aus der Startkomponente und werden erst w&auml;hrend der Interpretation abgefragt. </p>
+     *
+     * @param   config          subclass-specific format configuration
+     * @param   defaultSupplier source of default values derived from the start component
+     * @param   rawData         raw values of the start component
+     * @param   creator         creates a new formatter if not cached
+     * @return  formatter for the reduced end component
+     * @since   4.37
+     */
+    ChronoFormatter<T> getReducedFormat(
+        int config,
+        ChronoDisplay defaultSupplier,
+        ChronoEntity<?> rawData,
+        BiFunction<Supplier<ChronoDisplay>, ChronoEntity<?>, ChronoFormatter<T>> creator
+    ) {
+
+        if (this.reducedFormats == null) {
+            return creator.apply(() -> defaultSupplier, rawData);
+        }
+
+        ReducedKey key =
+            new ReducedKey(
+                config,
+                this.factory.stdElements(rawData),
+                rawData.hasTimezone() ? rawData.getTimezone() : null);
+        Object cached = this.reducedFormats.get(key);
+        ReducedFormat<T> reduced;
+
+        if (cached == null) {
+            reduced = new ReducedFormat<>();
+            reduced.formatter = creator.apply(reduced, rawData);
+            this.reducedFormats.put(key, reduced);
+        } else {
+            @SuppressWarnings("unchecked")
+            ReducedFormat<T> tmp = (ReducedFormat<T>) cached;
+            reduced = tmp;
+        }
+
+        reduced.defaults = defaultSupplier; // queried by the formatter during parsing
+        return reduced.formatter;
+
+    }
+
     private Boundary<T> resolveInfinity(
         boolean visible,
         Boundary<T> boundary
@@ -682,4 +768,78 @@ class IntervalParser<T extends Temporal<? super T>, I extends IsoInterval<T, I>>
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class ReducedKey {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int config;
+        private final Set<ChronoElement<?>> elements;
+        private final TZID tzid; // optional
+
+        //~ Konstruktoren -------------------------------------------------
+
+        ReducedKey(
+            int config,
+            Set<ChronoElement<?>> elements,
+            TZID tzid
+        ) {
+            super();
+
+            this.config = config;
+            this.elements = elements;
+            this.tzid = tzid;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof ReducedKey) {
+                ReducedKey that = (ReducedKey) obj;
+                return (
+                    (this.config == that.config)
+                    && this.elements.equals(that.elements)
+                    && ((this.tzid == null) ? (that.tzid == null) : this.tzid.equals(that.tzid))
+                );
+            }
+
+            return false;
+
+        }
+
+        @Override
+        public int hashCode() {
+
+            return 31 * this.config + this.elements.hashCode() + ((this.tzid == null) ? 0 : this.tzid.hashCode());
+
+        }
+
+    }
+
+    // cached formatter whose default values are supplied by the current start component
+    private static final class ReducedFormat<T>
+        implements Supplier<ChronoDisplay> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private ChronoFormatter<T> formatter;
+        private ChronoDisplay defaults;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public ChronoDisplay get() {
+
+            return this.defaults;
+
+        }
+
+    }
+
 }
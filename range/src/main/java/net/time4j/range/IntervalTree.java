@@ -30,11 +30,16 @@ import net.time4j.engine.TimeLine;
 import java.time.Instant;
 import java.util.AbstractCollection;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
 
 
 /**
@@ -75,6 +80,9 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
     // optimization of iterator()
     private volatile List<I> intervals = null;
 
+    // optimization of batch queries
+    private volatile SortedView<T, I> sortedView = null;
+
     //~ Konstruktoren -----------------------------------------------------
 
     private IntervalTree(
@@ -87,22 +95,37 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
             throw new NullPointerException("Missing timeline.");
         }
 
-        Node<T, I> r = null;
+        List<I> sorted = new ArrayList<>();
         int count = 0;
 
         for (I interval : intervals) {
             if (!interval.isEmpty()) {
-                r = insert(r, interval, timeLine);
+                sorted.add(interval);
                 count = Math.incrementExact(count);
             }
         }
 
-        this.root = r;
+        sorted.sort((i1, i2) -> compare(i1, i2, timeLine)); // stable sort
+
+        this.root = build(sorted, 0, count - 1, timeLine);
         this.size = count;
         this.timeLine = timeLine;
 
     }
 
+    private IntervalTree(
+        Node<T, I> root,
+        int size,
+        TimeLine<T> timeLine
+    ) {
+        super();
+
+        this.root = root;
+        this.size = size;
+        this.timeLine = timeLine;
+
+    }
+
     //~ Methoden ----------------------------------------------------------
 
     /**
@@ -498,7 +521,288 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
         accept(visitor, this.root);
 
     }
+    /**
+     * <p>Finds for every given point in time all stored intervals which contain it. </p>
+     *
+     * <p>This batch method is much faster than calling {@link #findIntersections(Object)} for every
+     * single point in time because the query points are sorted once and then swept together with the
+     * intervals in one pass (merge walk) without allocating any result list. The query points need not
+     * be sorted. The visitor receives the position of the query point in given list together with the
+     * position of the found interval in iteration order of this tree. If the parallel mode is chosen then
+     * the sorted query points will be divided into chunks which are processed by the common fork/join-pool
+     * so the visitor must be thread-safe in this case. The order of calls to the visitor is not specified. </p>
+     *
+     * @param   timepoints  the query points
+     * @param   visitor     callback for every match
+     * @param   parallel    shall the queries be processed in parallel?
+     * @see     #findIntersectionPairsAt(List, boolean)
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Findet f&uuml;r jeden angegebenen Zeitpunkt alle gespeicherten Intervalle, die ihn enthalten. </p>
+     *
+     * <p>Diese Stapelmethode ist viel schneller als der Aufruf von {@link #findIntersections(Object)}
+     * f&uuml;r jeden einzelnen Zeitpunkt, weil die Abfragezeitpunkte einmal sortiert und dann zusammen
+     * mit den Intervallen in einem Durchgang abgewandert werden, ohne Ergebnislisten anzulegen. Die
+     * Abfragezeitpunkte m&uuml;ssen nicht sortiert sein. Der Besucher erh&auml;lt die Position des
+     * Abfragezeitpunkts in der angegebenen Liste zusammen mit der Position des gefundenen Intervalls
+     * in der Iterationsreihenfolge dieses Baums. Wenn der parallele Modus gew&auml;hlt wird, werden die
+     * sortierten Abfragezeitpunkte in Abschnitte aufgeteilt, die vom allgemeinen Fork/Join-Pool verarbeitet
+     * werden, so da&szlig; der Besucher dann thread-sicher sein mu&szlig;. Die Reihenfolge der Aufrufe des
+     * Besuchers ist nicht festgelegt. </p>
+     *
+     * @param   timepoints  the query points
+     * @param   visitor     callback for every match
+     * @param   parallel    shall the queries be processed in parallel?
+     * @see     #findIntersectionPairsAt(List, boolean)
+     * @since   4.37
+     */
+    public void findIntersectionsAt(
+        List<T> timepoints,
+        BatchVisitor<I> visitor,
+        boolean parallel
+    ) {
+
+        if (visitor == null) {
+            throw new NullPointerException("Missing batch visitor.");
+        }
+
+        this.batch(this.pointQueries(timepoints), visitor, parallel);
+
+    }
+
+    /**
+     * <p>Finds for every given search interval all stored intervals which intersect it. </p>
+     *
+     * <p>This batch method is much faster than calling {@link #findIntersections(ChronoInterval)} for every
+     * single search interval. The search intervals need not be sorted, empty search intervals have no
+     * matches. See also {@link #findIntersectionsAt(List, BatchVisitor, boolean)} for details about the
+     * visitor and the parallel mode. </p>
+     *
+     * @param   queries     the search intervals
+     * @param   visitor     callback for every match
+     * @param   parallel    shall the queries be processed in parallel?
+     * @see     #findIntersectionPairsWith(List, boolean)
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Findet f&uuml;r jedes angegebene Suchintervall alle gespeicherten Intervalle, die sich mit ihm
+     * &uuml;berschneiden. </p>
+     *
+     * <p>Diese Stapelmethode ist viel schneller als der Aufruf von {@link #findIntersections(ChronoInterval)}
+     * f&uuml;r jedes einzelne Suchintervall. Die Suchintervalle m&uuml;ssen nicht sortiert sein, leere
+     * Suchintervalle haben keine Treffer. Siehe auch {@link #findIntersectionsAt(List, BatchVisitor, boolean)}
+     * f&uuml;r Details &uuml;ber den Besucher und den parallelen Modus. </p>
+     *
+     * @param   queries     the search intervals
+     * @param   visitor     callback for every match
+     * @param   parallel    shall the queries be processed in parallel?
+     * @see     #findIntersectionPairsWith(List, boolean)
+     * @since   4.37
+     */
+    public void findIntersectionsWith(
+        List<? extends ChronoInterval<T>> queries,
+        BatchVisitor<I> visitor,
+        boolean parallel
+    ) {
+
+        if (visitor == null) {
+            throw new NullPointerException("Missing batch visitor.");
+        }
+
+        this.batch(this.intervalQueries(queries), visitor, parallel);
+
+    }
+
+    /**
+     * <p>Finds for every given point in time all stored intervals which contain it and yields a compact
+     * list of pairs. </p>
+     *
+     * <p>Every pair is encoded as {@code long} which contains the position of the query point in the
+     * higher 32 bits and the position of the found interval in iteration order of this tree in the lower
+     * 32 bits. The pairs are sorted in ascending order. Example: </p>
+     *
+     * <pre>
+     *     for (long pair : tree.findIntersectionPairsAt(timepoints, false)) {
+     *         int queryIndex = (int) (pair &gt;&gt;&gt; 32);
+     *         int intervalIndex = (int) pair;
+     *         ...
+     *     }
+     * </pre>
+     *
+     * @param   timepoints  the query points
+     * @param   parallel    shall the queries be processed in parallel?
+     * @return  sorted array of encoded pairs (query index, interval index)
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Findet f&uuml;r jeden angegebenen Zeitpunkt alle gespeicherten Intervalle, die ihn enthalten,
+     * und liefert eine kompakte Liste von Paaren. </p>
+     *
+     * <p>Jedes Paar ist als {@code long} kodiert, das die Position des Abfragezeitpunkts in den
+     * h&ouml;heren 32 Bits und die Position des gefundenen Intervalls in der Iterationsreihenfolge dieses
+     * Baums in den niedrigeren 32 Bits enth&auml;lt. Die Paare sind aufsteigend sortiert. Beispiel: </p>
+     *
+     * <pre>
+     *     for (long pair : tree.findIntersectionPairsAt(timepoints, false)) {
+     *         int queryIndex = (int) (pair &gt;&gt;&gt; 32);
+     *         int intervalIndex = (int) pair;
+     *         ...
+     *     }
+     * </pre>
+     *
+     * @param   timepoints  the query points
+     * @param   parallel    shall the queries be processed in parallel?
+     * @return  sorted array of encoded pairs (query index, interval index)
+     * @since   4.37
+     */
+    public long[] findIntersectionPairsAt(
+        List<T> timepoints,
+        boolean parallel
+    ) {
+
+        return this.pairs(this.pointQueries(timepoints), parallel);
+
+    }
+
+    /**
+     * <p>Finds for every given search interval all stored intervals which intersect it and yields
+     * a compact list of pairs. </p>
+     *
+     * <p>The pairs are encoded in the same way as described in {@link #findIntersectionPairsAt(List, boolean)}. </p>
+     *
+     * @param   queries     the search intervals
+     * @param   parallel    shall the queries be processed in parallel?
+     * @return  sorted array of encoded pairs (query index, interval index)
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Findet f&uuml;r jedes angegebene Suchintervall alle gespeicherten Intervalle, die sich mit ihm
+     * &uuml;berschneiden, und liefert eine kompakte Liste von Paaren. </p>
+     *
+     * <p>Die Paare sind so kodiert, wie in {@link #findIntersectionPairsAt(List, boolean)} beschrieben. </p>
+     *
+     * @param   queries     the search intervals
+     * @param   parallel    shall the queries be processed in parallel?
+     * @return  sorted array of encoded pairs (query index, interval index)
+     * @since   4.37
+     */
+    public long[] findIntersectionPairsWith(
+        List<? extends ChronoInterval<T>> queries,
+        boolean parallel
+    ) {
+
+        return this.pairs(this.intervalQueries(queries), parallel);
 
+    }
+
+
+    /**
+     * <p>Yields a new interval tree which also contains given interval. </p>
+     *
+     * <p>This tree remains unchanged. The new tree shares all nodes with this tree except those
+     * on the path from the root to the inserted interval so the costs are only {@code O(log n)}.
+     * Empty intervals will not be stored. </p>
+     *
+     * @param   interval    the interval to be added
+     * @return  new interval tree (or this tree if given interval is empty)
+     * @throws  ArithmeticException if the count of intervals overflows an int
+     * @see     ConcurrentIntervalTree
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Liefert einen neuen Intervallbaum, der zus&auml;tzlich das angegebene Intervall enth&auml;lt. </p>
+     *
+     * <p>Dieser Baum bleibt unver&auml;ndert. Der neue Baum teilt sich alle Knoten mit diesem Baum
+     * au&szlig;er denen auf dem Pfad von der Wurzel zum eingef&uuml;gten Intervall, so da&szlig; die
+     * Kosten nur {@code O(log n)} betragen. Leere Intervalle werden nicht gespeichert. </p>
+     *
+     * @param   interval    the interval to be added
+     * @return  new interval tree (or this tree if given interval is empty)
+     * @throws  ArithmeticException if the count of intervals overflows an int
+     * @see     ConcurrentIntervalTree
+     * @since   4.37
+     */
+    public IntervalTree<T, I> plus(I interval) {
+
+        if (interval.isEmpty()) {
+            return this;
+        }
+
+        int count = Math.incrementExact(this.size);
+        return new IntervalTree<>(insert(this.root, interval, this.timeLine), count, this.timeLine);
+
+    }
+
+    /**
+     * <p>Yields a new interval tree which does not contain given interval any longer. </p>
+     *
+     * <p>This tree remains unchanged. If given interval is stored more than once then only one
+     * element will be removed. The costs are {@code O(log n)}. </p>
+     *
+     * @param   interval    the interval to be removed
+     * @return  new interval tree (or this tree if given interval is not stored)
+     * @see     ConcurrentIntervalTree
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Liefert einen neuen Intervallbaum, der das angegebene Intervall nicht mehr enth&auml;lt. </p>
+     *
+     * <p>Dieser Baum bleibt unver&auml;ndert. Wenn das angegebene Intervall mehrfach gespeichert ist,
+     * wird nur ein Element entfernt. Die Kosten betragen {@code O(log n)}. </p>
+     *
+     * @param   interval    the interval to be removed
+     * @return  new interval tree (or this tree if given interval is not stored)
+     * @see     ConcurrentIntervalTree
+     * @since   4.37
+     */
+    public IntervalTree<T, I> minus(ChronoInterval<T> interval) {
+
+        if (interval.isEmpty()) {
+            return this;
+        }
+
+        Node<T, I> r = remove(this.root, interval, this.timeLine);
+
+        if (r == this.root) {
+            return this;
+        }
+
+        return new IntervalTree<>(r, this.size - 1, this.timeLine);
+
+    }
+
+    /**
+     * <p>Obtains the underlying timeline. </p>
+     *
+     * @return  TimeLine
+     */
+    TimeLine<T> getTimeLine() {
+
+        return this.timeLine;
+
+    }
+
+    // builds a perfectly balanced tree from sorted intervals
+    private static <T, I extends ChronoInterval<T>> Node<T, I> build(
+        List<I> sorted,
+        int low,
+        int high,
+        TimeLine<T> timeLine
+    ) {
+
+        if (low > high) {
+            return null;
+        }
+
+        int mid = (low + high) >>> 1;
+        Node<T, I> left = build(sorted, low, mid - 1, timeLine);
+        Node<T, I> right = build(sorted, mid + 1, high, timeLine);
+        return new Node<>(sorted.get(mid), left, right, timeLine);
+
+    }
+
+    // path copying: never modifies existing nodes
     private static <T, I extends ChronoInterval<T>> Node<T, I> insert(
         Node<T, I> node,
         I interval,
@@ -506,32 +810,96 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
     ) {
 
         if (node == null) {
-            return new Node<>(interval);
+            return new Node<>(interval, null, null, timeLine);
         }
 
-        if (compareAtStart(node.interval.getStart(), interval.getStart(), timeLine) > 0) {
-            node.left = insert(node.left, interval, timeLine);
+        if (compare(node.interval, interval, timeLine) > 0) {
+            return balance(node.interval, insert(node.left, interval, timeLine), node.right, timeLine);
         } else {
-            node.right = insert(node.right, interval, timeLine);
+            return balance(node.interval, node.left, insert(node.right, interval, timeLine), timeLine);
         }
 
-        node.height = Math.max(getHeight(node.left), getHeight(node.right)) + 1;
-        node.max = findMax(node, timeLine);
-        int balance = getBalance(node);
+    }
+
+    // path copying: yields the same node if the interval was not found
+    private static <T, I extends ChronoInterval<T>> Node<T, I> remove(
+        Node<T, I> node,
+        ChronoInterval<T> interval,
+        TimeLine<T> timeLine
+    ) {
+
+        if (node == null) {
+            return null;
+        }
+
+        int cmp = compare(node.interval, interval, timeLine);
+
+        if ((cmp == 0) && interval.equals(node.interval)) {
+            if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+            Node<T, I> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(successor.interval, node.left, removeMin(node.right, timeLine), timeLine);
+        }
+
+        if (cmp >= 0) {
+            Node<T, I> left = remove(node.left, interval, timeLine);
+            if (left != node.left) {
+                return balance(node.interval, left, node.right, timeLine);
+            }
+        }
+
+        if (cmp <= 0) {
+            Node<T, I> right = remove(node.right, interval, timeLine);
+            if (right != node.right) {
+                return balance(node.interval, node.left, right, timeLine);
+            }
+        }
+
+        return node;
+
+    }
+
+    private static <T, I extends ChronoInterval<T>> Node<T, I> removeMin(
+        Node<T, I> node,
+        TimeLine<T> timeLine
+    ) {
+
+        if (node.left == null) {
+            return node.right;
+        }
+
+        return balance(node.interval, removeMin(node.left, timeLine), node.right, timeLine);
+
+    }
+
+    private static <T, I extends ChronoInterval<T>> Node<T, I> balance(
+        I interval,
+        Node<T, I> left,
+        Node<T, I> right,
+        TimeLine<T> timeLine
+    ) {
+
+        int balance = getHeight(left) - getHeight(right);
 
         if (balance < -1) {
-            if (getBalance(node.right) > 0) {
-                node.right = rightRotate(node.right, timeLine);
+            if (getBalance(right) > 0) {
+                right = rightRotate(right, timeLine);
             }
-            return leftRotate(node, timeLine);
+            return leftRotate(new Node<>(interval, left, right, timeLine), timeLine);
         } else if (balance > 1) {
-            if (getBalance(node.left) < 0) {
-                node.left = leftRotate(node.left, timeLine);
+            if (getBalance(left) < 0) {
+                left = leftRotate(left, timeLine);
             }
-            return rightRotate(node, timeLine);
+            return rightRotate(new Node<>(interval, left, right, timeLine), timeLine);
         }
 
-        return node;
+        return new Node<>(interval, left, right, timeLine);
 
     }
 
@@ -541,13 +909,7 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
     ) {
 
         Node<T, I> r = n.right;
-        n.right = r.left;
-        r.left = n;
-        n.height = Math.max(getHeight(n.left), getHeight(n.right)) + 1;
-        r.height = Math.max(getHeight(r.left), getHeight(r.right)) + 1;
-        n.max = findMax(n, timeLine);
-        r.max = findMax(r, timeLine);
-        return r;
+        return new Node<>(r.interval, new Node<>(n.interval, n.left, r.left, timeLine), r.right, timeLine);
 
     }
 
@@ -557,13 +919,7 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
     ) {
 
         Node<T, I> r = n.left;
-        n.left = r.right;
-        r.right = n;
-        n.height = Math.max(getHeight(n.left), getHeight(n.right)) + 1;
-        r.height = Math.max(getHeight(r.left), getHeight(r.right)) + 1;
-        n.max = findMax(n, timeLine);
-        r.max = findMax(r, timeLine);
-        return r;
+        return new Node<>(r.interval, r.left, new Node<>(n.interval, r.right, n.right, timeLine), timeLine);
 
     }
 
@@ -573,40 +929,20 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
-    private static <T, I extends ChronoInterval<T>> Boundary<T> findMax(
-        Node<T, I> n,
+    // sorting first by start then by end
+    private static <T> int compare(
+        ChronoInterval<T> i1,
+        ChronoInterval<T> i2,
         TimeLine<T> timeLine
     ) {
 
-        if ((n.left == null) && (n.right == null)) {
-            return n.max;
-        } else if (n.left == null) {
-            if (compareAtEnd(n.right.max, n.max, timeLine) > 0) {
-                return n.right.max;
-            } else {
-                return n.max;
-            }
-        } else if (n.right == null) {
-            if (compareAtEnd(n.left.max, n.max, timeLine) > 0) {
-                return n.left.max;
-            } else {
-                return n.max;
-            }
-        }
-
-        Boundary<T> maximized;
+        int cmp = compareAtStart(i1.getStart(), i2.getStart(), timeLine);
 
-        if (compareAtEnd(n.left.max, n.right.max, timeLine) < 0) {
-            maximized = n.right.max;
-        } else {
-            maximized = n.left.max;
-        }
-
-        if (compareAtEnd(n.max, maximized, timeLine) > 0) {
-            maximized = n.max;
+        if (cmp == 0) {
+            cmp = compareAtEnd(i1.getEnd(), i2.getEnd(), timeLine);
         }
 
-        return maximized;
+        return cmp;
 
     }
 
@@ -781,6 +1117,259 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
+    private Queries<T> pointQueries(List<T> timepoints) {
+
+        int m = timepoints.size();
+        Queries<T> queries = new Queries<>(m);
+        int i = 0;
+
+        for (T t : timepoints) {
+            queries.lows[i] = t;
+            queries.highs[i] = this.timeLine.stepForward(t); // null means infinity
+            i++;
+        }
+
+        return queries;
+
+    }
+
+    private Queries<T> intervalQueries(List<? extends ChronoInterval<T>> intervals) {
+
+        int m = intervals.size();
+        Queries<T> queries = new Queries<>(m);
+        int i = 0;
+
+        for (ChronoInterval<T> interval : intervals) {
+            if (interval.isEmpty()) {
+                queries.empty[i] = true;
+            } else {
+                T low = interval.getStart().getTemporal();
+                T high = interval.getEnd().getTemporal();
+                if ((low != null) && interval.getStart().isOpen()) {
+                    low = this.timeLine.stepForward(low);
+                }
+                if ((high != null) && interval.getEnd().isClosed()) {
+                    high = this.timeLine.stepForward(high);
+                }
+                queries.lows[i] = low;
+                queries.highs[i] = high;
+            }
+            i++;
+        }
+
+        return queries;
+
+    }
+
+    private long[] pairs(
+        Queries<T> queries,
+        boolean parallel
+    ) {
+
+        int chunks = this.countOfChunks(queries, parallel);
+        PairBuffer[] buffers = new PairBuffer[chunks];
+
+        for (int c = 0; c < chunks; c++) {
+            buffers[c] = new PairBuffer();
+        }
+
+        this.sweepInChunks(queries, chunks, c -> buffers[c]);
+
+        int total = 0;
+
+        for (PairBuffer buffer : buffers) {
+            total = Math.addExact(total, buffer.size);
+        }
+
+        long[] result = new long[total];
+        int pos = 0;
+
+        for (PairBuffer buffer : buffers) {
+            System.arraycopy(buffer.pairs, 0, result, pos, buffer.size);
+            pos += buffer.size;
+        }
+
+        if (parallel) {
+            Arrays.parallelSort(result);
+        } else {
+            Arrays.sort(result);
+        }
+
+        return result;
+
+    }
+
+    private void batch(
+        Queries<T> queries,
+        BatchVisitor<I> visitor,
+        boolean parallel
+    ) {
+
+        this.sweepInChunks(queries, this.countOfChunks(queries, parallel), c -> visitor);
+
+    }
+
+    private int countOfChunks(
+        Queries<T> queries,
+        boolean parallel
+    ) {
+
+        if (!parallel || (queries.lows.length < 2)) {
+            return 1;
+        }
+
+        return Math.min(queries.lows.length, ForkJoinPool.getCommonPoolParallelism() * 4);
+
+    }
+
+    private void sweepInChunks(
+        Queries<T> queries,
+        int chunks,
+        IntFunction<BatchVisitor<? super I>> visitors
+    ) {
+
+        int m = queries.lows.length;
+
+        if (m == 0) {
+            return;
+        }
+
+        SortedView<T, I> view = this.getSortedView();
+        Integer[] order = new Integer[m];
+
+        for (int i = 0; i < m; i++) {
+            order[i] = Integer.valueOf(i);
+        }
+
+        Arrays.sort(order, (q1, q2) -> this.compareLows(queries.lows[q1], queries.lows[q2]));
+
+        if (chunks == 1) {
+            this.sweep(view, queries, order, 0, m, visitors.apply(0));
+        } else {
+            IntStream.range(0, chunks).parallel().forEach(
+                c -> this.sweep(view, queries, order, (int) ((long) m * c / chunks),
+                    (int) ((long) m * (c + 1) / chunks), visitors.apply(c)));
+        }
+
+    }
+
+    // sweep over the queries sorted by low bound, matches are split into intervals which start
+    // before the low bound of the query and contain it (active set) and intervals which start
+    // within the query (contiguous range in the sorted view)
+    private void sweep(
+        SortedView<T, I> view,
+        Queries<T> queries,
+        Integer[] order,
+        int from,
+        int to,
+        BatchVisitor<? super I> visitor
+    ) {
+
+        if (from >= to) {
+            return;
+        }
+
+        int n = view.items.length;
+        PriorityQueue<Integer> active =
+            new PriorityQueue<>(16, (k1, k2) -> this.compareHighs(view.ends[k1], view.ends[k2]));
+        T low = queries.lows[order[from]];
+        int next = 0;
+
+        if (low != null) {
+            next = view.searchStart(low, this.timeLine);
+            for (int k = 0; k < next; k++) {
+                if (this.compareHighs(view.ends[k], low) > 0) {
+                    active.add(Integer.valueOf(k));
+                }
+            }
+        }
+
+        for (int j = from; j < to; j++) {
+            int q = order[j];
+
+            if (queries.empty[q]) {
+                continue;
+            }
+
+            low = queries.lows[q];
+            T high = queries.highs[q];
+
+            if (low != null) {
+                while ((next < n) && (this.compareLows(view.starts[next], low) < 0)) {
+                    active.add(Integer.valueOf(next));
+                    next++;
+                }
+                while (!active.isEmpty() && (this.compareHighs(view.ends[active.peek()], low) <= 0)) {
+                    active.poll();
+                }
+                for (Integer k : active) {
+                    visitor.visited(q, k.intValue(), view.get(k.intValue()));
+                }
+            }
+
+            for (int k = next; k < n; k++) {
+                T start = view.starts[k];
+                if ((high != null) && (start != null) && (this.timeLine.compare(start, high) >= 0)) {
+                    break;
+                }
+                visitor.visited(q, k, view.get(k));
+            }
+        }
+
+    }
+
+    private SortedView<T, I> getSortedView() {
+
+        SortedView<T, I> view = this.sortedView;
+
+        if (view == null) {
+            List<I> list = new ArrayList<>(this.size);
+            Iterator<I> iter = this.iterator();
+
+            while (iter.hasNext()) {
+                list.add(iter.next());
+            }
+
+            view = new SortedView<>(list, this.timeLine);
+            this.sortedView = view;
+        }
+
+        return view;
+
+    }
+
+    // null means infinite past
+    private int compareLows(
+        T t1,
+        T t2
+    ) {
+
+        if (t1 == null) {
+            return ((t2 == null) ? 0 : -1);
+        } else if (t2 == null) {
+            return 1;
+        }
+
+        return this.timeLine.compare(t1, t2);
+
+    }
+
+    // null means infinite future
+    private int compareHighs(
+        T t1,
+        T t2
+    ) {
+
+        if (t1 == null) {
+            return ((t2 == null) ? 0 : 1);
+        } else if (t2 == null) {
+            return -1;
+        }
+
+        return this.timeLine.compare(t1, t2);
+
+    }
+
     private static <T, I extends ChronoInterval<T>> boolean accept(
         Visitor<I> visitor,
         Node<T, I> node
@@ -835,26 +1424,204 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
+    /**
+     * <p>Callback interface for batch queries. </p>
+     *
+     * @param   <I> the type of found intervals
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Callback-Interface f&uuml;r Stapelabfragen. </p>
+     *
+     * @param   <I> the type of found intervals
+     * @since   4.37
+     */
+    @FunctionalInterface
+    public interface BatchVisitor<I> {
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Called for every match of a query and a stored interval. </p>
+         *
+         * @param   queryIndex      position of query in the list of queries
+         * @param   intervalIndex   position of found interval in iteration order of the tree
+         * @param   interval        found interval
+         */
+        /*[deutsch]
+         * <p>Wird f&uuml;r jeden Treffer einer Abfrage mit einem gespeicherten Intervall aufgerufen. </p>
+         *
+         * @param   queryIndex      position of query in the list of queries
+         * @param   intervalIndex   position of found interval in iteration order of the tree
+         * @param   interval        found interval
+         */
+        void visited(
+            int queryIndex,
+            int intervalIndex,
+            I interval
+        );
+
+    }
+
     private static class Node<T, I extends ChronoInterval<T>> {
 
         //~ Instanzvariablen ----------------------------------------------
 
         private final I interval;
 
-        // tree organization
-        Node<T, I> left = null;
-        Node<T, I> right = null;
-        int height;
-        Boundary<T> max;
+        // tree organization (immutable, so a tree can be shared between snapshots)
+        private final Node<T, I> left;
+        private final Node<T, I> right;
+        private final int height;
+        private final Boundary<T> max;
 
         //~ Konstruktoren -------------------------------------------------
 
-        Node(I interval) {
+        Node(
+            I interval,
+            Node<T, I> left,
+            Node<T, I> right,
+            TimeLine<T> timeLine
+        ) {
             super();
 
+            Boundary<T> m = interval.getEnd();
+
+            if ((left != null) && (compareAtEnd(left.max, m, timeLine) > 0)) {
+                m = left.max;
+            }
+
+            if ((right != null) && (compareAtEnd(right.max, m, timeLine) > 0)) {
+                m = right.max;
+            }
+
             this.interval = interval;
-            this.height = 1;
-            this.max = interval.getEnd();
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(getHeight(left), getHeight(right)) + 1;
+            this.max = m;
+
+        }
+
+    }
+
+    // all intervals in iteration order with half-open bounds [start, end)
+    private static class SortedView<T, I extends ChronoInterval<T>> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Object[] items;
+        private final T[] starts; // inclusive, null means infinite past
+        private final T[] ends; // exclusive, null means infinite future
+
+        //~ Konstruktoren -------------------------------------------------
+
+        @SuppressWarnings("unchecked")
+        SortedView(
+            List<I> intervals,
+            TimeLine<T> timeLine
+        ) {
+            super();
+
+            int n = intervals.size();
+            this.items = intervals.toArray();
+            this.starts = (T[]) new Object[n];
+            this.ends = (T[]) new Object[n];
+
+            for (int k = 0; k < n; k++) {
+                I interval = intervals.get(k);
+                T start = interval.getStart().getTemporal();
+                T end = interval.getEnd().getTemporal();
+                if ((start != null) && interval.getStart().isOpen()) {
+                    start = timeLine.stepForward(start);
+                }
+                if ((end != null) && interval.getEnd().isClosed()) {
+                    end = timeLine.stepForward(end);
+                }
+                this.starts[k] = start;
+                this.ends[k] = end;
+            }
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @SuppressWarnings("unchecked")
+        I get(int index) {
+
+            return (I) this.items[index];
+
+        }
+
+        // position of first interval which does not start before given time point
+        int searchStart(
+            T low,
+            TimeLine<T> timeLine
+        ) {
+
+            int lo = 0;
+            int hi = this.starts.length;
+
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                T start = this.starts[mid];
+                if ((start == null) || (timeLine.compare(start, low) < 0)) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+
+            return lo;
+
+        }
+
+    }
+
+    private static class Queries<T> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final T[] lows; // inclusive, null means infinite past
+        private final T[] highs; // exclusive, null means infinite future
+        private final boolean[] empty;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        @SuppressWarnings("unchecked")
+        Queries(int size) {
+            super();
+
+            this.lows = (T[]) new Object[size];
+            this.highs = (T[]) new Object[size];
+            this.empty = new boolean[size];
+
+        }
+
+    }
+
+    private static class PairBuffer
+        implements BatchVisitor<Object> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private long[] pairs = new long[16];
+        private int size = 0;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void visited(
+            int queryIndex,
+            int intervalIndex,
+            Object interval
+        ) {
+
+            if (this.size == this.pairs.length) {
+                this.pairs = Arrays.copyOf(this.pairs, Math.multiplyExact(this.size, 2));
+            }
+
+            this.pairs[this.size++] = (((long) queryIndex) << 32) | (intervalIndex & 0xFFFFFFFFL);
 
         }
 
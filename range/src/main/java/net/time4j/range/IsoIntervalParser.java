@@ -0,0 +1,297 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IsoIntervalParser.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.text.ParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+
+/**
+ * <p>Reusable parser for intervals in ISO-8601-format which is designed for bulk input. </p>
+ *
+ * <p>The results are the same as those of the static {@code parseISO}-methods of the interval classes,
+ * for example {@link DateInterval#parseISO(String)}. However, this parser works on any character
+ * sequence without creating substrings and keeps the formatters for reduced end components in a
+ * small cache across calls. The missing elements of a reduced end component are taken from the
+ * start component of the same interval. Example: </p>
+ *
+ * <pre>
+ *  IsoIntervalParser&lt;DateInterval&gt; parser = IsoIntervalParser.ofDateIntervals();
+ *  List&lt;DateInterval&gt; intervals = new ArrayList&lt;&gt;();
+ *  parser.parseLines(new StringReader(&quot;2012-01-01/06-30\n2012-07-01/12-31\n&quot;), intervals::add);
+ *  System.out.println(intervals); // [[2012-01-01/2012-06-30], [2012-07-01/2012-12-31]]
+ * </pre>
+ *
+ * <p>Instances are not thread-safe, so every thread should use its own parser. </p>
+ *
+ * @param   <I> generic interval type
+ * @author  Meno Hochschild
+ * @since   4.37
+ * @doctags.concurrency {mutable}
+ */
+/*[deutsch]
+ * <p>Wiederverwendbarer Interpretierer f&uuml;r Intervalle im ISO-8601-Format, der f&uuml;r
+ * Massendaten gedacht ist. </p>
+ *
+ * <p>Die Ergebnisse sind die gleichen wie die der statischen {@code parseISO}-Methoden der
+ * Intervallklassen, zum Beispiel {@link DateInterval#parseISO(String)}. Allerdings arbeitet dieser
+ * Interpretierer mit beliebigen Zeichenfolgen, ohne Teilzeichenketten zu erzeugen, und h&auml;lt
+ * die Formatierer f&uuml;r reduzierte Endkomponenten &uuml;ber mehrere Aufrufe hinweg in einem
+ * kleinen Cache. Die fehlenden Elemente einer reduzierten Endkomponente werden der Startkomponente
+ * desselben Intervalls entnommen. Beispiel: </p>
+ *
+ * <pre>
+ *  IsoIntervalParser&lt;DateInterval&gt; parser = IsoIntervalParser.ofDateIntervals();
+ *  List&lt;DateInterval&gt; intervals = new ArrayList&lt;&gt;();
+ *  parser.parseLines(new StringReader(&quot;2012-01-01/06-30\n2012-07-01/12-31\n&quot;), intervals::add);
+ *  System.out.println(intervals); // [[2012-01-01/2012-06-30], [2012-07-01/2012-12-31]]
+ * </pre>
+ *
+ * <p>Instanzen sind nicht thread-sicher, so da&szlig; jeder Thread seinen eigenen Interpretierer
+ * verwenden sollte. </p>
+ *
+ * @param   <I> generic interval type
+ * @author  Meno Hochschild
+ * @since   4.37
+ * @doctags.concurrency {mutable}
+ */
+public final class IsoIntervalParser<I extends IsoInterval<?, I>> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MAX_CACHE_SIZE = 64;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Engine<I> engine;
+    private final Map<Object, Object> cache;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private IsoIntervalParser(Engine<I> engine) {
+        super();
+
+        this.engine = engine;
+        this.cache =
+            new LinkedHashMap<Object, Object>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+                    return (this.size() > MAX_CACHE_SIZE);
+                }
+            };
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new parser for date intervals. </p>
+     *
+     * @return  new parser instance
+     * @see     DateInterval#parseISO(String)
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Interpretierer f&uuml;r Datumsintervalle. </p>
+     *
+     * @return  new parser instance
+     * @see     DateInterval#parseISO(String)
+     */
+    public static IsoIntervalParser<DateInterval> ofDateIntervals() {
+
+        return new IsoIntervalParser<>(DateInterval::parseISO);
+
+    }
+
+    /**
+     * <p>Creates a new parser for timestamp intervals. </p>
+     *
+     * @return  new parser instance
+     * @see     TimestampInterval#parseISO(String)
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Interpretierer f&uuml;r Zeitstempelintervalle. </p>
+     *
+     * @return  new parser instance
+     * @see     TimestampInterval#parseISO(String)
+     */
+    public static IsoIntervalParser<TimestampInterval> ofTimestampIntervals() {
+
+        return new IsoIntervalParser<>(TimestampInterval::parseISO);
+
+    }
+
+    /**
+     * <p>Creates a new parser for moment intervals. </p>
+     *
+     * @return  new parser instance
+     * @see     MomentInterval#parseISO(String)
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Interpretierer f&uuml;r Momentintervalle. </p>
+     *
+     * @return  new parser instance
+     * @see     MomentInterval#parseISO(String)
+     */
+    public static IsoIntervalParser<MomentInterval> ofMomentIntervals() {
+
+        return new IsoIntervalParser<>(MomentInterval::parseISO);
+
+    }
+
+    /**
+     * <p>Interprets given ISO-conforming text as interval. </p>
+     *
+     * @param   text        text to be parsed
+     * @return  parsed interval
+     * @throws  IndexOutOfBoundsException if given text is empty
+     * @throws  ParseException if the text is not parseable
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen ISO-konformen Text als Intervall. </p>
+     *
+     * @param   text        text to be parsed
+     * @return  parsed interval
+     * @throws  IndexOutOfBoundsException if given text is empty
+     * @throws  ParseException if the text is not parseable
+     */
+    public I parse(CharSequence text) throws ParseException {
+
+        return this.engine.parse(text, this.cache);
+
+    }
+
+    /**
+     * <p>Interprets every line of given character stream as interval and passes the results to
+     * given consumer. </p>
+     *
+     * <p>Leading and trailing whitespace of a line is ignored, and empty lines are skipped. All lines
+     * are read into the same reusable buffer. The reader will not be closed by this method. </p>
+     *
+     * @param   reader      source of lines
+     * @param   consumer    receives the parsed intervals
+     * @return  count of parsed intervals
+     * @throws  IOException if reading fails
+     * @throws  ParseException if any line is not parseable, with the line number in the message
+     *                          and the error offset relative to the trimmed line
+     */
+    /*[deutsch]
+     * <p>Interpretiert jede Zeile des angegebenen Zeichenstroms als Intervall und &uuml;bergibt
+     * die Ergebnisse an den angegebenen Empf&auml;nger. </p>
+     *
+     * <p>F&uuml;hrende und abschlie&szlig;ende Leerzeichen einer Zeile werden ignoriert, und leere
+     * Zeilen werden &uuml;bersprungen. Alle Zeilen werden in denselben wiederverwendbaren Puffer
+     * gelesen. Der Zeichenstrom wird von dieser Methode nicht geschlossen. </p>
+     *
+     * @param   reader      source of lines
+     * @param   consumer    receives the parsed intervals
+     * @return  count of parsed intervals
+     * @throws  IOException if reading fails
+     * @throws  ParseException if any line is not parseable, with the line number in the message
+     *                          and the error offset relative to the trimmed line
+     */
+    public long parseLines(
+        Reader reader,
+        Consumer<? super I> consumer
+    ) throws IOException, ParseException {
+
+        if (consumer == null) {
+            throw new NullPointerException("Missing consumer.");
+        }
+
+        char[] buffer = new char[8192];
+        StringBuilder line = new StringBuilder(128);
+        long lineNumber = 1;
+        long count = 0;
+        int n;
+
+        while ((n = reader.read(buffer)) != -1) {
+            for (int i = 0; i < n; i++) {
+                char c = buffer[i];
+                if (c == '\n') {
+                    count += this.parseLine(line, lineNumber, consumer);
+                    line.setLength(0);
+                    lineNumber++;
+                } else {
+                    line.append(c);
+                }
+            }
+        }
+
+        count += this.parseLine(line, lineNumber, consumer);
+        return count;
+
+    }
+
+    private int parseLine(
+        StringBuilder line,
+        long lineNumber,
+        Consumer<? super I> consumer
+    ) throws ParseException {
+
+        int end = line.length();
+
+        while ((end > 0) && Character.isWhitespace(line.charAt(end - 1))) {
+            end--;
+        }
+
+        line.setLength(end);
+        int start = 0;
+
+        while ((start < end) && Character.isWhitespace(line.charAt(start))) {
+            start++;
+        }
+
+        if (start == end) {
+            return 0;
+        } else if (start > 0) {
+            line.delete(0, start);
+        }
+
+        try {
+            consumer.accept(this.engine.parse(line, this.cache));
+            return 1;
+        } catch (ParseException pe) {
+            ParseException ex =
+                new ParseException("Line " + lineNumber + ": " + pe.getMessage(), pe.getErrorOffset());
+            ex.initCause(pe);
+            throw ex;
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    @FunctionalInterface
+    private interface Engine<I> {
+
+        I parse(
+            CharSequence text,
+            Map<Object, Object> cache
+        ) throws ParseException;
+
+    }
+
+}
@@ -21,12 +21,15 @@
 
 package net.time4j.range;
 
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
 import net.time4j.Duration;
 import net.time4j.IsoDateUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
 import net.time4j.ZonalDateTime;
+import net.time4j.engine.TimeSpan;
 import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.Iso8601Format;
 import net.time4j.tz.ZonalOffset;
@@ -835,6 +838,11 @@ public class IsoRecurrence<I>
 
         long size = (this.isInfinite() ? Long.MAX_VALUE : this.getCount());
         int characteristics = DISTINCT | IMMUTABLE | NONNULL | ORDERED | SIZED | SUBSIZED;
+
+        if (!this.isInfinite() && this.isRandomAccessible()) {
+            return StepSpliterator.stream(size, index -> this.getInterval((int) index), characteristics);
+        }
+
         Spliterator<I> spliterator = Spliterators.spliterator(this.iterator(), size, characteristics);
         return StreamSupport.stream(spliterator, false);
 
@@ -846,12 +854,61 @@ public class IsoRecurrence<I>
 
     }
 
+    /**
+     * <p>Can the interval at any position be computed directly with the same result as iterating? </p>
+     *
+     * @return  boolean
+     */
+    boolean isRandomAccessible() {
+
+        return false;
+
+    }
+
+    /**
+     * <p>Computes the interval at given position directly without iterating. </p>
+     *
+     * @param   index   position of interval (zero-based)
+     * @return  recurrent interval
+     * @see     #isRandomAccessible()
+     */
+    I getInterval(int index) {
+
+        throw new AbstractMethodError();
+
+    }
+
     int getType() {
 
         return this.type;
 
     }
 
+    // repeated addition is equivalent to addition of multiples only for fixed-length units
+    // or for month-based units if the day-of-month of the reference date is never truncated
+    private static boolean isRandomAccessible(
+        Duration<?> duration,
+        PlainDate ref
+    ) {
+
+        boolean fixed = true;
+        boolean monthly = true;
+
+        for (TimeSpan.Item<?> item : duration.getTotalLength()) {
+            Object unit = item.getUnit();
+            if ((unit == DAYS) || (unit == WEEKS) || (unit instanceof ClockUnit)) {
+                monthly = false;
+            } else if (unit instanceof CalendarUnit) {
+                fixed = false;
+            } else {
+                return false;
+            }
+        }
+
+        return (fixed || (monthly && (ref.getDayOfMonth() <= 28)));
+
+    }
+
     private static void check(int count) {
 
         if (count < 0) {
@@ -1019,23 +1076,64 @@ public class IsoRecurrence<I>
                 @Override
                 protected DateInterval nextInterval() {
                     PlainDate next;
-                    Boundary<PlainDate> s;
-                    Boundary<PlainDate> e;
                     if (RecurrentDateIntervals.this.isBackwards()) {
                         next = this.current.minus(RecurrentDateIntervals.this.duration);
-                        s = Boundary.ofClosed(next.plus(1, DAYS));
-                        e = Boundary.ofClosed(this.current);
                     } else {
                         next = this.current.plus(RecurrentDateIntervals.this.duration);
-                        s = Boundary.ofClosed(this.current);
-                        e = Boundary.ofClosed(next.minus(1, DAYS));
                     }
+                    DateInterval result = RecurrentDateIntervals.this.between(this.current, next);
                     this.current = next;
-                    return DateIntervalFactory.INSTANCE.between(s, e);
+                    return result;
                 }
             };
         }
 
+        @Override
+        boolean isRandomAccessible() {
+
+            return IsoRecurrence.isRandomAccessible(this.duration, this.ref);
+
+        }
+
+        @Override
+        DateInterval getInterval(int index) {
+
+            return this.between(this.step(index), this.step(index + 1));
+
+        }
+
+        private PlainDate step(int index) {
+
+            if (index == 0) {
+                return this.ref;
+            } else if (this.isBackwards()) {
+                return this.ref.minus(this.duration.multipliedBy(index));
+            } else {
+                return this.ref.plus(this.duration.multipliedBy(index));
+            }
+
+        }
+
+        private DateInterval between(
+            PlainDate current,
+            PlainDate next
+        ) {
+
+            Boundary<PlainDate> s;
+            Boundary<PlainDate> e;
+
+            if (this.isBackwards()) {
+                s = Boundary.ofClosed(next.plus(1, DAYS));
+                e = Boundary.ofClosed(current);
+            } else {
+                s = Boundary.ofClosed(current);
+                e = Boundary.ofClosed(next.minus(1, DAYS));
+            }
+
+            return DateIntervalFactory.INSTANCE.between(s, e);
+
+        }
+
         @Override
         public boolean equals(Object obj) {
 
@@ -1135,23 +1233,57 @@ public class IsoRecurrence<I>
                 @Override
                 protected TimestampInterval nextInterval() {
                     PlainTimestamp next;
-                    Boundary<PlainTimestamp> s;
-                    Boundary<PlainTimestamp> e;
                     if (RecurrentTimestampIntervals.this.isBackwards()) {
                         next = this.current.minus(RecurrentTimestampIntervals.this.duration);
-                        s = Boundary.ofClosed(next);
-                        e = Boundary.ofOpen(this.current);
                     } else {
                         next = this.current.plus(RecurrentTimestampIntervals.this.duration);
-                        s = Boundary.ofClosed(this.current);
-                        e = Boundary.ofOpen(next);
                     }
+                    TimestampInterval result = RecurrentTimestampIntervals.this.between(this.current, next);
                     this.current = next;
-                    return TimestampIntervalFactory.INSTANCE.between(s, e);
+                    return result;
                 }
             };
         }
 
+        @Override
+        boolean isRandomAccessible() {
+
+            return IsoRecurrence.isRandomAccessible(this.duration, this.ref.getCalendarDate());
+
+        }
+
+        @Override
+        TimestampInterval getInterval(int index) {
+
+            return this.between(this.step(index), this.step(index + 1));
+
+        }
+
+        private PlainTimestamp step(int index) {
+
+            if (index == 0) {
+                return this.ref;
+            } else if (this.isBackwards()) {
+                return this.ref.minus(this.duration.multipliedBy(index));
+            } else {
+                return this.ref.plus(this.duration.multipliedBy(index));
+            }
+
+        }
+
+        private TimestampInterval between(
+            PlainTimestamp current,
+            PlainTimestamp next
+        ) {
+
+            if (this.isBackwards()) {
+                return TimestampIntervalFactory.INSTANCE.between(Boundary.ofClosed(next), Boundary.ofOpen(current));
+            } else {
+                return TimestampIntervalFactory.INSTANCE.between(Boundary.ofClosed(current), Boundary.ofOpen(next));
+            }
+
+        }
+
         @Override
         public boolean equals(Object obj) {
 
@@ -1253,27 +1385,67 @@ public class IsoRecurrence<I>
         public Iterator<MomentInterval> iterator() {
             return new ReadOnlyIterator<MomentInterval, RecurrentMomentIntervals>(this) {
                 private PlainTimestamp current = RecurrentMomentIntervals.this.ref;
-                private ZonalOffset offset = RecurrentMomentIntervals.this.offset;
                 @Override
                 protected MomentInterval nextInterval() {
                     PlainTimestamp next;
-                    Boundary<Moment> s;
-                    Boundary<Moment> e;
                     if (RecurrentMomentIntervals.this.isBackwards()) {
                         next = this.current.minus(RecurrentMomentIntervals.this.duration);
-                        s = Boundary.ofClosed(next.at(offset));
-                        e = Boundary.ofOpen(this.current.at(offset));
                     } else {
                         next = this.current.plus(RecurrentMomentIntervals.this.duration);
-                        s = Boundary.ofClosed(this.current.at(offset));
-                        e = Boundary.ofOpen(next.at(offset));
                     }
+                    MomentInterval result = RecurrentMomentIntervals.this.between(this.current, next);
                     this.current = next;
-                    return MomentIntervalFactory.INSTANCE.between(s, e);
+                    return result;
                 }
             };
         }
 
+        @Override
+        boolean isRandomAccessible() {
+
+            return IsoRecurrence.isRandomAccessible(this.duration, this.ref.getCalendarDate());
+
+        }
+
+        @Override
+        MomentInterval getInterval(int index) {
+
+            return this.between(this.step(index), this.step(index + 1));
+
+        }
+
+        private PlainTimestamp step(int index) {
+
+            if (index == 0) {
+                return this.ref;
+            } else if (this.isBackwards()) {
+                return this.ref.minus(this.duration.multipliedBy(index));
+            } else {
+                return this.ref.plus(this.duration.multipliedBy(index));
+            }
+
+        }
+
+        private MomentInterval between(
+            PlainTimestamp current,
+            PlainTimestamp next
+        ) {
+
+            Boundary<Moment> s;
+            Boundary<Moment> e;
+
+            if (this.isBackwards()) {
+                s = Boundary.ofClosed(next.at(this.offset));
+                e = Boundary.ofOpen(current.at(this.offset));
+            } else {
+                s = Boundary.ofClosed(current.at(this.offset));
+                e = Boundary.ofOpen(next.at(this.offset));
+            }
+
+            return MomentIntervalFactory.INSTANCE.between(s, e);
+
+        }
+
         @Override
         public boolean equals(Object obj) {
 
@@ -21,6 +21,7 @@
 
 package net.time4j.range;
 
+import net.time4j.Moment;
 import net.time4j.SI;
 import net.time4j.base.MathUtils;
 import net.time4j.base.UnixTime;
@@ -1140,6 +1141,48 @@ public final class MachineTime<U>
 
     }
 
+    /**
+     * <p>Creates a mutable accumulator for summing up machine times on the POSIX scale. </p>
+     *
+     * @return  new accumulator with zero length
+     * @see     MomentInterval#getLengthInNanos()
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen ver&auml;nderlichen Akkumulator zum Aufsummieren von Maschinenzeiten
+     * auf der POSIX-Skala. </p>
+     *
+     * @return  new accumulator with zero length
+     * @see     MomentInterval#getLengthInNanos()
+     * @since   4.37
+     */
+    public static Accumulator<TimeUnit> accumulatorOnPosixScale() {
+
+        return new Accumulator<>(POSIX);
+
+    }
+
+    /**
+     * <p>Creates a mutable accumulator for summing up machine times on the UTC scale. </p>
+     *
+     * @return  new accumulator with zero length
+     * @see     MomentInterval#getRealLengthInNanos()
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen ver&auml;nderlichen Akkumulator zum Aufsummieren von Maschinenzeiten
+     * auf der UTC-Skala. </p>
+     *
+     * @return  new accumulator with zero length
+     * @see     MomentInterval#getRealLengthInNanos()
+     * @since   4.37
+     */
+    public static Accumulator<SI> accumulatorOnUtcScale() {
+
+        return new Accumulator<>(UTC);
+
+    }
+
     private void createNumber(StringBuilder sb) {
 
         if (this.isNegative()) {
@@ -1213,6 +1256,340 @@ public final class MachineTime<U>
 
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * <p>Mutable accumulator for summing up machine times in place. </p>
+     *
+     * <p>The accumulated length is held in primitive seconds and nanoseconds so that adding a
+     * machine time, an amount of units or the length of a moment interval does not create any
+     * objects. The result is only materialized on demand by {@link #toMachineTime()}. An instance
+     * is only intended for local use in one thread because it is not thread-safe. </p>
+     *
+     * @param   <U> either {@code TimeUnit} or {@code SI}
+     * @see     MachineTime#accumulatorOnPosixScale()
+     * @see     MachineTime#accumulatorOnUtcScale()
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Ver&auml;nderlicher Akkumulator, der Maschinenzeiten direkt aufsummiert. </p>
+     *
+     * <p>Die aufsummierte L&auml;nge wird in primitiven Sekunden und Nanosekunden gehalten, so
+     * da&szlig; die Addition einer Maschinenzeit, eines Betrags von Zeiteinheiten oder der L&auml;nge
+     * eines Momentintervalls keine Objekte erzeugt. Das Ergebnis wird erst bei Bedarf mittels
+     * {@link #toMachineTime()} erzeugt. Eine Instanz ist nur zur lokalen Verwendung in einem Thread
+     * gedacht, da keine Thread-Sicherheit gegeben ist. </p>
+     *
+     * @param   <U> either {@code TimeUnit} or {@code SI}
+     * @see     MachineTime#accumulatorOnPosixScale()
+     * @see     MachineTime#accumulatorOnUtcScale()
+     * @since   4.37
+     */
+    public static final class Accumulator<U> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final TimeScale scale;
+        private long seconds;
+        private int nanos; // always in range 0 <= nanos < MRD
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Accumulator(TimeScale scale) {
+            super();
+
+            this.scale = scale;
+            this.seconds = 0;
+            this.nanos = 0;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Adds given machine time to this accumulator. </p>
+         *
+         * @param   duration    machine time to be added
+         * @return  this instance for method chaining
+         * @throws  ArithmeticException in case of numerical overflow
+         */
+        /*[deutsch]
+         * <p>Addiert die angegebene Maschinenzeit zu diesem Akkumulator. </p>
+         *
+         * @param   duration    machine time to be added
+         * @return  this instance for method chaining
+         * @throws  ArithmeticException in case of numerical overflow
+         */
+        public Accumulator<U> add(MachineTime<U> duration) {
+
+            this.addSeconds(duration.seconds, duration.nanos);
+            return this;
+
+        }
+
+        /**
+         * <p>Subtracts given machine time from this accumulator. </p>
+         *
+         * @param   duration    machine time to be subtracted
+         * @return  this instance for method chaining
+         * @throws  ArithmeticException in case of numerical overflow
+         */
+        /*[deutsch]
+         * <p>Subtrahiert die angegebene Maschinenzeit von diesem Akkumulator. </p>
+         *
+         * @param   duration    machine time to be subtracted
+         * @return  this instance for method chaining
+         * @throws  ArithmeticException in case of numerical overflow
+         */
+        public Accumulator<U> subtract(MachineTime<U> duration) {
+
+            this.addSeconds(Math.negateExact(duration.seconds), -duration.nanos);
+            return this;
+
+        }
+
+        /**
+         * <p>Adds given temporal amount to this accumulator. </p>
+         *
+         * @param   amount  the amount to be added (maybe negative)
+         * @param   unit    the related time unit
+         * @return  this instance for method chaining
+         * @throws  ArithmeticException in case of numerical overflow
+         */
+        /*[deutsch]
+         * <p>Addiert den angegebenen Zeitbetrag zu diesem Akkumulator. </p>
+         *
+         * @param   amount  the amount to be added (maybe negative)
+         * @param   unit    the related time unit
+         * @return  this instance for method chaining
+         * @throws  ArithmeticException in case of numerical overflow
+         */
+        public Accumulator<U> add(
+            long amount,
+            U unit
+        ) {
+
+            if (this.scale == POSIX) {
+                TimeUnit u = TimeUnit.class.cast(unit);
+                if (u.compareTo(TimeUnit.SECONDS) >= 0) {
+                    this.addSeconds(Math.multiplyExact(amount, TimeUnit.SECONDS.convert(1, u)), 0);
+                } else {
+                    this.addNanos(Math.multiplyExact(amount, TimeUnit.NANOSECONDS.convert(1, u)));
+                }
+            } else {
+                switch (SI.class.cast(unit)) {
+                    case SECONDS:
+                        this.addSeconds(amount, 0);
+                        break;
+                    case NANOSECONDS:
+                        this.addNanos(amount);
+                        break;
+                    default:
+                        throw new UnsupportedOperationException(unit.toString());
+                }
+            }
+
+            return this;
+
+        }
+
+        /**
+         * <p>Adds the length of given moment interval to this accumulator. </p>
+         *
+         * <p>Equivalent to {@code add(interval.getSimpleDuration())} on the POSIX scale or to
+         * {@code add(interval.getRealDuration())} on the UTC scale, but without any intermediate
+         * objects. </p>
+         *
+         * @param   interval    finite moment interval whose length is to be added
+         * @return  this instance for method chaining
+         * @throws  UnsupportedOperationException if given interval is infinite or if the UTC scale
+         *          is used and the interval starts before year 1972
+         * @throws  ArithmeticException in case of numerical overflow
+         */
+        /*[deutsch]
+         * <p>Addiert die L&auml;nge des angegebenen Momentintervalls zu diesem Akkumulator. </p>
+         *
+         * <p>&Auml;quivalent zu {@code add(interval.getSimpleDuration())} auf der POSIX-Skala oder
+         * zu {@code add(interval.getRealDuration())} auf der UTC-Skala, aber ohne
+         * Zwischenobjekte. </p>
+         *
+         * @param   interval    finite moment interval whose length is to be added
+         * @return  this instance for method chaining
+         * @throws  UnsupportedOperationException if given interval is infinite or if the UTC scale
+         *          is used and the interval starts before year 1972
+         * @throws  ArithmeticException in case of numerical overflow
+         */
+        public Accumulator<U> addLength(MomentInterval interval) {
+
+            Boundary<Moment> start = interval.getStart();
+            Boundary<Moment> end = interval.getEnd();
+
+            if (start.isInfinite() || end.isInfinite()) {
+                throw new UnsupportedOperationException("An infinite interval has no finite duration.");
+            }
+
+            Moment t1 = start.getTemporal();
+            Moment t2 = end.getTemporal();
+            int delta = (start.isOpen() ? -1 : 0) + (end.isClosed() ? 1 : 0);
+
+            if (this.scale == POSIX) {
+                this.addSeconds(
+                    Math.subtractExact(t2.getPosixTime(), t1.getPosixTime()),
+                    t2.getNanosecond() - t1.getNanosecond() + delta);
+            } else {
+                long utc2 = t2.getElapsedTime(UTC);
+                long utc1 = t1.getElapsedTime(UTC);
+                if (utc2 < 0 || utc1 < 0) {
+                    throw new UnsupportedOperationException(
+                        "Cannot calculate SI-duration before 1972-01-01.");
+                }
+                this.addSeconds(utc2 - utc1, t2.getNanosecond(UTC) - t1.getNanosecond(UTC) + delta);
+            }
+
+            return this;
+
+        }
+
+        /**
+         * <p>Yields the accumulated seconds in the same way as {@link MachineTime#getSeconds()}. </p>
+         *
+         * @return  long
+         */
+        /*[deutsch]
+         * <p>Liefert die aufsummierten Sekunden in gleicher Weise wie
+         * {@link MachineTime#getSeconds()}. </p>
+         *
+         * @return  long
+         */
+        public long getSeconds() {
+
+            return (((this.seconds < 0) && (this.nanos > 0)) ? this.seconds + 1 : this.seconds);
+
+        }
+
+        /**
+         * <p>Yields the accumulated nanosecond fraction in the same way as
+         * {@link MachineTime#getFraction()}. </p>
+         *
+         * @return  fraction of seconds in nanoseconds, with the same sign as the seconds
+         */
+        /*[deutsch]
+         * <p>Liefert den aufsummierten Nanosekundenbruchteil in gleicher Weise wie
+         * {@link MachineTime#getFraction()}. </p>
+         *
+         * @return  fraction of seconds in nanoseconds, with the same sign as the seconds
+         */
+        public int getFraction() {
+
+            return (((this.seconds < 0) && (this.nanos > 0)) ? this.nanos - MRD : this.nanos);
+
+        }
+
+        /**
+         * <p>Yields the accumulated length in nanoseconds. </p>
+         *
+         * @return  long
+         * @throws  ArithmeticException if the result does not fit into a long (about 292 years)
+         */
+        /*[deutsch]
+         * <p>Liefert die aufsummierte L&auml;nge in Nanosekunden. </p>
+         *
+         * @return  long
+         * @throws  ArithmeticException if the result does not fit into a long (about 292 years)
+         */
+        public long getTotalNanos() {
+
+            return Math.addExact(Math.multiplyExact(this.seconds, MRD), this.nanos);
+
+        }
+
+        /**
+         * <p>Queries if the accumulated length is zero. </p>
+         *
+         * @return  boolean
+         */
+        /*[deutsch]
+         * <p>Ermittelt, ob die aufsummierte L&auml;nge null ist. </p>
+         *
+         * @return  boolean
+         */
+        public boolean isZero() {
+
+            return ((this.seconds == 0) && (this.nanos == 0));
+
+        }
+
+        /**
+         * <p>Sets the accumulated length to zero so this instance can be reused. </p>
+         *
+         * @return  this instance for method chaining
+         */
+        /*[deutsch]
+         * <p>Setzt die aufsummierte L&auml;nge auf null, so da&szlig; diese Instanz
+         * wiederverwendet werden kann. </p>
+         *
+         * @return  this instance for method chaining
+         */
+        public Accumulator<U> reset() {
+
+            this.seconds = 0;
+            this.nanos = 0;
+            return this;
+
+        }
+
+        /**
+         * <p>Creates a machine time based on the accumulated length. </p>
+         *
+         * @return  new machine time
+         */
+        /*[deutsch]
+         * <p>Erzeugt eine Maschinenzeit basierend auf der aufsummierten L&auml;nge. </p>
+         *
+         * @return  new machine time
+         */
+        public MachineTime<U> toMachineTime() {
+
+            if (this.isZero()) {
+                return cast((this.scale == POSIX) ? POSIX_ZERO : UTC_ZERO);
+            }
+
+            return new MachineTime<>(this.seconds, this.nanos, this.scale);
+
+        }
+
+        @Override
+        public String toString() {
+
+            return this.toMachineTime().toString();
+
+        }
+
+        private void addSeconds(
+            long secs,
+            int fraction
+        ) {
+
+            this.seconds = Math.addExact(this.seconds, secs);
+            this.addNanos(fraction);
+
+        }
+
+        private void addNanos(long amount) {
+
+            long sum = this.nanos + Math.floorMod(amount, MRD);
+            long secs = Math.floorDiv(amount, MRD);
+
+            if (sum >= MRD) {
+                sum -= MRD;
+                secs++;
+            }
+
+            this.seconds = Math.addExact(this.seconds, secs);
+            this.nanos = (int) sum;
+
+        }
+
+    }
+
     /**
      * <p>Non-localized and user-defined format for machine-time-durations based on a
      * pattern containing some standard symbols and literals. </p>
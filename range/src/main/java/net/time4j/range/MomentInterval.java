@@ -60,9 +60,11 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.IntStream;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static net.time4j.PlainDate.*;
@@ -827,6 +829,68 @@ public final class MomentInterval
 
     }
 
+    /**
+     * <p>Yields the length of this interval on the POSIX-scale in nanoseconds. </p>
+     *
+     * <p>Equivalent to the nanoseconds of {@link #getSimpleDuration()} but without creating
+     * any intermediate objects. </p>
+     *
+     * @return  count of nanoseconds on POSIX-scale
+     * @throws  UnsupportedOperationException if this interval is infinite
+     * @throws  ArithmeticException if the length does not fit into a long (about 292 years)
+     * @see     MachineTime#accumulatorOnPosixScale()
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Liefert die L&auml;nge dieses Intervalls auf der POSIX-Skala in Nanosekunden. </p>
+     *
+     * <p>&Auml;quivalent zu den Nanosekunden von {@link #getSimpleDuration()}, aber ohne
+     * Zwischenobjekte zu erzeugen. </p>
+     *
+     * @return  count of nanoseconds on POSIX-scale
+     * @throws  UnsupportedOperationException if this interval is infinite
+     * @throws  ArithmeticException if the length does not fit into a long (about 292 years)
+     * @see     MachineTime#accumulatorOnPosixScale()
+     * @since   4.37
+     */
+    public long getLengthInNanos() {
+
+        return MachineTime.accumulatorOnPosixScale().addLength(this).getTotalNanos();
+
+    }
+
+    /**
+     * <p>Yields the length of this interval on the UTC-scale in nanoseconds. </p>
+     *
+     * <p>Equivalent to the nanoseconds of {@link #getRealDuration()} but without creating
+     * any intermediate objects. </p>
+     *
+     * @return  count of nanoseconds on UTC-scale
+     * @throws  UnsupportedOperationException if start is before year 1972
+     *          or if this interval is infinite
+     * @throws  ArithmeticException if the length does not fit into a long (about 292 years)
+     * @see     MachineTime#accumulatorOnUtcScale()
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Liefert die L&auml;nge dieses Intervalls auf der UTC-Skala in Nanosekunden. </p>
+     *
+     * <p>&Auml;quivalent zu den Nanosekunden von {@link #getRealDuration()}, aber ohne
+     * Zwischenobjekte zu erzeugen. </p>
+     *
+     * @return  count of nanoseconds on UTC-scale
+     * @throws  UnsupportedOperationException if start is before year 1972
+     *          or if this interval is infinite
+     * @throws  ArithmeticException if the length does not fit into a long (about 292 years)
+     * @see     MachineTime#accumulatorOnUtcScale()
+     * @since   4.37
+     */
+    public long getRealLengthInNanos() {
+
+        return MachineTime.accumulatorOnUtcScale().addLength(this).getTotalNanos();
+
+    }
+
     /**
      * <p>Moves this interval along the POSIX-axis by given time units. </p>
      *
@@ -913,7 +977,7 @@ public final class MomentInterval
      * <p>Obtains a stream iterating over every moment which is the result of addition of given duration
      * to start until the end of this interval is reached. </p>
      *
-     * <p>The stream size is limited to {@code Integer.MAX_VALUE - 1} else an {@code ArithmeticException}
+     * <p>The stream size is limited to {@code Long.MAX_VALUE - 1} else an {@code ArithmeticException}
      * will be thrown. </p>
      *
      * @param   duration    duration which has to be added to the start multiple times
@@ -928,7 +992,7 @@ public final class MomentInterval
      * <p>Erzeugt einen {@code Stream}, der jeweils einen Moment als Vielfaches der Dauer angewandt auf
      * den Start und bis zum Ende dieses Intervalls geht. </p>
      *
-     * <p>Die Gr&ouml;&szlig;e des {@code Stream} ist maximal {@code Integer.MAX_VALUE - 1}, ansonsten wird
+     * <p>Die Gr&ouml;&szlig;e des {@code Stream} ist maximal {@code Long.MAX_VALUE - 1}, ansonsten wird
      * eine {@code ArithmeticException} geworfen. </p>
      *
      * @param   duration    duration which has to be added to the start multiple times
@@ -958,7 +1022,7 @@ public final class MomentInterval
      * to start until the end is reached. </p>
      *
      * <p>This static method avoids the costs of constructing an instance of {@code MomentInterval}.
-     * The stream size is limited to {@code Integer.MAX_VALUE - 1} else an {@code ArithmeticException}
+     * The stream size is limited to {@code Long.MAX_VALUE - 1} else an {@code ArithmeticException}
      * will be thrown. </p>
      *
      * @param   duration    duration which has to be added to the start multiple times
@@ -973,7 +1037,7 @@ public final class MomentInterval
      * den Start und bis zum Ende geht. </p>
      *
      * <p>Diese statische Methode vermeidet die Kosten der Intervallerzeugung. Die Gr&ouml;&szlig;e des
-     * {@code Stream} ist maximal {@code Integer.MAX_VALUE - 1}, ansonsten wird eine {@code ArithmeticException}
+     * {@code Stream} ist maximal {@code Long.MAX_VALUE - 1}, ansonsten wird eine {@code ArithmeticException}
      * geworfen. </p>
      *
      * @param   duration    duration which has to be added to the start multiple times
@@ -1537,7 +1601,26 @@ public final class MomentInterval
     public static MomentInterval parseISO(String text)
         throws ParseException {
 
-        if (text.isEmpty()) {
+        return parseISO(text, null);
+
+    }
+
+    /**
+     * <p>Interpretiert den angegebenen ISO-konformen Text als Intervall. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   cache       optional cache of formatters for reduced end components
+     * @return  parsed interval
+     * @throws  IndexOutOfBoundsException if given text is empty
+     * @throws  ParseException if the text is not parseable
+     * @since   4.37
+     */
+    static MomentInterval parseISO(
+        CharSequence text,
+        Map<Object, Object> cache
+    ) throws ParseException {
+
+        if (text.length() == 0) {
             throw new IndexOutOfBoundsException("Empty text.");
         }
 
@@ -1649,8 +1732,8 @@ public final class MomentInterval
         ChronoFormatter<Moment> endFormat = (sameFormat ? startFormat : null); // null means reduced iso format
 
         // create interval
-        Parser parser = new Parser(startFormat, endFormat, extended, weekStyle, ordinalStyle, timeLength, hasT);
-        return parser.parse(text);
+        Parser parser = new Parser(startFormat, endFormat, extended, weekStyle, ordinalStyle, timeLength, hasT, cache);
+        return parser.parseFully(text);
 
     }
 
@@ -1669,7 +1752,7 @@ public final class MomentInterval
     }
 
     private static boolean hasSecondOffset(
-        String text,
+        CharSequence text,
         int len
     ) {
 
@@ -1742,32 +1825,26 @@ public final class MomentInterval
             est = (start.until(end, TimeUnit.SECONDS) / secs);
         }
 
-        if (Double.compare(est, Integer.MAX_VALUE) >= 0) {
+        if (Double.compare(est, Long.MAX_VALUE) >= 0) {
             throw new ArithmeticException();
         }
 
-        int n = (int) Math.floor(est);
-        boolean backwards = false;
+        long size =
+            StepSpliterator.count(
+                (long) Math.floor(est),
+                Long.MAX_VALUE - 1,
+                index -> start.plus(duration.multipliedBy(index)).isBefore(end));
 
-        while ((n > 0) && !start.plus(duration.multipliedBy(n)).isBefore(end)) {
-            n--;
-            backwards = true;
-        }
-
-        int size = n + 1;
-
-        if (!backwards) {
-            do {
-                size = Math.addExact(n, 1);
-                n++;
-            } while (start.plus(duration.multipliedBy(n)).isBefore(end));
-        }
-
-        if (size == 1) {
+        if (size > Long.MAX_VALUE - 1) {
+            throw new ArithmeticException();
+        } else if (size == 1) {
             return Stream.of(start); // short-cut
         }
 
-        return IntStream.range(0, size).mapToObj(index -> start.plus(duration.multipliedBy(index)));
+        return StepSpliterator.stream(
+            size,
+            index -> start.plus(duration.multipliedBy(index)),
+            Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.ORDERED);
 
     }
 
@@ -1791,32 +1868,26 @@ public final class MomentInterval
             est = (SI.SECONDS.between(start, end) / secs);
         }
 
-        if (Double.compare(est, Integer.MAX_VALUE) >= 0) {
+        if (Double.compare(est, Long.MAX_VALUE) >= 0) {
             throw new ArithmeticException();
         }
 
-        int n = (int) Math.floor(est);
-        boolean backwards = false;
-
-        while ((n > 0) && !start.plus(duration.multipliedBy(n)).isBefore(end)) {
-            n--;
-            backwards = true;
-        }
-
-        int size = n + 1;
+        long size =
+            StepSpliterator.count(
+                (long) Math.floor(est),
+                Long.MAX_VALUE - 1,
+                index -> start.plus(duration.multipliedBy(index)).isBefore(end));
 
-        if (!backwards) {
-            do {
-                size = Math.addExact(n, 1);
-                n++;
-            } while (start.plus(duration.multipliedBy(n)).isBefore(end));
-        }
-
-        if (size == 1) {
+        if (size > Long.MAX_VALUE - 1) {
+            throw new ArithmeticException();
+        } else if (size == 1) {
             return Stream.of(start); // short-cut
         }
 
-        return IntStream.range(0, size).mapToObj(index -> start.plus(duration.multipliedBy(index)));
+        return StepSpliterator.stream(
+            size,
+            index -> start.plus(duration.multipliedBy(index)),
+            Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.ORDERED);
 
     }
 
@@ -1894,9 +1965,10 @@ public final class MomentInterval
             boolean weekStyle,
             boolean ordinalStyle,
             int protectedArea,
-            boolean hasT
+            boolean hasT,
+            Map<Object, Object> reducedFormats // optional
         ) {
-            super(MomentIntervalFactory.INSTANCE, startFormat, endFormat, BracketPolicy.SHOW_NEVER, '/');
+            super(MomentIntervalFactory.INSTANCE, startFormat, endFormat, BracketPolicy.SHOW_NEVER, '/', reducedFormats);
 
             this.extended = extended;
             this.weekStyle = weekStyle;
@@ -1918,15 +1990,24 @@ public final class MomentInterval
         ) {
 
             ChronoFormatter<Moment> reducedParser =
-                this.createEndFormat(
+                this.getReducedFormat(
+                    this.getConfig(),
                     Moment.axis().preformat(t1, attrs),
-                    lowerLog.getRawValues());
+                    lowerLog.getRawValues(),
+                    this::createEndFormat);
             return reducedParser.parse(text, upperLog);
 
         }
 
+        private int getConfig() {
+
+            int config = (this.extended ? 1 : 0) | (this.weekStyle ? 2 : 0) | (this.ordinalStyle ? 4 : 0);
+            return config | (this.hasT ? 8 : 0) | (this.protectedArea << 4);
+
+        }
+
         private ChronoFormatter<Moment> createEndFormat(
-            ChronoDisplay defaultSupplier,
+            Supplier<ChronoDisplay> defaultSupplier,
             ChronoEntity<?> rawData
         ) {
 
@@ -2014,10 +2095,10 @@ public final class MomentInterval
         private static <V> void setDefault(
             ChronoFormatter.Builder<Moment> builder,
             ChronoElement<V> element,
-            ChronoDisplay defaultSupplier
+            Supplier<ChronoDisplay> defaultSupplier
         ) {
 
-            builder.setDefault(element, defaultSupplier.get(element));
+            builder.setDefaultSupplier(element, () -> defaultSupplier.get().get(element));
 
         }
 
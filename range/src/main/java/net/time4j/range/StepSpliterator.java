@@ -0,0 +1,221 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (StepSpliterator.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * <p>Sized spliterator which computes the n-th element directly (for example as start plus n
+ * times a step) and can hence be split evenly at any position. </p>
+ *
+ * @param   <T> the element type
+ * @author  Meno Hochschild
+ * @since   4.37
+ */
+final class StepSpliterator<T>
+    implements Spliterator<T> {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final LongFunction<T> generator;
+    private final int characteristics;
+    private long index; // inclusive
+    private final long fence; // exclusive
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private StepSpliterator(
+        LongFunction<T> generator,
+        long index,
+        long fence,
+        int characteristics
+    ) {
+        super();
+
+        this.generator = generator;
+        this.index = index;
+        this.fence = fence;
+        this.characteristics = characteristics | SIZED | SUBSIZED;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a sequential stream of given size whose elements are computed by given generator. </p>
+     *
+     * @param   size            count of elements
+     * @param   generator       computes the element for given index
+     * @param   characteristics additional characteristics besides {@code SIZED} and {@code SUBSIZED}
+     * @return  Stream
+     */
+    static <T> Stream<T> stream(
+        long size,
+        LongFunction<T> generator,
+        int characteristics
+    ) {
+
+        return StreamSupport.stream(new StepSpliterator<>(generator, 0, size, characteristics), false);
+
+    }
+
+    /**
+     * <p>Determines the count of leading indices which are accepted by given monotone predicate. </p>
+     *
+     * <p>Starting with given estimate, the search gallops into the right direction and then switches to
+     * binary search so that even a rough estimate needs only a logarithmic count of predicate calls. The
+     * index {@code 0} is always considered as accepted. If the predicate throws an arithmetic exception or
+     * an {@code IllegalArgumentException} then the index is assumed to be beyond the supported range and
+     * hence not accepted. </p>
+     *
+     * @param   estimate    first estimate of the last accepted index
+     * @param   limit       maximum index which will be tested
+     * @param   accepted    monotone predicate
+     * @return  count of accepted indices, at most {@code limit + 1}
+     */
+    static long count(
+        long estimate,
+        long limit,
+        LongPredicate accepted
+    ) {
+
+        long n = Math.max(0, Math.min(estimate, limit));
+        long lo; // accepted
+        long hi; // not accepted or beyond limit
+
+        if (test(accepted, n)) {
+            lo = n;
+            long step = 1;
+            while (true) {
+                hi = ((limit - lo < step) ? limit + 1 : lo + step);
+                if ((hi > limit) || !test(accepted, hi)) {
+                    break;
+                }
+                lo = hi;
+                step <<= 1;
+            }
+        } else {
+            hi = n;
+            long step = 1;
+            while (true) {
+                lo = Math.max(0, hi - step);
+                if (test(accepted, lo)) {
+                    break;
+                }
+                hi = lo;
+                step <<= 1;
+            }
+        }
+
+        while (hi - lo > 1) {
+            long mid = lo + ((hi - lo) >>> 1);
+            if (test(accepted, mid)) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+
+        return hi;
+
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+
+        if (this.index < this.fence) {
+            action.accept(this.generator.apply(this.index));
+            this.index++;
+            return true;
+        }
+
+        return false;
+
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+
+        long i = this.index;
+        long f = this.fence;
+        this.index = f;
+
+        while (i < f) {
+            action.accept(this.generator.apply(i));
+            i++;
+        }
+
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+
+        long lo = this.index;
+        long mid = lo + ((this.fence - lo) >>> 1);
+
+        if (mid <= lo) {
+            return null;
+        }
+
+        this.index = mid;
+        return new StepSpliterator<>(this.generator, lo, mid, this.characteristics);
+
+    }
+
+    @Override
+    public long estimateSize() {
+
+        return this.fence - this.index;
+
+    }
+
+    @Override
+    public int characteristics() {
+
+        return this.characteristics;
+
+    }
+
+    private static boolean test(
+        LongPredicate accepted,
+        long index
+    ) {
+
+        if (index == 0) {
+            return true;
+        }
+
+        try {
+            return accepted.test(index);
+        } catch (ArithmeticException | IllegalArgumentException ex) {
+            return false; // beyond the range of the time axis
+        }
+
+    }
+
+}
@@ -57,7 +57,9 @@ import java.text.ParseException;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.Locale;
-import java.util.stream.IntStream;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static net.time4j.PlainDate.*;
@@ -605,6 +607,56 @@ public final class TimestampInterval
 
     }
 
+    /**
+     * <p>Yields the length of this interval in nanoseconds. </p>
+     *
+     * <p>Equivalent to {@code getDuration(ClockUnit.NANOS).getPartialAmount(ClockUnit.NANOS)}
+     * but without creating any intermediate objects. </p>
+     *
+     * @return  count of nanoseconds
+     * @throws  UnsupportedOperationException if this interval is infinite
+     * @throws  ArithmeticException if the length does not fit into a long (about 292 years)
+     * @since   4.37
+     */
+    /*[deutsch]
+     * <p>Liefert die L&auml;nge dieses Intervalls in Nanosekunden. </p>
+     *
+     * <p>&Auml;quivalent zu {@code getDuration(ClockUnit.NANOS).getPartialAmount(ClockUnit.NANOS)},
+     * aber ohne Zwischenobjekte zu erzeugen. </p>
+     *
+     * @return  count of nanoseconds
+     * @throws  UnsupportedOperationException if this interval is infinite
+     * @throws  ArithmeticException if the length does not fit into a long (about 292 years)
+     * @since   4.37
+     */
+    public long getLengthInNanos() {
+
+        Boundary<PlainTimestamp> start = this.getStart();
+        Boundary<PlainTimestamp> end = this.getEnd();
+
+        if (start.isInfinite() || end.isInfinite()) {
+            throw new UnsupportedOperationException("An infinite interval has no finite duration.");
+        }
+
+        PlainTimestamp t1 = start.getTemporal();
+        PlainTimestamp t2 = end.getTemporal();
+        long days = t2.getCalendarDate().getDaysSinceEpochUTC() - t1.getCalendarDate().getDaysSinceEpochUTC();
+        long nanos =
+            t2.getWallTime().get(PlainTime.NANO_OF_DAY).longValue()
+            - t1.getWallTime().get(PlainTime.NANO_OF_DAY).longValue();
+
+        if (start.isOpen()) {
+            nanos--;
+        }
+
+        if (end.isClosed()) {
+            nanos++;
+        }
+
+        return Math.addExact(Math.multiplyExact(days, 86_400_000_000_000L), nanos);
+
+    }
+
     /**
      * <p>Yields the length of this interval in given units and applies
      * a timezone offset correction . </p>
@@ -805,28 +857,22 @@ public final class TimestampInterval
             throw new ArithmeticException();
         }
 
-        int n = (int) Math.floor(est);
-        boolean backwards = false;
-
-        while ((n > 0) && !start.plus(duration.multipliedBy(n)).isBefore(end)) {
-            n--;
-            backwards = true;
-        }
-
-        int size = n + 1;
-
-        if (!backwards) {
-            do {
-                size = Math.addExact(n, 1);
-                n++;
-            } while (start.plus(duration.multipliedBy(n)).isBefore(end));
-        }
+        long size =
+            StepSpliterator.count(
+                (long) Math.floor(est),
+                Integer.MAX_VALUE - 1,
+                index -> start.plus(duration.multipliedBy((int) index)).isBefore(end));
 
-        if (size == 1) {
+        if (size > Integer.MAX_VALUE - 1) {
+            throw new ArithmeticException();
+        } else if (size == 1) {
             return Stream.of(start); // short-cut
         }
 
-        return IntStream.range(0, size).mapToObj(index -> start.plus(duration.multipliedBy(index)));
+        return StepSpliterator.stream(
+            size,
+            index -> start.plus(duration.multipliedBy((int) index)),
+            Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.ORDERED);
 
     }
 
@@ -1329,7 +1375,26 @@ public final class TimestampInterval
     public static TimestampInterval parseISO(String text)
         throws ParseException {
 
-        if (text.isEmpty()) {
+        return parseISO(text, null);
+
+    }
+
+    /**
+     * <p>Interpretiert den angegebenen ISO-konformen Text als Intervall. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   cache       optional cache of formatters for reduced end components
+     * @return  parsed interval
+     * @throws  IndexOutOfBoundsException if given text is empty
+     * @throws  ParseException if the text is not parseable
+     * @since   4.37
+     */
+    static TimestampInterval parseISO(
+        CharSequence text,
+        Map<Object, Object> cache
+    ) throws ParseException {
+
+        if (text.length() == 0) {
             throw new IndexOutOfBoundsException("Empty text.");
         }
 
@@ -1441,8 +1506,8 @@ public final class TimestampInterval
         ChronoFormatter<PlainTimestamp> endFormat = (sameFormat ? startFormat : null); // null means reduced iso format
 
         // create interval
-        Parser parser = new Parser(startFormat, endFormat, extended, weekStyle, ordinalStyle, timeLength, hasT);
-        return parser.parse(text);
+        Parser parser = new Parser(startFormat, endFormat, extended, weekStyle, ordinalStyle, timeLength, hasT, cache);
+        return parser.parseFully(text);
 
     }
 
@@ -1534,9 +1599,10 @@ public final class TimestampInterval
             boolean weekStyle,
             boolean ordinalStyle,
             int protectedArea,
-            boolean hasT
+            boolean hasT,
+            Map<Object, Object> reducedFormats // optional
         ) {
-            super(TimestampIntervalFactory.INSTANCE, startFormat, endFormat, BracketPolicy.SHOW_NEVER, '/');
+            super(TimestampIntervalFactory.INSTANCE, startFormat, endFormat, BracketPolicy.SHOW_NEVER, '/', reducedFormats);
 
             this.extended = extended;
             this.weekStyle = weekStyle;
@@ -1558,15 +1624,24 @@ public final class TimestampInterval
         ) {
 
             ChronoFormatter<PlainTimestamp> reducedParser =
-                this.createEndFormat(
+                this.getReducedFormat(
+                    this.getConfig(),
                     PlainTimestamp.axis().preformat(start, attrs),
-                    lowerLog.getRawValues());
+                    lowerLog.getRawValues(),
+                    this::createEndFormat);
             return reducedParser.parse(text, upperLog);
 
         }
 
+        private int getConfig() {
+
+            int config = (this.extended ? 1 : 0) | (this.weekStyle ? 2 : 0) | (this.ordinalStyle ? 4 : 0);
+            return config | (this.hasT ? 8 : 0) | (this.protectedArea << 4);
+
+        }
+
         private ChronoFormatter<PlainTimestamp> createEndFormat(
-            ChronoDisplay defaultSupplier,
+            Supplier<ChronoDisplay> defaultSupplier,
             ChronoEntity<?> rawData
         ) {
 
@@ -1646,10 +1721,10 @@ public final class TimestampInterval
         private static <V> void setDefault(
             ChronoFormatter.Builder<PlainTimestamp> builder,
             ChronoElement<V> element,
-            ChronoDisplay defaultSupplier
+            Supplier<ChronoDisplay> defaultSupplier
         ) {
 
-            builder.setDefault(element, defaultSupplier.get(element));
+            builder.setDefaultSupplier(element, () -> defaultSupplier.get().get(element));
 
         }
 
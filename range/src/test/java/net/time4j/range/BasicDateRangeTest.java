@@ -16,6 +16,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.Spliterator;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertThat;
@@ -651,4 +652,29 @@ public class BasicDateRangeTest {
         assertThat(dates, is(expected));
     }
 
+    @Test
+    public void streamDurationLongRangeInParallel() {
+        PlainDate start = PlainDate.of(1900, 1, 31);
+        PlainDate end = PlainDate.of(2100, 12, 31);
+        Duration<CalendarUnit> duration = Duration.ofCalendarUnits(0, 1, 3);
+        List<PlainDate> expected = new ArrayList<>();
+        for (long i = 0; ; i++) {
+            PlainDate date = start.plus(i, CalendarUnit.MONTHS).plus(3 * i, CalendarUnit.DAYS);
+            if (date.isAfter(end)) {
+                break;
+            }
+            expected.add(date);
+        }
+        Spliterator<PlainDate> spliterator = DateInterval.stream(duration, start, end).spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED), is(true));
+        assertThat(spliterator.getExactSizeIfKnown(), is((long) expected.size()));
+        assertThat(spliterator.trySplit().estimateSize(), is((long) expected.size() / 2));
+        assertThat(
+            DateInterval.stream(duration, start, end).parallel().collect(Collectors.toList()),
+            is(expected));
+        assertThat(
+            DateInterval.between(start, end).streamWeekBased(0, 2, 0).parallel().count(),
+            is(DateInterval.between(start, end).streamDaily().count() / 14 + 1));
+    }
+
 }
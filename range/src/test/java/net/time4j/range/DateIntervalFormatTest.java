@@ -12,11 +12,16 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 
 @RunWith(JUnit4.class)
@@ -909,4 +914,58 @@ public class DateIntervalFormatTest {
         DateInterval.parseISO("-∞/-");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void reusableParser() throws ParseException {
+        IsoIntervalParser<DateInterval> parser = IsoIntervalParser.ofDateIntervals();
+        String[] texts = {
+            "20120101/20140214", "2012-01-01/2014-02-14", "2012001/2014365", "2012-001/2014-365",
+            "2012W011/2014W054", "2012-W01-1/2014-W05-4", "2012-001/366", "2012-W01-1/W05-4",
+            "2012-W01-1/4", "2012-01-01/02-14", "2012-01-01/14", "2012-02-01/14", "2012-02-01/03-14",
+            "2012-01-01/P2Y4M", "P4W/2012-03-01", "-/2014-02-14", "2012-01-01/+\u221E"
+        };
+        for (int round = 0; round < 2; round++) {
+            for (String text : texts) {
+                assertThat(parser.parse(new StringBuilder(text)), is(DateInterval.parseISO(text)));
+            }
+        }
+    }
+
+    @Test
+    public void reusableParserWithLines() throws IOException, ParseException {
+        IsoIntervalParser<DateInterval> parser = IsoIntervalParser.ofDateIntervals();
+        List<DateInterval> intervals = new ArrayList<>();
+        String input = "2012-01-01/06-30\r\n\n  2012-07-01/12-31  \n2013-001/031";
+        assertThat(parser.parseLines(new StringReader(input), intervals::add), is(3L));
+        assertThat(
+            intervals,
+            is(
+                Arrays.asList(
+                    DateInterval.between(PlainDate.of(2012, 1, 1), PlainDate.of(2012, 6, 30)),
+                    DateInterval.between(PlainDate.of(2012, 7, 1), PlainDate.of(2012, 12, 31)),
+                    DateInterval.between(PlainDate.of(2013, 1, 1), PlainDate.of(2013, 1, 31)))));
+    }
+
+    @Test
+    public void reusableParserWithChangingStartValues() throws ParseException {
+        IsoIntervalParser<DateInterval> parser = IsoIntervalParser.ofDateIntervals();
+        String[] texts = {
+            "2012-01-01/06-30", "2012-07-01/12-31", "2013-02-01/03-14", "1999-11-30/12-01",
+            "2012-01-01/14", "2013-05-01/14", "2012-W01-1/4", "2015-W20-1/4", "2012-001/366", "2013-001/031"
+        };
+        for (String text : texts) {
+            assertThat(parser.parse(text), is(DateInterval.parseISO(text)));
+        }
+    }
+
+    @Test
+    public void reusableParserWithBadLine() throws IOException {
+        IsoIntervalParser<DateInterval> parser = IsoIntervalParser.ofDateIntervals();
+        try {
+            parser.parseLines(new StringReader("2012-01-01/06-30\n2012-07-01/12-32\n"), interval -> {});
+            fail("Expected parse exception.");
+        } catch (ParseException pe) {
+            assertThat(pe.getMessage().startsWith("Line 2: "), is(true));
+        }
+    }
+
+}
@@ -3,6 +3,9 @@ package net.time4j.range;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.TZID;
+import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.olson.EUROPE;
 import net.time4j.tz.olson.PACIFIC;
 import org.junit.Test;
@@ -275,4 +278,99 @@ public class DayPartitionTest {
         assertThat(intervals, is(expected));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void matchesWithCompiledRule() {
+        DayPartitionRule rule =
+            new DayPartitionBuilder()
+                .addWeekdayRule(MONDAY, ClockInterval.between(PlainTime.of(9, 0), PlainTime.of(12, 30)))
+                .addWeekdayRule(MONDAY, ClockInterval.between(PlainTime.of(14, 0), PlainTime.of(24)))
+                .addSpecialRule(
+                    PlainDate.of(2016, 9, 5),
+                    ClockInterval.between(PlainTime.of(10, 0), PlainTime.of(11, 0)))
+                .addExclusion(PlainDate.of(2016, 9, 12))
+                .build();
+
+        assertThat(rule.matches(PlainTimestamp.of(2016, 8, 29, 8, 59, 59)), is(false));
+        assertThat(rule.matches(PlainTimestamp.of(2016, 8, 29, 9, 0)), is(true));
+        assertThat(rule.matches(PlainTimestamp.of(2016, 8, 29, 12, 29, 59)), is(true));
+        assertThat(rule.matches(PlainTimestamp.of(2016, 8, 29, 12, 30)), is(false));
+        assertThat(rule.matches(PlainTimestamp.of(2016, 8, 29, 23, 59, 59)), is(true));
+        assertThat(rule.matches(PlainTimestamp.of(2016, 8, 30, 0, 0)), is(false));
+        assertThat(rule.matches(PlainTimestamp.of(2016, 9, 5, 9, 0)), is(false));
+        assertThat(rule.matches(PlainTimestamp.of(2016, 9, 5, 10, 30)), is(true));
+        assertThat(rule.matches(PlainTimestamp.of(2016, 9, 12, 10, 30)), is(false));
+        assertThat(rule.isExcluded(PlainDate.of(2016, 9, 12)), is(true));
+        assertThat(rule.getPartition(PlainDate.of(2016, 9, 12)).isEmpty(), is(true));
+        assertThat(rule.getPartition(PlainDate.of(2016, 9, 19)).size(), is(2));
+    }
+
+    @Test
+    public void forEachPartitionWithFixedOffset() {
+        DayPartitionRule rule =
+            new DayPartitionBuilder()
+                .addWeekdayRule(MONDAY, ClockInterval.between(PlainTime.of(9, 0), PlainTime.of(12, 30)))
+                .addWeekdayRule(SATURDAY, ClockInterval.between(PlainTime.of(22, 0), PlainTime.of(24)))
+                .addSpecialRule(
+                    PlainDate.of(2016, 3, 27),
+                    ClockInterval.between(PlainTime.of(1, 0), PlainTime.of(4, 0)))
+                .build();
+        ZonalOffset offset = ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2);
+        DateInterval interval = DateInterval.between(PlainDate.of(2016, 1, 1), PlainDate.of(2016, 12, 31));
+
+        assertThat(collectPartitions(interval, rule, offset), is(streamPartitions(interval, rule, offset)));
+        assertThat(
+            collectPartitions(interval, rule::getPartition, offset), // not precompiled
+            is(streamPartitions(interval, rule, offset)));
+        assertThat(collectPartitions(interval, rule, offset).size(), is(2 * (53 + 52 + 1)));
+    }
+
+    @Test
+    public void forEachPartitionAroundTransitions() {
+        DayPartitionRule rule =
+            new DayPartitionBuilder()
+                .addWeekdayRule(MONDAY, ClockInterval.between(PlainTime.of(9, 0), PlainTime.of(12, 30)))
+                .addWeekdayRule(SUNDAY, ClockInterval.between(PlainTime.of(1, 10), PlainTime.of(2, 20)))
+                .addWeekdayRule(SUNDAY, ClockInterval.between(PlainTime.of(2, 30), PlainTime.of(3, 15)))
+                .addWeekdayRule(SATURDAY, ClockInterval.between(PlainTime.of(22, 0), PlainTime.of(24)))
+                .build();
+        DateInterval interval = DateInterval.between(PlainDate.of(2011, 1, 1), PlainDate.of(2016, 12, 31));
+
+        assertThat(
+            collectPartitions(interval, rule, EUROPE.BERLIN),
+            is(streamPartitions(interval, rule, EUROPE.BERLIN)));
+        assertThat(
+            collectPartitions(interval, rule, PACIFIC.APIA),
+            is(streamPartitions(interval, rule, PACIFIC.APIA)));
+    }
+
+    private static List<Long> collectPartitions(
+        DateInterval interval,
+        DayPartitionRule rule,
+        TZID tzid
+    ) {
+        List<Long> result = new ArrayList<>();
+        interval.forEachPartition(
+            rule,
+            tzid,
+            (start, end) -> {
+                result.add(start);
+                result.add(end);
+            });
+        return result;
+    }
+
+    private static List<Long> streamPartitions(
+        DateInterval interval,
+        DayPartitionRule rule,
+        TZID tzid
+    ) {
+        List<Long> result = new ArrayList<>();
+        interval.streamPartitioned(rule, tzid).forEach(
+            mi -> {
+                result.add(mi.getStartAsMoment().getPosixTime());
+                result.add(mi.getEndAsMoment().getPosixTime());
+            });
+        return result;
+    }
+
+}
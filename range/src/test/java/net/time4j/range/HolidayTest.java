@@ -269,4 +269,56 @@ public class HolidayTest {
         assertThat(hm.isBusinessDay(PlainDate.of(2017, 2, 4)), is(false));
     }
 
+    @Test
+    public void compiledBusinessDays() {
+        HolidayModel hm = HolidayModel.ofSaturdayOrSunday().compile();
+        PlainDate start = PlainDate.of(2017, 2, 3);
+        assertThat(start.plus(250, hm.businessDays()), is(PlainDate.of(2018, 1, 19)));
+        assertThat(start.until(PlainDate.of(2018, 1, 19), hm.businessDays()), is(250L));
+        assertThat(PlainDate.of(2018, 1, 19).minus(250, hm.businessDays()), is(start));
+        assertThat(hm.compile(), is(hm));
+    }
+
+    @Test
+    public void compiledConsistentWithModel() {
+        HolidayModel hm =
+            date -> HolidayModel.ofSaturdayOrSunday().test(date)
+                || ((date.getMonth() == 12) && (date.getDayOfMonth() >= 24))
+                || ((date.getMonth() == 1) && (date.getDayOfMonth() == 1))
+                || ((date.getMonth() == 5) && (date.getDayOfMonth() == 1));
+        HolidayModel compiled = hm.compile();
+        PlainDate date = PlainDate.of(2015, 12, 20);
+
+        for (int i = 0; i < 800; i += 3) {
+            PlainDate d = date.plus(i, CalendarUnit.DAYS);
+            assertThat(compiled.test(d), is(hm.test(d)));
+            assertThat(d.with(compiled.nextBusinessDay()), is(d.with(hm.nextBusinessDay())));
+            assertThat(d.with(compiled.nextOrSameBusinessDay()), is(d.with(hm.nextOrSameBusinessDay())));
+            assertThat(d.with(compiled.previousBusinessDay()), is(d.with(hm.previousBusinessDay())));
+            assertThat(d.with(compiled.previousOrSameBusinessDay()), is(d.with(hm.previousOrSameBusinessDay())));
+            for (long amount : new long[] {-300, -17, -1, 0, 1, 5, 64, 365}) {
+                PlainDate expected = d.plus(amount, hm.businessDays());
+                assertThat(d.plus(amount, compiled.businessDays()), is(expected));
+                assertThat(d.until(expected, compiled.businessDays()), is(d.until(expected, hm.businessDays())));
+                PlainDate other = d.plus(amount * 2, CalendarUnit.DAYS);
+                assertThat(d.until(other, compiled.businessDays()), is(d.until(other, hm.businessDays())));
+                DateInterval interval = DateInterval.between(d, d.plus(Math.abs(amount), CalendarUnit.DAYS));
+                assertThat(interval.get(compiled.countOfBusinessDays()), is(interval.get(hm.countOfBusinessDays())));
+                assertThat(interval.get(compiled.countOfHolidays()), is(interval.get(hm.countOfHolidays())));
+                assertThat(interval.get(compiled.firstBusinessDay()), is(interval.get(hm.firstBusinessDay())));
+                assertThat(interval.get(compiled.lastBusinessDay()), is(interval.get(hm.lastBusinessDay())));
+            }
+        }
+    }
+
+    @Test
+    public void compiledWithoutBusinessDayInInterval() {
+        HolidayModel hm = HolidayModel.ofSaturdayOrSunday().compile();
+        DateInterval weekend = DateInterval.between(PlainDate.of(2017, 2, 4), PlainDate.of(2017, 2, 5));
+        assertThat(weekend.get(hm.firstBusinessDay()), nullValue());
+        assertThat(weekend.get(hm.lastBusinessDay()), nullValue());
+        assertThat(weekend.get(hm.countOfBusinessDays()), is(0));
+        assertThat(weekend.get(hm.countOfHolidays()), is(2));
+    }
+
 }
\ No newline at end of file
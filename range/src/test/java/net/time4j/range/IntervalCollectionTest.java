@@ -1,5 +1,6 @@
 package net.time4j.range;
 
+import net.time4j.CalendarUnit;
 import net.time4j.ClockUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
@@ -18,6 +19,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
 
 import static net.time4j.ClockUnit.NANOS;
 import static org.hamcrest.CoreMatchers.is;
@@ -1284,4 +1286,121 @@ public class IntervalCollectionTest {
         assertThat(icoll.size(), is(2));
     }
 
+    @Test
+    public void plusKeepsOrder() {
+        IntervalCollection<PlainDate> icoll = IntervalCollection.onDateAxis();
+        IntervalCollection<PlainDate> expected = IntervalCollection.onDateAxis();
+        List<ChronoInterval<PlainDate>> intervals = new ArrayList<>();
+
+        for (int i = 0; i < 40; i++) {
+            PlainDate start = PlainDate.of(2017, 1, 1).plus((i * 7) % 23, CalendarUnit.DAYS);
+            intervals.add(DateInterval.between(start, start.plus(i % 5, CalendarUnit.DAYS)));
+            icoll = icoll.plus(intervals.get(i));
+        }
+
+        assertThat(icoll, is(expected.plus(intervals)));
+    }
+
+    @Test
+    public void builder() {
+        DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 3, 31));
+        DateInterval i2 = DateInterval.between(PlainDate.of(2014, 2, 1), PlainDate.of(2014, 2, 27));
+        DateInterval i3 = DateInterval.between(PlainDate.of(2014, 4, 5), PlainDate.of(2014, 4, 10));
+        IntervalCollection.Builder<PlainDate> builder =
+            IntervalCollection.onDateAxis().plus(i3).toBuilder();
+
+        builder.add(i1).add(i2).add(i1);
+        assertThat(builder.size(), is(4));
+        assertThat(builder.freeze(), is(IntervalCollection.onDateAxis().plus(Arrays.asList(i1, i2, i3, i1))));
+
+        assertThat(builder.remove(i1), is(true));
+        assertThat(builder.remove(i1), is(true));
+        assertThat(builder.remove(i1), is(false));
+        assertThat(builder.size(), is(2));
+        assertThat(builder.freeze().getIntervals(), is(Arrays.<ChronoInterval<PlainDate>>asList(i2, i3)));
+
+        IntervalCollection<PlainDate> merged = builder.add(i1).merge().freeze();
+        assertThat(merged, is(IntervalCollection.onDateAxis().plus(Arrays.asList(i1, i2, i3)).withBlocks()));
+        assertThat(builder.clear().isEmpty(), is(true));
+        assertThat(merged.getSize(), is(2));
+    }
+
+    @Test
+    public void builderOnMomentAxis() {
+        Moment m = Moment.UNIX_EPOCH;
+        IntervalCollection.Builder<Moment> builder = IntervalCollection.onMomentAxis().toBuilder();
+        IntervalCollection<Moment> expected = IntervalCollection.onMomentAxis();
+        builder.add(MomentInterval.between(m, m)); // empty
+
+        for (int i = 0; i < 1000; i++) {
+            long offset = (i * 7919L) % 1000;
+            MomentInterval interval = MomentInterval.between(m.plus(offset, TimeUnit.SECONDS), m.plus(offset + i % 17 + 1, TimeUnit.SECONDS));
+            builder.add(interval);
+            expected = expected.plus(interval);
+        }
+
+        assertThat(builder.freeze(), is(expected));
+    }
+
+    @Test
+    public void intersectWithInfinitePast() {
+        IntervalCollection<PlainDate> a =
+            IntervalCollection.onDateAxis()
+                .plus(DateInterval.until(PlainDate.of(2017, 1, 10)))
+                .plus(DateInterval.between(PlainDate.of(2017, 1, 20), PlainDate.of(2017, 1, 25)));
+        IntervalCollection<PlainDate> b =
+            IntervalCollection.onDateAxis()
+                .plus(DateInterval.until(PlainDate.of(2017, 1, 5)))
+                .plus(DateInterval.since(PlainDate.of(2017, 1, 22)));
+        assertThat(
+            a.intersect(b).getIntervals(),
+            is(Arrays.<ChronoInterval<PlainDate>>asList(
+                DateInterval.until(PlainDate.of(2017, 1, 5)),
+                DateInterval.between(PlainDate.of(2017, 1, 22), PlainDate.of(2017, 1, 25)))));
+        assertThat(
+            a.xor(b).getIntervals(),
+            is(Arrays.<ChronoInterval<PlainDate>>asList(
+                DateInterval.between(PlainDate.of(2017, 1, 6), PlainDate.of(2017, 1, 10)),
+                DateInterval.between(PlainDate.of(2017, 1, 20), PlainDate.of(2017, 1, 21)),
+                DateInterval.since(PlainDate.of(2017, 1, 26)))));
+    }
+
+    @Test
+    public void streamingSetOperations() {
+        IntervalCollection<PlainTimestamp> a = IntervalCollection.onTimestampAxis();
+        IntervalCollection<PlainTimestamp> b = IntervalCollection.onTimestampAxis();
+        PlainTimestamp tsp = PlainTimestamp.of(2017, 1, 1, 0, 0);
+
+        for (int i = 0; i < 30; i++) {
+            PlainTimestamp start = tsp.plus((i * 37) % 100, ClockUnit.HOURS);
+            TimestampInterval interval = TimestampInterval.between(start, start.plus(i % 7 + 1, ClockUnit.HOURS));
+            if (i % 3 == 0) {
+                b = b.plus(interval);
+            } else {
+                a = a.plus(interval);
+            }
+        }
+
+        List<ChronoInterval<PlainTimestamp>> list = new ArrayList<>();
+        a.forEachGap(list::add);
+        assertThat(list, is(a.withGaps().getIntervals()));
+        list.clear();
+        a.forEachBlock(list::add);
+        assertThat(list, is(a.withBlocks().getIntervals()));
+        list.clear();
+        a.forEachSplit(list::add);
+        assertThat(list, is(a.withSplits().getIntervals()));
+        list.clear();
+        a.forEachInUnion(b, list::add);
+        assertThat(list, is(a.union(b).getIntervals()));
+        assertThat(list, is(a.plus(b).withBlocks().getIntervals()));
+        list.clear();
+        a.forEachInIntersection(b, list::add);
+        assertThat(list, is(a.intersect(b).getIntervals()));
+        list.clear();
+        a.forEachInXor(b, list::add);
+        assertThat(list, is(a.xor(b).getIntervals()));
+        assertThat(list, is(a.union(b).minus(a.intersect(b)).getIntervals()));
+    }
+
 }
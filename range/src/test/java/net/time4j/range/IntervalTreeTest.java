@@ -1,5 +1,7 @@
 package net.time4j.range;
 
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
@@ -14,6 +16,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Random;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -296,4 +299,247 @@ public class IntervalTreeTest {
         assertThat(tree.isEmpty(), is(true));
     }
 
+    @Test
+    public void plusAndMinus() {
+        DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 5, 31));
+        DateInterval i2 = DateInterval.between(PlainDate.of(2014, 5, 31), PlainDate.of(2014, 6, 1));
+        DateInterval i3 = DateInterval.between(PlainDate.of(2014, 6, 15), PlainDate.of(2014, 6, 30));
+        IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(Arrays.asList(i3, i1));
+        IntervalTree<PlainDate, DateInterval> plus = tree.plus(i2);
+        assertThat(plus.size(), is(3));
+        assertThat(new ArrayList<>(plus), is(Arrays.asList(i1, i2, i3)));
+        assertThat(tree.size(), is(2)); // unchanged
+        assertThat(new ArrayList<>(tree), is(Arrays.asList(i1, i3)));
+        assertThat(plus.findIntersections(PlainDate.of(2014, 5, 31)), is(Arrays.asList(i1, i2)));
+        assertThat(tree.findIntersections(PlainDate.of(2014, 5, 31)), is(Collections.singletonList(i1)));
+        IntervalTree<PlainDate, DateInterval> minus = plus.minus(i1);
+        assertThat(new ArrayList<>(minus), is(Arrays.asList(i2, i3)));
+        assertThat(minus.contains(i1), is(false));
+        assertThat(plus.contains(i1), is(true));
+        assertThat(minus.minus(i1) == minus, is(true));
+        assertThat(tree.plus(i1.collapse()) == tree, is(true));
+    }
+
+    @Test
+    public void plusAndMinusRandomized() {
+        Random random = new Random(12345);
+        PlainDate base = PlainDate.of(2017, 1, 1);
+        IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(Collections.emptyList());
+        List<DateInterval> expected = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                PlainDate start = base.plus(random.nextInt(200), CalendarUnit.DAYS);
+                DateInterval interval = DateInterval.between(start, start.plus(random.nextInt(20), CalendarUnit.DAYS));
+                tree = tree.plus(interval);
+                expected.add(interval);
+            } else {
+                DateInterval interval = expected.remove(random.nextInt(expected.size()));
+                tree = tree.minus(interval);
+            }
+        }
+
+        assertThat(tree.size(), is(expected.size()));
+
+        for (int d = -5; d < 230; d++) {
+            PlainDate date = base.plus(d, CalendarUnit.DAYS);
+            int count = 0;
+            for (DateInterval interval : expected) {
+                if (interval.contains(date)) {
+                    count++;
+                }
+            }
+            assertThat(tree.findIntersections(date).size(), is(count));
+        }
+
+        List<DateInterval> visited = new ArrayList<>(tree);
+        for (int i = 1; i < visited.size(); i++) {
+            assertThat(
+                visited.get(i - 1).getStart().getTemporal().isAfter(visited.get(i).getStart().getTemporal()),
+                is(false));
+        }
+    }
+
+    @Test
+    public void concurrentTree() {
+        DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 5, 31));
+        DateInterval i2 = DateInterval.between(PlainDate.of(2014, 5, 31), PlainDate.of(2014, 6, 1));
+        ConcurrentIntervalTree<PlainDate, DateInterval> tree = ConcurrentIntervalTree.onDateAxis();
+        assertThat(tree.isEmpty(), is(true));
+        assertThat(tree.add(i1), is(true));
+        assertThat(tree.add(i2), is(true));
+        assertThat(tree.add(i2), is(true));
+        assertThat(tree.add(i1.collapse()), is(false));
+        IntervalTree<PlainDate, DateInterval> snapshot = tree.snapshot();
+        assertThat(tree.size(), is(3));
+        assertThat(tree.findIntersections(PlainDate.of(2014, 5, 31)), is(Arrays.asList(i1, i2, i2)));
+        assertThat(tree.remove(i2), is(true));
+        assertThat(tree.remove(i1), is(true));
+        assertThat(tree.remove(i1), is(false));
+        assertThat(tree.remove("xyz"), is(false));
+        assertThat(new ArrayList<>(tree), is(Collections.singletonList(i2)));
+        assertThat(snapshot.size(), is(3));
+        assertThat(tree.contains(i2), is(true));
+        tree.clear();
+        assertThat(tree.isEmpty(), is(true));
+        assertThat(ConcurrentIntervalTree.from(snapshot).size(), is(3));
+    }
+
+    @Test
+    public void concurrentReadersAndWriters() throws InterruptedException {
+        PlainDate base = PlainDate.of(2017, 1, 1);
+        ConcurrentIntervalTree<PlainDate, DateInterval> tree = ConcurrentIntervalTree.onDateAxis();
+        Thread writer =
+            new Thread(
+                () -> {
+                    for (int i = 0; i < 1000; i++) {
+                        PlainDate start = base.plus(i, CalendarUnit.DAYS);
+                        tree.add(DateInterval.between(start, start.plus(10, CalendarUnit.DAYS)));
+                    }
+                }
+            );
+        writer.start();
+        while (writer.isAlive()) {
+            for (DateInterval interval : tree.findIntersections(base.plus(500, CalendarUnit.DAYS))) {
+                assertThat(interval.contains(base.plus(500, CalendarUnit.DAYS)), is(true));
+            }
+        }
+        writer.join();
+        assertThat(tree.size(), is(1000));
+        assertThat(tree.findIntersections(base.plus(500, CalendarUnit.DAYS)).size(), is(11));
+    }
+
+    @Test
+    public void intervalIndexOnDateAxis() {
+        DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 5, 31));
+        DateInterval i2 = DateInterval.between(PlainDate.of(2014, 5, 31), PlainDate.of(2014, 6, 1));
+        DateInterval i3 = DateInterval.between(PlainDate.of(2014, 6, 15), PlainDate.of(2014, 6, 30));
+        DateInterval i4 = DateInterval.since(PlainDate.of(2014, 6, 30)).withOpenStart();
+        IntervalIndex<PlainDate, DateInterval> index =
+            IntervalIndex.onDateAxis(Arrays.asList(i4, i3, i1, i2, i1.collapse()));
+        assertThat(index.size(), is(4));
+        assertThat(index.get(0), is(i1));
+        assertThat(index.get(3), is(i4));
+        assertThat(index.getStartKey(3), is(PlainDate.of(2014, 7, 1).getDaysSinceEpochUTC()));
+        assertThat(index.getEndKey(3), is(Long.MAX_VALUE));
+        List<DateInterval> found = new ArrayList<>();
+        index.findIntersections(
+            PlainDate.of(2014, 5, 31),
+            (i) -> {
+                found.add(index.get(i));
+                return false;
+            }
+        );
+        assertThat(found, is(Arrays.asList(i1, i2)));
+        assertThat(index.countIntersections(PlainDate.of(2014, 6, 30)), is(1));
+        assertThat(index.countIntersections(PlainDate.of(2014, 7, 1)), is(1));
+        assertThat(index.countIntersections(PlainDate.of(2014, 6, 10)), is(0));
+        assertThat(index.countIntersections(DateInterval.between(PlainDate.of(2014, 6, 1), PlainDate.of(2014, 6, 15))), is(2));
+        assertThat(index.countIntersections(DateInterval.until(PlainDate.of(2014, 2, 28))), is(1));
+        assertThat(index.countIntersections(DateInterval.since(PlainDate.of(2014, 2, 28))), is(4));
+        assertThat(index.findIntersections(PlainDate.of(2014, 5, 31), (i) -> true), is(true));
+    }
+
+    @Test
+    public void intervalIndexConsistentWithTree() {
+        Random random = new Random(4711);
+        PlainTimestamp base = PlainTimestamp.of(2018, 1, 1, 0, 0);
+        List<MomentInterval> intervals = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            PlainTimestamp start = base.plus(random.nextInt(10000), ClockUnit.MINUTES);
+            MomentInterval interval =
+                TimestampInterval.between(start, start.plus(random.nextInt(300), ClockUnit.MINUTES)).atUTC();
+            intervals.add(random.nextBoolean() ? interval : interval.withClosedEnd());
+        }
+
+        IntervalTree<Moment, MomentInterval> tree = IntervalTree.onMomentAxis(intervals);
+        IntervalIndex<Moment, MomentInterval> index = IntervalIndex.onMomentAxis(intervals);
+        assertThat(index.size(), is(tree.size()));
+
+        for (int m = -10; m < 10400; m += 7) {
+            Moment moment = base.plus(m, ClockUnit.MINUTES).atUTC();
+            List<MomentInterval> found = new ArrayList<>();
+            index.findIntersections(
+                moment,
+                (i) -> {
+                    found.add(index.get(i));
+                    return false;
+                }
+            );
+            List<MomentInterval> expected = tree.findIntersections(moment);
+            assertThat(found.size(), is(expected.size()));
+            assertThat(found.containsAll(expected), is(true));
+            assertThat(index.countIntersections(moment), is(expected.size()));
+        }
+    }
+
+    @Test
+    public void batchQueries() {
+        Random random = new Random(815);
+        PlainDate base = PlainDate.of(2018, 1, 1);
+        List<DateInterval> intervals = new ArrayList<>();
+
+        for (int i = 0; i < 500; i++) {
+            PlainDate start = base.plus(random.nextInt(300), CalendarUnit.DAYS);
+            DateInterval interval = DateInterval.between(start, start.plus(random.nextInt(30), CalendarUnit.DAYS));
+            intervals.add(random.nextBoolean() ? interval : interval.withOpenEnd());
+        }
+
+        intervals.add(DateInterval.until(base.plus(10, CalendarUnit.DAYS)));
+        intervals.add(DateInterval.since(base.plus(250, CalendarUnit.DAYS)));
+        IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(intervals);
+        List<DateInterval> sorted = new ArrayList<>(tree);
+
+        List<PlainDate> points = new ArrayList<>();
+        List<DateInterval> queries = new ArrayList<>();
+
+        for (int i = 0; i < 400; i++) {
+            PlainDate date = base.plus(random.nextInt(350) - 20, CalendarUnit.DAYS);
+            points.add(date);
+            queries.add(DateInterval.between(date, date.plus(random.nextInt(10), CalendarUnit.DAYS)));
+        }
+
+        queries.add(DateInterval.until(base));
+        queries.add(DateInterval.since(base.plus(300, CalendarUnit.DAYS)));
+        queries.add(DateInterval.between(base, base).withOpenEnd()); // empty
+
+        for (boolean parallel : new boolean[] {false, true}) {
+            List<List<DateInterval>> found = new ArrayList<>();
+            for (int i = 0; i < points.size(); i++) {
+                found.add(new ArrayList<>());
+            }
+            tree.findIntersectionsAt(
+                points,
+                (q, k, interval) -> {
+                    assertThat(sorted.get(k), is(interval));
+                    synchronized (found) {
+                        found.get(q).add(interval);
+                    }
+                },
+                parallel);
+            long[] pairs = tree.findIntersectionPairsAt(points, parallel);
+            int total = 0;
+            for (int i = 0; i < points.size(); i++) {
+                List<DateInterval> expected = tree.findIntersections(points.get(i));
+                assertThat(found.get(i).size(), is(expected.size()));
+                assertThat(found.get(i).containsAll(expected), is(true));
+                total += expected.size();
+            }
+            assertThat(pairs.length, is(total));
+            for (long pair : pairs) {
+                assertThat(sorted.get((int) pair).contains(points.get((int) (pair >>> 32))), is(true));
+            }
+
+            long[] overlaps = tree.findIntersectionPairsWith(queries, parallel);
+            int[] counts = new int[queries.size()];
+            for (long pair : overlaps) {
+                counts[(int) (pair >>> 32)]++;
+            }
+            for (int i = 0; i < queries.size(); i++) {
+                assertThat(counts[i], is(tree.findIntersections(queries.get(i)).size()));
+            }
+        }
+    }
+
 }
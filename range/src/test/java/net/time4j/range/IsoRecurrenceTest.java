@@ -416,4 +416,35 @@ public class IsoRecurrenceTest {
         assertThat(recurrence.intervalStream().parallel().collect(Collectors.toList()), is(expected));
     }
 
+    @Test
+    public void intervalStreamInParallel() {
+        List<IsoRecurrence<? extends ChronoInterval<?>>> recurrences = new ArrayList<>();
+        recurrences.add(IsoRecurrence.of(1000, PlainDate.of(2016, 1, 31), Duration.of(1, CalendarUnit.MONTHS)));
+        recurrences.add(IsoRecurrence.of(1000, PlainDate.of(2016, 1, 28), Duration.ofCalendarUnits(1, 1, 0)));
+        recurrences.add(IsoRecurrence.of(1000, Duration.of(10, CalendarUnit.DAYS), PlainDate.of(2016, 1, 31)));
+        recurrences.add(
+            IsoRecurrence.of(1000, PlainTimestamp.of(2016, 1, 31, 10, 0), Duration.of(1, CalendarUnit.MONTHS)));
+        recurrences.add(
+            IsoRecurrence.of(
+                1000, PlainTimestamp.of(2016, 1, 27, 23, 0), Duration.ofPositive().months(1).hours(2).build()));
+        recurrences.add(
+            IsoRecurrence.of(
+                1000, Duration.ofClockUnits(7, 30, 0), PlainTimestamp.of(2016, 1, 31, 10, 0).atUTC(), ZonalOffset.UTC));
+        recurrences.add(
+            IsoRecurrence.of(
+                1000,
+                PlainTimestamp.of(2016, 1, 1, 10, 0).atUTC(),
+                Duration.ofCalendarUnits(0, 1, 0),
+                ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2)));
+
+        for (IsoRecurrence<? extends ChronoInterval<?>> recurrence : recurrences) {
+            List<ChronoInterval<?>> expected = new ArrayList<>();
+            for (ChronoInterval<?> interval : recurrence) {
+                expected.add(interval);
+            }
+            List<ChronoInterval<?>> actual = recurrence.intervalStream().parallel().collect(Collectors.toList());
+            assertThat(actual, is(expected));
+        }
+    }
+
 }
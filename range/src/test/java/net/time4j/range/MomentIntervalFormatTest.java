@@ -593,4 +593,31 @@ public class MomentIntervalFormatTest {
             is(always));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void reusableParser() throws ParseException {
+        IsoIntervalParser<MomentInterval> parser = IsoIntervalParser.ofMomentIntervals();
+        String[] texts = {
+            "2012-04-30T14:15Z/T16:00:01", "2012-04-30T14:15Z/T16", "2012-04-30T14:15Z/16:00:00+00",
+            "2012-04-30T14:15+02:00/T16", "2012-04-30T14:15-05/16:30", "2012-092T14:15Z/096T16:00",
+            "2012-W13-7T14:15Z/W14-4T16:00:01", "2012092T1415Z/096T1600", "2012W137T1415Z/W144T1600",
+            "2012-092T14:15Z/2012-096T16:00", "2012-04-30T14:15Z/PT2H", "2012-04-30T14:15Z/+\u221E"
+        };
+        for (int round = 0; round < 2; round++) {
+            for (String text : texts) {
+                assertThat(parser.parse(new StringBuilder(text)), is(MomentInterval.parseISO(text)));
+            }
+        }
+        for (String text : new String[] {"2013-11-02T09:00Z/T10", "2012-04-30T14:15+02:00/T17", "2013-11-02T09:00+02:00/T10"}) {
+            assertThat(parser.parse(text), is(MomentInterval.parseISO(text)));
+        }
+        IsoIntervalParser<TimestampInterval> tsp = IsoIntervalParser.ofTimestampIntervals();
+        for (String text : new String[] {"2012-04-30T14:15/T16", "2012-04-30T14:15/05-01T16", "2012-04-30T14:15/PT2H"}) {
+            assertThat(tsp.parse(text), is(TimestampInterval.parseISO(text)));
+            assertThat(tsp.parse(text), is(TimestampInterval.parseISO(text)));
+        }
+        for (String text : new String[] {"2013-12-24T08:00/T09", "2013-12-24T08:00/12-25T16"}) {
+            assertThat(tsp.parse(text), is(TimestampInterval.parseISO(text)));
+        }
+    }
+
+}
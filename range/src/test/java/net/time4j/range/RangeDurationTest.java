@@ -199,4 +199,67 @@ public class RangeDurationTest {
 	    assertThat(duration, is(expected));
 	}
 
+    @Test
+    public void getLengthInNanosOfMomentInterval() {
+        Moment m1 = Moment.of(1278028823, TimeScale.UTC);
+        Moment m2 = Moment.of(1278028826, 1, TimeScale.UTC);
+        MomentInterval interval = MomentInterval.between(m1, m2);
+        assertThat(interval.getLengthInNanos(), is(2_000_000_001L));
+        assertThat(interval.getRealLengthInNanos(), is(3_000_000_001L));
+        assertThat(interval.withClosedEnd().getLengthInNanos(), is(2_000_000_002L));
+        assertThat(interval.withOpenStart().getRealLengthInNanos(), is(3_000_000_000L));
+    }
+
+    @Test(expected=UnsupportedOperationException.class)
+    public void getLengthInNanosOfInfiniteMomentInterval() {
+        MomentInterval.since(Moment.UNIX_EPOCH).getLengthInNanos();
+    }
+
+    @Test
+    public void getLengthInNanosOfTimestampInterval() {
+        TimestampInterval interval =
+            TimestampInterval.between(
+                PlainTimestamp.of(2014, 12, 31, 23, 59, 59),
+                PlainTimestamp.of(2015, 1, 2, 0, 0, 1).plus(5, ClockUnit.NANOS));
+        assertThat(
+            interval.getLengthInNanos(),
+            is(interval.getDuration(ClockUnit.NANOS).getPartialAmount(ClockUnit.NANOS)));
+        assertThat(interval.getLengthInNanos(), is(86_402_000_000_005L));
+        assertThat(interval.withClosedEnd().getLengthInNanos(), is(86_402_000_000_006L));
+    }
+
+    @Test
+    public void accumulateMachineTimes() {
+        MachineTime.Accumulator<TimeUnit> posix = MachineTime.accumulatorOnPosixScale();
+        MachineTime.Accumulator<SI> utc = MachineTime.accumulatorOnUtcScale();
+        MachineTime<TimeUnit> expectedPosix = MachineTime.ofPosixUnits(0, 0);
+        MachineTime<SI> expectedUTC = MachineTime.ofSIUnits(0, 0);
+        Moment m = Moment.of(1278028800, 999_999_990, TimeScale.UTC);
+
+        for (int i = 0; i < 100; i++) {
+            MomentInterval interval = MomentInterval.between(m, m.plus(i * 7_777_777L, TimeUnit.MICROSECONDS));
+            posix.addLength(interval);
+            utc.addLength(interval);
+            expectedPosix = expectedPosix.plus(interval.getSimpleDuration());
+            expectedUTC = expectedUTC.plus(interval.getRealDuration());
+        }
+
+        assertThat(posix.toMachineTime(), is(expectedPosix));
+        assertThat(utc.toMachineTime(), is(expectedUTC));
+        assertThat(
+            posix.getTotalNanos(),
+            is(expectedPosix.getSeconds() * 1_000_000_000L + expectedPosix.getFraction()));
+
+        posix.subtract(expectedPosix).add(-3, TimeUnit.MILLISECONDS).add(1, TimeUnit.SECONDS);
+        assertThat(posix.toMachineTime(), is(MachineTime.ofPosixUnits(0, 997_000_000)));
+        posix.add(-2, TimeUnit.SECONDS);
+        assertThat(posix.getSeconds(), is(-1L));
+        assertThat(posix.getFraction(), is(-3_000_000));
+        assertThat(posix.toMachineTime(), is(MachineTime.ofPosixUnits(-1, -3_000_000)));
+        assertThat(posix.reset().isZero(), is(true));
+        assertThat(
+            utc.add(MachineTime.ofSIUnits(-5, -1)).add(5, SI.SECONDS).toMachineTime(),
+            is(expectedUTC.minus(1, SI.NANOSECONDS)));
+    }
+
 }